@@ -9,6 +9,7 @@ import lombok.Getter;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static java.net.HttpURLConnection.HTTP_ACCEPTED;
 
@@ -33,6 +34,11 @@ public abstract class AbstractApiClient {
      */
     protected final Map<String, ApiRequestObserver> observers = new LinkedHashMap<>();
 
+    /**
+     * Http transport, shared between a client and the sub-clients it creates.
+     */
+    protected final HttpClientWrapper httpClient;
+
     /**
      * Default constructor.
      *
@@ -42,9 +48,22 @@ public abstract class AbstractApiClient {
      *     token value
      */
     public AbstractApiClient(String token, AstraEnvironment env) {
-        Assert.hasLength(token, "token");
-        this.token = token;
-        this.environment = env;
+        this(token, env, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * Constructor with a dedicated http transport.
+     *
+     * @param env
+     *      astra environment
+     * @param token
+     *     token value
+     * @param httpClient
+     *      http transport, built from a {@link com.dtsx.astra.sdk.utils.HttpClientConfig} and optionally a
+     *      {@link com.dtsx.astra.sdk.utils.transport.HttpTransport}
+     */
+    public AbstractApiClient(String token, AstraEnvironment env, HttpClientWrapper httpClient) {
+        this(token, env, httpClient, null);
     }
 
     /**
@@ -58,10 +77,31 @@ public abstract class AbstractApiClient {
      *      list of observers
      */
     public AbstractApiClient(String token, AstraEnvironment env, Map<String, ApiRequestObserver> observers) {
+        this(token, env, HttpClientWrapper.getInstance(), observers);
+    }
+
+    /**
+     * Constructor with a dedicated http transport and its observers, observers are notified of the requests of this
+     * client and of the sub-clients it creates, other clients sharing the transport are not affected.
+     *
+     * @param env
+     *      astra environment
+     * @param token
+     *     token value
+     * @param httpClient
+     *      http transport, built from a {@link com.dtsx.astra.sdk.utils.HttpClientConfig}
+     * @param observers
+     *      list of observers
+     */
+    public AbstractApiClient(String token, AstraEnvironment env, HttpClientWrapper httpClient, Map<String, ApiRequestObserver> observers) {
         Assert.hasLength(token, "token");
+        Assert.notNull(httpClient, "httpClient");
         this.token = token;
         this.environment = env;
-        this.observers.putAll(observers);
+        if (observers != null) {
+            this.observers.putAll(observers);
+        }
+        this.httpClient = httpClient.withObservers(observers);
     }
 
     /**
@@ -73,7 +113,7 @@ public abstract class AbstractApiClient {
      *      Http client
      */
     public HttpClientWrapper getHttpClient(String operation) {
-        return HttpClientWrapper.getInstance(operation);
+        return httpClient.forOperation(operation);
     }
 
     /**
@@ -194,6 +234,110 @@ public abstract class AbstractApiClient {
         getHttpClient(operation).DELETE(url, getToken());
     }
 
+    /**
+     * Syntax sugar http requests, the caller thread is not blocked.
+     *
+     * @param url
+     *      url
+     * @param operation
+     *      operation name (tracking)
+     * @return
+     *      future response
+     */
+    public CompletableFuture<ApiResponseHttp> GET_ASYNC(String url, String operation) {
+        return getHttpClient(operation).GET_ASYNC(url, getToken());
+    }
+
+    /**
+     * Syntax sugar http requests, the caller thread is not blocked.
+     *
+     * @param url
+     *      url
+     * @param operation
+     *      operation name (tracking)
+     * @return
+     *      future response
+     */
+    public CompletableFuture<ApiResponseHttp> HEAD_ASYNC(String url, String operation) {
+        return getHttpClient(operation).HEAD_ASYNC(url, getToken());
+    }
+
+    /**
+     * Syntax sugar http requests, the caller thread is not blocked.
+     *
+     * @param url
+     *      url
+     * @param operation
+     *      operation name (tracking)
+     * @return
+     *      future response
+     */
+    public CompletableFuture<ApiResponseHttp> POST_ASYNC(String url, String operation) {
+        return getHttpClient(operation).POST_ASYNC(url, getToken(), null);
+    }
+
+    /**
+     * Syntax sugar http requests, the caller thread is not blocked.
+     *
+     * @param url
+     *      url
+     * @param body
+     *      body
+     * @param operation
+     *      operation name (tracking)
+     * @return
+     *      future response
+     */
+    public CompletableFuture<ApiResponseHttp> POST_ASYNC(String url, String body, String operation) {
+        return getHttpClient(operation).POST_ASYNC(url, getToken(), body);
+    }
+
+    /**
+     * Syntax sugar http requests, the caller thread is not blocked.
+     *
+     * @param url
+     *      url
+     * @param body
+     *      body
+     * @param operation
+     *      operation name (tracking)
+     * @return
+     *      future completed when the request is processed
+     */
+    public CompletableFuture<Void> PUT_ASYNC(String url, String body, String operation) {
+        return getHttpClient(operation).PUT_ASYNC(url, getToken(), body).thenApply(res -> null);
+    }
+
+    /**
+     * Syntax sugar http requests, the caller thread is not blocked.
+     *
+     * @param url
+     *      url
+     * @param body
+     *      body
+     * @param operation
+     *      operation name (tracking)
+     * @return
+     *      future completed when the request is processed
+     */
+    public CompletableFuture<Void> PATCH_ASYNC(String url, String body, String operation) {
+        return getHttpClient(operation).PATCH_ASYNC(url, getToken(), body).thenApply(res -> null);
+    }
+
+    /**
+     * Syntax sugar http requests, the caller thread is not blocked.
+     *
+     * @param url
+     *      url
+     * @param operation
+     *      operation name (tracking)
+     * @return
+     *      future completed when the request is processed
+     */
+    public CompletableFuture<Void> DELETE_ASYNC(String url, String operation) {
+        return getHttpClient(operation).DELETE_ASYNC(url, getToken()).thenApply(res -> null);
+    }
+
     /**
      * Response validation
      *
@@ -10,9 +10,11 @@ import com.dtsx.astra.sdk.streaming.AstraStreamingClient;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Main Class to interact with Astra Devops API.
@@ -40,7 +42,21 @@ public class AstraOpsClient extends AbstractApiClient {
      *      bearerAuthToken token
      */
     public AstraOpsClient(String token, AstraEnvironment env) {
-        super(token, env);
+        this(token, env, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * Initialize the Devops API with a token
+     *
+     * @param env
+     *     environment Astra
+     * @param token
+     *      bearerAuthToken token
+     * @param httpClient
+     *      http transport, see {@link com.dtsx.astra.sdk.utils.HttpClientConfig} to size connection pools
+     */
+    public AstraOpsClient(String token, AstraEnvironment env, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
     }
 
     /** {@inheritDoc} */
@@ -63,7 +79,18 @@ public class AstraOpsClient extends AbstractApiClient {
         // Invoke endpoint
         ApiResponseHttp res = GET(ApiLocator.getApiDevopsEndpoint(environment) + "/currentOrg", getOperationName("orgId"));
         // Parse response
-        return (String) JsonUtils.unmarshallBean(res.getBody(),  Map.class).get("id");
+        return (String) JsonUtils.unmarshallBean(res,  Map.class).get("id");
+    }
+
+    /**
+     * Retrieve Organization id without blocking the caller thread.
+     *
+     * @return
+     *      future organization id.
+     */
+    public CompletableFuture<String> getOrganizationIdAsync() {
+        return GET_ASYNC(ApiLocator.getApiDevopsEndpoint(environment) + "/currentOrg", getOperationName("orgId"))
+                .thenApply(res -> (String) JsonUtils.unmarshallBean(res,  Map.class).get("id"));
     }
 
     /**
@@ -76,7 +103,7 @@ public class AstraOpsClient extends AbstractApiClient {
         // Invoke endpoint
         ApiResponseHttp res = GET(users().getEndpointUsers(), getOperationName("org"));
         // Marshalling the users response to get org infos
-        ResponseAllUsers body = JsonUtils.unmarshallBean(res.getBody(), ResponseAllUsers.class);
+        ResponseAllUsers body = JsonUtils.unmarshallBean(res, ResponseAllUsers.class);
         // Build a proper result
         return new Organization(body.getOrgId(), body.getOrgName());
     }
@@ -92,7 +119,7 @@ public class AstraOpsClient extends AbstractApiClient {
      *      databases client
      */
     public AstraDBOpsClient db() {
-        return new AstraDBOpsClient(token, environment);
+        return new AstraDBOpsClient(token, environment, httpClient);
     }
 
     // ------------------------------------------------------
@@ -106,7 +133,7 @@ public class AstraOpsClient extends AbstractApiClient {
      *      streaming client
      */
     public AstraStreamingClient streaming() {
-        return new AstraStreamingClient(token, environment);
+        return new AstraStreamingClient(token, environment, httpClient);
     }
 
 
@@ -121,7 +148,7 @@ public class AstraOpsClient extends AbstractApiClient {
      *      user client
      */
     public UsersClient users() {
-        return new UsersClient(token, environment);
+        return new UsersClient(token, environment, httpClient);
     }
 
     // ------------------------------------------------------
@@ -135,7 +162,7 @@ public class AstraOpsClient extends AbstractApiClient {
      *      role client
      */
     public RolesClient roles() {
-        return new RolesClient(token, environment);
+        return new RolesClient(token, environment, httpClient);
     }
 
     // ------------------------------------------------------
@@ -149,7 +176,7 @@ public class AstraOpsClient extends AbstractApiClient {
      *      keys client
      */
     public KeysClient keys() {
-        return new KeysClient(token, environment);
+        return new KeysClient(token, environment, httpClient);
     }
 
     // ------------------------------------------------------
@@ -163,7 +190,7 @@ public class AstraOpsClient extends AbstractApiClient {
      *      token client
      */
     public TokensClient tokens() {
-        return new TokensClient(token, environment);
+        return new TokensClient(token, environment, httpClient);
     }
 
 }
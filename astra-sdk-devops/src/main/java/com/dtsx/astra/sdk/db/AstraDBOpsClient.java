@@ -11,18 +11,30 @@ import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
 import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
+import com.dtsx.astra.sdk.utils.NameIndex;
+import com.dtsx.astra.sdk.utils.SdkExecutors;
 import com.dtsx.astra.sdk.utils.observability.ApiRequestObserver;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.dtsx.astra.sdk.db.domain.DatabaseFilter.Include;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
 import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Devops API Client working with Databases.
@@ -37,6 +49,12 @@ public class AstraDBOpsClient extends AbstractApiClient {
     private static final TypeReference<List<AccessList>> RESPONSE_ACCESS_LIST =
             new TypeReference<List<AccessList>>(){};
 
+    /** Above this number of identifiers {@link #findByIds(Collection)} lists the databases instead of reading each. */
+    public static final int FIND_BY_IDS_THRESHOLD = 25;
+
+    /** Maximum number of database reads in flight for {@link #findByIds(Collection)}. */
+    public static final int FIND_BY_IDS_CONCURRENCY = 8;
+
     /**
      * As immutable object use builder to initiate the object.
      *
@@ -56,7 +74,21 @@ public class AstraDBOpsClient extends AbstractApiClient {
      *      authenticated token
      */
     public AstraDBOpsClient(String token, AstraEnvironment env) {
-        super(token, env);
+        this(token, env, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public AstraDBOpsClient(String token, AstraEnvironment env, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
     }
 
     /**
@@ -71,7 +103,6 @@ public class AstraDBOpsClient extends AbstractApiClient {
      */
     public AstraDBOpsClient(String token, AstraEnvironment env, Map<String, ApiRequestObserver> observers) {
         super(token, env, observers);
-        HttpClientWrapper.registerObservers(observers);
     }
 
     /** {@inheritDoc} */
@@ -91,7 +122,7 @@ public class AstraDBOpsClient extends AbstractApiClient {
      *      work with regions
      */
     public DbRegionsClient regions() {
-        return new DbRegionsClient(token, getEnvironment());
+        return new DbRegionsClient(token, getEnvironment(), httpClient);
     }
 
 
@@ -106,7 +137,7 @@ public class AstraDBOpsClient extends AbstractApiClient {
      */
     public Stream<AccessList> findAllAccessLists() {
         return JsonUtils.unmarshallType(GET(getEndpointAccessLists(), getOperationName("findAllAccessLists"))
-                .getBody(), RESPONSE_ACCESS_LIST).stream();
+                , RESPONSE_ACCESS_LIST).stream();
     }
 
     // ---------------------------------
@@ -114,32 +145,31 @@ public class AstraDBOpsClient extends AbstractApiClient {
     // ---------------------------------
     
     /**
-     * Returns list of databases with default filter.
-     * (include=non terminated, provider=ALL,limit=25)
+     * Returns all databases, terminated included, pages are fetched as the stream is consumed.
      *
      * @return
      *      matching db
      */
     public Stream<Database> findAll() {
-        return search(DatabaseFilter.builder()
+        return searchAll(DatabaseFilter.builder()
                 .include(Include.ALL)
                 .provider(CloudProviderType.ALL)
-                .limit(1000)
                 .build());
     }
     
     /**
-     * Default Filter to find databases.
+     * Default Filter to find databases, pages are fetched as the stream is consumed.
      *
      * @return
      *      list of non terminated db
      */
     public Stream<Database> findAllNonTerminated() {
-        return search(DatabaseFilter.builder().build());
+        return searchAll(DatabaseFilter.builder().build());
     }
     
     /**
-     * Retrieve list of all Databases of the account and filter on name
+     * Retrieve the non terminated Databases with the provided name. Names are resolved with an index shared by
+     * the clients of the same token, only the matching databases are fetched, in parallel.
      * 
      * @param name
      *          a database name
@@ -148,7 +178,52 @@ public class AstraDBOpsClient extends AbstractApiClient {
      */
     public Stream<Database> findByName(String name) {
         Assert.hasLength(name, "Database name");
-        return findAllNonTerminated().filter(db->name.equals(db.getInfo().getName()));
+        NameIndex index = getDatabaseNameIndex(token, environment);
+        Optional<Set<String>> ids = index.lookup(name, this::loadDatabaseNameIndex);
+        if (!ids.isPresent()) {
+            return Stream.empty();
+        }
+        Map<String, Database> dbs = findByIds(ids.get());
+        boolean stale = dbs.size() != ids.get().size() || dbs.values().stream().anyMatch(db ->
+                DatabaseStatusType.TERMINATED == db.getStatus() || !name.equals(db.getInfo().getName()));
+        if (stale) {
+            // Index is stale, list the databases
+            index.invalidate();
+            try (Stream<Database> all = findAllNonTerminated()) {
+                return all.filter(d -> name.equals(d.getInfo().getName()))
+                        .collect(Collectors.toList())
+                        .stream();
+            }
+        }
+        return dbs.values().stream();
+    }
+
+    /**
+     * List the non terminated databases to build the name index.
+     *
+     * @return
+     *      database identifiers by name
+     */
+    private Map<String, Set<String>> loadDatabaseNameIndex() {
+        try (Stream<Database> dbs = findAllNonTerminated()) {
+            return dbs.collect(Collectors.groupingBy(
+                    db -> db.getInfo().getName(),
+                    Collectors.mapping(Database::getId, Collectors.toSet())));
+        }
+    }
+
+    /**
+     * Access the database name index shared by clients of the same token.
+     *
+     * @param token
+     *      authentication token
+     * @param env
+     *      target environment
+     * @return
+     *      name index
+     */
+    static NameIndex getDatabaseNameIndex(String token, AstraEnvironment env) {
+        return NameIndex.getInstance("db", env, token);
     }
 
     /**
@@ -186,14 +261,157 @@ public class AstraDBOpsClient extends AbstractApiClient {
      */
     public Stream<Database> search(DatabaseFilter filter) {
         Assert.notNull(filter, "filter");
-        ApiResponseHttp res = GET(getEndpointDatabases() + filter.urlParams(), getOperationName("search"));
+        return mapDatabases(GET(getEndpointDatabases() + filter.urlParams(), getOperationName("search")));
+    }
+
+    /**
+     * Find all Databases matching the provided filter, following the <code>starting_after</code> cursor.
+     * The limit of the filter is the page size. Pages are requested as the stream is consumed, the next page
+     * being fetched in the background, and a short-circuiting operation (findFirst, anyMatch...) stops the
+     * requests. Close the stream to cancel a page requested in the background.
+     *
+     * @param filter
+     *      filter to search for db
+     * @return
+     *      lazy stream of db
+     */
+    public Stream<Database> searchAll(DatabaseFilter filter) {
+        Assert.notNull(filter, "filter");
+        Assert.isTrue(filter.getLimit() > 0, "limit");
+        DatabasePageSpliterator pages = new DatabasePageSpliterator(filter,
+                page -> searchAsync(page).thenApply(dbs -> dbs.collect(Collectors.toList())));
+        return StreamSupport.stream(pages, false).onClose(pages::close);
+    }
+
+    /**
+     * Find Databases matching the provided filter without blocking the caller thread.
+     *
+     * @param filter
+     *      filter to search for db
+     * @return
+     *      future list of db
+     */
+    public CompletableFuture<Stream<Database>> searchAsync(DatabaseFilter filter) {
+        Assert.notNull(filter, "filter");
+        return GET_ASYNC(getEndpointDatabases() + filter.urlParams(), getOperationName("search"))
+                .thenApply(this::mapDatabases);
+    }
+
+    /**
+     * Find a database from its id without blocking the caller thread.
+     *
+     * @param id
+     *          a database identifier
+     * @return
+     *          future database if it exists
+     */
+    public CompletableFuture<Optional<Database>> findByIdAsync(String id) {
+        Assert.hasLength(id, "Database identifier");
+        return database(id).findAsync();
+    }
+
+    /**
+     * Find many databases from their identifiers, terminated databases included.
+     *
+     * <p>Up to {@link #FIND_BY_IDS_THRESHOLD} identifiers each database is read, with at most
+     * {@link #FIND_BY_IDS_CONCURRENCY} requests in flight. Above, one request per page is cheaper: the databases
+     * are listed and filtered, the listing stops as soon as every identifier is found.</p>
+     *
+     * @param ids
+     *          database identifiers
+     * @return
+     *          databases by identifier in the order of the identifiers, unknown identifiers are absent
+     */
+    public Map<String, Database> findByIds(Collection<String> ids) {
+        Assert.notNull(ids, "Database identifiers");
+        Set<String> idSet = new LinkedHashSet<>();
+        for (String id : ids) {
+            Assert.hasLength(id, "Database identifier");
+            idSet.add(id);
+        }
+        Map<String, Database> found = idSet.size() <= FIND_BY_IDS_THRESHOLD ? readByIds(idSet) : listByIds(idSet);
+        Map<String, Database> result = new LinkedHashMap<>();
+        for (String id : idSet) {
+            Database db = found.get(id);
+            if (db != null) {
+                result.put(id, db);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read each database with a bounded number of requests in flight.
+     *
+     * @param ids
+     *          database identifiers
+     * @return
+     *          databases found by identifier
+     */
+    private Map<String, Database> readByIds(Set<String> ids) {
+        Map<String, Database> found = new ConcurrentHashMap<>();
+        Semaphore permits = new Semaphore(FIND_BY_IDS_CONCURRENCY);
+        List<CompletableFuture<Optional<Database>>> reads = new ArrayList<>();
         try {
-            return JsonUtils.unmarshallType(res.getBody(), RESPONSE_DATABASES).stream();
+            for (String id : ids) {
+                permits.acquire();
+                CompletableFuture<Optional<Database>> read;
+                try {
+                    read = findByIdAsync(id);
+                } catch (RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+                reads.add(read.whenComplete((db, error) -> {
+                    permits.release();
+                    if (db != null) {
+                        db.ifPresent(d -> found.put(id, d));
+                    }
+                }));
+            }
+            CompletableFuture.allOf(reads.toArray(new CompletableFuture<?>[0])).join();
+        } catch (InterruptedException e) {
+            reads.forEach(read -> read.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading databases", e);
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        return found;
+    }
+
+    /**
+     * List the databases and keep the requested ones, stopping once all are found.
+     *
+     * @param ids
+     *          database identifiers
+     * @return
+     *          databases found by identifier
+     */
+    private Map<String, Database> listByIds(Set<String> ids) {
+        try (Stream<Database> dbs = findAll()) {
+            return dbs.filter(db -> ids.contains(db.getId()))
+                    .limit(ids.size())
+                    .collect(Collectors.toMap(Database::getId, db -> db, (d1, d2) -> d1));
+        }
+    }
+
+    /**
+     * Unmarshall a list of databases.
+     *
+     * @param res
+     *      http response
+     * @return
+     *      list of db
+     */
+    private Stream<Database> mapDatabases(ApiResponseHttp res) {
+        try {
+            return JsonUtils.unmarshallType(res, RESPONSE_DATABASES).stream();
         } catch(Exception e) {
             // Specialization of the exception
             ApiResponseError responseError = null;
             try {
-                responseError = JsonUtils.unmarshallBean(res.getBody(), ApiResponseError.class);
+                responseError = JsonUtils.unmarshallBean(res, ApiResponseError.class);
             } catch (Exception ef) {}
             if (responseError!= null && responseError.getErrors() != null && !responseError.getErrors().isEmpty()) {
                 if (responseError.getErrors().get(0).getId() == 340018) {
@@ -221,9 +439,38 @@ public class AstraDBOpsClient extends AbstractApiClient {
             throw new IllegalStateException("Expected code 201 to create db but got " 
                         + res.getCode() + "body=" + res.getBody());
         }
+        getDatabaseNameIndex(token, environment).invalidate();
         return res.getHeaders().get("location");
     }
 
+    /**
+     * Create a database, the future completes once the database is active.
+     *
+     * @param dbCreationRequest
+     *      creation request with tier and capacity unit
+     * @return
+     *      future database, completed exceptionally on error or after {@link DbOpsClient#DEFAULT_LIFECYCLE_TIMEOUT}
+     */
+    public CompletableFuture<Database> createAsync(DatabaseCreationRequest dbCreationRequest) {
+        return createAsync(dbCreationRequest, DbOpsClient.DEFAULT_LIFECYCLE_TIMEOUT);
+    }
+
+    /**
+     * Create a database, the future completes once the database is active.
+     *
+     * @param dbCreationRequest
+     *      creation request with tier and capacity unit
+     * @param timeout
+     *      maximum wait for the active status
+     * @return
+     *      future database, completed exceptionally on error or timeout
+     */
+    public CompletableFuture<Database> createAsync(DatabaseCreationRequest dbCreationRequest, Duration timeout) {
+        return CompletableFuture.supplyAsync(() -> create(dbCreationRequest), SdkExecutors.shared())
+                .thenCompose(dbId -> database(dbId).awaitLifecycle("create",
+                        db -> DatabaseStatusType.ACTIVE == db.getStatus(), timeout));
+    }
+
     // ---------------------------------
     // ----       Utilities         ----
     // ---------------------------------
@@ -238,7 +485,28 @@ public class AstraDBOpsClient extends AbstractApiClient {
      */
     public DbOpsClient database(String dbId) {
         Assert.hasLength(dbId, "Database Id should not be null nor empty");
-        return new DbOpsClient(token, environment, dbId);
+        return new DbOpsClient(token, environment, dbId, httpClient);
+    }
+
+    /**
+     * Access the status watcher shared by the clients of the same token, to wait for many databases without a
+     * polling loop each.
+     *
+     * @return
+     *      shared status watcher
+     */
+    public DatabaseStatusWatcher statusWatcher() {
+        return DatabaseStatusWatcher.getInstance(token, environment, httpClient);
+    }
+
+    /**
+     * Park, unpark, resize or terminate many databases with a bounded number of requests in flight.
+     *
+     * @return
+     *      bulk operations sending their requests with this client
+     */
+    public DbBulkOperations bulk() {
+        return new DbBulkOperations(this);
     }
 
     /**
@@ -252,7 +520,7 @@ public class AstraDBOpsClient extends AbstractApiClient {
         Assert.hasLength(dbName, "Database Id should not be null nor empty");
         List<Database> dbs = findByName(dbName).collect(Collectors.toList());
         if (1 == dbs.size()) {
-            return new DbOpsClient(token, environment, dbs.get(0).getId());
+            return new DbOpsClient(token, environment, dbs.get(0).getId(), httpClient);
         }
         throw new IllegalArgumentException("Cannot retrieve database from its name (matching count=" + dbs.size() + ")");
     }
@@ -0,0 +1,168 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseFilter;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Iterate over the pages of a database search, following the <code>starting_after</code> cursor.
+ *
+ * <p>A page is only requested when the consumer needs it. Once half of the current page has been consumed the
+ * next page is requested in the background, a short-circuiting operation stopping in the first half of a page
+ * never triggers the next call. The page size is the limit of the filter, a page smaller than the limit is the
+ * last one.</p>
+ */
+final class DatabasePageSpliterator implements Spliterator<Database> {
+
+    /** Load a page. */
+    private final Function<DatabaseFilter, CompletableFuture<List<Database>>> pageLoader;
+
+    /** Search filter, the cursor is replaced for each page. */
+    private final DatabaseFilter filter;
+
+    /** Current page. */
+    private List<Database> page;
+
+    /** Position in the current page. */
+    private Iterator<Database> pageIterator;
+
+    /** Items consumed in the current page. */
+    private int consumedInPage;
+
+    /** Next page, requested in the background. */
+    private CompletableFuture<List<Database>> nextPage;
+
+    /** First page requested. */
+    private boolean started;
+
+    /** No page after the current one. */
+    private boolean lastPage;
+
+    /**
+     * Create the spliterator, no request is sent before the first item is consumed.
+     *
+     * @param filter
+     *      search filter, its limit is the page size
+     * @param pageLoader
+     *      load a page from a filter
+     */
+    DatabasePageSpliterator(DatabaseFilter filter, Function<DatabaseFilter, CompletableFuture<List<Database>>> pageLoader) {
+        this.filter     = filter;
+        this.pageLoader = pageLoader;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean tryAdvance(Consumer<? super Database> action) {
+        if (!started) {
+            started = true;
+            nextPage = pageLoader.apply(filter);
+        }
+        while (pageIterator == null || !pageIterator.hasNext()) {
+            if (nextPage == null) {
+                return false;
+            }
+            List<Database> previous = page;
+            page     = join(nextPage);
+            nextPage = null;
+            if (isSameCursor(previous, page)) {
+                // The cursor was not honoured, stop instead of looping on the same page
+                return false;
+            }
+            pageIterator   = page.iterator();
+            consumedInPage = 0;
+            lastPage       = page.size() < filter.getLimit();
+        }
+        action.accept(pageIterator.next());
+        consumedInPage++;
+        if (!lastPage && nextPage == null && consumedInPage >= (page.size() + 1) / 2) {
+            nextPage = pageLoader.apply(nextFilter());
+        }
+        return true;
+    }
+
+    /**
+     * Filter for the page following the current one.
+     *
+     * @return
+     *      filter with the cursor set to the last item of the current page
+     */
+    private DatabaseFilter nextFilter() {
+        return DatabaseFilter.builder()
+                .limit(filter.getLimit())
+                .include(filter.getInclude())
+                .provider(filter.getProvider())
+                .startingAfterDbId(page.get(page.size() - 1).getId())
+                .build();
+    }
+
+    /**
+     * Detect a server ignoring the cursor.
+     *
+     * @param previous
+     *      previous page
+     * @param current
+     *      current page
+     * @return
+     *      if both pages end with the same database
+     */
+    private static boolean isSameCursor(List<Database> previous, List<Database> current) {
+        return previous != null && !previous.isEmpty() && !current.isEmpty()
+                && previous.get(previous.size() - 1).getId().equals(current.get(current.size() - 1).getId());
+    }
+
+    /**
+     * Wait for a page and rethrow the original error.
+     *
+     * @param future
+     *      page requested
+     * @return
+     *      page content
+     */
+    private static List<Database> join(CompletableFuture<List<Database>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Cancel the page requested in the background, invoked when the stream is closed.
+     */
+    void close() {
+        if (nextPage != null) {
+            nextPage.cancel(false);
+            nextPage = null;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Spliterator<Database> trySplit() {
+        // Pages are chained by the cursor, sequential only
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
@@ -0,0 +1,98 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.utils.Assert;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Last known state of a database, shared by a {@link DbOpsClient} and its sub-clients (keyspaces, datacenters,
+ * cdc...) so they do not fetch the database each time they are created.
+ *
+ * <p>The database is loaded on first access and reloaded once older than the TTL. Clients invalidate the
+ * snapshot after a call changing the database (park, resize, keyspace creation...).</p>
+ */
+final class DatabaseSnapshot {
+
+    /** Default time to live of the snapshot. */
+    static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    /** Load the database from the API. */
+    private final Supplier<Database> loader;
+
+    /** Time to live of the snapshot. */
+    private final Duration ttl;
+
+    /** Database as last loaded, null when not loaded or invalidated. */
+    private volatile Database database;
+
+    /** Load time of the database in nanoseconds. */
+    private volatile long loadedAt;
+
+    /**
+     * Create an empty snapshot, nothing is loaded before the first access.
+     *
+     * @param ttl
+     *      time to live of the snapshot
+     * @param loader
+     *      load the database from the API
+     */
+    DatabaseSnapshot(Duration ttl, Supplier<Database> loader) {
+        Assert.notNull(ttl, "ttl");
+        Assert.notNull(loader, "loader");
+        this.ttl    = ttl;
+        this.loader = loader;
+    }
+
+    /**
+     * Access the database, loaded when missing or expired.
+     *
+     * @return
+     *      database
+     */
+    Database get() {
+        Database current = database;
+        if (current != null && System.nanoTime() - loadedAt <= ttl.toNanos()) {
+            return current;
+        }
+        synchronized (this) {
+            // Another thread may have loaded the database in the meantime
+            if (database == current || database == null) {
+                return refresh();
+            }
+            return database;
+        }
+    }
+
+    /**
+     * Load the database whatever the age of the snapshot.
+     *
+     * @return
+     *      database
+     */
+    synchronized Database refresh() {
+        update(loader.get());
+        return database;
+    }
+
+    /**
+     * Replace the snapshot with a database fetched by the client.
+     *
+     * @param db
+     *      database
+     */
+    synchronized void update(Database db) {
+        Assert.notNull(db, "database");
+        this.database = db;
+        this.loadedAt = System.nanoTime();
+    }
+
+    /**
+     * Drop the snapshot, next access will load the database.
+     */
+    synchronized void invalidate() {
+        this.database = null;
+    }
+
+}
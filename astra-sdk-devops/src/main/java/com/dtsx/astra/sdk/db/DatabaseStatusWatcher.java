@@ -0,0 +1,661 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
+import com.dtsx.astra.sdk.db.exception.DatabaseNotFoundException;
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.IdUtils;
+import com.dtsx.astra.sdk.utils.SdkExecutors;
+import com.dtsx.astra.sdk.utils.ThreadSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Watch the status of many databases with a single search per tick instead of a polling loop per database.
+ *
+ * <p>Each tick reads the non-terminated databases page by page and stops as soon as every watched database was
+ * seen, databases missing from the search (terminated, just created) are read one by one. The interval shrinks
+ * from the maximum interval towards the minimum interval as more databases are awaited: the cost of a tick is
+ * shared by all of them. Nothing runs while no database is watched.</p>
+ *
+ * <p>The watchers of the clients, see {@link AstraDBOpsClient#statusWatcher()}, are shared by the clients of the
+ * same token and {@link HttpClientWrapper}. They are released once idle for the maximum interval, closing them has
+ * no effect. A single timer thread drives every watcher, the searches run on {@link SdkExecutors#shared()}.</p>
+ *
+ * <pre>
+ * DatabaseStatusWatcher watcher = new AstraDBOpsClient(token).statusWatcher();
+ * watcher.addListener((db, previous) -&gt; LOGGER.info("{} {} -&gt; {}", db.getId(), previous, db.getStatus()));
+ * Database db = watcher.awaitStatus(dbId, DatabaseStatusType.ACTIVE).get(30, TimeUnit.MINUTES);
+ * </pre>
+ */
+public class DatabaseStatusWatcher implements Closeable {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseStatusWatcher.class);
+
+    /** Default interval when many databases are awaited. */
+    public static final Duration DEFAULT_MIN_INTERVAL = Duration.ofSeconds(2);
+
+    /** Default interval when databases are only watched by listeners, or after an error. */
+    public static final Duration DEFAULT_MAX_INTERVAL = Duration.ofSeconds(20);
+
+    /** Watchers shared by the clients of the same token and http transport, removed once idle. */
+    private static final Map<InstanceKey, DatabaseStatusWatcher> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * Lazy holder for the timer of the watchers.
+     */
+    private static final class SchedulerHolder {
+
+        /** Single daemon thread, tasks only check if a tick is due and submit it. */
+        private static final ScheduledThreadPoolExecutor SCHEDULER = newScheduler();
+
+        /**
+         * Hide default constructor
+         */
+        private SchedulerHolder() {}
+
+        /**
+         * Create the timer, cancelled tasks are removed at once.
+         *
+         * @return
+         *      timer
+         */
+        private static ScheduledThreadPoolExecutor newScheduler() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+                    r -> ThreadSupport.newThread("status-watcher", r));
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+
+    /**
+     * Key of a shared watcher: environment, token fingerprint and http transport.
+     */
+    private static final class InstanceKey {
+
+        /** Target environment. */
+        private final AstraEnvironment env;
+
+        /** Fingerprint of the token, the token itself is not kept. */
+        private final String tokenFingerprint;
+
+        /** Http transport, compared by reference. */
+        private final HttpClientWrapper httpClient;
+
+        /**
+         * Constructor.
+         *
+         * @param env
+         *      target environment
+         * @param token
+         *      authentication token
+         * @param httpClient
+         *      http transport
+         */
+        private InstanceKey(AstraEnvironment env, String token, HttpClientWrapper httpClient) {
+            this.env              = env;
+            this.tokenFingerprint = IdUtils.fingerprint(token);
+            this.httpClient       = httpClient;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InstanceKey)) {
+                return false;
+            }
+            InstanceKey other = (InstanceKey) o;
+            return env == other.env && httpClient == other.httpClient && tokenFingerprint.equals(other.tokenFingerprint);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return Objects.hash(env, tokenFingerprint, System.identityHashCode(httpClient));
+        }
+    }
+
+    /**
+     * Notified when a watched database changes status.
+     */
+    @FunctionalInterface
+    public interface StatusListener {
+
+        /**
+         * A database changed status.
+         *
+         * @param database
+         *      database with its new status
+         * @param previous
+         *      status seen on the previous tick
+         */
+        void onTransition(Database database, DatabaseStatusType previous);
+    }
+
+    /**
+     * A future waiting for a condition on a database.
+     */
+    private static final class Await {
+
+        /** Condition completing the future. */
+        private final Predicate<Database> condition;
+
+        /** Future completed with the database. */
+        private final CompletableFuture<Database> future = new CompletableFuture<>();
+
+        /**
+         * Constructor.
+         *
+         * @param condition
+         *      condition completing the future
+         */
+        private Await(Predicate<Database> condition) {
+            this.condition = condition;
+        }
+    }
+
+    /** Client used to search the databases. */
+    private final AstraDBOpsClient client;
+
+    /** Interval when many databases are awaited. */
+    private final Duration minInterval;
+
+    /** Interval when databases are only watched by listeners, or after an error. */
+    private final Duration maxInterval;
+
+    /** Key in the shared instances, null when not shared. */
+    private final InstanceKey instanceKey;
+
+    /** Databases watched for the listeners. */
+    private final Set<String> watched = new HashSet<>();
+
+    /** Pending futures by database. */
+    private final Map<String, List<Await>> awaits = new HashMap<>();
+
+    /** Status seen on the last tick by database. */
+    private final Map<String, DatabaseStatusType> lastStatus = new HashMap<>();
+
+    /** Listeners of the transitions. */
+    private final List<StatusListener> listeners = new CopyOnWriteArrayList<>();
+
+    /** Heartbeat checking if a tick is due, null while nothing is watched. */
+    private ScheduledFuture<?> heartbeat;
+
+    /** Time of the next tick in nanoseconds. */
+    private long nextTick;
+
+    /** A tick is running, the heartbeat does not start another one. */
+    private boolean ticking;
+
+    /** Time since which nothing is watched in nanoseconds, to release a shared watcher. */
+    private long idleSince;
+
+    /** Closed watchers do not accept new databases. */
+    private boolean closed;
+
+    /**
+     * Watcher with the default intervals.
+     *
+     * @param client
+     *      client used to search the databases
+     */
+    public DatabaseStatusWatcher(AstraDBOpsClient client) {
+        this(client, DEFAULT_MIN_INTERVAL, DEFAULT_MAX_INTERVAL);
+    }
+
+    /**
+     * Watcher with custom intervals.
+     *
+     * @param client
+     *      client used to search the databases
+     * @param minInterval
+     *      interval when many databases are awaited
+     * @param maxInterval
+     *      interval when databases are only watched by listeners, or after an error
+     */
+    public DatabaseStatusWatcher(AstraDBOpsClient client, Duration minInterval, Duration maxInterval) {
+        this(client, minInterval, maxInterval, null);
+    }
+
+    /**
+     * Full constructor.
+     *
+     * @param client
+     *      client used to search the databases
+     * @param minInterval
+     *      interval when many databases are awaited
+     * @param maxInterval
+     *      interval when databases are only watched by listeners, or after an error
+     * @param instanceKey
+     *      key in the shared instances, null when not shared
+     */
+    private DatabaseStatusWatcher(AstraDBOpsClient client, Duration minInterval, Duration maxInterval, InstanceKey instanceKey) {
+        Assert.notNull(client, "client");
+        Assert.notNull(minInterval, "minInterval");
+        Assert.notNull(maxInterval, "maxInterval");
+        Assert.isTrue(!minInterval.isNegative() && !minInterval.isZero(), "minInterval should be positive");
+        Assert.isTrue(maxInterval.compareTo(minInterval) >= 0, "maxInterval should not be lower than minInterval");
+        this.client      = client;
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.instanceKey = instanceKey;
+        this.nextTick    = System.nanoTime();
+        this.idleSince   = nextTick;
+    }
+
+    /**
+     * Access the watcher shared by the clients of the same token and http transport.
+     *
+     * @param token
+     *      authentication token
+     * @param env
+     *      target environment
+     * @param httpClient
+     *      http transport of the clients
+     * @return
+     *      shared watcher
+     */
+    static DatabaseStatusWatcher getInstance(String token, AstraEnvironment env, HttpClientWrapper httpClient) {
+        return getInstance(token, env, httpClient, DEFAULT_MIN_INTERVAL, DEFAULT_MAX_INTERVAL);
+    }
+
+    /**
+     * Access the watcher shared by the clients of the same token and http transport, created with the intervals
+     * if there is none.
+     *
+     * @param token
+     *      authentication token
+     * @param env
+     *      target environment
+     * @param httpClient
+     *      http transport of the clients
+     * @param minInterval
+     *      interval when many databases are awaited
+     * @param maxInterval
+     *      interval when databases are only watched by listeners, or after an error, and idle time before release
+     * @return
+     *      shared watcher
+     */
+    static DatabaseStatusWatcher getInstance(String token, AstraEnvironment env, HttpClientWrapper httpClient,
+                                             Duration minInterval, Duration maxInterval) {
+        Assert.notNull(httpClient, "httpClient");
+        return INSTANCES.computeIfAbsent(new InstanceKey(env, token, httpClient), k -> {
+            DatabaseStatusWatcher watcher = new DatabaseStatusWatcher(
+                    new AstraDBOpsClient(token, env, httpClient), minInterval, maxInterval, k);
+            // The heartbeat releases the watcher if it is never used
+            synchronized (watcher) {
+                watcher.ensureStarted();
+            }
+            return watcher;
+        });
+    }
+
+    /**
+     * Wait for a database to reach a status, the future is cancelled to stop waiting.
+     *
+     * @param databaseId
+     *      database identifier
+     * @param statuses
+     *      expected statuses, any of them completes the future
+     * @return
+     *      future completed with the database, or exceptionally with {@link DatabaseNotFoundException}
+     */
+    public CompletableFuture<Database> awaitStatus(String databaseId, DatabaseStatusType... statuses) {
+        Assert.isTrue(statuses != null && statuses.length > 0, "statuses should not be empty");
+        Set<DatabaseStatusType> expected = EnumSet.copyOf(Arrays.asList(statuses));
+        return await(databaseId, db -> expected.contains(db.getStatus()), null);
+    }
+
+    /**
+     * Wait for a database to match a condition, the future is cancelled to stop waiting.
+     *
+     * @param databaseId
+     *      database identifier
+     * @param condition
+     *      condition on the database read on each tick
+     * @param timeout
+     *      maximum wait, null to wait forever
+     * @return
+     *      future completed with the database, or exceptionally with {@link DatabaseNotFoundException} or
+     *      {@link TimeoutException}
+     */
+    public CompletableFuture<Database> await(String databaseId, Predicate<Database> condition, Duration timeout) {
+        Assert.hasLength(databaseId, "databaseId");
+        Assert.notNull(condition, "condition");
+        Await await = new Await(condition);
+        synchronized (this) {
+            assertOpen();
+            awaits.computeIfAbsent(databaseId, k -> new ArrayList<>()).add(await);
+            // Look at the new database on the next heartbeat
+            long now = System.nanoTime();
+            if (nextTick - now > 0) {
+                nextTick = now;
+            }
+            ensureStarted();
+        }
+        if (timeout != null) {
+            ScheduledFuture<?> expiration = SchedulerHolder.SCHEDULER.schedule(() -> await.future.completeExceptionally(
+                    new TimeoutException("Database '" + databaseId + "' not in expected state after " + timeout)),
+                    timeout.toMillis(), TimeUnit.MILLISECONDS);
+            await.future.whenComplete((db, e) -> expiration.cancel(false));
+        }
+        return await.future;
+    }
+
+    /**
+     * Watch a database for the listeners, until {@link #unwatch(String)}.
+     *
+     * @param databaseId
+     *      database identifier
+     */
+    public synchronized void watch(String databaseId) {
+        Assert.hasLength(databaseId, "databaseId");
+        assertOpen();
+        watched.add(databaseId);
+        ensureStarted();
+    }
+
+    /**
+     * Stop watching a database for the listeners, pending futures are kept.
+     *
+     * @param databaseId
+     *      database identifier
+     */
+    public synchronized void unwatch(String databaseId) {
+        watched.remove(databaseId);
+        if (!awaits.containsKey(databaseId)) {
+            lastStatus.remove(databaseId);
+        }
+    }
+
+    /**
+     * Register a listener of the transitions of the watched and awaited databases.
+     *
+     * @param listener
+     *      status listener
+     */
+    public void addListener(StatusListener listener) {
+        Assert.notNull(listener, "listener");
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregister a listener.
+     *
+     * @param listener
+     *      status listener
+     */
+    public void removeListener(StatusListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Number of databases with a pending future.
+     *
+     * @return
+     *      databases awaited
+     */
+    public synchronized int getPendingCount() {
+        return awaits.size();
+    }
+
+    /**
+     * Interval between two ticks for the databases currently awaited.
+     *
+     * @return
+     *      current interval
+     */
+    public synchronized Duration getInterval() {
+        return computeInterval(awaits.size());
+    }
+
+    /**
+     * Stop the ticks, pending futures are completed exceptionally. A shared watcher is released once idle instead,
+     * closing it has no effect.
+     */
+    @Override
+    public void close() {
+        if (instanceKey != null) {
+            return;
+        }
+        List<Await> pending = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            awaits.values().forEach(pending::addAll);
+            awaits.clear();
+            watched.clear();
+            lastStatus.clear();
+            stopHeartbeat();
+        }
+        pending.forEach(a -> a.future.completeExceptionally(new IllegalStateException("Status watcher closed")));
+    }
+
+    /**
+     * Interval for a number of awaited databases.
+     *
+     * @param pending
+     *      databases awaited
+     * @return
+     *      interval between two ticks
+     */
+    Duration computeInterval(int pending) {
+        if (pending == 0) {
+            return maxInterval;
+        }
+        Duration interval = maxInterval.dividedBy(pending + 1);
+        return interval.compareTo(minInterval) < 0 ? minInterval : interval;
+    }
+
+    /**
+     * Start the heartbeat if needed.
+     */
+    private void ensureStarted() {
+        if (heartbeat == null) {
+            idleSince = System.nanoTime();
+            heartbeat = SchedulerHolder.SCHEDULER.scheduleWithFixedDelay(this::onHeartbeat,
+                    0, minInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stop the heartbeat.
+     */
+    private void stopHeartbeat() {
+        if (heartbeat != null) {
+            heartbeat.cancel(false);
+            heartbeat = null;
+        }
+    }
+
+    /**
+     * Reject new databases once closed.
+     */
+    private void assertOpen() {
+        if (closed) {
+            throw new IllegalStateException("Status watcher closed");
+        }
+    }
+
+    /**
+     * Submit a tick when due. The heartbeat stops when nothing is watched anymore, after the maximum interval for a
+     * shared watcher which is then released.
+     */
+    private void onHeartbeat() {
+        final Set<String> ids;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (ticking || now - nextTick < 0) {
+                return;
+            }
+            // Cancelled futures are not waited for
+            awaits.values().forEach(list -> list.removeIf(a -> a.future.isDone()));
+            awaits.values().removeIf(List::isEmpty);
+            ids = new HashSet<>(watched);
+            ids.addAll(awaits.keySet());
+            lastStatus.keySet().retainAll(ids);
+            if (!ids.isEmpty()) {
+                idleSince = now;
+                ticking   = true;
+            } else if (instanceKey == null) {
+                stopHeartbeat();
+                return;
+            } else if (now - idleSince < maxInterval.toNanos()) {
+                return;
+            } else {
+                stopHeartbeat();
+            }
+        }
+        if (ids.isEmpty()) {
+            // A caller still holding this watcher restarts the heartbeat, the next callers get a new one
+            INSTANCES.remove(instanceKey, this);
+            return;
+        }
+        try {
+            SdkExecutors.shared().execute(() -> runTick(ids));
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                ticking = false;
+            }
+        }
+    }
+
+    /**
+     * Run a tick and plan the next one.
+     *
+     * @param ids
+     *      databases watched or awaited
+     */
+    private void runTick(Set<String> ids) {
+        Duration next;
+        try {
+            tick(ids);
+            synchronized (this) {
+                next = computeInterval(awaits.size());
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot read the status of {} databases, next attempt in {} ms", ids.size(), maxInterval.toMillis(), e);
+            next = maxInterval;
+        }
+        synchronized (this) {
+            nextTick = System.nanoTime() + next.toNanos();
+            ticking  = false;
+        }
+    }
+
+    /**
+     * Read the databases and publish their status.
+     *
+     * @param ids
+     *      databases watched or awaited
+     */
+    private void tick(Set<String> ids) {
+        Map<String, Database> found = new HashMap<>();
+        // Pages are only read until every database was seen, closing cancels a page prefetched meanwhile
+        try (Stream<Database> dbs = client.findAllNonTerminated()) {
+            dbs.filter(db -> ids.contains(db.getId()))
+               .limit(ids.size())
+               .forEach(db -> found.put(db.getId(), db));
+        }
+        for (String id : ids) {
+            if (!found.containsKey(id)) {
+                Database db = client.findById(id).orElse(null);
+                if (db == null) {
+                    notFound(id);
+                } else {
+                    found.put(id, db);
+                }
+            }
+        }
+        found.values().forEach(this::publish);
+    }
+
+    /**
+     * Publish the status of a database: notify the listeners of a transition and complete the futures.
+     *
+     * @param db
+     *      database read on this tick
+     */
+    private void publish(Database db) {
+        DatabaseStatusType previous;
+        List<Await> completed = new ArrayList<>();
+        synchronized (this) {
+            previous = lastStatus.put(db.getId(), db.getStatus());
+            List<Await> pending = awaits.get(db.getId());
+            if (pending != null) {
+                for (Iterator<Await> it = pending.iterator(); it.hasNext();) {
+                    Await await = it.next();
+                    try {
+                        if (await.future.isDone() || await.condition.test(db)) {
+                            completed.add(await);
+                            it.remove();
+                        }
+                    } catch (RuntimeException e) {
+                        await.future.completeExceptionally(e);
+                        it.remove();
+                    }
+                }
+                if (pending.isEmpty()) {
+                    awaits.remove(db.getId());
+                }
+            }
+        }
+        if (previous != null && previous != db.getStatus()) {
+            for (StatusListener listener : listeners) {
+                try {
+                    listener.onTransition(db, previous);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Status listener failed on database {}", db.getId(), e);
+                }
+            }
+        }
+        completed.forEach(a -> a.future.complete(db));
+    }
+
+    /**
+     * Fail the futures of a database that does not exist.
+     *
+     * @param id
+     *      database identifier
+     */
+    private void notFound(String id) {
+        List<Await> pending;
+        synchronized (this) {
+            pending = awaits.remove(id);
+            watched.remove(id);
+            lastStatus.remove(id);
+        }
+        if (pending != null) {
+            pending.forEach(a -> a.future.completeExceptionally(new DatabaseNotFoundException(id)));
+        }
+    }
+
+}
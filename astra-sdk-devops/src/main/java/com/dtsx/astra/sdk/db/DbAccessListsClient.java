@@ -4,10 +4,10 @@ import com.dtsx.astra.sdk.AbstractApiClient;
 import com.dtsx.astra.sdk.db.domain.AccessList;
 import com.dtsx.astra.sdk.db.domain.AccessListAddressRequest;
 import com.dtsx.astra.sdk.db.domain.AccessListRequest;
-import com.dtsx.astra.sdk.db.domain.Database;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 
 import java.util.ArrayList;
@@ -19,9 +19,9 @@ import java.util.Arrays;
 public class DbAccessListsClient extends AbstractApiClient {
 
     /**
-     * unique db identifier.
+     * Client of the database, holds the database snapshot.
      */
-    private final Database db;
+    private final DbOpsClient dbClient;
 
     /**
      * As immutable object use builder to initiate the object.
@@ -46,9 +46,41 @@ public class DbAccessListsClient extends AbstractApiClient {
      *      database identifier
      */
     public DbAccessListsClient(String token, AstraEnvironment env, String databaseId) {
-        super(token, env);
-        Assert.hasLength(databaseId, "databaseId");
-        this.db = new DbOpsClient(token, env, databaseId).get();
+        this(token, env, databaseId, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param databaseId
+     *      database identifier
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public DbAccessListsClient(String token, AstraEnvironment env, String databaseId, HttpClientWrapper httpClient) {
+        this(token, env, httpClient, new DbOpsClient(token, env, databaseId, httpClient));
+    }
+
+    /**
+     * Create the client from a database client, the database snapshot is shared.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     * @param dbClient
+     *      client of the database
+     */
+    DbAccessListsClient(String token, AstraEnvironment env, HttpClientWrapper httpClient, DbOpsClient dbClient) {
+        super(token, env, httpClient);
+        Assert.notNull(dbClient, "dbClient");
+        this.dbClient = dbClient;
     }
 
     /** {@inheritDoc} */
@@ -67,11 +99,11 @@ public class DbAccessListsClient extends AbstractApiClient {
         try {
             return JsonUtils.unmarshallBean(GET(
                     getApiDevopsEndpointAccessListsDb(),
-                    getOperationName("get")).getBody(), AccessList.class);
+                    getOperationName("get")), AccessList.class);
         } catch(RuntimeException mex) {
             AccessList ac = new AccessList();
-            ac.setDatabaseId(db.getId());
-            ac.setOrganizationId(db.getOrgId());
+            ac.setDatabaseId(dbClient.getDatabaseId());
+            ac.setOrganizationId(dbClient.getSnapshot().getOrgId());
             ac.setAddresses(new ArrayList<>());
             ac.setConfigurations(new AccessList.Configurations(false));
             return ac;
@@ -142,7 +174,7 @@ public class DbAccessListsClient extends AbstractApiClient {
      *      endpoint
      */
     public String getApiDevopsEndpointAccessListsDb() {
-        return ApiLocator.getApiDevopsEndpoint(environment) + "/databases/" + db.getId() + "/access-list";
+        return ApiLocator.getApiDevopsEndpoint(environment) + "/databases/" + dbClient.getDatabaseId() + "/access-list";
     }
 
 }
@@ -0,0 +1,337 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.BulkOperationReport;
+import com.dtsx.astra.sdk.db.domain.BulkOperationResult;
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
+import com.dtsx.astra.sdk.db.exception.BulkOperationException;
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.ThreadSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Park, unpark, resize or terminate many databases with a bounded number of requests in flight.
+ *
+ * <p>Databases selected with a predicate are read from the non-terminated databases page by page, requests start
+ * while the next pages are fetched. Terminations change the listing they are selected from, they only start once
+ * every page is read. A database whose status does not allow the operation is skipped. The requests go through the
+ * {@link com.dtsx.astra.sdk.utils.HttpClientWrapper} of the client, its rate limits and retries apply. Each result
+ * is handed to the listener as it completes, a failure does not stop the other databases. A page that cannot be
+ * read stops the selection, the requests in flight complete and a {@link BulkOperationException} holds their
+ * results.</p>
+ *
+ * <pre>
+ * BulkOperationReport report = new AstraDBOpsClient(token).bulk()
+ *     .concurrency(20)
+ *     .onResult(r -&gt; LOGGER.info("{}", r))
+ *     .park(db -&gt; db.getInfo().getName().startsWith("ci_"));
+ * </pre>
+ */
+public class DbBulkOperations {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbBulkOperations.class);
+
+    /** Default number of requests in flight. */
+    public static final int DEFAULT_CONCURRENCY = 8;
+
+    /** Statuses allowing a park. */
+    private static final Set<DatabaseStatusType> PARKABLE = EnumSet.of(DatabaseStatusType.ACTIVE);
+
+    /** Statuses allowing an unpark. */
+    private static final Set<DatabaseStatusType> UNPARKABLE = EnumSet.of(DatabaseStatusType.PARKED);
+
+    /** Statuses allowing a resize. */
+    private static final Set<DatabaseStatusType> RESIZABLE = EnumSet.of(DatabaseStatusType.ACTIVE);
+
+    /** Statuses allowing a termination. */
+    private static final Set<DatabaseStatusType> TERMINABLE = EnumSet.complementOf(
+            EnumSet.of(DatabaseStatusType.TERMINATING, DatabaseStatusType.TERMINATED));
+
+    /** Client used to select the databases and to send the requests. */
+    private final AstraDBOpsClient client;
+
+    /** Number of requests in flight. */
+    private int concurrency = DEFAULT_CONCURRENCY;
+
+    /** Notified of each result. */
+    private Consumer<BulkOperationResult> listener = r -> {};
+
+    /**
+     * Database to process.
+     */
+    private static final class Target {
+
+        /** Database identifier. */
+        private final String id;
+
+        /** Database name, null if unknown. */
+        private final String name;
+
+        /** Reason to skip the database, null to process it. */
+        private final String skipReason;
+
+        /**
+         * Constructor.
+         *
+         * @param id
+         *      database identifier
+         * @param name
+         *      database name, null if unknown
+         * @param skipReason
+         *      reason to skip the database, null to process it
+         */
+        private Target(String id, String name, String skipReason) {
+            this.id         = id;
+            this.name       = name;
+            this.skipReason = skipReason;
+        }
+    }
+
+    /**
+     * Bulk operations sending their requests with a client.
+     *
+     * @param client
+     *      client used to select the databases and to send the requests
+     */
+    public DbBulkOperations(AstraDBOpsClient client) {
+        Assert.notNull(client, "client");
+        this.client = client;
+    }
+
+    /**
+     * Define the number of requests in flight.
+     *
+     * @param concurrency
+     *      maximum number of databases processed at once
+     * @return
+     *      current reference
+     */
+    public DbBulkOperations concurrency(int concurrency) {
+        Assert.isTrue(concurrency > 0, "concurrency should be positive");
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Define the listener of the results, called once per database as results complete, one call at a time.
+     *
+     * @param listener
+     *      result listener
+     * @return
+     *      current reference
+     */
+    public DbBulkOperations onResult(Consumer<BulkOperationResult> listener) {
+        Assert.notNull(listener, "listener");
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Park the selected active databases.
+     *
+     * @param selector
+     *      select the databases among the non-terminated ones
+     * @return
+     *      result for each selected database
+     */
+    public BulkOperationReport park(Predicate<Database> selector) {
+        return execute("park", select(selector, PARKABLE), DbOpsClient::park);
+    }
+
+    /**
+     * Unpark the selected parked databases.
+     *
+     * @param selector
+     *      select the databases among the non-terminated ones
+     * @return
+     *      result for each selected database
+     */
+    public BulkOperationReport unpark(Predicate<Database> selector) {
+        return execute("unpark", select(selector, UNPARKABLE), DbOpsClient::unpark);
+    }
+
+    /**
+     * Resize the selected active databases.
+     *
+     * @param selector
+     *      select the databases among the non-terminated ones
+     * @param capacityUnits
+     *      target capacity units
+     * @return
+     *      result for each selected database
+     */
+    public BulkOperationReport resize(Predicate<Database> selector, int capacityUnits) {
+        Assert.isTrue(capacityUnits > 0, "Capacity Unit");
+        return execute("resize", select(selector, RESIZABLE), db -> db.resize(capacityUnits));
+    }
+
+    /**
+     * Terminate the selected databases.
+     *
+     * @param selector
+     *      select the databases among the non-terminated ones
+     * @return
+     *      result for each selected database
+     */
+    public BulkOperationReport delete(Predicate<Database> selector) {
+        // Terminated databases leave the listing, the cursor could skip some if pages were read meanwhile
+        List<Target> targets;
+        try (Stream<Target> selected = select(selector, TERMINABLE)) {
+            targets = selected.collect(Collectors.toList());
+        }
+        return execute("delete", targets.stream(), DbOpsClient::delete);
+    }
+
+    /**
+     * Apply an operation to databases identified by their ids, their status is not checked.
+     *
+     * @param databaseIds
+     *      database identifiers
+     * @param operation
+     *      operation name, used in the results
+     * @param action
+     *      operation applied to each database, throws to report a failure
+     * @return
+     *      result for each database
+     */
+    public BulkOperationReport apply(Collection<String> databaseIds, String operation, Consumer<DbOpsClient> action) {
+        Assert.notNull(databaseIds, "databaseIds");
+        Assert.hasLength(operation, "operation");
+        Assert.notNull(action, "action");
+        return execute(operation, databaseIds.stream().distinct().map(id -> new Target(id, null, null)), action);
+    }
+
+    /**
+     * Select the databases and flag the ones to skip.
+     *
+     * @param selector
+     *      select the databases among the non-terminated ones
+     * @param allowed
+     *      statuses allowing the operation
+     * @return
+     *      databases to process, read page by page, to be closed
+     */
+    private Stream<Target> select(Predicate<Database> selector, Set<DatabaseStatusType> allowed) {
+        Assert.notNull(selector, "selector");
+        return client.findAllNonTerminated()
+                .filter(selector)
+                .map(db -> new Target(db.getId(),
+                        db.getInfo() == null ? null : db.getInfo().getName(),
+                        allowed.contains(db.getStatus()) ? null : "status is " + db.getStatus()));
+    }
+
+    /**
+     * Process the databases with at most {@link #concurrency} requests in flight.
+     *
+     * @param operation
+     *      operation name
+     * @param targets
+     *      databases to process
+     * @param action
+     *      operation applied to each database
+     * @return
+     *      result for each database
+     * @throws BulkOperationException
+     *      the databases could not all be selected, holds the results of the requests sent
+     */
+    private BulkOperationReport execute(String operation, Stream<Target> targets, Consumer<DbOpsClient> action) {
+        final long start = System.nanoTime();
+        final List<BulkOperationResult> results = new ArrayList<>();
+        final List<Future<?>> inFlight = new ArrayList<>();
+        final Semaphore permits = new Semaphore(concurrency);
+        final ExecutorService executor = ThreadSupport.newExecutor("bulk-" + operation, concurrency);
+        RuntimeException selectionError = null;
+        try (Stream<Target> selected = targets) {
+            Iterator<Target> it = selected.iterator();
+            while (true) {
+                final Target target;
+                try {
+                    // Reading the next page may fail, the requests already sent still complete
+                    if (!it.hasNext()) {
+                        break;
+                    }
+                    target = it.next();
+                } catch (RuntimeException e) {
+                    selectionError = e;
+                    break;
+                }
+                if (target.skipReason != null) {
+                    publish(results, new BulkOperationResult(target.id, target.name, operation,
+                            BulkOperationResult.Outcome.SKIPPED, target.skipReason, null, Duration.ZERO));
+                    continue;
+                }
+                permits.acquire();
+                inFlight.add(executor.submit(() -> {
+                    final long sent = System.nanoTime();
+                    try {
+                        action.accept(client.database(target.id));
+                        publish(results, new BulkOperationResult(target.id, target.name, operation,
+                                BulkOperationResult.Outcome.ACCEPTED, null, null, Duration.ofNanos(System.nanoTime() - sent)));
+                    } catch (RuntimeException e) {
+                        publish(results, new BulkOperationResult(target.id, target.name, operation,
+                                BulkOperationResult.Outcome.FAILED, e.getMessage(), e, Duration.ofNanos(System.nanoTime() - sent)));
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<?> request : inFlight) {
+                request.get();
+            }
+        } catch (InterruptedException e) {
+            inFlight.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during bulk " + operation, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error during bulk " + operation, e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        final BulkOperationReport report;
+        synchronized (results) {
+            report = new BulkOperationReport(operation, new ArrayList<>(results), Duration.ofNanos(System.nanoTime() - start));
+        }
+        if (selectionError != null) {
+            throw new BulkOperationException(report, selectionError);
+        }
+        return report;
+    }
+
+    /**
+     * Record a result and notify the listener, one result at a time.
+     *
+     * @param results
+     *      results of the operation
+     * @param result
+     *      new result
+     */
+    private void publish(List<BulkOperationResult> results, BulkOperationResult result) {
+        synchronized (results) {
+            results.add(result);
+            try {
+                listener.accept(result);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Bulk operation listener failed on {}", result, e);
+            }
+        }
+    }
+
+}
@@ -1,7 +1,6 @@
 package com.dtsx.astra.sdk.db;
 
 import com.dtsx.astra.sdk.AbstractApiClient;
-import com.dtsx.astra.sdk.db.domain.Database;
 import com.dtsx.astra.sdk.db.exception.ChangeDataCaptureNotFoundException;
 import com.dtsx.astra.sdk.db.exception.KeyspaceNotFoundException;
 import com.dtsx.astra.sdk.streaming.AstraStreamingClient;
@@ -10,6 +9,7 @@ import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
@@ -31,9 +31,9 @@ public class DbCdcsClient extends AbstractApiClient {
     };
 
     /**
-     * unique db identifier.
+     * Client of the database, holds the database snapshot.
      */
-    private final Database db;
+    private final DbOpsClient dbClient;
 
     /**
      * As immutable object use builder to initiate the object.
@@ -64,9 +64,41 @@ public class DbCdcsClient extends AbstractApiClient {
      *      database identifier
      */
     public DbCdcsClient(String token, AstraEnvironment env, String databaseId) {
-        super(token, env);
-        Assert.hasLength(databaseId, "databaseId");
-        this.db = new DbOpsClient(token, env, databaseId).get();
+        this(token, env, databaseId, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param databaseId
+     *      database identifier
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public DbCdcsClient(String token, AstraEnvironment env, String databaseId, HttpClientWrapper httpClient) {
+        this(token, env, httpClient, new DbOpsClient(token, env, databaseId, httpClient));
+    }
+
+    /**
+     * Create the client from a database client, the database snapshot is shared.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     * @param dbClient
+     *      client of the database
+     */
+    DbCdcsClient(String token, AstraEnvironment env, HttpClientWrapper httpClient, DbOpsClient dbClient) {
+        super(token, env, httpClient);
+        Assert.notNull(dbClient, "dbClient");
+        this.dbClient = dbClient;
     }
 
     /**
@@ -79,7 +111,7 @@ public class DbCdcsClient extends AbstractApiClient {
         if (HttpURLConnection.HTTP_NOT_FOUND == res.getCode()) {
             return Stream.of();
         } else {
-            return JsonUtils.unmarshallType(res.getBody(), TYPE_LIST_CDC).stream();
+            return JsonUtils.unmarshallType(res, TYPE_LIST_CDC).stream();
         }
     }
 
@@ -127,12 +159,15 @@ public class DbCdcsClient extends AbstractApiClient {
      */
     public void create(String keyspace, String table, String tenant, int topicPartition) {
         Assert.hasLength(keyspace, "keyspace");
-        if (!db.getInfo().getKeyspaces().contains(keyspace)) {
-            throw new KeyspaceNotFoundException(db.getId(), keyspace);
-        }
-        new AstraStreamingClient(token, environment)
-                .tenant(tenant).cdc()
-                .create(db.getId(), keyspace, table, topicPartition);
+        httpClient.getTracer().inSpan("DbCdcsClient.create", () -> {
+            if (!dbClient.getSnapshot().getInfo().getKeyspaces().contains(keyspace)
+                    && !dbClient.refresh().getInfo().getKeyspaces().contains(keyspace)) {
+                throw new KeyspaceNotFoundException(dbClient.getDatabaseId(), keyspace);
+            }
+            new AstraStreamingClient(token, environment, httpClient)
+                    .tenant(tenant).cdc()
+                    .create(dbClient.getDatabaseId(), keyspace, table, topicPartition);
+        });
     }
 
     /**
@@ -142,7 +177,7 @@ public class DbCdcsClient extends AbstractApiClient {
      *         cdc identifier
      */
     public void delete(String cdcId) {
-        delete(findById(cdcId).orElseThrow(() -> new ChangeDataCaptureNotFoundException(cdcId, db.getId())));
+        delete(findById(cdcId).orElseThrow(() -> new ChangeDataCaptureNotFoundException(cdcId, dbClient.getDatabaseId())));
     }
 
     /**
@@ -157,7 +192,7 @@ public class DbCdcsClient extends AbstractApiClient {
      */
     public void delete(String keyspace, String table, String tenant) {
         delete(findByDefinition(keyspace, table, tenant)
-                .orElseThrow(() -> new ChangeDataCaptureNotFoundException(keyspace, table, tenant, db.getId())));
+                .orElseThrow(() -> new ChangeDataCaptureNotFoundException(keyspace, table, tenant, dbClient.getDatabaseId())));
     }
 
     /**
@@ -167,9 +202,9 @@ public class DbCdcsClient extends AbstractApiClient {
      *         cdc definition
      */
     private void delete(CdcDefinition cdc) {
-        new AstraStreamingClient(token, environment)
+        new AstraStreamingClient(token, environment, httpClient)
                 .tenant(cdc.getTenant()).cdc()
-                .delete(db.getId(), cdc.getKeyspace(), cdc.getDatabaseTable());
+                .delete(dbClient.getDatabaseId(), cdc.getKeyspace(), cdc.getDatabaseTable());
     }
 
     /**
@@ -178,7 +213,7 @@ public class DbCdcsClient extends AbstractApiClient {
      * @return url to invoke CDC
      */
     private String getEndpointDatabaseCdc() {
-        return ApiLocator.getApiDevopsEndpoint(environment) + "/streaming" + "/astra-cdc/databases/" + db.getId();
+        return ApiLocator.getApiDevopsEndpoint(environment) + "/streaming" + "/astra-cdc/databases/" + dbClient.getDatabaseId();
     }
 
 
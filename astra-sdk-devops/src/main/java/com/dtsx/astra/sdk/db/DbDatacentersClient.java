@@ -4,6 +4,7 @@ import com.dtsx.astra.sdk.AbstractApiClient;
 import com.dtsx.astra.sdk.db.domain.CloudProviderType;
 import com.dtsx.astra.sdk.db.domain.Database;
 import com.dtsx.astra.sdk.db.domain.DatabaseRegionCreationRequest;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
 import com.dtsx.astra.sdk.db.domain.Datacenter;
 import com.dtsx.astra.sdk.db.exception.RegionAlreadyExistException;
 import com.dtsx.astra.sdk.db.exception.RegionNotFoundException;
@@ -11,13 +12,17 @@ import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
+import com.dtsx.astra.sdk.utils.SdkExecutors;
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.net.HttpURLConnection;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 /**
@@ -32,9 +37,9 @@ public class DbDatacentersClient extends AbstractApiClient {
             new TypeReference<List<Datacenter>>() {};
 
     /**
-     * unique db identifier.
+     * Client of the database, holds the database snapshot.
      */
-    private final Database db;
+    private final DbOpsClient dbClient;
 
     /**
      * As immutable object use builder to initiate the object.
@@ -59,9 +64,41 @@ public class DbDatacentersClient extends AbstractApiClient {
      *      database identifier
      */
     public DbDatacentersClient(String token, AstraEnvironment env, String databaseId) {
-        super(token, env);
-        Assert.hasLength(databaseId, "databaseId");
-        this.db = new DbOpsClient(token, env, databaseId).get();
+        this(token, env, databaseId, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param databaseId
+     *      database identifier
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public DbDatacentersClient(String token, AstraEnvironment env, String databaseId, HttpClientWrapper httpClient) {
+        this(token, env, httpClient, new DbOpsClient(token, env, databaseId, httpClient));
+    }
+
+    /**
+     * Create the client from a database client, the database snapshot is shared.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     * @param dbClient
+     *      client of the database
+     */
+    DbDatacentersClient(String token, AstraEnvironment env, HttpClientWrapper httpClient, DbOpsClient dbClient) {
+        super(token, env, httpClient);
+        Assert.notNull(dbClient, "dbClient");
+        this.dbClient = dbClient;
     }
 
     /** {@inheritDoc} */
@@ -80,7 +117,7 @@ public class DbDatacentersClient extends AbstractApiClient {
         if (HttpURLConnection.HTTP_NOT_FOUND == res.getCode()) {
             return Stream.of();
         } else {
-            return JsonUtils.unmarshallType(res.getBody(), DATACENTER_LIST).stream();
+            return JsonUtils.unmarshallType(res, DATACENTER_LIST).stream();
         }
     }
 
@@ -126,7 +163,7 @@ public class DbDatacentersClient extends AbstractApiClient {
         Assert.notNull(cloudProvider, "cloudProvider");
         Assert.hasLength(regionName, "regionName");
         if (findByRegionName(regionName).isPresent()) {
-            throw new RegionAlreadyExistException(db.getId(), regionName);
+            throw new RegionAlreadyExistException(dbClient.getDatabaseId(), regionName);
         }
         DatabaseRegionCreationRequest req = new DatabaseRegionCreationRequest(tier, cloudProvider.getCode(), regionName);
         String body = JsonUtils.marshall(Collections.singletonList(req));
@@ -134,6 +171,47 @@ public class DbDatacentersClient extends AbstractApiClient {
         if (res.getCode() != HttpURLConnection.HTTP_CREATED) {
             throw new IllegalStateException("Cannot Add Region: " + res.getBody());
         }
+        dbClient.invalidateSnapshot();
+    }
+
+    /**
+     * Create a Region, the future completes once the datacenter is active.
+     *
+     * @param tier
+     *         tier for the db
+     * @param cloudProvider
+     *         Cloud provider to add a region
+     * @param regionName
+     *         name of the region
+     * @return
+     *      future database, completed exceptionally on error or after {@link DbOpsClient#DEFAULT_LIFECYCLE_TIMEOUT}
+     */
+    public CompletableFuture<Database> createAsync(String tier, CloudProviderType cloudProvider, String regionName) {
+        return createAsync(tier, cloudProvider, regionName, DbOpsClient.DEFAULT_LIFECYCLE_TIMEOUT);
+    }
+
+    /**
+     * Create a Region, the future completes once the datacenter is active.
+     *
+     * @param tier
+     *         tier for the db
+     * @param cloudProvider
+     *         Cloud provider to add a region
+     * @param regionName
+     *         name of the region
+     * @param timeout
+     *      maximum wait for the datacenter
+     * @return
+     *      future database, completed exceptionally on error or timeout
+     */
+    public CompletableFuture<Database> createAsync(String tier, CloudProviderType cloudProvider, String regionName, Duration timeout) {
+        return CompletableFuture.runAsync(() -> create(tier, cloudProvider, regionName), SdkExecutors.shared())
+                .thenCompose(v -> dbClient.awaitLifecycle("region creation",
+                        db -> DatabaseStatusType.ACTIVE == db.getStatus() && db.getInfo() != null
+                                && db.getInfo().getDatacenters() != null && db.getInfo().getDatacenters().stream()
+                                .anyMatch(dc -> regionName.equalsIgnoreCase(dc.getRegion())
+                                        && (dc.getStatus() == null || DatabaseStatusType.ACTIVE.name().equalsIgnoreCase(dc.getStatus()))),
+                        timeout));
     }
 
     /**
@@ -147,13 +225,14 @@ public class DbDatacentersClient extends AbstractApiClient {
     public void delete(String regionName) {
         Optional<Datacenter> optDc = findByRegionName(regionName);
         if (!optDc.isPresent()) {
-            throw new RegionNotFoundException(db.getId(), regionName);
+            throw new RegionNotFoundException(dbClient.getDatabaseId(), regionName);
         }
         // Invoke Http endpoint
         ApiResponseHttp res = POST(getEndpointRegions() + "/" + optDc.get().getId() + "/terminate",
                 getOperationName("delete"));
         // Check response code
-        assertHttpCodeAccepted(res, "deleteRegion", db.getId());
+        assertHttpCodeAccepted(res, "deleteRegion", dbClient.getDatabaseId());
+        dbClient.invalidateSnapshot();
     }
 
     /**
@@ -162,7 +241,7 @@ public class DbDatacentersClient extends AbstractApiClient {
      * @return database endpoint
      */
     private String getEndpointRegions() {
-        return ApiLocator.getApiDevopsEndpoint(environment) + "/databases/" + db.getId() + "/datacenters";
+        return ApiLocator.getApiDevopsEndpoint(environment) + "/databases/" + dbClient.getDatabaseId() + "/datacenters";
     }
 
 }
@@ -2,13 +2,18 @@ package com.dtsx.astra.sdk.db;
 
 import com.dtsx.astra.sdk.AbstractApiClient;
 import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
 import com.dtsx.astra.sdk.db.exception.KeyspaceAlreadyExistException;
 import com.dtsx.astra.sdk.db.exception.KeyspaceNotFoundException;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.SdkExecutors;
 
+import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Delegate Operation to work on Keyspaces
@@ -16,9 +21,9 @@ import java.util.Set;
 public class DbKeyspacesClient extends AbstractApiClient  {
 
     /**
-     * unique db identifier.
+     * Client of the database, holds the database snapshot.
      */
-    private final Database db;
+    private final DbOpsClient dbClient;
 
     /**
      * As immutable object use builder to initiate the object.
@@ -43,9 +48,41 @@ public class DbKeyspacesClient extends AbstractApiClient  {
      *      database identifier
      */
     public DbKeyspacesClient(String token, AstraEnvironment env, String databaseId) {
-        super(token, env);
-        Assert.hasLength(databaseId, "databaseId");
-        this.db = new DbOpsClient(token, env, databaseId).get();
+        this(token, env, databaseId, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param databaseId
+     *      database identifier
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public DbKeyspacesClient(String token, AstraEnvironment env, String databaseId, HttpClientWrapper httpClient) {
+        this(token, env, httpClient, new DbOpsClient(token, env, databaseId, httpClient));
+    }
+
+    /**
+     * Create the client from a database client, the database snapshot is shared.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     * @param dbClient
+     *      client of the database
+     */
+    DbKeyspacesClient(String token, AstraEnvironment env, HttpClientWrapper httpClient, DbOpsClient dbClient) {
+        super(token, env, httpClient);
+        Assert.notNull(dbClient, "dbClient");
+        this.dbClient = dbClient;
     }
 
     /** {@inheritDoc} */
@@ -61,7 +98,7 @@ public class DbKeyspacesClient extends AbstractApiClient  {
      *      all keyspace names
      */
     public Set<String> findAll() {
-        return db.getInfo().getKeyspaces();
+        return dbClient.getSnapshot().getInfo().getKeyspaces();
     }
 
     /**
@@ -84,10 +121,43 @@ public class DbKeyspacesClient extends AbstractApiClient  {
      */
     public void create(String keyspace) {
         Assert.hasLength(keyspace, "keyspace");
-        if (db.getInfo().getKeyspaces().contains(keyspace)) {
-            throw new KeyspaceAlreadyExistException(keyspace, db.getInfo().getName());
+        // Confirm a positive from the snapshot against the API before failing
+        if (dbClient.getSnapshot().getInfo().getKeyspaces().contains(keyspace)
+                && dbClient.refresh().getInfo().getKeyspaces().contains(keyspace)) {
+            throw new KeyspaceAlreadyExistException(keyspace, dbClient.getSnapshot().getInfo().getName());
         }
         POST(getEndpointKeyspace(keyspace), getOperationName("create"));
+        dbClient.invalidateSnapshot();
+    }
+
+    /**
+     * Create a new keyspace in a DB, the future completes once the keyspace is listed and the database is active.
+     *
+     * @param keyspace
+     *         keyspace name to create
+     * @return
+     *      future database, completed exceptionally on error or after {@link DbOpsClient#DEFAULT_LIFECYCLE_TIMEOUT}
+     */
+    public CompletableFuture<Database> createAsync(String keyspace) {
+        return createAsync(keyspace, DbOpsClient.DEFAULT_LIFECYCLE_TIMEOUT);
+    }
+
+    /**
+     * Create a new keyspace in a DB, the future completes once the keyspace is listed and the database is active.
+     *
+     * @param keyspace
+     *         keyspace name to create
+     * @param timeout
+     *      maximum wait for the keyspace
+     * @return
+     *      future database, completed exceptionally on error or timeout
+     */
+    public CompletableFuture<Database> createAsync(String keyspace, Duration timeout) {
+        return CompletableFuture.runAsync(() -> create(keyspace), SdkExecutors.shared())
+                .thenCompose(v -> dbClient.awaitLifecycle("keyspace creation",
+                        db -> DatabaseStatusType.ACTIVE == db.getStatus() && db.getInfo() != null
+                                && db.getInfo().getKeyspaces() != null && db.getInfo().getKeyspaces().contains(keyspace),
+                        timeout));
     }
 
     /**
@@ -98,10 +168,13 @@ public class DbKeyspacesClient extends AbstractApiClient  {
      */
     public void delete(String keyspace) {
         Assert.hasLength(keyspace, "keyspace");
-        if (!db.getInfo().getKeyspaces().contains(keyspace)) {
-            throw new KeyspaceNotFoundException(db.getInfo().getName(), keyspace);
+        // Confirm a miss from the snapshot against the API before failing
+        if (!dbClient.getSnapshot().getInfo().getKeyspaces().contains(keyspace)
+                && !dbClient.refresh().getInfo().getKeyspaces().contains(keyspace)) {
+            throw new KeyspaceNotFoundException(dbClient.getSnapshot().getInfo().getName(), keyspace);
         }
         DELETE(getEndpointKeyspace(keyspace),getOperationName("delete"));
+        dbClient.invalidateSnapshot();
     }
 
     /**
@@ -112,7 +185,7 @@ public class DbKeyspacesClient extends AbstractApiClient  {
      * @return endpoint
      */
     public String getEndpointKeyspace(String keyspaceName) {
-        return ApiLocator.getApiDevopsEndpoint(environment) + "/databases/" + db.getId() + "/keyspaces/" + keyspaceName;
+        return ApiLocator.getApiDevopsEndpoint(environment) + "/databases/" + dbClient.getDatabaseId() + "/keyspaces/" + keyspaceName;
     }
 
 }
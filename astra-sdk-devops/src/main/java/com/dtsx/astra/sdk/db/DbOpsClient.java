@@ -10,15 +10,24 @@ import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
+import com.dtsx.astra.sdk.utils.SdkExecutors;
 import com.dtsx.astra.sdk.utils.Utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 /**
  * Devops API Client working with a Database.
@@ -30,11 +39,27 @@ public class DbOpsClient extends AbstractApiClient {
      */
     private static final Logger LOGGER = LoggerFactory.getLogger(DbOpsClient.class);
 
+    /**
+     * Default maximum wait of the lifecycle futures (creation, park, resize...).
+     */
+    public static final Duration DEFAULT_LIFECYCLE_TIMEOUT = Duration.ofMinutes(30);
+
+    /**
+     * Statuses failing the lifecycle futures.
+     */
+    private static final Set<DatabaseStatusType> FAILED_STATUSES = EnumSet.of(
+            DatabaseStatusType.ERROR, DatabaseStatusType.TERMINATING, DatabaseStatusType.TERMINATED);
+
     /**
      * unique db identifier.
      */
     private final String databaseId;
 
+    /**
+     * Last known state of the database, shared with the sub-clients.
+     */
+    private final DatabaseSnapshot snapshot;
+
     /** {@inheritDoc} */
     @Override
     public String getServiceName() {
@@ -64,9 +89,26 @@ public class DbOpsClient extends AbstractApiClient {
      *      database identifier
      */
     public DbOpsClient(String token, AstraEnvironment env, String databaseId) {
-        super(token, env);
+        this(token, env, databaseId, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param databaseId
+     *      database identifier
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public DbOpsClient(String token, AstraEnvironment env, String databaseId, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
         Assert.hasLength(databaseId, "databaseId");
         this.databaseId = databaseId;
+        this.snapshot   = new DatabaseSnapshot(DatabaseSnapshot.DEFAULT_TTL, this::get);
     }
 
     // ---------------------------------
@@ -79,12 +121,60 @@ public class DbOpsClient extends AbstractApiClient {
      * @return the database if present,
      */
     public Optional<Database> find() {
-        ApiResponseHttp res = GET(getEndpointDatabase(), getOperationName("find"));
+        return updateSnapshot(mapDatabase(GET(getEndpointDatabase(), getOperationName("find"))));
+    }
+
+    /**
+     * Retrieve a DB by its id without blocking the caller thread.
+     *
+     * @return the future database if present,
+     */
+    public CompletableFuture<Optional<Database>> findAsync() {
+        return GET_ASYNC(getEndpointDatabase(), getOperationName("find"))
+                .thenApply(this::mapDatabase)
+                .thenApply(this::updateSnapshot);
+    }
+
+    /**
+     * Retrieve database or error without blocking the caller thread.
+     *
+     * @return future current db, completed exceptionally if not found
+     */
+    public CompletableFuture<Database> getAsync() {
+        return findAsync().thenApply(db -> db.orElseThrow(() -> new DatabaseNotFoundException(databaseId)));
+    }
+
+    /**
+     * Unmarshall a database.
+     *
+     * @param res
+     *      http response
+     * @return
+     *      the database if present
+     */
+    private Optional<Database> mapDatabase(ApiResponseHttp res) {
         if (HttpURLConnection.HTTP_NOT_FOUND == res.getCode()) {
             return Optional.empty();
         } else {
-            return Optional.of(JsonUtils.unmarshallBean(res.getBody(), Database.class));
+            return Optional.of(JsonUtils.unmarshallBean(res, Database.class));
+        }
+    }
+
+    /**
+     * Keep the snapshot in sync with the database fetched.
+     *
+     * @param db
+     *      the database if present
+     * @return
+     *      the database if present
+     */
+    private Optional<Database> updateSnapshot(Optional<Database> db) {
+        if (db.isPresent()) {
+            snapshot.update(db.get());
+        } else {
+            snapshot.invalidate();
         }
+        return db;
     }
 
     /**
@@ -96,6 +186,33 @@ public class DbOpsClient extends AbstractApiClient {
         return find().orElseThrow(() -> new DatabaseNotFoundException(databaseId));
     }
 
+    /**
+     * Access the last known state of the database, shared with the sub-clients (keyspaces, datacenters...). The
+     * database is fetched on first access and when the snapshot is older than 30 seconds, use {@link #get()} or
+     * {@link #refresh()} for a fresh state.
+     *
+     * @return database snapshot
+     */
+    public Database getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Fetch the database and replace the snapshot.
+     *
+     * @return current db or error
+     */
+    public Database refresh() {
+        return snapshot.refresh();
+    }
+
+    /**
+     * Drop the snapshot after a call changing the database, next access will fetch it.
+     */
+    void invalidateSnapshot() {
+        snapshot.invalidate();
+    }
+
     /**
      * Evaluate if a database exists using the findById method.
      *
@@ -147,12 +264,13 @@ public class DbOpsClient extends AbstractApiClient {
      *      secure connect bundle binary content.
      */
     private String getDefaultSecureConnectBundleUrl() {
-        if (!isActive())
+        // The snapshot is enough when active, confirm with the API before failing
+        if (DatabaseStatusType.ACTIVE != getSnapshot().getStatus() && DatabaseStatusType.ACTIVE != refresh().getStatus())
             throw new IllegalStateException("Database '" + databaseId + "' is not available.");
         // Get list of urls
         ApiResponseHttp res = POST(getEndpointDatabase() + "/secureBundleURL", getOperationName("downloadSecureBundle"));
         // Mapping
-        return (String) JsonUtils.unmarshallBean(res.getBody(), Map.class).get("downloadURL");
+        return (String) JsonUtils.unmarshallBean(res, Map.class).get("downloadURL");
     }
 
     /**
@@ -223,7 +341,7 @@ public class DbOpsClient extends AbstractApiClient {
     }
 
     /**
-     * Download all SecureBundle.
+     * Download all SecureBundle, the regions are downloaded in parallel on {@link SdkExecutors#shared()}.
      *
      * @param destination
      *         file to save the secured bundle
@@ -232,9 +350,17 @@ public class DbOpsClient extends AbstractApiClient {
         Assert.hasLength(destination, "destination");
         Assert.isTrue(new File(destination).exists(), "Destination folder");
         Database db = get();
-        db.getInfo()
+        CompletableFuture<?>[] downloads = db.getInfo()
                 .getDatacenters()
-                .forEach(dc -> downloadSecureConnectBundle(dc, destination + File.separator + buildScbFileName(db.getId(), dc.getRegion())));
+                .stream()
+                .map(dc -> CompletableFuture.runAsync(() -> downloadSecureConnectBundle(dc,
+                        destination + File.separator + buildScbFileName(db.getId(), dc.getRegion())), SdkExecutors.shared()))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(downloads).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
     }
 
     /**
@@ -262,6 +388,7 @@ public class DbOpsClient extends AbstractApiClient {
         ApiResponseHttp res = POST(getEndpointDatabase() + "/park", getOperationName("park"));
         // Check response code
         assertHttpCodeAccepted(res, "park", databaseId);
+        snapshot.invalidate();
     }
 
     /**
@@ -274,6 +401,7 @@ public class DbOpsClient extends AbstractApiClient {
         ApiResponseHttp res = POST(getEndpointDatabase() + "/unpark", getOperationName("unpark"));
         // Check response code
         assertHttpCodeAccepted(res, "unpark", databaseId);
+        snapshot.invalidate();
     }
 
     /**
@@ -286,6 +414,8 @@ public class DbOpsClient extends AbstractApiClient {
         ApiResponseHttp res = POST(getEndpointDatabase() + "/terminate", getOperationName("delete"));
         // Check response code
         assertHttpCodeAccepted(res, "terminate", databaseId);
+        snapshot.invalidate();
+        AstraDBOpsClient.getDatabaseNameIndex(token, environment).invalidate();
     }
 
     /**
@@ -305,6 +435,140 @@ public class DbOpsClient extends AbstractApiClient {
         ApiResponseHttp res = POST(getEndpointDatabase() + "/resize", body, getOperationName("resize"));
         // Check response code
         assertHttpCodeAccepted(res, "resize", databaseId);
+        snapshot.invalidate();
+    }
+
+    /**
+     * Park a database, the future completes once the database is parked.
+     *
+     * @return
+     *      future database, completed exceptionally on error or after {@link #DEFAULT_LIFECYCLE_TIMEOUT}
+     */
+    public CompletableFuture<Database> parkAsync() {
+        return parkAsync(DEFAULT_LIFECYCLE_TIMEOUT);
+    }
+
+    /**
+     * Park a database, the future completes once the database is parked.
+     *
+     * @param timeout
+     *      maximum wait for the parked status
+     * @return
+     *      future database, completed exceptionally on error or timeout
+     */
+    public CompletableFuture<Database> parkAsync(Duration timeout) {
+        return CompletableFuture.runAsync(this::park, SdkExecutors.shared())
+                .thenCompose(v -> awaitLifecycle("park", db -> DatabaseStatusType.PARKED == db.getStatus(), timeout));
+    }
+
+    /**
+     * Unpark a database, the future completes once the database is active.
+     *
+     * @return
+     *      future database, completed exceptionally on error or after {@link #DEFAULT_LIFECYCLE_TIMEOUT}
+     */
+    public CompletableFuture<Database> unparkAsync() {
+        return unparkAsync(DEFAULT_LIFECYCLE_TIMEOUT);
+    }
+
+    /**
+     * Unpark a database, the future completes once the database is active.
+     *
+     * @param timeout
+     *      maximum wait for the active status
+     * @return
+     *      future database, completed exceptionally on error or timeout
+     */
+    public CompletableFuture<Database> unparkAsync(Duration timeout) {
+        return CompletableFuture.runAsync(this::unpark, SdkExecutors.shared())
+                .thenCompose(v -> awaitLifecycle("unpark", db -> DatabaseStatusType.ACTIVE == db.getStatus(), timeout));
+    }
+
+    /**
+     * Resize a database, the future completes once the resize is applied and the database is active again.
+     *
+     * @param capacityUnits
+     *      sizing of a 'classic' db in Astra
+     * @return
+     *      future database, completed exceptionally on error or after {@link #DEFAULT_LIFECYCLE_TIMEOUT}
+     */
+    public CompletableFuture<Database> resizeAsync(int capacityUnits) {
+        return resizeAsync(capacityUnits, DEFAULT_LIFECYCLE_TIMEOUT);
+    }
+
+    /**
+     * Resize a database, the future completes once the database went through the resize and is active with the new
+     * capacity. The capacity of a database is updated as soon as the resize is accepted, an active status is only
+     * trusted once the database was seen in another status since the request. A resize to the current capacity
+     * completes at once.
+     *
+     * @param capacityUnits
+     *      sizing of a 'classic' db in Astra
+     * @param timeout
+     *      maximum wait for the new capacity
+     * @return
+     *      future database, completed exceptionally on error or timeout
+     */
+    public CompletableFuture<Database> resizeAsync(int capacityUnits, Duration timeout) {
+        return CompletableFuture.supplyAsync(() -> {
+                    Database current = find().orElseThrow(() -> new DatabaseNotFoundException(databaseId));
+                    resize(capacityUnits);
+                    return current;
+                }, SdkExecutors.shared())
+                .thenCompose(current -> {
+                    if (DatabaseStatusType.ACTIVE == current.getStatus() && hasCapacity(current, capacityUnits)) {
+                        return CompletableFuture.completedFuture(current);
+                    }
+                    final AtomicBoolean started = new AtomicBoolean();
+                    return awaitLifecycle("resize", db -> {
+                        if (DatabaseStatusType.ACTIVE != db.getStatus()) {
+                            started.set(true);
+                            return false;
+                        }
+                        return started.get() && hasCapacity(db, capacityUnits);
+                    }, timeout);
+                });
+    }
+
+    /**
+     * Check the capacity of a database.
+     *
+     * @param db
+     *      database
+     * @param capacityUnits
+     *      expected capacity units
+     * @return
+     *      if the database has the capacity
+     */
+    private static boolean hasCapacity(Database db, int capacityUnits) {
+        return db.getInfo() != null && db.getInfo().getCapacityUnits() == capacityUnits;
+    }
+
+    /**
+     * Wait for a change requested on the database with the status watcher shared by the clients of the token.
+     * The database reaching {@link DatabaseStatusType#ERROR} or being terminated fails the future.
+     *
+     * @param operation
+     *      operation waited for, used in the errors
+     * @param reached
+     *      condition met once the change is applied
+     * @param timeout
+     *      maximum wait
+     * @return
+     *      future database
+     */
+    CompletableFuture<Database> awaitLifecycle(String operation, Predicate<Database> reached, Duration timeout) {
+        Assert.notNull(timeout, "timeout");
+        return DatabaseStatusWatcher.getInstance(token, environment, httpClient)
+                .await(databaseId, db -> reached.test(db) || FAILED_STATUSES.contains(db.getStatus()), timeout)
+                .thenApply(db -> {
+                    if (!reached.test(db)) {
+                        throw new IllegalStateException("Database '" + databaseId + "' is "
+                                + db.getStatus() + " while waiting for " + operation);
+                    }
+                    snapshot.update(db);
+                    return db;
+                });
     }
 
     /**
@@ -340,7 +604,7 @@ public class DbOpsClient extends AbstractApiClient {
      *      keyspaces client
      */
     public DbKeyspacesClient keyspaces() {
-        return new DbKeyspacesClient(token, environment, databaseId);
+        return new DbKeyspacesClient(token, environment, httpClient, this);
     }
 
     // ---------------------------------
@@ -353,7 +617,7 @@ public class DbOpsClient extends AbstractApiClient {
      * @return cdc client
      */
     public DbDatacentersClient datacenters() {
-        return new DbDatacentersClient(token, environment, databaseId);
+        return new DbDatacentersClient(token, environment, httpClient, this);
     }
 
     // ---------------------------------
@@ -366,7 +630,7 @@ public class DbOpsClient extends AbstractApiClient {
      * @return access list client
      */
     public DbAccessListsClient accessLists() {
-        return new DbAccessListsClient(token, environment, databaseId);
+        return new DbAccessListsClient(token, environment, httpClient, this);
     }
 
     // ---------------------------------
@@ -379,7 +643,7 @@ public class DbOpsClient extends AbstractApiClient {
      * @return cdc client
      */
     public DbCdcsClient cdc() {
-        return new DbCdcsClient(token, environment, databaseId);
+        return new DbCdcsClient(token, environment, httpClient, this);
     }
 
     // ---------------------------------
@@ -392,7 +656,7 @@ public class DbOpsClient extends AbstractApiClient {
      * @return telemetry client
      */
     public DbTelemetryClient telemetry() {
-        return new DbTelemetryClient(token, environment, databaseId);
+        return new DbTelemetryClient(token, environment, httpClient, this);
     }
 
 
@@ -406,7 +670,7 @@ public class DbOpsClient extends AbstractApiClient {
      * @return privateLink client
      */
     public DbPrivateLinksClient privateLink() {
-        return new DbPrivateLinksClient(token, environment, databaseId);
+        return new DbPrivateLinksClient(token, environment, httpClient, this);
     }
 
     // ---------------------------------
@@ -1,9 +1,9 @@
 package com.dtsx.astra.sdk.db;
 
 import com.dtsx.astra.sdk.AbstractApiClient;
-import com.dtsx.astra.sdk.db.domain.Database;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 
 import java.util.Optional;
 
@@ -13,9 +13,9 @@ import java.util.Optional;
 public class DbPrivateLinksClient extends AbstractApiClient  {
 
     /**
-     * unique db identifier.
+     * Client of the database, holds the database snapshot.
      */
-    private final Database db;
+    private final DbOpsClient dbClient;
 
     /**
      * As immutable object use builder to initiate the object.
@@ -40,9 +40,41 @@ public class DbPrivateLinksClient extends AbstractApiClient  {
      *      database identifier
      */
     public DbPrivateLinksClient(String token, AstraEnvironment env, String databaseId) {
-        super(token, env);
-        Assert.hasLength(databaseId, "databaseId");
-        this.db = new DbOpsClient(token, env, databaseId).get();
+        this(token, env, databaseId, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param databaseId
+     *      database identifier
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public DbPrivateLinksClient(String token, AstraEnvironment env, String databaseId, HttpClientWrapper httpClient) {
+        this(token, env, httpClient, new DbOpsClient(token, env, databaseId, httpClient));
+    }
+
+    /**
+     * Create the client from a database client, the database snapshot is shared.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     * @param dbClient
+     *      client of the database
+     */
+    DbPrivateLinksClient(String token, AstraEnvironment env, HttpClientWrapper httpClient, DbOpsClient dbClient) {
+        super(token, env, httpClient);
+        Assert.notNull(dbClient, "dbClient");
+        this.dbClient = dbClient;
     }
 
     /** {@inheritDoc} */
@@ -57,7 +89,7 @@ public class DbPrivateLinksClient extends AbstractApiClient  {
      * <a href="https://docs.datastax.com/en/astra/docs/_attachments/devopsv2.html#operation/ListPrivateLinksForOrg">...</a>
      */
     public void findAll() {
-        System.out.println(db);
+        System.out.println(dbClient.getSnapshot());
         throw new RuntimeException("This function is not yet implemented");
     }
 
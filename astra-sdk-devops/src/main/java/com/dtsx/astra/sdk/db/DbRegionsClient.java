@@ -9,13 +9,16 @@ import com.dtsx.astra.sdk.db.domain.DatabaseRegion;
 import com.dtsx.astra.sdk.db.domain.DatabaseRegionServerless;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.CatalogCache;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -33,6 +36,10 @@ public class DbRegionsClient extends AbstractApiClient {
     public static final TypeReference<List<DatabaseRegion>> TYPE_LIST_REGION =
             new TypeReference<List<DatabaseRegion>>(){};
 
+    /** List of serverless regions. */
+    public static final TypeReference<List<DatabaseRegionServerless>> TYPE_LIST_REGION_SERVERLESS =
+            new TypeReference<List<DatabaseRegionServerless>>(){};
+
     /**
      * As immutable object use builder to initiate the object.
      *
@@ -52,7 +59,21 @@ public class DbRegionsClient extends AbstractApiClient {
      *      authenticated token
      */
     public DbRegionsClient(String token, AstraEnvironment env) {
-        super(token, env);
+        this(token, env, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public DbRegionsClient(String token, AstraEnvironment env, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
     }
 
     /** {@inheritDoc} */
@@ -65,13 +86,25 @@ public class DbRegionsClient extends AbstractApiClient {
      * Returns supported regions and availability for a given user and organization
      *
      * @return
-     *      supported regions and availability
+     *      supported regions and availability, copied from the catalog cache
      */
     public Stream<DatabaseRegion> findAll() {
-        // Invoke endpoint
-        ApiResponseHttp res = GET(ApiLocator.getApiDevopsEndpoint(environment) + PATH_REGIONS, getOperationName("find"));
-        // Marshall response
-        return JsonUtils.unmarshallType(res.getBody(), TYPE_LIST_REGION).stream();
+        return getRegionCatalog().stream().map(JsonUtils::copy);
+    }
+
+    /**
+     * Supported regions served from the catalog cache.
+     *
+     * @return
+     *      immutable list of regions
+     */
+    private List<DatabaseRegion> getRegionCatalog() {
+        return CatalogCache.getInstance().get(CatalogCache.key("db.regions", environment, token), () -> {
+            // Invoke endpoint
+            ApiResponseHttp res = GET(ApiLocator.getApiDevopsEndpoint(environment) + PATH_REGIONS, getOperationName("find"));
+            // Marshall response
+            return Collections.unmodifiableList(JsonUtils.unmarshallType(res, TYPE_LIST_REGION));
+        });
     }
 
     /**
@@ -79,7 +112,7 @@ public class DbRegionsClient extends AbstractApiClient {
      * @param regionType
      *      provide the filter you want
      * @return
-     *      serverless region
+     *      serverless region, copied from the catalog cache
      */
     public Stream<DatabaseRegionServerless> findAllServerless(RegionType regionType) {
         // Build Path
@@ -95,21 +128,38 @@ public class DbRegionsClient extends AbstractApiClient {
             default:
                 break;
         }
-        // Invoke endpoint
-        ApiResponseHttp res = GET(url, getOperationName("findServerless"));
-        // Marshall response
-        return JsonUtils.unmarshallType(res.getBody(), new TypeReference<List<DatabaseRegionServerless>>(){}).stream();
+        final String endpoint = url;
+        List<DatabaseRegionServerless> regions = CatalogCache.getInstance().get(
+                CatalogCache.key("db.regions.serverless." + regionType, environment, token), () -> {
+            // Invoke endpoint
+            ApiResponseHttp res = GET(endpoint, getOperationName("findServerless"));
+            // Marshall response
+            return Collections.unmodifiableList(JsonUtils.unmarshallType(res, TYPE_LIST_REGION_SERVERLESS));
+        });
+        return regions.stream().map(JsonUtils::copy);
     }
 
     /**
      * Map regions from plain list to Tier/Cloud/Region Structure.
      *
      * @return
-     *      regions organized by cloud providers
+     *      immutable view of the regions organized by tier and cloud providers
      */
     public Map <String, Map<CloudProviderType,List<DatabaseRegion>>> findAllAsMap() {
+        return indexRegions(findAll().collect(Collectors.toList()));
+    }
+
+    /**
+     * Index regions by tier and cloud provider.
+     *
+     * @param regions
+     *      list of regions
+     * @return
+     *      immutable index
+     */
+    private static Map <String, Map<CloudProviderType,List<DatabaseRegion>>> indexRegions(List<DatabaseRegion> regions) {
         Map<String, Map<CloudProviderType,List<DatabaseRegion>>> m = new HashMap<>();
-        findAll().forEach(dar -> {
+        regions.forEach(dar -> {
             if (!m.containsKey(dar.getTier())) {
                 m.put(dar.getTier(), new HashMap<>());
             }
@@ -118,7 +168,12 @@ public class DbRegionsClient extends AbstractApiClient {
             }
             m.get(dar.getTier()).get(dar.getCloudProvider()).add(dar);
         });
-        return m;
+        // Freeze the index
+        m.replaceAll((tier, byProvider) -> {
+            byProvider.replaceAll((provider, list) -> Collections.unmodifiableList(list));
+            return Collections.unmodifiableMap(byProvider);
+        });
+        return Collections.unmodifiableMap(m);
     }
 
 }
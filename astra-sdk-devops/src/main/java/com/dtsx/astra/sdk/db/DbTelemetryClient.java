@@ -1,7 +1,6 @@
 package com.dtsx.astra.sdk.db;
 
 import com.dtsx.astra.sdk.AbstractApiClient;
-import com.dtsx.astra.sdk.db.domain.Database;
 import com.dtsx.astra.sdk.db.domain.telemetry.CloudWatchTelemetryRequest;
 import com.dtsx.astra.sdk.db.domain.telemetry.DatadogTelemetryRequest;
 import com.dtsx.astra.sdk.db.domain.telemetry.KafkaTelemetryRequest;
@@ -12,6 +11,7 @@ import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 
 /**
  * Setup Database Telemetry.
@@ -19,9 +19,9 @@ import com.dtsx.astra.sdk.utils.AstraEnvironment;
 public class DbTelemetryClient extends AbstractApiClient {
 
     /**
-     * unique db identifier.
+     * Client of the database, holds the database snapshot.
      */
-    private final Database db;
+    private final DbOpsClient dbClient;
 
     /**
      * As immutable object use builder to initiate the object.
@@ -46,9 +46,41 @@ public class DbTelemetryClient extends AbstractApiClient {
      *      database identifier
      */
     public DbTelemetryClient(String token, AstraEnvironment env, String databaseId) {
-        super(token, env);
-        Assert.hasLength(databaseId, "databaseId");
-        this.db = new DbOpsClient(token, env, databaseId).get();
+        this(token, env, databaseId, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param databaseId
+     *      database identifier
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public DbTelemetryClient(String token, AstraEnvironment env, String databaseId, HttpClientWrapper httpClient) {
+        this(token, env, httpClient, new DbOpsClient(token, env, databaseId, httpClient));
+    }
+
+    /**
+     * Create the client from a database client, the database snapshot is shared.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     * @param dbClient
+     *      client of the database
+     */
+    DbTelemetryClient(String token, AstraEnvironment env, HttpClientWrapper httpClient, DbOpsClient dbClient) {
+        super(token, env, httpClient);
+        Assert.notNull(dbClient, "dbClient");
+        this.dbClient = dbClient;
     }
 
     /** {@inheritDoc} */
@@ -76,7 +108,7 @@ public class DbTelemetryClient extends AbstractApiClient {
      */
     public SpecializedTelemetryClient<KafkaTelemetryRequest> kafka() {
         return new SpecializedTelemetryClient<KafkaTelemetryRequest>(token,
-                getEndpointTelemetry(), "kafka");
+                getEndpointTelemetry(), "kafka", httpClient);
     }
 
     /**
@@ -87,7 +119,7 @@ public class DbTelemetryClient extends AbstractApiClient {
      */
     public SpecializedTelemetryClient<CloudWatchTelemetryRequest> cloudWatch() {
         return new SpecializedTelemetryClient<CloudWatchTelemetryRequest>(token,
-                getEndpointTelemetry(), "cloudwatch");
+                getEndpointTelemetry(), "cloudwatch", httpClient);
     }
 
     /**
@@ -98,7 +130,7 @@ public class DbTelemetryClient extends AbstractApiClient {
      */
     public SpecializedTelemetryClient<PrometheusTelemetryRequest> prometheus() {
         return new SpecializedTelemetryClient<PrometheusTelemetryRequest>(token,
-                getEndpointTelemetry(), "prometheus_remote");
+                getEndpointTelemetry(), "prometheus_remote", httpClient);
     }
 
     /**
@@ -109,7 +141,7 @@ public class DbTelemetryClient extends AbstractApiClient {
      */
     public SpecializedTelemetryClient<DatadogTelemetryRequest> datadog() {
         return new SpecializedTelemetryClient<DatadogTelemetryRequest>(token,
-                getEndpointTelemetry(), "Datadog");
+                getEndpointTelemetry(), "Datadog", httpClient);
     }
 
     /**
@@ -119,7 +151,7 @@ public class DbTelemetryClient extends AbstractApiClient {
      *      splunk telemetry client
      */
     public SpecializedTelemetryClient<SplunkTelemetryRequest> splunk() {
-        return new SpecializedTelemetryClient<SplunkTelemetryRequest>(token, getEndpointTelemetry(), "splunk");
+        return new SpecializedTelemetryClient<SplunkTelemetryRequest>(token, getEndpointTelemetry(), "splunk", httpClient);
     }
 
     /**
@@ -129,7 +161,7 @@ public class DbTelemetryClient extends AbstractApiClient {
      *      telemetry endpoint
      */
     public String getEndpointTelemetry() {
-        return ApiLocator.getApiDevopsEndpoint(environment) + "/databases/" + db.getId() + "/telemetry/metrics";
+        return ApiLocator.getApiDevopsEndpoint(environment) + "/databases/" + dbClient.getDatabaseId() + "/telemetry/metrics";
     }
 
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dtsx.astra.sdk.db.domain;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Results of a bulk operation, in completion order.
+ */
+public class BulkOperationReport {
+
+    /** Operation name. */
+    private final String operation;
+
+    /** Results in completion order. */
+    private final List<BulkOperationResult> results;
+
+    /** Duration of the whole operation. */
+    private final Duration elapsed;
+
+    /**
+     * Full constructor.
+     *
+     * @param operation
+     *      operation name
+     * @param results
+     *      results in completion order
+     * @param elapsed
+     *      duration of the whole operation
+     */
+    public BulkOperationReport(String operation, List<BulkOperationResult> results, Duration elapsed) {
+        this.operation = operation;
+        this.results   = Collections.unmodifiableList(results);
+        this.elapsed   = elapsed;
+    }
+
+    /**
+     * Results with an outcome.
+     *
+     * @param outcome
+     *      expected outcome
+     * @return
+     *      matching results in completion order
+     */
+    public List<BulkOperationResult> getResults(BulkOperationResult.Outcome outcome) {
+        return results.stream().filter(r -> outcome == r.getOutcome()).collect(Collectors.toList());
+    }
+
+    /**
+     * Count the results with an outcome.
+     *
+     * @param outcome
+     *      expected outcome
+     * @return
+     *      number of databases with this outcome
+     */
+    public long count(BulkOperationResult.Outcome outcome) {
+        return results.stream().filter(r -> outcome == r.getOutcome()).count();
+    }
+
+    /**
+     * Databases where the request was accepted.
+     *
+     * @return
+     *      accepted results
+     */
+    public List<BulkOperationResult> getAccepted() {
+        return getResults(BulkOperationResult.Outcome.ACCEPTED);
+    }
+
+    /**
+     * Databases where the request failed.
+     *
+     * @return
+     *      failed results
+     */
+    public List<BulkOperationResult> getFailed() {
+        return getResults(BulkOperationResult.Outcome.FAILED);
+    }
+
+    /**
+     * Databases skipped because of their status.
+     *
+     * @return
+     *      skipped results
+     */
+    public List<BulkOperationResult> getSkipped() {
+        return getResults(BulkOperationResult.Outcome.SKIPPED);
+    }
+
+    /**
+     * Tell if no request failed.
+     *
+     * @return
+     *      true when every database was accepted or skipped
+     */
+    public boolean isSuccessful() {
+        return count(BulkOperationResult.Outcome.FAILED) == 0;
+    }
+
+    /**
+     * Gets operation
+     *
+     * @return value of operation
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets results
+     *
+     * @return value of results, in completion order
+     */
+    public List<BulkOperationResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Gets elapsed
+     *
+     * @return value of elapsed
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return operation + ": " + count(BulkOperationResult.Outcome.ACCEPTED) + " accepted, "
+                + count(BulkOperationResult.Outcome.FAILED) + " failed, "
+                + count(BulkOperationResult.Outcome.SKIPPED) + " skipped in " + elapsed.toMillis() + " ms";
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dtsx.astra.sdk.db.domain;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a bulk operation for one database.
+ */
+public class BulkOperationResult {
+
+    /**
+     * Outcome of the operation for a database.
+     */
+    public enum Outcome {
+
+        /** Request accepted by the Devops API, the change is applied in the background. */
+        ACCEPTED,
+
+        /** Request rejected or not sent, see the error. */
+        FAILED,
+
+        /** Request not sent, the status of the database does not allow the operation. */
+        SKIPPED
+    }
+
+    /** Database identifier. */
+    private final String databaseId;
+
+    /** Database name, null when only the identifier was provided. */
+    private final String databaseName;
+
+    /** Operation name. */
+    private final String operation;
+
+    /** Outcome of the operation. */
+    private final Outcome outcome;
+
+    /** Reason of a skip or failure, null when accepted. */
+    private final String message;
+
+    /** Error of a failure, null otherwise. */
+    private final RuntimeException error;
+
+    /** Time spent on the request, zero when skipped. */
+    private final Duration elapsed;
+
+    /**
+     * Full constructor.
+     *
+     * @param databaseId
+     *      database identifier
+     * @param databaseName
+     *      database name, null if unknown
+     * @param operation
+     *      operation name
+     * @param outcome
+     *      outcome of the operation
+     * @param message
+     *      reason of a skip or failure
+     * @param error
+     *      error of a failure
+     * @param elapsed
+     *      time spent on the request
+     */
+    public BulkOperationResult(String databaseId, String databaseName, String operation,
+                               Outcome outcome, String message, RuntimeException error, Duration elapsed) {
+        this.databaseId   = databaseId;
+        this.databaseName = databaseName;
+        this.operation    = operation;
+        this.outcome      = outcome;
+        this.message      = message;
+        this.error        = error;
+        this.elapsed      = elapsed == null ? Duration.ZERO : elapsed;
+    }
+
+    /**
+     * Gets databaseId
+     *
+     * @return value of databaseId
+     */
+    public String getDatabaseId() {
+        return databaseId;
+    }
+
+    /**
+     * Gets databaseName
+     *
+     * @return value of databaseName, null when only the identifier was provided
+     */
+    public String getDatabaseName() {
+        return databaseName;
+    }
+
+    /**
+     * Gets operation
+     *
+     * @return value of operation
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Gets outcome
+     *
+     * @return value of outcome
+     */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Gets message
+     *
+     * @return value of message, null when accepted
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gets error
+     *
+     * @return value of error, null unless failed
+     */
+    public RuntimeException getError() {
+        return error;
+    }
+
+    /**
+     * Gets elapsed
+     *
+     * @return value of elapsed
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return operation + " " + databaseId + (databaseName == null ? "" : " (" + databaseName + ")")
+                + ": " + outcome + (message == null ? "" : " - " + message);
+    }
+
+}
@@ -36,6 +36,9 @@ public class SpecializedTelemetryClient<T> {
     /** Reference to upper resource. */
     private final String telemetryEndpoint;
 
+    /** Http transport. */
+    private final HttpClientWrapper httpClient;
+
     /**
      * Default constructor.
      *
@@ -47,11 +50,29 @@ public class SpecializedTelemetryClient<T> {
      *      key for target system
      */
     public SpecializedTelemetryClient(String token, String telemetryEndpoint, String key) {
+        this(token, telemetryEndpoint, key, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * Constructor with a shared http transport.
+     *
+     * @param token
+     *          token client
+     * @param telemetryEndpoint
+     *          endpoint
+     * @param key
+     *      key for target system
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public SpecializedTelemetryClient(String token, String telemetryEndpoint, String key, HttpClientWrapper httpClient) {
         Assert.notNull(token,"databasesClient");
         Assert.hasLength(telemetryEndpoint, "telemetryEndpoint");
+        Assert.notNull(httpClient, "httpClient");
         this.token = token;
         this.key   = key;
         this.telemetryEndpoint = telemetryEndpoint;
+        this.httpClient = httpClient;
     }
 
     /**
@@ -65,7 +86,7 @@ public class SpecializedTelemetryClient<T> {
     public ApiResponseHttp setup(T ktr) {
         Map<String, T> bodyMap = new HashMap<>();
         bodyMap.put(key, ktr);
-        return HttpClientWrapper.getInstance("db.telemetry.setup").POST(telemetryEndpoint, token, JsonUtils.mapAsJson(bodyMap));
+        return httpClient.forOperation("db.telemetry.setup").POST(telemetryEndpoint, token, JsonUtils.mapAsJson(bodyMap));
     }
 
     /**
@@ -75,11 +96,11 @@ public class SpecializedTelemetryClient<T> {
      *      telemetry request
      */
     public Optional<T> find() {
-        ApiResponseHttp res =  HttpClientWrapper.getInstance("db.telemetry.find").GET(telemetryEndpoint, token);
+        ApiResponseHttp res =  httpClient.forOperation("db.telemetry.find").GET(telemetryEndpoint, token);
         try{
             if (res.getCode() == HttpURLConnection.HTTP_OK) {
                 return Optional.ofNullable(JsonUtils
-                        .unmarshallType(res.getBody(), RESPONSE).get(key));
+                        .unmarshallType(res, RESPONSE).get(key));
             }
         } catch(Exception e) {
             LOGGER.warn("Cannot read telemetry configuration for " + key, e);
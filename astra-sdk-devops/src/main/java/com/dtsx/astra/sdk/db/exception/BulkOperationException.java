@@ -0,0 +1,38 @@
+package com.dtsx.astra.sdk.db.exception;
+
+import com.dtsx.astra.sdk.db.domain.BulkOperationReport;
+
+/**
+ * Exception thrown when the databases of a bulk operation cannot all be selected, the requests already sent have
+ * completed and their results are kept.
+ */
+public class BulkOperationException extends RuntimeException {
+
+    /** Results of the databases processed before the error. */
+    private final BulkOperationReport report;
+
+    /**
+     * Constructor with the partial report.
+     *
+     * @param report
+     *      results of the databases processed before the error
+     * @param cause
+     *      error raised when reading the databases
+     */
+    public BulkOperationException(BulkOperationReport report, Throwable cause) {
+        super("Bulk " + report.getOperation() + " stopped after " + report.getResults().size()
+                + " database(s): " + cause.getMessage(), cause);
+        this.report = report;
+    }
+
+    /**
+     * Access the results of the databases processed before the error.
+     *
+     * @return
+     *      partial report
+     */
+    public BulkOperationReport getReport() {
+        return report;
+    }
+
+}
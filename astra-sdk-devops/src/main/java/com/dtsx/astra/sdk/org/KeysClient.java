@@ -7,6 +7,7 @@ import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
@@ -37,7 +38,21 @@ public class KeysClient extends AbstractApiClient {
      *      authenticated token
      */
     public KeysClient(String token, AstraEnvironment env) {
-        super(token, env);
+        this(token, env, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public KeysClient(String token, AstraEnvironment env, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
     }
 
     /** {@inheritDoc} */
@@ -58,7 +73,7 @@ public class KeysClient extends AbstractApiClient {
                 ApiLocator.getApiDevopsEndpoint(environment) + "/kms",
                 getOperationName("find"));
         // Mapping
-        return JsonUtils.unmarshallType(res.getBody(), new TypeReference<List<Key>>(){}).stream();
+        return JsonUtils.unmarshallType(res, new TypeReference<List<Key>>(){}).stream();
     }
 
     /**
@@ -10,6 +10,9 @@ import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.CatalogCache;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.IndexedCatalog;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
@@ -52,7 +55,21 @@ public class RolesClient extends AbstractApiClient {
      *      authenticated token
      */
     public RolesClient(String token, AstraEnvironment env) {
-        super(token, env);
+        this(token, env, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public RolesClient(String token, AstraEnvironment env, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
     }
 
     /** {@inheritDoc} */
@@ -68,10 +85,32 @@ public class RolesClient extends AbstractApiClient {
      *      list of roles in target organization.
      */
     public Stream<Role> findAll() {
-        // Invoke endpoint
-        ApiResponseHttp res = GET(getApiEndpointRoles(), getOperationName("findAll"));
-        // Mapping
-        return JsonUtils.unmarshallType(res.getBody(), TYPE_LIST_ROLES).stream();
+        return getRoleCatalog().stream();
+    }
+
+    /**
+     * Roles of the organization served from the catalog cache, indexed by name.
+     *
+     * @return
+     *      roles catalog
+     */
+    private IndexedCatalog<Role> getRoleCatalog() {
+        return CatalogCache.getInstance().get(getCatalogKey(), () -> {
+            // Invoke endpoint
+            ApiResponseHttp res = GET(getApiEndpointRoles(), getOperationName("findAll"));
+            // Mapping
+            return new IndexedCatalog<>(JsonUtils.unmarshallType(res, TYPE_LIST_ROLES), Role::getName, JsonUtils::copy);
+        });
+    }
+
+    /**
+     * Key of the roles in the catalog cache.
+     *
+     * @return
+     *      cache key
+     */
+    private String getCatalogKey() {
+        return CatalogCache.key("roles", environment, token);
     }
 
     /**
@@ -87,7 +126,7 @@ public class RolesClient extends AbstractApiClient {
         if (HttpURLConnection.HTTP_NOT_FOUND == res.getCode()) {
             return Optional.empty();
         } else {
-            return Optional.of(JsonUtils.unmarshallBean(res.getBody(), Role.class));
+            return Optional.of(JsonUtils.unmarshallBean(res, Role.class));
         }
     }
 
@@ -137,7 +176,7 @@ public class RolesClient extends AbstractApiClient {
      */
     public Optional<Role> findByName(String roleName) {
         Assert.hasLength(roleName, "User email should not be null nor empty");
-        return findAll().filter(r-> r.getName().equalsIgnoreCase(roleName)).findFirst();
+        return getRoleCatalog().findByName(roleName);
     }
 
     /**
@@ -163,7 +202,8 @@ public class RolesClient extends AbstractApiClient {
     public CreateRoleResponse create(RoleDefinition cr) {
         Assert.notNull(cr, "CreateRole request");
         ApiResponseHttp res = POST(getApiEndpointRoles(), JsonUtils.marshall(cr), getOperationName("create"));
-        return JsonUtils.unmarshallBean(res.getBody(), CreateRoleResponse.class);
+        CatalogCache.getInstance().invalidate(getCatalogKey());
+        return JsonUtils.unmarshallBean(res, CreateRoleResponse.class);
     }
 
     /**
@@ -189,6 +229,7 @@ public class RolesClient extends AbstractApiClient {
         get(roleId);
         // Http Request
         DELETE(getEndpointRole(roleId), getOperationName("delete"));
+        CatalogCache.getInstance().invalidate(getCatalogKey());
     }
 
     /**
@@ -201,6 +242,7 @@ public class RolesClient extends AbstractApiClient {
      */
     public void update(String roleId, RoleDefinition cr) {
         PUT(getEndpointRole(roleId), JsonUtils.marshall(cr), getOperationName("update"));
+        CatalogCache.getInstance().invalidate(getCatalogKey());
     }
 
     /**
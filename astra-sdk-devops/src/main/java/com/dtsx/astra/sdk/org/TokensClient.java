@@ -10,6 +10,7 @@ import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 
 import java.util.Optional;
@@ -42,8 +43,22 @@ public class TokensClient extends AbstractApiClient {
      *      authenticated token
      */
     public TokensClient(String token, AstraEnvironment env) {
-        super(token, env);
-        rolesClient = new RolesClient(token, env);
+        this(token, env, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public TokensClient(String token, AstraEnvironment env, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
+        rolesClient = new RolesClient(token, env, httpClient);
     }
 
     /** {@inheritDoc} */
@@ -62,7 +77,7 @@ public class TokensClient extends AbstractApiClient {
         // Invoke endpoint
         ApiResponseHttp res = GET(getEndpointTokens(), getOperationName("find"));
         // Marshall
-        return JsonUtils.unmarshallBean(res.getBody(), ResponseAllIamTokens.class).getClients().stream();
+        return JsonUtils.unmarshallBean(res, ResponseAllIamTokens.class).getClients().stream();
     }
 
     /**
@@ -127,7 +142,7 @@ public class TokensClient extends AbstractApiClient {
         // Invoke endpoint
         ApiResponseHttp res = POST(getEndpointTokens(), body, getOperationName("create"));
         // Marshall response
-        return JsonUtils.unmarshallBean(res.getBody(), CreateTokenResponse.class);
+        return JsonUtils.unmarshallBean(res, CreateTokenResponse.class);
     }
 
     /**
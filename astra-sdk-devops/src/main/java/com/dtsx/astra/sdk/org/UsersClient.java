@@ -37,7 +37,21 @@ public class UsersClient extends AbstractApiClient {
      *     target environment.
      */
     public UsersClient(String token, AstraEnvironment env) {
-        super(token, env);
+        this(token, env, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param token
+     *      current token.
+     * @param env
+     *     target environment.
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public UsersClient(String token, AstraEnvironment env, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
     }
 
     /** {@inheritDoc} */
@@ -56,7 +70,7 @@ public class UsersClient extends AbstractApiClient {
         // Invoke endpoint
         ApiResponseHttp res = GET(getEndpointUsers(), getOperationName("findAll"));
         // Marshall response
-        return JsonUtils.unmarshallBean(res.getBody(), ResponseAllUsers.class).getUsers().stream();
+        return JsonUtils.unmarshallBean(res, ResponseAllUsers.class).getUsers().stream();
     }
 
     /**
@@ -72,7 +86,7 @@ public class UsersClient extends AbstractApiClient {
         if (HttpURLConnection.HTTP_NOT_FOUND == res.getCode()) {
             return Optional.empty();
         } else {
-            return Optional.of(JsonUtils.unmarshallBean(res.getBody(), User.class));
+            return Optional.of(JsonUtils.unmarshallBean(res, User.class));
         }
     }
 
@@ -151,8 +165,8 @@ public class UsersClient extends AbstractApiClient {
         Assert.isTrue(roles.length > 0, "Roles list cannot be empty");
 
         // Build the invite request with expected roles
-        RolesClient rolesClient = new RolesClient(token);
-        AstraOpsClient devopsApiClient = new AstraOpsClient(token);
+        RolesClient rolesClient = new RolesClient(token, environment, httpClient);
+        AstraOpsClient devopsApiClient = new AstraOpsClient(token, environment, httpClient);
         InviteUserRequest inviteRequest = new InviteUserRequest(devopsApiClient.getOrganizationId(), email);
         Arrays.asList(roles).forEach(currentRole -> {
             if (IdUtils.isUUID(currentRole)) {
@@ -191,7 +205,7 @@ public class UsersClient extends AbstractApiClient {
         Map<String, List<String>> mapRoles = new HashMap<>();
         mapRoles.put("roles", new ArrayList<>());
 
-        RolesClient rolesClient = new RolesClient(token);
+        RolesClient rolesClient = new RolesClient(token, environment, httpClient);
         Arrays.stream(roles).forEach(currentRole -> {
             if (IdUtils.isUUID(currentRole)) {
                 mapRoles.get("roles").add(currentRole);
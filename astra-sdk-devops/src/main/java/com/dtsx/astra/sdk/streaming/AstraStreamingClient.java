@@ -5,14 +5,20 @@ import com.dtsx.astra.sdk.streaming.exception.TenantNotFoundException;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
+import com.dtsx.astra.sdk.utils.NameIndex;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.dtsx.astra.sdk.streaming.domain.CreateTenant;
 import com.dtsx.astra.sdk.streaming.domain.Tenant;
 
 import java.net.HttpURLConnection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -22,6 +28,10 @@ import java.util.stream.Stream;
  */
 public class AstraStreamingClient extends AbstractApiClient {
 
+    /** Load tenants responses. */
+    private static final TypeReference<List<Tenant>> TYPE_LIST_TENANTS =
+            new TypeReference<List<Tenant>>(){};
+
     /**
      * As immutable object use builder to initiate the object.
      *
@@ -41,7 +51,21 @@ public class AstraStreamingClient extends AbstractApiClient {
      *      authenticated token
      */
     public AstraStreamingClient(String token, AstraEnvironment env) {
-        super(token, env);
+        this(token, env, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public AstraStreamingClient(String token, AstraEnvironment env, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
     }
 
     /** {@inheritDoc} */
@@ -59,13 +83,25 @@ public class AstraStreamingClient extends AbstractApiClient {
     public Stream<Tenant> findAll() {
         return JsonUtils
                 .unmarshallType(
-                        GET(getApiDevopsEndpointTenants(), getOperationName("findAll")).getBody(),
-                        new TypeReference<List<Tenant>>(){})
+                        GET(getApiDevopsEndpointTenants(), getOperationName("findAll")),
+                        TYPE_LIST_TENANTS)
                 .stream();
     }
 
     /**
-     * Find a tenant from ids name.
+     * List tenants in the current instance without blocking the caller thread.
+     *
+     * @return
+     *      future list of tenants.
+     */
+    public CompletableFuture<Stream<Tenant>> findAllAsync() {
+        return GET_ASYNC(getApiDevopsEndpointTenants(), getOperationName("findAll"))
+                .thenApply(res -> JsonUtils.unmarshallType(res, TYPE_LIST_TENANTS).stream());
+    }
+
+    /**
+     * Find a tenant from ids name. Names are resolved with an index shared by the clients of the same token,
+     * only the matching tenant is fetched.
      *
      * @param tenantName
      *      name of the tenant
@@ -73,11 +109,59 @@ public class AstraStreamingClient extends AbstractApiClient {
      *      tenant
      */
     public Optional<Tenant> find(String tenantName) {
+        Assert.hasLength(tenantName, "tenantName");
+        NameIndex index = getTenantNameIndex();
+        Optional<Set<String>> names = index.lookup(tenantName.toLowerCase(), this::loadTenantNameIndex);
+        if (!names.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<Tenant> tenant = tenant(names.get().iterator().next()).find();
+        if (tenant.isPresent()) {
+            return tenant;
+        }
+        // Index is stale, list the tenants
+        index.invalidate();
         return findAll()
                 .filter(t -> t.getTenantName().equalsIgnoreCase(tenantName))
                 .findFirst();
     }
 
+    /**
+     * List the tenants to build the name index, tenant names are case-insensitive.
+     *
+     * @return
+     *      tenant names by lower case name
+     */
+    private Map<String, Set<String>> loadTenantNameIndex() {
+        return findAll().collect(Collectors.groupingBy(
+                t -> t.getTenantName().toLowerCase(),
+                Collectors.mapping(Tenant::getTenantName, Collectors.toSet())));
+    }
+
+    /**
+     * Access the tenant name index shared by clients of the same token.
+     *
+     * @return
+     *      name index
+     */
+    private NameIndex getTenantNameIndex() {
+        return NameIndex.getInstance("tenant", environment, token);
+    }
+
+    /**
+     * Find a tenant from ids name without blocking the caller thread.
+     *
+     * @param tenantName
+     *      name of the tenant
+     * @return
+     *      future tenant
+     */
+    public CompletableFuture<Optional<Tenant>> findAsync(String tenantName) {
+        return findAllAsync().thenApply(tenants -> tenants
+                .filter(t -> t.getTenantName().equalsIgnoreCase(tenantName))
+                .findFirst());
+    }
+
     /**
      * Assess a tenant exist and retrieve information.
      *
@@ -99,6 +183,7 @@ public class AstraStreamingClient extends AbstractApiClient {
     public void create(CreateTenant ct) {
         Assert.notNull(ct, "Create Tenant request");
         POST(getApiDevopsEndpointTenants(), JsonUtils.marshall(ct), getOperationName("create"));
+        getTenantNameIndex().invalidate();
     }
 
     /**
@@ -110,6 +195,7 @@ public class AstraStreamingClient extends AbstractApiClient {
     public void delete(String tenantName) {
         Tenant tenant = get(tenantName);
         DELETE(getEndpointCluster(tenant.getTenantName(), tenant.getClusterName()), getOperationName("delete"));
+        getTenantNameIndex().invalidate();
     }
 
     /**
@@ -137,7 +223,7 @@ public class AstraStreamingClient extends AbstractApiClient {
      *      client for a tenant
      */
     public TenantClient tenant(String tenantName) {
-        return new TenantClient(token, environment, tenantName);
+        return new TenantClient(token, environment, tenantName, httpClient);
     }
 
     // ---------------------------------
@@ -151,7 +237,7 @@ public class AstraStreamingClient extends AbstractApiClient {
      *      streaming cluster client
      */
     public ClustersClient clusters() {
-        return new ClustersClient(token, environment);
+        return new ClustersClient(token, environment, httpClient);
     }
 
     // ---------------------------------
@@ -165,7 +251,7 @@ public class AstraStreamingClient extends AbstractApiClient {
      *      streaming cluster client
      */
     public ProvidersClient providers() {
-        return new ProvidersClient(token, environment);
+        return new ProvidersClient(token, environment, httpClient);
     }
 
     // ---------------------------------
@@ -179,7 +265,7 @@ public class AstraStreamingClient extends AbstractApiClient {
      *      streaming cluster client
      */
     public RegionsClient regions() {
-        return new RegionsClient(token, environment);
+        return new RegionsClient(token, environment, httpClient);
     }
     
     // ---------------------------------
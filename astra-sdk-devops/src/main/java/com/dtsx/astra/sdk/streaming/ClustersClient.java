@@ -8,6 +8,9 @@ import com.dtsx.astra.sdk.AbstractApiClient;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.streaming.domain.Cluster;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.CatalogCache;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.IndexedCatalog;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
@@ -37,7 +40,21 @@ public class ClustersClient extends AbstractApiClient {
      *      authenticated token
      */
     public ClustersClient(String token, AstraEnvironment env) {
-        super(token, env);
+        this(token, env, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public ClustersClient(String token, AstraEnvironment env, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
     }
 
     /** {@inheritDoc} */
@@ -53,9 +70,20 @@ public class ClustersClient extends AbstractApiClient {
      *      list  clusters.
      */
     public Stream<Cluster> findAll() {
-        return JsonUtils
-                .unmarshallType(GET(getApiDevopsEndpointClusters(), getOperationName("find")).getBody(), new TypeReference<List<Cluster>>(){})
-                .stream();
+        return getClusterCatalog().stream();
+    }
+
+    /**
+     * Clusters served from the catalog cache, indexed by name.
+     *
+     * @return
+     *      clusters catalog
+     */
+    private IndexedCatalog<Cluster> getClusterCatalog() {
+        return CatalogCache.getInstance().get(CatalogCache.key("streaming.clusters", environment, token), () ->
+                new IndexedCatalog<>(JsonUtils.unmarshallType(
+                        GET(getApiDevopsEndpointClusters(), getOperationName("find")), new TypeReference<List<Cluster>>(){}),
+                        Cluster::getClusterName, JsonUtils::copy));
     }
     
     // ---------------------------------
@@ -71,9 +99,7 @@ public class ClustersClient extends AbstractApiClient {
      *      tenant
      */
     public Optional<Cluster> find(String clusterName) {
-        return findAll()
-                .filter(c -> c.getClusterName().equalsIgnoreCase(clusterName))
-                .findFirst();
+        return getClusterCatalog().findByName(clusterName);
     }
     
     /**
@@ -3,8 +3,13 @@ package com.dtsx.astra.sdk.streaming;
 import com.dtsx.astra.sdk.AbstractApiClient;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.CatalogCache;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,7 +37,21 @@ public class ProvidersClient extends AbstractApiClient {
      *      authenticated token
      */
     public ProvidersClient(String token, AstraEnvironment env) {
-        super(token, env);
+        this(token, env, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public ProvidersClient(String token, AstraEnvironment env, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
     }
 
 
@@ -46,13 +65,17 @@ public class ProvidersClient extends AbstractApiClient {
      * Operations on providers.
      *
      * @return
-     *      list of cloud providers and regions
+     *      immutable view of the cloud providers and regions
      */
     @SuppressWarnings("unchecked")
     public Map<String, List<String>> findAll() {
-        return JsonUtils.unmarshallBean(
-                GET(getApiDevopsEndpointProviders(), getOperationName("find"))
-                .getBody(), Map.class);
+        return CatalogCache.getInstance().get(CatalogCache.key("streaming.providers", environment, token), () -> {
+            Map<String, List<String>> providers = new LinkedHashMap<>();
+            JsonUtils.unmarshallBean(GET(getApiDevopsEndpointProviders(), getOperationName("find")), Map.class)
+                    .forEach((provider, regions) -> providers.put((String) provider,
+                            Collections.unmodifiableList(new ArrayList<>((List<String>) regions))));
+            return Collections.unmodifiableMap(providers);
+        });
     }
 
     /**
@@ -5,9 +5,12 @@ import com.dtsx.astra.sdk.streaming.domain.StreamingRegion;
 import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponse;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.CatalogCache;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -46,7 +49,21 @@ public class RegionsClient extends AbstractApiClient {
      *      authenticated token
      */
     public RegionsClient(String token, AstraEnvironment env) {
-        super(token, env);
+        this(token, env, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public RegionsClient(String token, AstraEnvironment env, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
     }
 
     /** {@inheritDoc} */
@@ -59,19 +76,31 @@ public class RegionsClient extends AbstractApiClient {
      * Get available serverless for Streaming.
      *
      * @return
-     *      serverless regions
+     *      serverless regions, copied from the catalog cache
      */
     public Stream<StreamingRegion> findAllServerless() {
+        List<StreamingRegion> regions = CatalogCache.getInstance().get(
+                CatalogCache.key("streaming.regions.serverless", environment, token), this::loadServerlessRegions);
+        return regions.stream().map(JsonUtils::copy);
+    }
+
+    /**
+     * Load serverless regions from the API.
+     *
+     * @return
+     *      immutable list of serverless regions
+     */
+    private List<StreamingRegion> loadServerlessRegions() {
         // Invoke api
         Map<String, Map<String, List<StreamingRegion>>> res = JsonUtils
                 .unmarshallType(GET(getApiDevopsEndpointRegionsServerless(), getOperationName("findServerless"))
-                .getBody(), TYPE_LIST_REGIONS).getData();
+                , TYPE_LIST_REGIONS).getData();
         if (null != res &&
                 null != res.get(JSON_ORGANIZATION) &&
                 null != res.get(JSON_ORGANIZATION).get(JSON_SERVERLESS_REGIONS)) {
-            return res.get(JSON_ORGANIZATION).get(JSON_SERVERLESS_REGIONS).stream();
+            return Collections.unmodifiableList(res.get(JSON_ORGANIZATION).get(JSON_SERVERLESS_REGIONS));
         }
-        return Stream.of();
+        return Collections.emptyList();
     }
 
     /**
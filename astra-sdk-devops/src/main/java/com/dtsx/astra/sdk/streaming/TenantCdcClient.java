@@ -53,10 +53,26 @@ public class TenantCdcClient extends AbstractApiClient {
      *      unique tenant identifier
      */
     public TenantCdcClient(String token, AstraEnvironment env, String tenantId) {
-        super(token, env);
+        this(token, env, tenantId, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param tenantId
+     *      unique tenant identifier
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public TenantCdcClient(String token, AstraEnvironment env, String tenantId, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
         Assert.hasLength(tenantId, "tenantId");
         // Test Db exists
-        this.tenant = new AstraStreamingClient(token, environment).get(tenantId);
+        this.tenant = new AstraStreamingClient(token, environment, httpClient).get(tenantId);
     }
 
 
@@ -82,22 +98,25 @@ public class TenantCdcClient extends AbstractApiClient {
         Assert.hasLength(keyspace, "keyspace");
         Assert.hasLength(table, "table");
         Assert.isTrue(topicPartition > 0, "topic partition should be positive");
-        Database db = new AstraDBOpsClient(token, environment).database(databaseId).get();
-        if (!db.getInfo().getKeyspaces().contains(keyspace)) {
-            throw new KeyspaceNotFoundException(databaseId, keyspace);
-        }
-        CreateCdc createCdc = new CreateCdc();
-        createCdc.setOrgId(db.getOrgId());
-        createCdc.setDatabaseId(db.getId());
-        createCdc.setDatabaseName(db.getInfo().getName());
-        createCdc.setKeyspace(keyspace);
-        createCdc.setTableName(table);
-        createCdc.setTopicPartitions(topicPartition);
-        HttpClientWrapper.getInstance(getOperationName("create")).POST_PULSAR(getEndpointTenantCdc(),
-                tenant.getPulsarToken(),
-                JsonUtils.marshall(createCdc),
-                tenant.getClusterName(),
-                tenant.getOrganizationId().toString());
+        // Database lookup and cdc creation under the same parent span
+        httpClient.getTracer().inSpan("TenantCdcClient.create", () -> {
+            Database db = new AstraDBOpsClient(token, environment, httpClient).database(databaseId).get();
+            if (!db.getInfo().getKeyspaces().contains(keyspace)) {
+                throw new KeyspaceNotFoundException(databaseId, keyspace);
+            }
+            CreateCdc createCdc = new CreateCdc();
+            createCdc.setOrgId(db.getOrgId());
+            createCdc.setDatabaseId(db.getId());
+            createCdc.setDatabaseName(db.getInfo().getName());
+            createCdc.setKeyspace(keyspace);
+            createCdc.setTableName(table);
+            createCdc.setTopicPartitions(topicPartition);
+            getHttpClient(getOperationName("create")).POST_PULSAR(getEndpointTenantCdc(),
+                    tenant.getPulsarToken(),
+                    JsonUtils.marshall(createCdc),
+                    tenant.getClusterName(),
+                    tenant.getOrganizationId().toString());
+        });
     }
 
     /**
@@ -113,13 +132,13 @@ public class TenantCdcClient extends AbstractApiClient {
     public void delete(String databaseId, String keyspace, String table) {
         Assert.hasLength(keyspace, "keyspace");
         Assert.hasLength(table, "table");
-        Database db = new AstraDBOpsClient(token, environment).database(databaseId).get();
+        Database db = new AstraDBOpsClient(token, environment, httpClient).database(databaseId).get();
         DeleteCdc deleteCdc = new DeleteCdc();
         deleteCdc.setOrgId(db.getOrgId());
         deleteCdc.setDatabaseId(db.getId());
         deleteCdc.setKeyspace(keyspace);
         deleteCdc.setTableName(table);
-        HttpClientWrapper.getInstance(getOperationName("delete")).DELETE_PULSAR(getEndpointTenantCdc(),
+        getHttpClient(getOperationName("delete")).DELETE_PULSAR(getEndpointTenantCdc(),
                 tenant.getPulsarToken(),
                 JsonUtils.marshall(deleteCdc),
                 tenant.getClusterName(),
@@ -133,11 +152,11 @@ public class TenantCdcClient extends AbstractApiClient {
      *      list of cdc.
      */
     public Stream<CdcDefinition> list() {
-        ApiResponseHttp res =  HttpClientWrapper.getInstance(getOperationName("list")).GET_PULSAR(getEndpointTenantCdc(),
+        ApiResponseHttp res =  getHttpClient(getOperationName("list")).GET_PULSAR(getEndpointTenantCdc(),
                 tenant.getPulsarToken(),
                 tenant.getClusterName(),
                 tenant.getOrganizationId().toString());
-        return JsonUtils.unmarshallType(res.getBody(),  new TypeReference<List<CdcDefinition>>(){}).stream();
+        return JsonUtils.unmarshallType(res,  new TypeReference<List<CdcDefinition>>(){}).stream();
     }
 
     /**
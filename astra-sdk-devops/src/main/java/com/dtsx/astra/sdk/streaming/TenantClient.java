@@ -8,10 +8,12 @@ import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 
 import java.net.HttpURLConnection;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Client to work with Tenant
@@ -51,10 +53,26 @@ public class TenantClient extends AbstractApiClient {
      *      unique tenant identifier
      */
     public TenantClient(String token, AstraEnvironment env, String tenantId) {
-        super(token, env);
+        this(token, env, tenantId, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param tenantId
+     *      unique tenant identifier
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public TenantClient(String token, AstraEnvironment env, String tenantId, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
         Assert.hasLength(tenantId, "tenantId");
         this.tenantId       = tenantId;
-        this.organizationId = new AstraOpsClient(token,env).getOrganizationId();
+        this.organizationId = new AstraOpsClient(token, env, httpClient).getOrganizationId();
     }
 
     /** {@inheritDoc} */
@@ -73,12 +91,31 @@ public class TenantClient extends AbstractApiClient {
      * @return the tenant if present,
      */
     public Optional<Tenant> find() {
-        System.out.println("getEndpointTenant() = " + getEndpointTenant());
-        ApiResponseHttp res = GET(getEndpointTenantWithOrganizationId(), getOperationName("find"));
+        return mapTenant(GET(getEndpointTenantWithOrganizationId(), getOperationName("find")));
+    }
+
+    /**
+     * Retrieve a tenant by its id without blocking the caller thread.
+     *
+     * @return the future tenant if present,
+     */
+    public CompletableFuture<Optional<Tenant>> findAsync() {
+        return GET_ASYNC(getEndpointTenantWithOrganizationId(), getOperationName("find")).thenApply(this::mapTenant);
+    }
+
+    /**
+     * Unmarshall a tenant.
+     *
+     * @param res
+     *      http response
+     * @return
+     *      the tenant if present
+     */
+    private Optional<Tenant> mapTenant(ApiResponseHttp res) {
         if (HttpURLConnection.HTTP_NOT_FOUND == res.getCode()) {
             return Optional.empty();
         } else {
-            return Optional.of(JsonUtils.unmarshallBean(res.getBody(), Tenant.class));
+            return Optional.of(JsonUtils.unmarshallBean(res, Tenant.class));
         }
     }
 
@@ -112,7 +149,7 @@ public class TenantClient extends AbstractApiClient {
      *      cdc component
      */
     public TenantLimitsClient limits() {
-        return new TenantLimitsClient(token, tenantId);
+        return new TenantLimitsClient(token, environment, tenantId, httpClient);
     }
 
     // ---------------------------------
@@ -126,7 +163,7 @@ public class TenantClient extends AbstractApiClient {
      *      cdc component
      */
     public TenantCdcClient cdc() {
-        return new TenantCdcClient(token, tenantId);
+        return new TenantCdcClient(token, environment, tenantId, httpClient);
     }
 
     // ---------------------------------
@@ -140,7 +177,7 @@ public class TenantClient extends AbstractApiClient {
      *      cdc component
      */
     public TenantStatsClient stats() {
-        return new TenantStatsClient(token, tenantId);
+        return new TenantStatsClient(token, environment, tenantId, httpClient);
     }
 
     // ---------------------------------
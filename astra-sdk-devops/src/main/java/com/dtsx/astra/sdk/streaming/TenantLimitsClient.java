@@ -7,6 +7,7 @@ import com.dtsx.astra.sdk.utils.ApiLocator;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
 import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import com.dtsx.astra.sdk.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 
@@ -46,9 +47,25 @@ public class TenantLimitsClient extends AbstractApiClient {
      *      unique tenant identifier
      */
     public TenantLimitsClient(String token, AstraEnvironment env, String tenantId) {
-        super(token, env);
+        this(token, env, tenantId, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param tenantId
+     *      unique tenant identifier
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public TenantLimitsClient(String token, AstraEnvironment env, String tenantId, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
         Assert.hasLength(tenantId, "tenantId");
-        this.tenant = new AstraStreamingClient(token, env).get(tenantId);
+        this.tenant = new AstraStreamingClient(token, env, httpClient).get(tenantId);
     }
 
     /** {@inheritDoc} */
@@ -65,7 +82,7 @@ public class TenantLimitsClient extends AbstractApiClient {
      */
     public Stream<TenantLimit> limits() {
         ApiResponseHttp res = GET(getEndpointTenantLimits(), getOperationName("findAll"));
-        return JsonUtils.unmarshallType(res.getBody(), new TypeReference<List<TenantLimit>>(){}).stream();
+        return JsonUtils.unmarshallType(res, new TypeReference<List<TenantLimit>>(){}).stream();
     }
 
     /**
@@ -51,9 +51,25 @@ public class TenantStatsClient extends AbstractApiClient {
      *      unique tenant identifier
      */
     public TenantStatsClient(String token, AstraEnvironment env, String tenantId) {
-        super(token, env);
+        this(token, env, tenantId, HttpClientWrapper.getInstance());
+    }
+
+    /**
+     * As immutable object use builder to initiate the object.
+     *
+     * @param env
+     *      define target environment to be used
+     * @param token
+     *      authenticated token
+     * @param tenantId
+     *      unique tenant identifier
+     * @param httpClient
+     *      http transport shared with the parent client
+     */
+    public TenantStatsClient(String token, AstraEnvironment env, String tenantId, HttpClientWrapper httpClient) {
+        super(token, env, httpClient);
         Assert.hasLength(tenantId, "tenantId");
-        this.tenant = new AstraStreamingClient(token, env).get(tenantId);
+        this.tenant = new AstraStreamingClient(token, env, httpClient).get(tenantId);
     }
 
     /** {@inheritDoc} */
@@ -71,9 +87,9 @@ public class TenantStatsClient extends AbstractApiClient {
     public Stream<Statistics> keyspaces() {
         return JsonUtils
                 .unmarshallType(
-                        HttpClientWrapper.getInstance(getOperationName("keyspaces")).GET_PULSAR(getEndpointStatisticsNamespaces(),
+                        getHttpClient(getOperationName("keyspaces")).GET_PULSAR(getEndpointStatisticsNamespaces(),
                         tenant.getPulsarToken(), tenant.getClusterName(),
-                        tenant.getOrganizationId().toString()).getBody(), TYPE_LIST_STATISTICS)
+                        tenant.getOrganizationId().toString()), TYPE_LIST_STATISTICS)
                 .values()
                 .stream();
     }
@@ -89,13 +105,12 @@ public class TenantStatsClient extends AbstractApiClient {
     public Optional<Statistics> keyspace(String namespace) {
         Map<String, Statistics> map = JsonUtils
                 .unmarshallType(
-                        HttpClientWrapper
-                                .getInstance(getOperationName("keyspace"))
+                        getHttpClient(getOperationName("keyspace"))
                                 .GET_PULSAR(
                                     getEndpointStatisticsNamespaces() + "/" + namespace,
                                     tenant.getPulsarToken(), tenant.getClusterName(),
                                     tenant.getOrganizationId().toString())
-                                .getBody(), TYPE_LIST_STATISTICS);
+                                , TYPE_LIST_STATISTICS);
         return Optional.ofNullable(map.get(tenant.getTenantName() + "/" + namespace));
     }
 
@@ -108,9 +123,9 @@ public class TenantStatsClient extends AbstractApiClient {
     public Stream<Statistics> topics() {
         return JsonUtils
                 .unmarshallType(
-                        HttpClientWrapper.getInstance(getOperationName("topics")).GET_PULSAR(getEndpointStatisticsTopics(),
+                        getHttpClient(getOperationName("topics")).GET_PULSAR(getEndpointStatisticsTopics(),
                                 tenant.getPulsarToken(), tenant.getClusterName(),
-                                tenant.getOrganizationId().toString()).getBody(), TYPE_LIST_STATISTICS)
+                                tenant.getOrganizationId().toString()), TYPE_LIST_STATISTICS)
                 .values()
                 .stream();
     }
@@ -126,9 +141,9 @@ public class TenantStatsClient extends AbstractApiClient {
     public Stream<Statistics> topics(String keyspace) {
         return JsonUtils
                 .unmarshallType(
-                        HttpClientWrapper.getInstance(getOperationName("topics")).GET_PULSAR(getEndpointStatisticsTopics() + "/" + keyspace,
+                        getHttpClient(getOperationName("topics")).GET_PULSAR(getEndpointStatisticsTopics() + "/" + keyspace,
                                 tenant.getPulsarToken(), tenant.getClusterName(),
-                                tenant.getOrganizationId().toString()).getBody(), TYPE_LIST_STATISTICS)
+                                tenant.getOrganizationId().toString()), TYPE_LIST_STATISTICS)
                 .values()
                 .stream();
     }
@@ -0,0 +1,270 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limit the number of requests in flight to a host, the limit adapts to the observed latency and errors
+ * as described in {@link ConcurrencyLimitPolicy}.
+ *
+ * <p>Blocking callers wait for a slot in {@link #acquire()}, non-blocking callers hand over the task sending
+ * their request in {@link #acquireAsync(Runnable)}, it is run when a slot is released. Every acquired slot must
+ * be released with the outcome of the request.</p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /** Weight of a new sample in the smoothed latency. */
+    private static final double LATENCY_SMOOTHING = 0.1;
+
+    /** Settings. */
+    private final ConcurrencyLimitPolicy policy;
+
+    /** Protect the state below. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Signal blocking callers a slot is free. */
+    private final Condition slotAvailable = lock.newCondition();
+
+    /** Non-blocking requests waiting for a slot. */
+    private final Deque<Runnable> pendingTasks = new ArrayDeque<>();
+
+    /** Current limit, fractional to allow additive increase per round-trip. */
+    private double limit;
+
+    /** Requests in flight. */
+    private int inFlight;
+
+    /** Blocking callers waiting for a slot. */
+    private int blockedCallers;
+
+    /** Smoothed latency of healthy requests in nanoseconds, 0 until the first sample. */
+    private double smoothedLatencyNanos;
+
+    /** The limit was decreased at least once. */
+    private boolean decreased;
+
+    /** Time of the last decrease, requests sent before belong to the same window and do not decrease it again. */
+    private long lastDecreaseNanos;
+
+    /** Overload signals received. */
+    private final LongAdder overloadCount = new LongAdder();
+
+    /**
+     * Create the limiter.
+     *
+     * @param policy
+     *      settings
+     */
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitPolicy policy) {
+        Assert.notNull(policy, "policy");
+        this.policy = policy;
+        this.limit  = policy.getInitialLimit();
+    }
+
+    /**
+     * Wait for a slot in the current thread.
+     *
+     * @throws InterruptedException
+     *      thread interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        if (!policy.isEnabled()) {
+            return;
+        }
+        lock.lock();
+        try {
+            blockedCallers++;
+            try {
+                while (inFlight >= (int) limit) {
+                    slotAvailable.await();
+                }
+            } finally {
+                blockedCallers--;
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Run a task when a slot is available, immediately if possible, else from the thread releasing a slot.
+     * The task must not block.
+     *
+     * @param task
+     *      task sending a request
+     */
+    public void acquireAsync(Runnable task) {
+        if (!policy.isEnabled()) {
+            task.run();
+            return;
+        }
+        boolean runNow = false;
+        lock.lock();
+        try {
+            if (inFlight < (int) limit && pendingTasks.isEmpty()) {
+                inFlight++;
+                runNow = true;
+            } else {
+                pendingTasks.add(task);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (runNow) {
+            task.run();
+        }
+    }
+
+    /**
+     * Release a slot and adapt the limit to the outcome of the request.
+     *
+     * @param sentNanos
+     *      time the request was sent, from {@link System#nanoTime()}
+     * @param overload
+     *      the request failed with a signal of overload (429, 5xx, I/O error)
+     */
+    public void release(long sentNanos, boolean overload) {
+        release(sentNanos, System.nanoTime(), overload);
+    }
+
+    /**
+     * Release a slot and adapt the limit to the outcome of the request.
+     *
+     * @param sentNanos
+     *      time the request was sent, from {@link System#nanoTime()}
+     * @param receivedNanos
+     *      time the outcome was received, from {@link System#nanoTime()}
+     * @param overload
+     *      the request failed with a signal of overload (429, 5xx, I/O error)
+     */
+    void release(long sentNanos, long receivedNanos, boolean overload) {
+        if (!policy.isEnabled()) {
+            return;
+        }
+        List<Runnable> tasks = new ArrayList<>();
+        lock.lock();
+        try {
+            inFlight--;
+            updateLimit(sentNanos, receivedNanos, overload);
+            while (inFlight < (int) limit && !pendingTasks.isEmpty()) {
+                inFlight++;
+                tasks.add(pendingTasks.poll());
+            }
+            slotAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        tasks.forEach(Runnable::run);
+    }
+
+    /**
+     * Additive increase while healthy, multiplicative decrease on overload at most once per round-trip: requests
+     * sent before the last decrease were already in flight and do not decrease the limit again. Called with the
+     * lock held.
+     *
+     * @param sentNanos
+     *      time the request was sent
+     * @param receivedNanos
+     *      time the outcome was received
+     * @param overload
+     *      the request failed with a signal of overload
+     */
+    private void updateLimit(long sentNanos, long receivedNanos, boolean overload) {
+        long latencyNanos = receivedNanos - sentNanos;
+        boolean slow = smoothedLatencyNanos > 0 && latencyNanos > policy.getLatencyTolerance() * smoothedLatencyNanos;
+        if (overload || slow) {
+            if (!decreased || sentNanos - lastDecreaseNanos >= 0) {
+                overloadCount.increment();
+                limit             = Math.max(policy.getMinLimit(), limit * policy.getBackoffRatio());
+                decreased         = true;
+                lastDecreaseNanos = receivedNanos;
+            }
+        } else if (inFlight + 1 >= limit / 2) {
+            // Grow only when the limit is actually used, +1 after a full limit of successes
+            limit = Math.min(policy.getMaxLimit(), limit + 1 / limit);
+        }
+        // The baseline only follows healthy requests, unless slower responses persist at the minimum limit
+        if (!overload && (!slow || limit <= policy.getMinLimit())) {
+            smoothedLatencyNanos = smoothedLatencyNanos == 0 ? latencyNanos :
+                    (1 - LATENCY_SMOOTHING) * smoothedLatencyNanos + LATENCY_SMOOTHING * latencyNanos;
+        }
+    }
+
+    /**
+     * Current number of requests allowed in flight.
+     *
+     * @return
+     *       current limit
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current number of requests in flight.
+     *
+     * @return
+     *       requests in flight
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Requests waiting for a slot, blocking and non-blocking.
+     *
+     * @return
+     *       queue depth
+     */
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return blockedCallers + pendingTasks.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Smoothed latency of healthy requests.
+     *
+     * @return
+     *       smoothed latency
+     */
+    public Duration getSmoothedLatency() {
+        lock.lock();
+        try {
+            return Duration.ofNanos((long) smoothedLatencyNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of overload signals (errors or slow requests) which decreased the limit.
+     *
+     * @return
+     *       overload signals since creation
+     */
+    public long getOverloadCount() {
+        return overloadCount.sum();
+    }
+
+}
@@ -1,63 +1,193 @@
 package com.dtsx.astra.sdk.utils;
 
+import com.dtsx.astra.sdk.utils.observability.RequestTimings;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Response HTTP.
  *
+ * <p>The body is kept as the raw bytes read from the connection, they are decoded by Jackson without an
+ * intermediate String (see {@link JsonUtils#unmarshallType(ApiResponseHttp, com.fasterxml.jackson.core.type.TypeReference)}).
+ * The String is only created when {@link #getBody()} is invoked, by an observer or an error path.</p>
+ *
  * @author Cedrick LUNVEN (@clunven)
  */
-public class ApiResponseHttp {
-    
-    /** JSON String. */
-    private final String body;
-    
+public class ApiResponseHttp implements Serializable {
+
+    /** Raw body, null if the response was built from a String. */
+    private final byte[] bodyBytes;
+
+    /** Charset of the raw body. */
+    private final String charsetName;
+
+    /** JSON String, materialized on first access. */
+    private volatile String body;
+
     /** Http status code. */
     private final int code;
-    
+
     /** Http Headers. **/
     private Map<String, String> headers = new HashMap<>();
-    
+
+    /** Phase timings of the exchange, null when not observed. */
+    private transient volatile RequestTimings timings;
+
     /**
      * Defaut constructor.
-     * 
+     *
      * @param body
      *      request body
      * @param code
      *      request code
      */
     public ApiResponseHttp(String body, int code) {
-        this.body = body;
-        this.code = code;
+        this.body        = body;
+        this.code        = code;
+        this.bodyBytes   = null;
+        this.charsetName = StandardCharsets.UTF_8.name();
     }
-    
+
     /**
      * Full constructor.
-     * 
+     *
      * @param body
      *      request body
      * @param code
      *      request code
      * @param headers
-     *      request headers      
+     *      request headers
      */
     public ApiResponseHttp(String body, int code, Map<String, String> headers) {
-        this.body = body;
-        this.code = code;
+        this(body, code);
         this.headers = headers;
     }
 
     /**
-     * Getter accessor for attribute 'body'.
+     * Constructor with the raw body.
+     *
+     * @param bodyBytes
+     *      raw body as read from the connection
+     * @param charset
+     *      charset of the body
+     * @param code
+     *      request code
+     * @param headers
+     *      request headers
+     */
+    public ApiResponseHttp(byte[] bodyBytes, Charset charset, int code, Map<String, String> headers) {
+        this.bodyBytes   = bodyBytes;
+        this.charsetName = (charset == null ? StandardCharsets.UTF_8 : charset).name();
+        this.code        = code;
+        this.headers     = headers;
+    }
+
+    /**
+     * Getter accessor for attribute 'body', the String is created on first call.
      *
      * @return
      *       current value of 'body'
      */
     public String getBody() {
+        if (body == null && bodyBytes != null) {
+            body = new String(bodyBytes, getCharset());
+        }
         return body;
     }
 
+    /**
+     * Access the body without creating a String.
+     *
+     * @return
+     *       body as a stream of bytes, empty if there is no body
+     */
+    public InputStream getBodyAsStream() {
+        if (bodyBytes != null) {
+            return new ByteArrayInputStream(bodyBytes);
+        }
+        return new ByteArrayInputStream(body == null ? new byte[0] : body.getBytes(getCharset()));
+    }
+
+    /**
+     * Access the raw body.
+     *
+     * @return
+     *       body bytes, empty if there is no body
+     */
+    byte[] getBodyBytes() {
+        if (bodyBytes != null) {
+            return bodyBytes;
+        }
+        return body == null ? new byte[0] : body.getBytes(getCharset());
+    }
+
+    /**
+     * Copy this response for another exchange, the raw body is shared and never modified, the headers are copied
+     * and the decoding is recorded in the timings of the exchange.
+     *
+     * @param exchange
+     *      response of the exchange served with this content
+     * @return
+     *      copy of this response
+     */
+    ApiResponseHttp copyFor(ApiResponseHttp exchange) {
+        Map<String, String> headersCopy = headers == null ? new HashMap<>() : new HashMap<>(headers);
+        ApiResponseHttp copy = bodyBytes != null
+                ? new ApiResponseHttp(bodyBytes, getCharset(), code, headersCopy)
+                : new ApiResponseHttp(body, code, headersCopy);
+        copy.timings = exchange.timings;
+        return copy;
+    }
+
+    /**
+     * Attach the phase timings of the exchange, JSON decoding is recorded there.
+     *
+     * @param timings
+     *      phase timings, null when the exchange is not observed
+     */
+    void setTimings(RequestTimings timings) {
+        this.timings = timings;
+    }
+
+    /**
+     * Record a JSON decoding of the body.
+     *
+     * @param nanos
+     *      duration in nanoseconds
+     */
+    void recordDeserialization(long nanos) {
+        RequestTimings t = timings;
+        if (t != null) {
+            t.recordDeserialization(nanos);
+        }
+    }
+
+    /**
+     * Check if the response carries a body.
+     *
+     * @return
+     *       if a body is present
+     */
+    public boolean hasBody() {
+        return (bodyBytes != null && bodyBytes.length > 0) || (body != null && !body.isEmpty());
+    }
+
+    /**
+     * Charset of the body.
+     *
+     * @return
+     *       body charset
+     */
+    public Charset getCharset() {
+        return Charset.forName(charsetName);
+    }
+
     /**
      * Getter accessor for attribute 'code'.
      *
@@ -77,6 +207,6 @@ public class ApiResponseHttp {
     public Map<String, String> getHeaders() {
         return headers;
     }
-    
+
 
 }
@@ -0,0 +1,296 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache for the reference catalogs of the Devops API (regions, clusters, providers, roles), data changing rarely.
+ *
+ * <p>Values are immutable views built once when loaded. An entry is served from memory during its TTL, then during
+ * the stale window the current value is still returned while a single background refresh loads the new one. Past
+ * the stale window the caller loads the value itself. The cache is bounded, the least recently used entries are
+ * evicted first.</p>
+ */
+public class CatalogCache {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(CatalogCache.class);
+
+    /** Default time to live of an entry. */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    /** Default time a stale entry is still served while being refreshed. */
+    public static final Duration DEFAULT_STALE_WHILE_REVALIDATE = Duration.ofHours(1);
+
+    /** Default maximum number of entries. */
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    /**
+     * Lazy holder for the shared instance.
+     */
+    private static final class DefaultInstanceHolder {
+
+        /** Shared instance. */
+        private static final CatalogCache INSTANCE =
+                new CatalogCache(DEFAULT_MAX_ENTRIES, DEFAULT_TTL, DEFAULT_STALE_WHILE_REVALIDATE);
+
+        /**
+         * Hide constructor.
+         */
+        private DefaultInstanceHolder() {}
+    }
+
+    /**
+     * Cached value.
+     */
+    private static final class Entry {
+
+        /** Immutable value. */
+        private final Object value;
+
+        /** Load time in nanoseconds. */
+        private final long loadedAt = System.nanoTime();
+
+        /** A background refresh is running. */
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        /**
+         * Create the entry.
+         *
+         * @param value
+         *      immutable value
+         */
+        private Entry(Object value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Entries in access order, the least recently used one is evicted above the maximum size.
+     */
+    private static final class LruEntries extends LinkedHashMap<String, Entry> {
+
+        /** Serial. */
+        private static final long serialVersionUID = 4139652736519318146L;
+
+        /** Maximum number of entries. */
+        private final int maxEntries;
+
+        /**
+         * Create the entries.
+         *
+         * @param maxEntries
+         *      maximum number of entries
+         */
+        private LruEntries(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    /** Time to live of an entry. */
+    private final Duration ttl;
+
+    /** Time a stale entry is still served while being refreshed. */
+    private final Duration staleWhileRevalidate;
+
+    /** Entries in access order, guarded by itself. */
+    private final LruEntries entries;
+
+    /** Lookups served from memory. */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /** Lookups loading the value in the caller thread. */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Create a cache.
+     *
+     * @param maxEntries
+     *      maximum number of entries
+     * @param ttl
+     *      time to live of an entry
+     * @param staleWhileRevalidate
+     *      time a stale entry is still served while being refreshed, zero to disable
+     */
+    public CatalogCache(int maxEntries, Duration ttl, Duration staleWhileRevalidate) {
+        Assert.isTrue(maxEntries > 0, "maxEntries should be positive");
+        Assert.notNull(ttl, "ttl");
+        Assert.notNull(staleWhileRevalidate, "staleWhileRevalidate");
+        this.ttl                  = ttl;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.entries              = new LruEntries(maxEntries);
+    }
+
+    /**
+     * Access the instance shared by the clients.
+     *
+     * @return
+     *      shared cache
+     */
+    public static CatalogCache getInstance() {
+        return DefaultInstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Build the key of a catalog, catalogs depend on the organization of the token.
+     *
+     * @param catalog
+     *      catalog name
+     * @param env
+     *      target environment
+     * @param token
+     *      authentication token
+     * @return
+     *      cache key, the token appears as a fingerprint
+     */
+    public static String key(String catalog, AstraEnvironment env, String token) {
+        return catalog + ":" + env + ":" + IdUtils.fingerprint(token);
+    }
+
+    /**
+     * Access a catalog, loaded when missing or too old.
+     *
+     * @param key
+     *      cache key
+     * @param loader
+     *      load the catalog and build its immutable view
+     * @param <T>
+     *      type of the view
+     * @return
+     *      immutable view
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null) {
+            long age = System.nanoTime() - entry.loadedAt;
+            if (age <= ttl.toNanos()) {
+                hitCount.incrementAndGet();
+                return (T) entry.value;
+            }
+            if (age <= ttl.plus(staleWhileRevalidate).toNanos()) {
+                hitCount.incrementAndGet();
+                if (entry.refreshing.compareAndSet(false, true)) {
+                    final Entry stale = entry;
+                    CompletableFuture.runAsync(() -> refresh(key, stale, loader), SdkExecutors.shared());
+                }
+                return (T) entry.value;
+            }
+        }
+        missCount.incrementAndGet();
+        T value = loader.get();
+        put(key, new Entry(value));
+        return value;
+    }
+
+    /**
+     * Load a stale entry in the background, the stale value is kept if the load fails.
+     *
+     * @param key
+     *      cache key
+     * @param stale
+     *      entry refreshed
+     * @param loader
+     *      load the catalog
+     */
+    private void refresh(String key, Entry stale, Supplier<?> loader) {
+        try {
+            Entry fresh = new Entry(loader.get());
+            synchronized (entries) {
+                // Do not resurrect an entry invalidated during the refresh
+                if (entries.get(key) == stale) {
+                    entries.put(key, fresh);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot refresh catalog, serving stale value: {}", e.getMessage());
+            stale.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Store an entry.
+     *
+     * @param key
+     *      cache key
+     * @param entry
+     *      new entry
+     */
+    private void put(String key, Entry entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Drop an entry, next lookup loads it again.
+     *
+     * @param key
+     *      cache key
+     */
+    public void invalidate(String key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Drop all entries.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Number of entries.
+     *
+     * @return
+     *      entries in the cache
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Number of lookups served from memory, stale entries included.
+     *
+     * @return
+     *      hits
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Number of lookups loading the catalog in the caller thread.
+     *
+     * @return
+     *      misses
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+}
@@ -0,0 +1,236 @@
+package com.dtsx.astra.sdk.utils;
+
+/**
+ * Settings of the adaptive concurrency limiter placed in front of the Devops API.
+ *
+ * <p>The number of requests in flight per host follows an AIMD (additive increase, multiplicative decrease)
+ * rule: the limit grows by one per round-trip while the API is healthy and is multiplied by the backoff ratio
+ * when a request fails with 429/5xx, an I/O error, or takes longer than the latency tolerance times the
+ * smoothed latency of the healthy requests. The limit decreases at most once per round-trip: the requests sent
+ * before a decrease do not decrease it again. The limiter is disabled by default.</p>
+ */
+public class ConcurrencyLimitPolicy {
+
+    /** Policy without limit. */
+    public static final ConcurrencyLimitPolicy NONE = builder().build();
+
+    /** Limiter enabled. */
+    private final boolean enabled;
+
+    /** Limit at startup. */
+    private final int initialLimit;
+
+    /** Lowest limit. */
+    private final int minLimit;
+
+    /** Highest limit. */
+    private final int maxLimit;
+
+    /** Factor applied to the limit when an overload is detected. */
+    private final double backoffRatio;
+
+    /** Latency, relative to the smoothed latency, above which a request is considered as an overload signal. */
+    private final double latencyTolerance;
+
+    /**
+     * Constructor with the builder.
+     *
+     * @param builder
+     *      current builder.
+     */
+    private ConcurrencyLimitPolicy(ConcurrencyLimitPolicyBuilder builder) {
+        Assert.isTrue(builder.minLimit <= builder.initialLimit && builder.initialLimit <= builder.maxLimit,
+                "minLimit <= initialLimit <= maxLimit");
+        this.enabled          = builder.enabled;
+        this.initialLimit     = builder.initialLimit;
+        this.minLimit         = builder.minLimit;
+        this.maxLimit         = builder.maxLimit;
+        this.backoffRatio     = builder.backoffRatio;
+        this.latencyTolerance = builder.latencyTolerance;
+    }
+
+    /**
+     * Helper to create a builder.
+     *
+     * @return
+     *      an instance of the builder
+     */
+    public static ConcurrencyLimitPolicyBuilder builder() {
+        return new ConcurrencyLimitPolicyBuilder();
+    }
+
+    /**
+     * Builder.
+     */
+    public static class ConcurrencyLimitPolicyBuilder {
+        /** */
+        private boolean enabled = false;
+        /** */
+        private int initialLimit = HttpClientConfig.DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+        /** */
+        private int minLimit = 1;
+        /** */
+        private int maxLimit = HttpClientConfig.DEFAULT_MAX_CONNECTIONS_TOTAL;
+        /** */
+        private double backoffRatio = 0.9;
+        /** */
+        private double latencyTolerance = 2.0;
+
+        /**
+         * Default constructor.
+         */
+        public ConcurrencyLimitPolicyBuilder() {}
+
+        /**
+         * Enable or disable the limiter.
+         *
+         * @param enabled
+         *      the value for enabled
+         * @return
+         *      this instance.
+         */
+        public ConcurrencyLimitPolicyBuilder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Define the limit at startup.
+         *
+         * @param initialLimit
+         *      the value for initialLimit
+         * @return
+         *      this instance.
+         */
+        public ConcurrencyLimitPolicyBuilder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * Define the lowest limit.
+         *
+         * @param minLimit
+         *      the value for minLimit
+         * @return
+         *      this instance.
+         */
+        public ConcurrencyLimitPolicyBuilder minLimit(int minLimit) {
+            Assert.isTrue(minLimit > 0, "minLimit");
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        /**
+         * Define the highest limit, keep it below the connection pool size.
+         *
+         * @param maxLimit
+         *      the value for maxLimit
+         * @return
+         *      this instance.
+         */
+        public ConcurrencyLimitPolicyBuilder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Define the factor applied to the limit on overload.
+         *
+         * @param backoffRatio
+         *      the value for backoffRatio, between 0.5 and 1 excluded
+         * @return
+         *      this instance.
+         */
+        public ConcurrencyLimitPolicyBuilder backoffRatio(double backoffRatio) {
+            Assert.isTrue(backoffRatio >= 0.5 && backoffRatio < 1, "backoffRatio");
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Define the latency, relative to the smoothed latency, considered as an overload.
+         *
+         * @param latencyTolerance
+         *      the value for latencyTolerance, above 1
+         * @return
+         *      this instance.
+         */
+        public ConcurrencyLimitPolicyBuilder latencyTolerance(double latencyTolerance) {
+            Assert.isTrue(latencyTolerance > 1, "latencyTolerance");
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * Build the immutable instance.
+         *
+         * @return
+         *      an instance of the policy
+         */
+        public ConcurrencyLimitPolicy build() {
+            return new ConcurrencyLimitPolicy(this);
+        }
+    }
+
+    /**
+     * Getter accessor for attribute 'enabled'.
+     *
+     * @return
+     *       current value of 'enabled'
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Getter accessor for attribute 'initialLimit'.
+     *
+     * @return
+     *       current value of 'initialLimit'
+     */
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * Getter accessor for attribute 'minLimit'.
+     *
+     * @return
+     *       current value of 'minLimit'
+     */
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Getter accessor for attribute 'maxLimit'.
+     *
+     * @return
+     *       current value of 'maxLimit'
+     */
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Getter accessor for attribute 'backoffRatio'.
+     *
+     * @return
+     *       current value of 'backoffRatio'
+     */
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * Getter accessor for attribute 'latencyTolerance'.
+     *
+     * @return
+     *       current value of 'latencyTolerance'
+     */
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+}
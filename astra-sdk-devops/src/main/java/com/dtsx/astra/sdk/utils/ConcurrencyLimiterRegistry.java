@@ -0,0 +1,59 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptive concurrency limiters of a {@link HttpClientWrapper}, one per target host, created on first use.
+ */
+public class ConcurrencyLimiterRegistry {
+
+    /** Settings. */
+    private final ConcurrencyLimitPolicy policy;
+
+    /** Pass-through limiter used when the policy is disabled. */
+    private final AdaptiveConcurrencyLimiter disabledLimiter;
+
+    /** Limiters by host. */
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Create the registry.
+     *
+     * @param policy
+     *      settings of the limiters
+     */
+    public ConcurrencyLimiterRegistry(ConcurrencyLimitPolicy policy) {
+        Assert.notNull(policy, "policy");
+        this.policy          = policy;
+        this.disabledLimiter = new AdaptiveConcurrencyLimiter(ConcurrencyLimitPolicy.NONE);
+    }
+
+    /**
+     * Access the limiter of a host.
+     *
+     * @param host
+     *      target host
+     * @return
+     *      limiter for the host
+     */
+    public AdaptiveConcurrencyLimiter forHost(String host) {
+        if (!policy.isEnabled()) {
+            return disabledLimiter;
+        }
+        return limiters.computeIfAbsent(host == null ? "n/a" : host, h -> new AdaptiveConcurrencyLimiter(policy));
+    }
+
+    /**
+     * Access the limiters to collect their limit, requests in flight and queue depth.
+     *
+     * @return
+     *      limiters by host
+     */
+    public Map<String, AdaptiveConcurrencyLimiter> getConcurrencyLimiters() {
+        return Collections.unmodifiableMap(new TreeMap<>(limiters));
+    }
+
+}
@@ -0,0 +1,222 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a connection pool of a {@link HttpClientWrapper}: connection counts read from the pool and lease
+ * wait recorded by the wrapper for each route.
+ *
+ * <p>Routes are named <code>host:port</code> and known from their first lease. Reading the connection counts
+ * briefly locks the pool, snapshots are meant for monitoring, not for the request path.</p>
+ */
+public class ConnectionPoolMonitor {
+
+    /** Pool monitored. */
+    private final ConnectionPoolStats.Pool pool;
+
+    /** Lease wait by route name. */
+    private final Map<String, RouteLeases> leases = new ConcurrentHashMap<>();
+
+    /** Lease wait of the whole pool. */
+    private final RouteLeases totalLeases = new RouteLeases(null);
+
+    /** Pool control, attached by the connection manager once built. */
+    private volatile ConnPoolControl<HttpRoute> control;
+
+    /**
+     * Lease wait of a route.
+     */
+    private static final class RouteLeases {
+
+        /** Route, null for the whole pool. */
+        private final HttpRoute route;
+
+        /** Connections leased. */
+        private final LongAdder count = new LongAdder();
+
+        /** Cumulated wait in nanoseconds. */
+        private final LongAdder waitNanos = new LongAdder();
+
+        /** Longest wait in nanoseconds. */
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        /**
+         * Constructor.
+         *
+         * @param route
+         *      route, null for the whole pool
+         */
+        private RouteLeases(HttpRoute route) {
+            this.route = route;
+        }
+
+        /**
+         * Record a lease.
+         *
+         * @param nanos
+         *      wait in nanoseconds
+         */
+        private void record(long nanos) {
+            count.increment();
+            waitNanos.add(nanos);
+            maxWaitNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    /**
+     * Create the monitor of a pool.
+     *
+     * @param pool
+     *      pool monitored
+     */
+    public ConnectionPoolMonitor(ConnectionPoolStats.Pool pool) {
+        Assert.notNull(pool, "pool");
+        this.pool = pool;
+    }
+
+    /**
+     * Attach the pool, called by the connection manager once built.
+     *
+     * @param control
+     *      pool control
+     */
+    public void attach(ConnPoolControl<HttpRoute> control) {
+        this.control = control;
+    }
+
+    /**
+     * Record the wait for a connection.
+     *
+     * @param route
+     *      route of the connection
+     * @param nanos
+     *      wait in nanoseconds
+     */
+    public void recordLease(HttpRoute route, long nanos) {
+        leases.computeIfAbsent(routeName(route), k -> new RouteLeases(route)).record(nanos);
+        totalLeases.record(nanos);
+    }
+
+    /**
+     * Snapshot of the whole pool.
+     *
+     * @return
+     *      pool statistics
+     */
+    public ConnectionPoolStats getTotalStats() {
+        ConnPoolControl<HttpRoute> c = control;
+        return toStats(null, c == null ? null : c.getTotalStats(), totalLeases);
+    }
+
+    /**
+     * Snapshot of every route leased at least once, sorted by route name.
+     *
+     * @return
+     *      statistics per route
+     */
+    public List<ConnectionPoolStats> getRouteStats() {
+        List<ConnectionPoolStats> stats = new ArrayList<>();
+        new TreeMap<>(leases).forEach((name, routeLeases) -> stats.add(toStats(name, routeLeases)));
+        return stats;
+    }
+
+    /**
+     * Snapshot of a route.
+     *
+     * @param route
+     *      route as <code>host:port</code>
+     * @return
+     *      statistics of the route, empty if it was never leased
+     */
+    public Optional<ConnectionPoolStats> getRouteStats(String route) {
+        RouteLeases routeLeases = route == null ? null : leases.get(route);
+        return routeLeases == null ? Optional.empty() : Optional.of(toStats(route, routeLeases));
+    }
+
+    /**
+     * Close the expired connections and the connections idle for longer than a delay.
+     *
+     * @param idleTimeout
+     *      maximum idle time
+     */
+    public void evict(Duration idleTimeout) {
+        ConnPoolControl<HttpRoute> c = control;
+        if (c != null) {
+            c.closeExpired();
+            c.closeIdle(TimeValue.ofMilliseconds(idleTimeout.toMillis()));
+        }
+    }
+
+    /**
+     * Gets pool
+     *
+     * @return value of pool
+     */
+    public ConnectionPoolStats.Pool getPool() {
+        return pool;
+    }
+
+    /**
+     * Name of a route.
+     *
+     * @param route
+     *      route
+     * @return
+     *      route as <code>host:port</code>
+     */
+    public static String routeName(HttpRoute route) {
+        return route.getTargetHost().toHostString();
+    }
+
+    /**
+     * Snapshot of a route.
+     *
+     * @param name
+     *      route name
+     * @param routeLeases
+     *      lease wait of the route
+     * @return
+     *      statistics of the route
+     */
+    private ConnectionPoolStats toStats(String name, RouteLeases routeLeases) {
+        ConnPoolControl<HttpRoute> c = control;
+        return toStats(name, c == null ? null : c.getStats(routeLeases.route), routeLeases);
+    }
+
+    /**
+     * Merge the pool counts and the lease wait.
+     *
+     * @param name
+     *      route name, null for the whole pool
+     * @param poolStats
+     *      counts read from the pool, null if not attached
+     * @param routeLeases
+     *      lease wait
+     * @return
+     *      statistics
+     */
+    private ConnectionPoolStats toStats(String name, PoolStats poolStats, RouteLeases routeLeases) {
+        return new ConnectionPoolStats(pool, name,
+                poolStats == null ? 0 : poolStats.getLeased(),
+                poolStats == null ? 0 : poolStats.getAvailable(),
+                poolStats == null ? 0 : poolStats.getPending(),
+                poolStats == null ? 0 : poolStats.getMax(),
+                routeLeases.count.sum(),
+                routeLeases.waitNanos.sum(),
+                routeLeases.maxWaitNanos.get());
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of a connection pool of a {@link HttpClientWrapper}, for a route (target host) or for the whole pool.
+ *
+ * <p>Connection counts come from the pool itself. The lease wait is the time spent by the requests waiting for a
+ * connection: a pool saturated on a route shows <code>leased == max</code>, pending requests and a growing wait.</p>
+ */
+public class ConnectionPoolStats {
+
+    /**
+     * Connection pools of a {@link HttpClientWrapper}.
+     */
+    public enum Pool {
+
+        /** Pool of the blocking client. */
+        BLOCKING,
+
+        /** Pool of the non-blocking client. */
+        ASYNC
+    }
+
+    /** Pool of the snapshot. */
+    private final Pool pool;
+
+    /** Route as <code>host:port</code>, null for the whole pool. */
+    private final String route;
+
+    /** Connections in use. */
+    private final int leased;
+
+    /** Idle connections kept in the pool. */
+    private final int available;
+
+    /** Requests waiting for a connection. */
+    private final int pending;
+
+    /** Maximum number of connections. */
+    private final int max;
+
+    /** Number of connections leased since the pool was created. */
+    private final long leaseCount;
+
+    /** Cumulated wait for a connection in nanoseconds. */
+    private final long leaseWaitNanos;
+
+    /** Longest wait for a connection in nanoseconds. */
+    private final long leaseWaitMaxNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param pool
+     *      pool of the snapshot
+     * @param route
+     *      route as <code>host:port</code>, null for the whole pool
+     * @param leased
+     *      connections in use
+     * @param available
+     *      idle connections kept in the pool
+     * @param pending
+     *      requests waiting for a connection
+     * @param max
+     *      maximum number of connections
+     * @param leaseCount
+     *      number of connections leased
+     * @param leaseWaitNanos
+     *      cumulated wait for a connection in nanoseconds
+     * @param leaseWaitMaxNanos
+     *      longest wait for a connection in nanoseconds
+     */
+    public ConnectionPoolStats(Pool pool, String route, int leased, int available, int pending, int max,
+                               long leaseCount, long leaseWaitNanos, long leaseWaitMaxNanos) {
+        Assert.notNull(pool, "pool");
+        this.pool              = pool;
+        this.route             = route;
+        this.leased            = leased;
+        this.available         = available;
+        this.pending           = pending;
+        this.max               = max;
+        this.leaseCount        = leaseCount;
+        this.leaseWaitNanos    = leaseWaitNanos;
+        this.leaseWaitMaxNanos = leaseWaitMaxNanos;
+    }
+
+    /**
+     * Check if every connection allowed is in use, next requests wait for a connection.
+     *
+     * @return
+     *      if the pool or the route is saturated
+     */
+    public boolean isSaturated() {
+        return max > 0 && leased >= max;
+    }
+
+    /**
+     * Average wait for a connection.
+     *
+     * @return
+     *      average wait, zero when no connection was leased
+     */
+    public Duration getLeaseWaitAverage() {
+        return leaseCount == 0 ? Duration.ZERO : Duration.ofNanos(leaseWaitNanos / leaseCount);
+    }
+
+    /**
+     * Gets pool
+     *
+     * @return value of pool
+     */
+    public Pool getPool() {
+        return pool;
+    }
+
+    /**
+     * Gets route
+     *
+     * @return value of route, null for the whole pool
+     */
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * Gets leased
+     *
+     * @return value of leased
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * Gets available
+     *
+     * @return value of available
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    /**
+     * Gets pending
+     *
+     * @return value of pending
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * Gets max
+     *
+     * @return value of max
+     */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * Gets leaseCount
+     *
+     * @return value of leaseCount
+     */
+    public long getLeaseCount() {
+        return leaseCount;
+    }
+
+    /**
+     * Gets leaseWait
+     *
+     * @return cumulated wait for a connection
+     */
+    public Duration getLeaseWait() {
+        return Duration.ofNanos(leaseWaitNanos);
+    }
+
+    /**
+     * Gets leaseWaitMax
+     *
+     * @return longest wait for a connection
+     */
+    public Duration getLeaseWaitMax() {
+        return Duration.ofNanos(leaseWaitMaxNanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "ConnectionPoolStats{" +
+                "pool=" + pool +
+                ", route=" + (route == null ? "*" : route) +
+                ", leased=" + leased +
+                ", available=" + available +
+                ", pending=" + pending +
+                ", max=" + max +
+                ", leaseCount=" + leaseCount +
+                ", leaseWaitAverage=" + getLeaseWaitAverage().toMillis() + "ms" +
+                ", leaseWaitMax=" + getLeaseWaitMax().toMillis() + "ms" +
+                '}';
+    }
+
+}
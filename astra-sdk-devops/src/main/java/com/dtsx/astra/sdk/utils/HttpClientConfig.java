@@ -0,0 +1,736 @@
+package com.dtsx.astra.sdk.utils;
+
+import com.dtsx.astra.sdk.utils.observability.ApiTracer;
+import com.dtsx.astra.sdk.utils.observability.BodyCapturePolicy;
+import com.dtsx.astra.sdk.utils.observability.ObserverDispatcher;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Settings used to build a {@link HttpClientWrapper}: connection pool sizing, timeouts, keep-alive, retries, rate and concurrency limits.
+ */
+public class HttpClientConfig {
+
+    /** Default maximum number of connections in the pool. */
+    public static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 100;
+
+    /** Default maximum number of connections per route (host). */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 10;
+
+    /** Default timeout to establish a connection. */
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(20);
+
+    /** Default timeout to lease a connection from the pool. */
+    public static final Duration DEFAULT_CONNECTION_REQUEST_TIMEOUT = Duration.ofSeconds(20);
+
+    /** Default delay before validating a connection returned to the pool. */
+    public static final Duration DEFAULT_VALIDATE_AFTER_INACTIVITY = Duration.ofSeconds(10);
+
+    /** Default interval between two evictions of the expired and idle connections. */
+    public static final Duration DEFAULT_CONNECTION_EVICTION_INTERVAL = Duration.ofSeconds(30);
+
+    /** Default idle time after which a pooled connection is closed. */
+    public static final Duration DEFAULT_IDLE_CONNECTION_TIMEOUT = Duration.ofMinutes(1);
+
+    /** Default http version, one pooled connection per request in flight. */
+    public static final HttpVersion DEFAULT_HTTP_VERSION = HttpVersion.HTTP_1_1;
+
+    /**
+     * Http version of the exchanges.
+     */
+    public enum HttpVersion {
+
+        /** HTTP/1.1 only, requests in flight each hold a connection of the pool. */
+        HTTP_1_1,
+
+        /**
+         * Requests, blocking ones included, go through the non-blocking client and negotiate HTTP/2 with ALPN on TLS
+         * connections, the requests to a host are then multiplexed. Falls back to HTTP/1.1.
+         */
+        HTTP_2
+    }
+
+    /** Maximum number of connections in the pool. */
+    private final int maxConnectionsTotal;
+
+    /** Maximum number of connections per route. */
+    private final int maxConnectionsPerRoute;
+
+    /** Timeout to establish a connection. */
+    private final Duration connectTimeout;
+
+    /** Timeout to lease a connection from the pool. */
+    private final Duration connectionRequestTimeout;
+
+    /** Timeout waiting for the response, no timeout if not set. */
+    private final Duration responseTimeout;
+
+    /** Maximum time a connection is kept alive, server value if not set. */
+    private final Duration keepAlive;
+
+    /** Delay before validating a connection returned to the pool. */
+    private final Duration validateAfterInactivity;
+
+    /** Interval between two evictions of the expired and idle connections, null to disable. */
+    private final Duration connectionEvictionInterval;
+
+    /** Idle time after which a pooled connection is closed by the eviction. */
+    private final Duration idleConnectionTimeout;
+
+    /** Enable 'Expect: 100-continue' handshake. */
+    private final boolean expectContinueEnabled;
+
+    /** Http version of the exchanges. */
+    private final HttpVersion httpVersion;
+
+    /** Retry policy applied to failed exchanges. */
+    private final RetryPolicy retryPolicy;
+
+    /** Rate limits applied before sending requests. */
+    private final RateLimitPolicy rateLimitPolicy;
+
+    /** Adaptive limit of requests in flight per host. */
+    private final ConcurrencyLimitPolicy concurrencyLimitPolicy;
+
+    /** Identical GET requests in flight share a single exchange. */
+    private final boolean coalesceGetRequests;
+
+    /** GET responses are kept with their validators, unchanged payloads are not downloaded again. */
+    private final boolean responseValidation;
+
+    /** Capacity of the ring buffer holding the events for the observers. */
+    private final int observerQueueCapacity;
+
+    /** Behaviour when the ring buffer of the observers is full. */
+    private final ObserverDispatcher.OverflowPolicy observerOverflowPolicy;
+
+    /** Maximum number of events delivered at once to an observer. */
+    private final int observerBatchSize;
+
+    /** Request and response bodies handed to the observers. */
+    private final BodyCapturePolicy observerBodyCapture;
+
+    /** Spans opened around the exchanges. */
+    private final ApiTracer tracer;
+
+    /**
+     * Constructor with the builder.
+     *
+     * @param builder
+     *      current builder.
+     */
+    private HttpClientConfig(HttpClientConfigBuilder builder) {
+        this.maxConnectionsTotal      = builder.maxConnectionsTotal;
+        this.maxConnectionsPerRoute   = builder.maxConnectionsPerRoute;
+        this.connectTimeout           = builder.connectTimeout;
+        this.connectionRequestTimeout = builder.connectionRequestTimeout;
+        this.responseTimeout          = builder.responseTimeout;
+        this.keepAlive                = builder.keepAlive;
+        this.validateAfterInactivity  = builder.validateAfterInactivity;
+        this.connectionEvictionInterval = builder.connectionEvictionInterval;
+        this.idleConnectionTimeout    = builder.idleConnectionTimeout;
+        this.expectContinueEnabled    = builder.expectContinueEnabled;
+        this.httpVersion              = builder.httpVersion;
+        this.retryPolicy              = builder.retryPolicy;
+        this.rateLimitPolicy          = builder.rateLimitPolicy;
+        this.concurrencyLimitPolicy   = builder.concurrencyLimitPolicy;
+        this.coalesceGetRequests      = builder.coalesceGetRequests;
+        this.responseValidation       = builder.responseValidation;
+        this.observerQueueCapacity    = builder.observerQueueCapacity;
+        this.observerOverflowPolicy   = builder.observerOverflowPolicy;
+        this.observerBatchSize        = builder.observerBatchSize;
+        this.observerBodyCapture      = builder.observerBodyCapture;
+        this.tracer                   = builder.tracer;
+    }
+
+    /**
+     * Configuration with default values.
+     *
+     * @return
+     *      default configuration
+     */
+    public static HttpClientConfig defaultConfig() {
+        return builder().build();
+    }
+
+    /**
+     * Helper to create a builder.
+     *
+     * @return
+     *      an instance of the builder
+     */
+    public static HttpClientConfigBuilder builder() {
+        return new HttpClientConfigBuilder();
+    }
+
+    /**
+     * Builder.
+     */
+    public static class HttpClientConfigBuilder {
+        /** */
+        private int maxConnectionsTotal = DEFAULT_MAX_CONNECTIONS_TOTAL;
+        /** */
+        private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+        /** */
+        private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        /** */
+        private Duration connectionRequestTimeout = DEFAULT_CONNECTION_REQUEST_TIMEOUT;
+        /** */
+        private Duration responseTimeout = null;
+        /** */
+        private Duration keepAlive = null;
+        /** */
+        private Duration validateAfterInactivity = DEFAULT_VALIDATE_AFTER_INACTIVITY;
+        /** */
+        private Duration connectionEvictionInterval = DEFAULT_CONNECTION_EVICTION_INTERVAL;
+        /** */
+        private Duration idleConnectionTimeout = DEFAULT_IDLE_CONNECTION_TIMEOUT;
+        /** */
+        private boolean expectContinueEnabled = true;
+        /** */
+        private HttpVersion httpVersion = DEFAULT_HTTP_VERSION;
+        /** */
+        private RetryPolicy retryPolicy = RetryPolicy.defaultPolicy();
+        /** */
+        private RateLimitPolicy rateLimitPolicy = RateLimitPolicy.NONE;
+        /** */
+        private ConcurrencyLimitPolicy concurrencyLimitPolicy = ConcurrencyLimitPolicy.NONE;
+        /** */
+        private boolean coalesceGetRequests = true;
+        /** */
+        private boolean responseValidation = false;
+        /** */
+        private int observerQueueCapacity = ObserverDispatcher.DEFAULT_CAPACITY;
+        /** */
+        private ObserverDispatcher.OverflowPolicy observerOverflowPolicy = ObserverDispatcher.OverflowPolicy.DROP_NEWEST;
+        /** */
+        private int observerBatchSize = ObserverDispatcher.DEFAULT_BATCH_SIZE;
+        /** */
+        private BodyCapturePolicy observerBodyCapture = BodyCapturePolicy.defaultPolicy();
+        /** */
+        private ApiTracer tracer = ApiTracer.NOOP;
+
+        /**
+         * Default constructor.
+         */
+        public HttpClientConfigBuilder() {}
+
+        /**
+         * Define the maximum number of connections in the pool.
+         *
+         * @param max
+         *      the value for maxConnectionsTotal
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder maxConnectionsTotal(int max) {
+            Assert.isTrue(max > 0, "maxConnectionsTotal");
+            this.maxConnectionsTotal = max;
+            return this;
+        }
+
+        /**
+         * Define the maximum number of connections per route.
+         *
+         * @param max
+         *      the value for maxConnectionsPerRoute
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder maxConnectionsPerRoute(int max) {
+            Assert.isTrue(max > 0, "maxConnectionsPerRoute");
+            this.maxConnectionsPerRoute = max;
+            return this;
+        }
+
+        /**
+         * Define the timeout to establish a connection.
+         *
+         * @param timeout
+         *      the value for connectTimeout
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder connectTimeout(Duration timeout) {
+            Assert.notNull(timeout, "connectTimeout");
+            this.connectTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Define the timeout to lease a connection from the pool.
+         *
+         * @param timeout
+         *      the value for connectionRequestTimeout
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder connectionRequestTimeout(Duration timeout) {
+            Assert.notNull(timeout, "connectionRequestTimeout");
+            this.connectionRequestTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Define the timeout waiting for a response.
+         *
+         * @param timeout
+         *      the value for responseTimeout
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder responseTimeout(Duration timeout) {
+            this.responseTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Define the maximum time an idle connection is kept alive.
+         *
+         * @param keepAlive
+         *      the value for keepAlive
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder keepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * Define the delay before validating a connection returned to the pool.
+         *
+         * @param delay
+         *      the value for validateAfterInactivity
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder validateAfterInactivity(Duration delay) {
+            Assert.notNull(delay, "validateAfterInactivity");
+            this.validateAfterInactivity = delay;
+            return this;
+        }
+
+        /**
+         * Define the interval between two evictions of the expired and idle connections, null to disable the
+         * eviction and only rely on the validation after inactivity.
+         *
+         * @param interval
+         *      the value for connectionEvictionInterval
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder connectionEvictionInterval(Duration interval) {
+            Assert.isTrue(interval == null || !interval.isNegative() && !interval.isZero(),
+                    "connectionEvictionInterval should be positive");
+            this.connectionEvictionInterval = interval;
+            return this;
+        }
+
+        /**
+         * Define the idle time after which a pooled connection is closed by the eviction.
+         *
+         * @param timeout
+         *      the value for idleConnectionTimeout
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder idleConnectionTimeout(Duration timeout) {
+            Assert.notNull(timeout, "idleConnectionTimeout");
+            this.idleConnectionTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Enable or disable the 'Expect: 100-continue' handshake.
+         *
+         * @param enabled
+         *      the value for expectContinueEnabled
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder expectContinueEnabled(boolean enabled) {
+            this.expectContinueEnabled = enabled;
+            return this;
+        }
+
+        /**
+         * Define the http version, {@link HttpVersion#HTTP_2} lets the requests negotiate HTTP/2 with the server
+         * when the JVM supports ALPN.
+         *
+         * @param httpVersion
+         *      the value for httpVersion
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder httpVersion(HttpVersion httpVersion) {
+            Assert.notNull(httpVersion, "httpVersion");
+            this.httpVersion = httpVersion;
+            return this;
+        }
+
+        /**
+         * Define the retry policy, use {@link RetryPolicy#NONE} to disable retries.
+         *
+         * @param retryPolicy
+         *      the value for retryPolicy
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder retryPolicy(RetryPolicy retryPolicy) {
+            Assert.notNull(retryPolicy, "retryPolicy");
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * Define the rate limits, requests exceeding them are queued in the client.
+         *
+         * @param rateLimitPolicy
+         *      the value for rateLimitPolicy
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder rateLimitPolicy(RateLimitPolicy rateLimitPolicy) {
+            Assert.notNull(rateLimitPolicy, "rateLimitPolicy");
+            this.rateLimitPolicy = rateLimitPolicy;
+            return this;
+        }
+
+        /**
+         * Define the adaptive limit of requests in flight per host.
+         *
+         * @param concurrencyLimitPolicy
+         *      the value for concurrencyLimitPolicy
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder concurrencyLimitPolicy(ConcurrencyLimitPolicy concurrencyLimitPolicy) {
+            Assert.notNull(concurrencyLimitPolicy, "concurrencyLimitPolicy");
+            this.concurrencyLimitPolicy = concurrencyLimitPolicy;
+            return this;
+        }
+
+        /**
+         * Enable or disable the coalescing of identical GET requests (same url and token) in flight, callers
+         * arriving while a request is in flight share its response.
+         *
+         * @param enabled
+         *      the value for coalesceGetRequests
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder coalesceGetRequests(boolean enabled) {
+            this.coalesceGetRequests = enabled;
+            return this;
+        }
+
+        /**
+         * Enable or disable conditional GET requests (ETag / Last-Modified), a 304 is answered
+         * with a copy of the previous response, see {@link ResponseValidatorCache}. Disabled by default, only
+         * responses carrying validators benefit from it.
+         *
+         * @param enabled
+         *      the value for responseValidation
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder responseValidation(boolean enabled) {
+            this.responseValidation = enabled;
+            return this;
+        }
+
+        /**
+         * Builder pattern, capacity of the ring buffer holding the events for the observers.
+         *
+         * @param capacity
+         *      the value for observerQueueCapacity
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder observerQueueCapacity(int capacity) {
+            Assert.isTrue(capacity > 0, "capacity should be positive");
+            this.observerQueueCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Builder pattern, behaviour when the ring buffer of the observers is full.
+         *
+         * @param overflowPolicy
+         *      the value for observerOverflowPolicy
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder observerOverflowPolicy(ObserverDispatcher.OverflowPolicy overflowPolicy) {
+            Assert.notNull(overflowPolicy, "overflowPolicy");
+            this.observerOverflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Builder pattern, maximum number of events delivered at once to an observer.
+         *
+         * @param batchSize
+         *      the value for observerBatchSize
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder observerBatchSize(int batchSize) {
+            Assert.isTrue(batchSize > 0, "batchSize should be positive");
+            this.observerBatchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Builder pattern, request and response bodies handed to the observers, see {@link BodyCapturePolicy}.
+         *
+         * @param bodyCapture
+         *      the value for observerBodyCapture
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder observerBodyCapture(BodyCapturePolicy bodyCapture) {
+            Assert.notNull(bodyCapture, "bodyCapture");
+            this.observerBodyCapture = bodyCapture;
+            return this;
+        }
+
+        /**
+         * Builder pattern, spans opened around the exchanges and the composite operations, see
+         * {@link com.dtsx.astra.sdk.utils.observability.OpenTelemetryApiTracer}.
+         *
+         * @param tracer
+         *      the value for tracer
+         * @return
+         *      this instance.
+         */
+        public HttpClientConfigBuilder tracer(ApiTracer tracer) {
+            Assert.notNull(tracer, "tracer");
+            this.tracer = tracer;
+            return this;
+        }
+
+        /**
+         * Build the immutable instance.
+         *
+         * @return
+         *      an instance of the configuration
+         */
+        public HttpClientConfig build() {
+            return new HttpClientConfig(this);
+        }
+    }
+
+    /**
+     * Getter accessor for attribute 'maxConnectionsTotal'.
+     *
+     * @return
+     *       current value of 'maxConnectionsTotal'
+     */
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    /**
+     * Getter accessor for attribute 'maxConnectionsPerRoute'.
+     *
+     * @return
+     *       current value of 'maxConnectionsPerRoute'
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Getter accessor for attribute 'connectTimeout'.
+     *
+     * @return
+     *       current value of 'connectTimeout'
+     */
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Getter accessor for attribute 'connectionRequestTimeout'.
+     *
+     * @return
+     *       current value of 'connectionRequestTimeout'
+     */
+    public Duration getConnectionRequestTimeout() {
+        return connectionRequestTimeout;
+    }
+
+    /**
+     * Getter accessor for attribute 'responseTimeout'.
+     *
+     * @return
+     *       current value of 'responseTimeout'
+     */
+    public Optional<Duration> getResponseTimeout() {
+        return Optional.ofNullable(responseTimeout);
+    }
+
+    /**
+     * Getter accessor for attribute 'keepAlive'.
+     *
+     * @return
+     *       current value of 'keepAlive'
+     */
+    public Optional<Duration> getKeepAlive() {
+        return Optional.ofNullable(keepAlive);
+    }
+
+    /**
+     * Getter accessor for attribute 'validateAfterInactivity'.
+     *
+     * @return
+     *       current value of 'validateAfterInactivity'
+     */
+    public Duration getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    /**
+     * Getter accessor for attribute 'connectionEvictionInterval'.
+     *
+     * @return
+     *       current value of 'connectionEvictionInterval', empty when the eviction is disabled
+     */
+    public Optional<Duration> getConnectionEvictionInterval() {
+        return Optional.ofNullable(connectionEvictionInterval);
+    }
+
+    /**
+     * Getter accessor for attribute 'idleConnectionTimeout'.
+     *
+     * @return
+     *       current value of 'idleConnectionTimeout'
+     */
+    public Duration getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    /**
+     * Getter accessor for attribute 'expectContinueEnabled'.
+     *
+     * @return
+     *       current value of 'expectContinueEnabled'
+     */
+    public boolean isExpectContinueEnabled() {
+        return expectContinueEnabled;
+    }
+
+    /**
+     * Getter accessor for attribute 'httpVersion'.
+     *
+     * @return
+     *       current value of 'httpVersion'
+     */
+    public HttpVersion getHttpVersion() {
+        return httpVersion;
+    }
+
+    /**
+     * Getter accessor for attribute 'retryPolicy'.
+     *
+     * @return
+     *       current value of 'retryPolicy'
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Getter accessor for attribute 'rateLimitPolicy'.
+     *
+     * @return
+     *       current value of 'rateLimitPolicy'
+     */
+    public RateLimitPolicy getRateLimitPolicy() {
+        return rateLimitPolicy;
+    }
+
+    /**
+     * Getter accessor for attribute 'concurrencyLimitPolicy'.
+     *
+     * @return
+     *       current value of 'concurrencyLimitPolicy'
+     */
+    public ConcurrencyLimitPolicy getConcurrencyLimitPolicy() {
+        return concurrencyLimitPolicy;
+    }
+
+    /**
+     * Getter accessor for attribute 'coalesceGetRequests'.
+     *
+     * @return
+     *       current value of 'coalesceGetRequests'
+     */
+    public boolean isCoalesceGetRequests() {
+        return coalesceGetRequests;
+    }
+
+    /**
+     * Getter accessor for attribute 'responseValidation'.
+     *
+     * @return
+     *       current value of 'responseValidation'
+     */
+    public boolean isResponseValidation() {
+        return responseValidation;
+    }
+
+    /**
+     * Getter accessor for attribute 'observerQueueCapacity'.
+     *
+     * @return
+     *       current value of 'observerQueueCapacity'
+     */
+    public int getObserverQueueCapacity() {
+        return observerQueueCapacity;
+    }
+
+    /**
+     * Getter accessor for attribute 'observerOverflowPolicy'.
+     *
+     * @return
+     *       current value of 'observerOverflowPolicy'
+     */
+    public ObserverDispatcher.OverflowPolicy getObserverOverflowPolicy() {
+        return observerOverflowPolicy;
+    }
+
+    /**
+     * Getter accessor for attribute 'observerBatchSize'.
+     *
+     * @return
+     *       current value of 'observerBatchSize'
+     */
+    public int getObserverBatchSize() {
+        return observerBatchSize;
+    }
+
+    /**
+     * Getter accessor for attribute 'observerBodyCapture'.
+     *
+     * @return
+     *       current value of 'observerBodyCapture'
+     */
+    public BodyCapturePolicy getObserverBodyCapture() {
+        return observerBodyCapture;
+    }
+
+    /**
+     * Getter accessor for attribute 'tracer'.
+     *
+     * @return
+     *       current value of 'tracer'
+     */
+    public ApiTracer getTracer() {
+        return tracer;
+    }
+
+}
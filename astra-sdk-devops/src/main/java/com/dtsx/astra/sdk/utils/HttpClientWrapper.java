@@ -3,45 +3,43 @@ package com.dtsx.astra.sdk.utils;
 import com.dtsx.astra.sdk.exception.AuthenticationException;
 import com.dtsx.astra.sdk.utils.observability.ApiExecutionInfos;
 import com.dtsx.astra.sdk.utils.observability.ApiRequestObserver;
-import com.dtsx.astra.sdk.utils.observability.CompletableFutures;
-import org.apache.hc.client5.http.auth.StandardAuthScheme;
-import org.apache.hc.client5.http.classic.methods.HttpDelete;
-import org.apache.hc.client5.http.classic.methods.HttpGet;
-import org.apache.hc.client5.http.classic.methods.HttpHead;
-import org.apache.hc.client5.http.classic.methods.HttpPatch;
-import org.apache.hc.client5.http.classic.methods.HttpPost;
-import org.apache.hc.client5.http.classic.methods.HttpPut;
-import org.apache.hc.client5.http.classic.methods.HttpTrace;
+import com.dtsx.astra.sdk.utils.observability.ApiSpan;
+import com.dtsx.astra.sdk.utils.observability.ApiTracer;
+import com.dtsx.astra.sdk.utils.observability.ObserverDispatcher;
+import com.dtsx.astra.sdk.utils.observability.ObserverRegistry;
+import com.dtsx.astra.sdk.utils.observability.RequestTimings;
+import com.dtsx.astra.sdk.utils.transport.HttpClient5Transport;
+import com.dtsx.astra.sdk.utils.transport.HttpTransport;
+import com.dtsx.astra.sdk.utils.transport.LoopbackTransport;
+import com.dtsx.astra.sdk.utils.transport.TransportRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
-import org.apache.hc.client5.http.config.RequestConfig;
-import org.apache.hc.client5.http.cookie.StandardCookieSpec;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
-import org.apache.hc.client5.http.impl.classic.HttpClients;
-import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
-import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.Method;
-import org.apache.hc.core5.http.io.entity.EntityUtils;
-import org.apache.hc.core5.http.io.entity.StringEntity;
-import org.apache.hc.core5.util.TimeValue;
-import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.net.HttpURLConnection;
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Helper to forge Http Requests to interact with Devops API.
  */
-public class HttpClientWrapper {
+public class HttpClientWrapper implements Closeable {
     
     /** Logger for our Client. */
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientWrapper.class);
@@ -49,12 +47,6 @@ public class HttpClientWrapper {
     /** Value for the requested with. */
     private static final String REQUEST_WITH = "AstraJavaSDK " + HttpClientWrapper.class.getPackage().getImplementationVersion();
 
-    /** Default settings in Request and Retry */
-    private static final int DEFAULT_TIMEOUT_REQUEST   = 20;
-    
-    /** Default settings in Request and Retry */
-    private static final int DEFAULT_TIMEOUT_CONNECT   = 20;
-
     /** Headers, Api is using JSON */
     private static final String CONTENT_TYPE_JSON        = "application/json";
 
@@ -79,75 +71,408 @@ public class HttpClientWrapper {
     /** Current pulsar cluster. */
     private static final String HEADER_CURRENT_PULSAR_CLUSTER = "X-DataStax-Pulsar-Cluster";
 
-    /** Singleton pattern. */
-    private static HttpClientWrapper _instance = null;
-    
-    /** HttpComponent5. */
-    protected CloseableHttpClient httpClient = null;
+    /** Default operation name when none is provided. */
+    private static final String DEFAULT_OPERATION_NAME = "n/a";
+
+    /** Configuration used to build the http clients. */
+    protected final HttpClientConfig config;
+
+    /** Executes the exchanges, shared by the views. */
+    protected final HttpTransport transport;
+
+    /** Span attribute, name of the SDK operation. */
+    private static final String SPAN_OPERATION = "astra.operation";
+
+    /** Span attribute, http method. */
+    private static final String SPAN_HTTP_METHOD = "http.request.method";
+
+    /** Span attribute, request url. */
+    private static final String SPAN_URL_FULL = "url.full";
+
+    /** Span attribute, request url with identifiers and names replaced. */
+    private static final String SPAN_URL_TEMPLATE = "url.template";
+
+    /** Span attribute, target host. */
+    private static final String SPAN_SERVER_ADDRESS = "server.address";
+
+    /** Span attribute, http status of the last attempt. */
+    private static final String SPAN_STATUS_CODE = "http.response.status_code";
+
+    /** Span attribute, number of retries. */
+    private static final String SPAN_RESEND_COUNT = "http.request.resend_count";
+
+    /** Span attributes prefix, phase timings of the last attempt in microseconds. */
+    private static final String SPAN_TIMING_PREFIX = "astra.timing.";
+
+    /** Observers, shared by the views unless a view is created with {@link #withObservers(Map)}. */
+    protected final ObserverRegistry observerRegistry;
+
+    /** Delivers the events to the observers out of the request threads, shared by the views. */
+    protected final ObserverDispatcher observerDispatcher;
 
-    /** Observers. */
-    protected static Map<String, ApiRequestObserver> observers = new LinkedHashMap<>();
+    /** Name of the operation attached to the requests issued by this instance. */
+    protected final String operationName;
 
-    /** Observers. */
-    protected String operationName= "n/a";
+    /** Rate limiters, shared by the views of this instance. */
+    protected final RateLimiterRegistry rateLimiters;
 
-    /** Default request configuration. */
-    protected static RequestConfig requestConfig = RequestConfig.custom()
-            .setCookieSpec(StandardCookieSpec.STRICT)
-            .setExpectContinueEnabled(true)
-            .setConnectionRequestTimeout(Timeout.ofSeconds(DEFAULT_TIMEOUT_REQUEST))
-            .setConnectTimeout(Timeout.ofSeconds(DEFAULT_TIMEOUT_CONNECT))
-            .setTargetPreferredAuthSchemes(Arrays.asList(StandardAuthScheme.NTLM, StandardAuthScheme.DIGEST))
-            .build();
+    /** Adaptive concurrency limiters, shared by the views of this instance. */
+    protected final ConcurrencyLimiterRegistry concurrencyLimiters;
+
+    /** Identical GET requests in flight, shared by the views. */
+    protected final RequestCoalescer coalescer;
+
+    /** Last GET responses with their validators, shared by the views. */
+    protected final ResponseValidatorCache validators;
+
+    /** Periodic eviction of the expired and idle connections, null when disabled. */
+    protected final ScheduledFuture<?> evictionTask;
+
+    /** Whether this instance created the transport and the dispatcher, false for the views. */
+    protected final boolean owner;
 
     // -------------------------------------------
-    // ----------------- Singleton ---------------
+    // ----------------- Instances ---------------
     // -------------------------------------------
-    
+
     /**
-     * Hide default constructor
+     * Lazy holder for the shared default instance.
      */
-    private HttpClientWrapper() {}
-    
+    private static final class DefaultInstanceHolder {
+
+        /** Shared instance with default configuration. */
+        private static final HttpClientWrapper INSTANCE = new HttpClientWrapper(HttpClientConfig.defaultConfig());
+
+        /**
+         * Hide default constructor
+         */
+        private DefaultInstanceHolder() {}
+    }
+
     /**
-     * Singleton Pattern.
-     * 
+     * Lazy holder for the timer delaying the non-blocking requests (retries, rate limiting).
+     */
+    private static final class SchedulerHolder {
+
+        /** Single daemon thread, tasks only submit the delayed requests. */
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "astra-sdk-scheduler");
+            t.setDaemon(true);
+            return t;
+        });
+
+        /**
+         * Hide default constructor
+         */
+        private SchedulerHolder() {}
+    }
+
+    /**
+     * Create a new instance with its own connection pools. Instances are thread-safe and are expected to be shared
+     * by clients, see {@link com.dtsx.astra.sdk.AbstractApiClient}.
+     *
+     * @param config
+     *      http client configuration
+     */
+    public HttpClientWrapper(HttpClientConfig config) {
+        this(config, new HttpClient5Transport(config));
+    }
+
+    /**
+     * Create a new instance on a custom transport, like {@link LoopbackTransport} to measure the SDK without
+     * network.
+     *
+     * @param config
+     *      http client configuration
+     * @param transport
+     *      executes the exchanges, closed with this instance
+     */
+    public HttpClientWrapper(HttpClientConfig config, HttpTransport transport) {
+        Assert.notNull(config, "config");
+        Assert.notNull(transport, "transport");
+        this.config        = config;
+        this.transport     = transport;
+        this.operationName = DEFAULT_OPERATION_NAME;
+        this.rateLimiters  = new RateLimiterRegistry(config.getRateLimitPolicy());
+        this.concurrencyLimiters = new ConcurrencyLimiterRegistry(config.getConcurrencyLimitPolicy());
+        this.coalescer     = new RequestCoalescer();
+        this.validators    = new ResponseValidatorCache(ResponseValidatorCache.DEFAULT_MAX_ENTRIES);
+        this.observerRegistry   = new ObserverRegistry();
+        this.observerDispatcher = new ObserverDispatcher(config.getObserverQueueCapacity(),
+                config.getObserverOverflowPolicy(), config.getObserverBatchSize());
+        this.owner = true;
+
+        // Stale connections are closed in the background instead of being detected on lease
+        this.evictionTask = config.getConnectionEvictionInterval()
+                .map(interval -> SchedulerHolder.SCHEDULER.scheduleWithFixedDelay(
+                        () -> evictConnections(config.getIdleConnectionTimeout()),
+                        interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS))
+                .orElse(null);
+    }
+
+    /**
+     * Create a view on an existing instance bound to an operation name, connection pools are shared.
+     *
+     * @param parent
+     *      instance holding the http clients
+     * @param operationName
+     *      name of the operation
+     */
+    private HttpClientWrapper(HttpClientWrapper parent, String operationName) {
+        this(parent, operationName, parent.observerRegistry);
+    }
+
+    /**
+     * Create a view on an existing instance with its own observers, connection pools are shared.
+     *
+     * @param parent
+     *      instance holding the http clients
+     * @param operationName
+     *      name of the operation
+     * @param observerRegistry
+     *      observers notified of the requests issued by the view
+     */
+    private HttpClientWrapper(HttpClientWrapper parent, String operationName, ObserverRegistry observerRegistry) {
+        this.config          = parent.config;
+        this.transport       = parent.transport;
+        this.operationName   = operationName;
+        this.rateLimiters    = parent.rateLimiters;
+        this.concurrencyLimiters = parent.concurrencyLimiters;
+        this.coalescer       = parent.coalescer;
+        this.validators      = parent.validators;
+        this.observerRegistry   = observerRegistry;
+        this.observerDispatcher = parent.observerDispatcher;
+        this.evictionTask       = parent.evictionTask;
+        this.owner              = false;
+    }
+
+    /**
+     * Access the instance shared by clients created without an explicit {@link HttpClientWrapper}.
+     *
      * @return
-     *      singleton for the class
+     *      shared instance with default configuration
      */
-    private static synchronized HttpClientWrapper getInstance() {
-        if (_instance == null) {
-            _instance = new HttpClientWrapper();
-            final PoolingHttpClientConnectionManager connManager = new PoolingHttpClientConnectionManager();
-            connManager.setValidateAfterInactivity(TimeValue.ofSeconds(10));
-            connManager.setMaxTotal(100);
-            connManager.setDefaultMaxPerRoute(10);
-            _instance.httpClient = HttpClients.custom().setConnectionManager(connManager).build();
-        }
-        return _instance;
+    public static HttpClientWrapper getInstance() {
+        return DefaultInstanceHolder.INSTANCE;
     }
 
     /**
-     * Singleton Pattern.
+     * Access the shared instance for an operation.
      *
      * @param operation
      *      name of the operation
      * @return
-     *      singleton for the class
+     *      shared instance bound to the operation name
      */
-    public static synchronized HttpClientWrapper getInstance(String operation) {
-        if (_instance == null) {
-            _instance = new HttpClientWrapper();
-            final PoolingHttpClientConnectionManager connManager = new PoolingHttpClientConnectionManager();
-            connManager.setValidateAfterInactivity(TimeValue.ofSeconds(10));
-            connManager.setMaxTotal(100);
-            connManager.setDefaultMaxPerRoute(10);
-            _instance.httpClient = HttpClients.custom().setConnectionManager(connManager).build();
+    public static HttpClientWrapper getInstance(String operation) {
+        return getInstance().forOperation(operation);
+    }
+
+    /**
+     * Bind an operation name to the requests, the returned instance shares the connection pools of the current one.
+     * The operation name travels with each request and never overrides the one of a concurrent call. The view does
+     * not own the connection pools, closing it has no effect.
+     *
+     * @param operation
+     *      name of the operation
+     * @return
+     *      instance bound to the operation name
+     */
+    public HttpClientWrapper forOperation(String operation) {
+        return new HttpClientWrapper(this, operation == null ? DEFAULT_OPERATION_NAME : operation);
+    }
+
+    /**
+     * Attach observers to the requests issued by the returned view only, the current instance and the other views are
+     * not affected. The view shares the connection pools and the dispatcher of the current instance, and notifies
+     * its observers as well. The view does not own the connection pools, closing it has no effect.
+     *
+     * @param observers
+     *      observers by name
+     * @return
+     *      view notifying the observers, or the current instance if there is none
+     */
+    public HttpClientWrapper withObservers(Map<String, ApiRequestObserver> observers) {
+        if (observers == null || observers.isEmpty()) {
+            return this;
         }
-        _instance.operationName = operation;
-        return _instance;
+        ObserverRegistry registry = new ObserverRegistry(observerRegistry);
+        registry.registerAll(observers);
+        return new HttpClientWrapper(this, operationName, registry);
     }
-    
+
+    /**
+     * Access the rate limiters to collect their wait time and queue depth.
+     *
+     * @return
+     *      rate limiters of this instance
+     */
+    public RateLimiterRegistry getRateLimiterRegistry() {
+        return rateLimiters;
+    }
+
+    /**
+     * Access the adaptive concurrency limiters to collect their limit, requests in flight and queue depth.
+     *
+     * @return
+     *      concurrency limiters of this instance
+     */
+    public ConcurrencyLimiterRegistry getConcurrencyLimiterRegistry() {
+        return concurrencyLimiters;
+    }
+
+    /**
+     * Access the coalescing of identical GET requests to monitor the requests saved.
+     *
+     * @return
+     *      coalescer shared by the views of this instance
+     */
+    public RequestCoalescer getRequestCoalescer() {
+        return coalescer;
+    }
+
+    /**
+     * Access the GET responses kept with their validators, to monitor the payloads not downloaded again.
+     *
+     * @return
+     *      validator cache shared by the views of this instance
+     */
+    public ResponseValidatorCache getResponseValidatorCache() {
+        return validators;
+    }
+
+    /**
+     * Access the tracer, used by the clients to open the parent span of composite operations.
+     *
+     * @return
+     *      configured tracer, no-op by default
+     */
+    public ApiTracer getTracer() {
+        return config.getTracer();
+    }
+
+    /**
+     * Access the observers notified of the requests issued by this instance and its views.
+     *
+     * @return
+     *      observer registry shared by the views of this instance
+     */
+    public ObserverRegistry getObserverRegistry() {
+        return observerRegistry;
+    }
+
+    /**
+     * Access the dispatcher of the events to monitor the queue depth and the dropped events.
+     *
+     * @return
+     *      observer dispatcher shared by the views of this instance
+     */
+    public ObserverDispatcher getObserverDispatcher() {
+        return observerDispatcher;
+    }
+
+    /**
+     * Snapshot of the connection pools per route, the blocking pool first.
+     *
+     * @return
+     *      statistics of every route leased at least once
+     */
+    public List<ConnectionPoolStats> getConnectionPoolStats() {
+        List<ConnectionPoolStats> stats = new ArrayList<>(getConnectionPoolMonitor(ConnectionPoolStats.Pool.BLOCKING).getRouteStats());
+        stats.addAll(getConnectionPoolMonitor(ConnectionPoolStats.Pool.ASYNC).getRouteStats());
+        return stats;
+    }
+
+    /**
+     * Snapshot of a connection pool.
+     *
+     * @param pool
+     *      blocking or non-blocking pool
+     * @return
+     *      statistics of the whole pool
+     */
+    public ConnectionPoolStats getConnectionPoolTotals(ConnectionPoolStats.Pool pool) {
+        return getConnectionPoolMonitor(pool).getTotalStats();
+    }
+
+    /**
+     * Access the statistics of a connection pool.
+     *
+     * @param pool
+     *      blocking or non-blocking pool
+     * @return
+     *      pool monitor of the transport, shared by the views of this instance
+     */
+    public ConnectionPoolMonitor getConnectionPoolMonitor(ConnectionPoolStats.Pool pool) {
+        Assert.notNull(pool, "pool");
+        return transport.getConnectionPoolMonitor(pool);
+    }
+
+    /**
+     * Close the expired connections and the connections idle for longer than a delay in both pools.
+     *
+     * @param idleTimeout
+     *      maximum idle time
+     */
+    public void evictConnections(Duration idleTimeout) {
+        Assert.notNull(idleTimeout, "idleTimeout");
+        try {
+            transport.evictConnections(idleTimeout);
+        } catch (RuntimeException e) {
+            // Keep the periodic eviction alive
+            LOGGER.warn("Cannot evict idle connections: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Gets operationName
+     *
+     * @return value of operationName
+     */
+    public String getOperationName() {
+        return operationName;
+    }
+
+    /**
+     * Gets config
+     *
+     * @return value of config
+     */
+    public HttpClientConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Access the transport executing the exchanges.
+     *
+     * @return
+     *      transport shared by the views of this instance
+     */
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Release the connection pools and the dispatcher, only the instance created with a constructor owns them and
+     * closing it makes its views unusable. Closing a view created with {@link #forOperation(String)} or
+     * {@link #withObservers(Map)} has no effect.
+     */
+    @Override
+    public void close() {
+        if (!owner) {
+            return;
+        }
+        observerDispatcher.close();
+        if (evictionTask != null) {
+            evictionTask.cancel(false);
+        }
+        try {
+            transport.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot close http clients", e);
+        }
+    }
+
     // -------------------------------------------
     // ---------- Working with HTTP --------------
     // -------------------------------------------
@@ -181,9 +506,11 @@ public class HttpClientWrapper {
      *      http request
      */
     public ApiResponseHttp GET_PULSAR(String url, String token, String pulsarCluster, String organizationId) {
-        HttpUriRequestBase request = buildRequest(Method.GET, url, token, null, CONTENT_TYPE_JSON);
-        updatePulsarHttpRequest(request, token, pulsarCluster, organizationId);
-        return executeHttp(request, false);
+        return executeValidated(RequestCoalescer.key(Method.GET.name(), url, token) + " " + pulsarCluster + " " + organizationId, () -> {
+            TransportRequest request = buildRequest(Method.GET, url, token, null, CONTENT_TYPE_JSON);
+            updatePulsarHttpRequest(request, token, pulsarCluster, organizationId);
+            return request;
+        }, false);
     }
 
     /**
@@ -203,7 +530,7 @@ public class HttpClientWrapper {
      *      http request
      */
     public ApiResponseHttp POST_PULSAR(String url, String token, String body, String pulsarCluster, String organizationId) {
-        HttpUriRequestBase request = buildRequest(Method.POST, url, token, body, CONTENT_TYPE_JSON);
+        TransportRequest request = buildRequest(Method.POST, url, token, body, CONTENT_TYPE_JSON);
         updatePulsarHttpRequest(request, token, pulsarCluster, organizationId);
         return executeHttp(request, false);
     }
@@ -225,7 +552,7 @@ public class HttpClientWrapper {
      *      http request
      */
     public ApiResponseHttp DELETE_PULSAR(String url, String token, String body, String pulsarCluster, String organizationId) {
-        HttpUriRequestBase request = buildRequest(Method.DELETE, url, token, body, CONTENT_TYPE_JSON);
+        TransportRequest request = buildRequest(Method.DELETE, url, token, body, CONTENT_TYPE_JSON);
         updatePulsarHttpRequest(request, token, pulsarCluster, organizationId);
         return executeHttp(request, false);
     }
@@ -242,7 +569,7 @@ public class HttpClientWrapper {
      * @param organizationId
      *      organization
      */
-    private void updatePulsarHttpRequest(HttpUriRequestBase request, String pulsarToken, String pulsarCluster, String organizationId) {
+    private void updatePulsarHttpRequest(TransportRequest request, String pulsarToken, String pulsarCluster, String organizationId) {
         request.addHeader(HEADER_AUTHORIZATION, pulsarToken);
         request.addHeader(HEADER_CURRENT_ORG, organizationId);
         request.addHeader(HEADER_CURRENT_PULSAR_CLUSTER, pulsarCluster);
@@ -332,6 +659,100 @@ public class HttpClientWrapper {
         executeHttp(Method.PATCH, url, token, body, CONTENT_TYPE_JSON, false);
     }
 
+    // -------------------------------------------
+    // ------- Working with HTTP (async) ---------
+    // -------------------------------------------
+
+    /**
+     * Helper to build the HTTP request without blocking the caller thread.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @return
+     *      future http response
+     */
+    public CompletableFuture<ApiResponseHttp> GET_ASYNC(String url, String token) {
+        return executeHttpAsync(Method.GET, url, token, null, CONTENT_TYPE_JSON, false);
+    }
+
+    /**
+     * Helper to build the HTTP request without blocking the caller thread.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @return
+     *      future http response
+     */
+    public CompletableFuture<ApiResponseHttp> HEAD_ASYNC(String url, String token) {
+        return executeHttpAsync(Method.HEAD, url, token, null, CONTENT_TYPE_JSON, false);
+    }
+
+    /**
+     * Helper to build the HTTP request without blocking the caller thread.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @param body
+     *      request body
+     * @return
+     *      future http response
+     */
+    public CompletableFuture<ApiResponseHttp> POST_ASYNC(String url, String token, String body) {
+        return executeHttpAsync(Method.POST, url, token, body, CONTENT_TYPE_JSON, true);
+    }
+
+    /**
+     * Helper to build the HTTP request without blocking the caller thread.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @param body
+     *      request body
+     * @return
+     *      future http response
+     */
+    public CompletableFuture<ApiResponseHttp> PUT_ASYNC(String url, String token, String body) {
+        return executeHttpAsync(Method.PUT, url, token, body, CONTENT_TYPE_JSON, false);
+    }
+
+    /**
+     * Helper to build the HTTP request without blocking the caller thread.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @param body
+     *      request body
+     * @return
+     *      future http response
+     */
+    public CompletableFuture<ApiResponseHttp> PATCH_ASYNC(String url, String token, String body) {
+        return executeHttpAsync(Method.PATCH, url, token, body, CONTENT_TYPE_JSON, false);
+    }
+
+    /**
+     * Helper to build the HTTP request without blocking the caller thread.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @return
+     *      future http response
+     */
+    public CompletableFuture<ApiResponseHttp> DELETE_ASYNC(String url, String token) {
+        return executeHttpAsync(Method.DELETE, url, token, null, CONTENT_TYPE_JSON, true);
+    }
+
     /**
      * Main Method executing HTTP Request.
      * 
@@ -351,7 +772,68 @@ public class HttpClientWrapper {
      *      basic request
      */
     public ApiResponseHttp executeHttp(final Method method, final String url, final String token, String reqBody, String contentType, boolean mandatory) {
-        return executeHttp(buildRequest(method, url, token, reqBody, contentType), mandatory);
+        if (Method.GET != method) {
+            return executeHttp(buildRequest(method, url, token, reqBody, contentType), mandatory);
+        }
+        Supplier<ApiResponseHttp> call = () -> executeValidated(RequestCoalescer.key(method.name(), url, token),
+                () -> buildRequest(method, url, token, reqBody, contentType), mandatory);
+        return isCoalesced(method) ? coalescer.execute(coalescingKey(url, token, mandatory), call) : call.get();
+    }
+
+    /**
+     * Execute a GET request with the validators of the previous response, a 304 gives back a copy of the previous
+     * response.
+     *
+     * @param key
+     *      request key in the validator cache
+     * @param requestBuilder
+     *      build the request
+     * @param mandatory
+     *      allow 404 errors
+     * @return
+     *      api response
+     */
+    private ApiResponseHttp executeValidated(String key, Supplier<TransportRequest> requestBuilder, boolean mandatory) {
+        if (!config.isResponseValidation()) {
+            return executeHttp(requestBuilder.get(), mandatory);
+        }
+        TransportRequest req = requestBuilder.get();
+        validators.getConditionalHeaders(key).forEach(req::setHeader);
+        ApiResponseHttp res = validators.reconcile(key, executeHttp(req, mandatory));
+        if (HttpURLConnection.HTTP_NOT_MODIFIED == res.getCode()) {
+            // Previous response evicted in the meantime, send the request without validators
+            res = validators.reconcile(key, executeHttp(requestBuilder.get(), mandatory));
+        }
+        return res;
+    }
+
+    /**
+     * Identical requests in flight share a single exchange for GET only, other methods are not idempotent or
+     * expect their own response.
+     *
+     * @param method
+     *      http method
+     * @return
+     *      if the request is coalesced
+     */
+    private boolean isCoalesced(Method method) {
+        return Method.GET == method && config.isCoalesceGetRequests();
+    }
+
+    /**
+     * Key of a GET request for coalescing, the error handling differs with the mandatory flag.
+     *
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @param mandatory
+     *      allow 404 errors
+     * @return
+     *      key of the request
+     */
+    private static String coalescingKey(String url, String token, boolean mandatory) {
+        return RequestCoalescer.key(Method.GET.name(), url, token) + (mandatory ? " mandatory" : "");
     }
     
     /**
@@ -365,95 +847,504 @@ public class HttpClientWrapper {
      *      api response
      */
     public ApiResponseHttp executeHttp(HttpUriRequestBase req, boolean mandatory) {
+        return executeHttp(HttpClient5Transport.toTransportRequest(req), mandatory);
+    }
 
-        // Execution Infos
-        ApiExecutionInfos.ApiExecutionInfoBuilder executionInfo = ApiExecutionInfos.builder()
-                .withOperationName(operationName)
-                .withHttpRequest(req);
+    /**
+     * Execute a request on the transport with the retry policy, the limits, the observers and the tracer.
+     *
+     * @param req
+     *      current request
+     * @param mandatory
+     *      mandatory
+     * @return
+     *      api response
+     */
+    public ApiResponseHttp executeHttp(TransportRequest req, boolean mandatory) {
+        final ApiTracer tracer = config.getTracer();
+        if (!tracer.isEnabled()) {
+            return executeWithRetries(req, mandatory, null);
+        }
+        final ApiSpan span = startRequestSpan(tracer, req);
+        ApiSpan.Scope scope = span.makeCurrent();
+        try {
+            return executeWithRetries(req, mandatory, span);
+        } catch (RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            scope.close();
+            span.end();
+        }
+    }
+
+    /**
+     * Execute a request with the retry policy, the calling thread waits between attempts.
+     *
+     * @param req
+     *      current request
+     * @param mandatory
+     *      mandatory
+     * @param span
+     *      span of the exchange, null when not traced
+     * @return
+     *      api response
+     */
+    private ApiResponseHttp executeWithRetries(TransportRequest req, boolean mandatory, ApiSpan span) {
+        final RetryPolicy retryPolicy = config.getRetryPolicy();
+        final long start = System.nanoTime();
+        int attempt = 1;
+        while (true) {
+            // Rate limiting, queue until a permit is available
+            Duration rateLimitWait = acquirePermit(req);
+
+            // Execution Infos, only captured when observers are registered
+            ApiExecutionInfos.ApiExecutionInfoBuilder executionInfo = newExecutionInfo(attempt, rateLimitWait)
+                    .withHttpRequest(req);
+
+            Duration retryDelay;
+            try {
+                ApiResponseHttp res = executeOnce(req, executionInfo.getTimings());
+                traceAttempt(span, attempt, res.getCode(), executionInfo.getTimings());
+
+                // Retry management
+                retryDelay = retryPolicy.getRetryDelay(req.getMethod(), res, attempt, elapsedSince(start)).orElse(null);
+                if (retryDelay == null) {
 
-        try(CloseableHttpResponse response = httpClient.execute(req)) {
-
-            ApiResponseHttp res;
-            if (response == null) {
-                res = new ApiResponseHttp("Response is empty, please check url",
-                        HttpURLConnection.HTTP_UNAVAILABLE, null);
-            } else {
-                // Mapping response
-                String body = null;
-                if (null != response.getEntity()) {
-                    body = EntityUtils.toString(response.getEntity());
-                    EntityUtils.consume(response.getEntity());
+                    // Error management
+                    if (HttpURLConnection.HTTP_NOT_FOUND == res.getCode() && !mandatory) {
+                        return res;
+                    }
+                    if (res.getCode() >= 300 && HttpURLConnection.HTTP_NOT_MODIFIED != res.getCode()) {
+                        String entity = req.getBody();
+                        executionInfo.withRequestPayload(entity).withHttpResponse(res);
+                        processErrors(req.getUrl(), req.getMethod(), entity != null ? entity : "n/a", res, mandatory);
+                    }
+                    executionInfo.withHttpResponse(res);
+                    return res;
                 }
-                Map<String, String > headers = new HashMap<>();
-                Arrays.stream(response.getHeaders()).forEach(h -> headers.put(h.getName(), h.getValue()));
-                res = new ApiResponseHttp(body, response.getCode(), headers);
+                LOGGER.warn("Request {} {} returned code={} (attempt {}), retrying in {} ms",
+                        req.getMethod(), req.getUrl(), res.getCode(), attempt, retryDelay.toMillis());
+                executionInfo.withRetryDelay(retryDelay).withHttpResponse(res);
+                // do not swallow the exception
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                throw e;
+            } catch (IOException ioe) {
+                traceAttempt(span, attempt, 0, executionInfo.getTimings());
+                retryDelay = retryPolicy.getRetryDelay(req.getMethod(), ioe, attempt, elapsedSince(start)).orElse(null);
+                if (retryDelay == null) {
+                    throw new RuntimeException("Error in HTTP Request: " + ioe.getMessage(), ioe);
+                }
+                LOGGER.warn("Request {} {} failed with '{}' (attempt {}), retrying in {} ms",
+                        req.getMethod(), req.getUrl(), ioe.getMessage(), attempt, retryDelay.toMillis());
+                executionInfo.withRetryDelay(retryDelay);
+            } catch(Exception e) {
+                throw new RuntimeException("Error in HTTP Request: " + e.getMessage(), e);
+            } finally {
+                // Notify the observers, once per attempt
+                notifyObservers(executionInfo);
             }
 
-            // Error management
-            if (HttpURLConnection.HTTP_NOT_FOUND == res.getCode() && !mandatory) {
-                return res;
-            }
-            if (res.getCode() >= 300) {
-              String entity = "n/a";
-              if (req.getEntity() != null) {
-                  entity = EntityUtils.toString(req.getEntity());
-              }
-              LOGGER.error("Error for request, url={}, method={}, body={}",
-                      req.getUri().toString(), req.getMethod(), entity);
-              LOGGER.error("Response  code={}, body={}", res.getCode(), res.getBody());
-              processErrors(res, mandatory);
-              LOGGER.error("An HTTP Error occurred. The HTTP CODE Return is {}", res.getCode());
+            // Reaching this point means a new attempt is scheduled
+            try {
+                Thread.sleep(retryDelay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting to retry request " + req.getUrl(), e);
             }
+            attempt++;
+        }
+    }
+
+    /**
+     * Wait for a rate limiter permit in the current thread.
+     *
+     * @param req
+     *      current request
+     * @return
+     *      time spent waiting
+     */
+    private Duration acquirePermit(TransportRequest req) {
+        RateLimiterRegistry.Permit permit = rateLimiters.reserve(getAuthorization(req), operationName);
+        if (permit.isImmediate()) {
+            return Duration.ZERO;
+        }
+        try {
+            LOGGER.debug("Rate limit reached for operation {}, waiting {} ms", operationName,
+                    TimeUnit.NANOSECONDS.toMillis(permit.getWaitNanos()));
+            permit.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a rate limiter permit", e);
+        }
+        return Duration.ofNanos(permit.getWaitNanos());
+    }
 
-            executionInfo.withHttpResponse(res);
+    /**
+     * Extract the credentials of a request to select its rate limiters.
+     *
+     * @param req
+     *      current request
+     * @return
+     *      value of the authorization header
+     */
+    private static String getAuthorization(TransportRequest req) {
+        return req.getFirstHeader(HEADER_AUTHORIZATION);
+    }
+
+    /**
+     * Execute a single exchange on the transport in the calling thread, no error or retry management.
+     * The exchange holds a slot of the concurrency limiter of the target host.
+     *
+     * @param req
+     *      current request
+     * @param timings
+     *      phase timings, null when the exchange is not observed
+     * @return
+     *      api response
+     * @throws IOException
+     *      error at the transport level
+     */
+    private ApiResponseHttp executeOnce(TransportRequest req, RequestTimings timings) throws IOException {
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimiters.forHost(req.getHost());
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a concurrency limiter slot", e);
+        }
+        final long sent = System.nanoTime();
+        boolean overload = true;
+        try {
+            ApiResponseHttp res = transport.execute(req, timings);
+            overload = isOverload(res.getCode());
+            if (timings != null) {
+                res.setTimings(timings);
+            }
             return res;
-            // do not swallow the exception
-        } catch (IllegalArgumentException | IllegalStateException e) {
-            throw e;
-        } catch(Exception e) {
-            throw new RuntimeException("Error in HTTP Request: " + e.getMessage(), e);
         } finally {
-            // Notify the observers
-            CompletableFuture.runAsync(()-> notifyASync(l -> l.onRequest(executionInfo.build()), observers.values()));
+            limiter.release(sent, overload);
         }
     }
 
     /**
-     * Initialize an HTTP request against Stargate.
-     * 
+     * Status codes meaning the server is overloaded.
+     *
+     * @param code
+     *      http status code
+     * @return
+     *      if the concurrency should be reduced
+     */
+    private static boolean isOverload(int code) {
+        return code == RetryPolicy.HTTP_TOO_MANY_REQUESTS || code >= HttpURLConnection.HTTP_INTERNAL_ERROR;
+    }
+
+    /**
+     * Main Method executing HTTP Request on the non-blocking client.
+     *
+     * @param method
+     *      http method
+     * @param url
+     *      url
+     * @param token
+     *      authentication token
+     * @param reqBody
+     *      request body
+     * @param contentType
+     *      request content type
+     * @param mandatory
+     *      allow 404 errors
+     * @return
+     *      future response, completed exceptionally with the same exceptions as {@link #executeHttp(HttpUriRequestBase, boolean)}
+     */
+    public CompletableFuture<ApiResponseHttp> executeHttpAsync(final Method method, final String url, final String token, String reqBody, String contentType, boolean mandatory) {
+        if (Method.GET != method) {
+            return executeHttpAsync(buildRequest(method, url, token, reqBody, contentType), mandatory);
+        }
+        Supplier<CompletableFuture<ApiResponseHttp>> call = () -> executeValidatedAsync(RequestCoalescer.key(method.name(), url, token),
+                () -> buildRequest(method, url, token, reqBody, contentType), mandatory);
+        return isCoalesced(method) ? coalescer.executeAsync(coalescingKey(url, token, mandatory), call) : call.get();
+    }
+
+    /**
+     * Execute a GET request with the validators of the previous response without blocking, a 304 or an unchanged
+     * payload gives back the previous response.
+     *
+     * @param key
+     *      request key in the validator cache
+     * @param requestBuilder
+     *      build the request
+     * @param mandatory
+     *      allow 404 errors
+     * @return
+     *      future api response
+     */
+    private CompletableFuture<ApiResponseHttp> executeValidatedAsync(String key, Supplier<TransportRequest> requestBuilder, boolean mandatory) {
+        if (!config.isResponseValidation()) {
+            return executeHttpAsync(requestBuilder.get(), mandatory);
+        }
+        TransportRequest req = requestBuilder.get();
+        validators.getConditionalHeaders(key).forEach(req::setHeader);
+        return executeHttpAsync(req, mandatory).thenCompose(res -> {
+            ApiResponseHttp validated = validators.reconcile(key, res);
+            if (HttpURLConnection.HTTP_NOT_MODIFIED == validated.getCode()) {
+                // Previous response evicted in the meantime, send the request without validators
+                return executeHttpAsync(requestBuilder.get(), mandatory).thenApply(r -> validators.reconcile(key, r));
+            }
+            return CompletableFuture.completedFuture(validated);
+        });
+    }
+
+    /**
+     * Execute a request coming from elsewhere on the non-blocking client. No thread is held while
+     * the request is in flight or waiting for a retry, the future is completed from the IO reactor.
+     *
+     * @param req
+     *      current request
+     * @param mandatory
+     *      mandatory
+     * @return
+     *      future api response
+     */
+    public CompletableFuture<ApiResponseHttp> executeHttpAsync(SimpleHttpRequest req, boolean mandatory) {
+        return executeHttpAsync(HttpClient5Transport.toTransportRequest(req), mandatory);
+    }
+
+    /**
+     * Execute a request on the transport without blocking, with the retry policy, the limits, the observers and
+     * the tracer. No thread is held while waiting for a retry.
+     *
+     * @param req
+     *      current request
+     * @param mandatory
+     *      mandatory
+     * @return
+     *      future api response
+     */
+    public CompletableFuture<ApiResponseHttp> executeHttpAsync(TransportRequest req, boolean mandatory) {
+        final CompletableFuture<ApiResponseHttp> result = new CompletableFuture<>();
+        ApiSpan span = null;
+        if (config.getTracer().isEnabled()) {
+            // Parent is the span current in the calling thread, the span ends with the future
+            final ApiSpan requestSpan = startRequestSpan(config.getTracer(), req);
+            result.whenComplete((res, error) -> {
+                if (error != null) {
+                    requestSpan.recordError(error);
+                }
+                requestSpan.end();
+            });
+            span = requestSpan;
+        }
+        executeHttpAsyncAttempt(req, mandatory, 1, System.nanoTime(), result, span);
+        return result;
+    }
+
+    /**
+     * Execute one attempt on the non-blocking client once a rate limiter permit is available, the caller
+     * thread is never blocked.
+     *
+     * @param req
+     *      current request
+     * @param mandatory
+     *      mandatory
+     * @param attempt
+     *      current attempt number, starting at 1
+     * @param start
+     *      start of the first attempt in nanoseconds
+     * @param result
+     *      future to complete
+     * @param span
+     *      span of the exchange, null when not traced
+     */
+    private void executeHttpAsyncAttempt(TransportRequest req, boolean mandatory, int attempt, long start, CompletableFuture<ApiResponseHttp> result, ApiSpan span) {
+        RateLimiterRegistry.Permit permit = rateLimiters.reserve(getAuthorization(req), operationName);
+        if (permit.isImmediate()) {
+            executeHttpAsyncAttempt(req, mandatory, attempt, start, result, span, Duration.ZERO);
+            return;
+        }
+        permit.beginWait();
+        SchedulerHolder.SCHEDULER.schedule(() -> {
+            permit.endWait();
+            executeHttpAsyncAttempt(req, mandatory, attempt, start, result, span, Duration.ofNanos(permit.getWaitNanos()));
+        }, permit.getWaitNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Send one attempt on the non-blocking client, the next attempt is scheduled if the retry policy allows it.
+     *
+     * @param req
+     *      current request
+     * @param mandatory
+     *      mandatory
+     * @param attempt
+     *      current attempt number, starting at 1
+     * @param start
+     *      start of the first attempt in nanoseconds
+     * @param result
+     *      future to complete
+     * @param span
+     *      span of the exchange, null when not traced
+     * @param rateLimitWait
+     *      time spent waiting for a rate limiter permit
+     */
+    private void executeHttpAsyncAttempt(TransportRequest req, boolean mandatory, int attempt, long start, CompletableFuture<ApiResponseHttp> result, ApiSpan span, Duration rateLimitWait) {
+
+        // Execution Infos, only captured when observers are registered
+        final ApiExecutionInfos.ApiExecutionInfoBuilder executionInfo = newExecutionInfo(attempt, rateLimitWait)
+                .withHttpRequest(req);
+        final RetryPolicy retryPolicy = config.getRetryPolicy();
+        final AdaptiveConcurrencyLimiter limiter = concurrencyLimiters.forHost(req.getHost());
+
+        final RequestTimings timings = executionInfo.getTimings();
+
+        limiter.acquireAsync(() -> {
+            final long sent = System.nanoTime();
+            try {
+                transport.executeAsync(req, timings).whenComplete((res, error) -> {
+                    if (error instanceof CancellationException) {
+                        limiter.release(sent, false);
+                        result.cancel(false);
+                        return;
+                    }
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        limiter.release(sent, true);
+                        traceAttempt(span, attempt, 0, timings);
+                        Optional<Duration> retryDelay = cause instanceof Exception
+                                ? retryPolicy.getRetryDelay(req.getMethod(), (Exception) cause, attempt, elapsedSince(start))
+                                : Optional.empty();
+                        if (retryDelay.isPresent()) {
+                            LOGGER.warn("Request {} {} failed with '{}' (attempt {}), retrying in {} ms",
+                                    req.getMethod(), req.getUrl(), cause.getMessage(), attempt, retryDelay.get().toMillis());
+                            executionInfo.withRetryDelay(retryDelay.get());
+                            scheduleRetry(req, mandatory, attempt, start, result, span, retryDelay.get());
+                        } else {
+                            result.completeExceptionally(new RuntimeException("Error in HTTP Request: " + cause.getMessage(), cause));
+                        }
+                        notifyObservers(executionInfo);
+                        return;
+                    }
+                    limiter.release(sent, isOverload(res.getCode()));
+                    try {
+                        if (timings != null) {
+                            res.setTimings(timings);
+                        }
+                        traceAttempt(span, attempt, res.getCode(), timings);
+                        Optional<Duration> retryDelay = retryPolicy.getRetryDelay(req.getMethod(), res, attempt, elapsedSince(start));
+                        if (retryDelay.isPresent()) {
+                            LOGGER.warn("Request {} {} returned code={} (attempt {}), retrying in {} ms",
+                                    req.getMethod(), req.getUrl(), res.getCode(), attempt, retryDelay.get().toMillis());
+                            executionInfo.withRetryDelay(retryDelay.get()).withHttpResponse(res);
+                            scheduleRetry(req, mandatory, attempt, start, result, span, retryDelay.get());
+                            return;
+                        }
+                        if (res.getCode() >= 300 && HttpURLConnection.HTTP_NOT_MODIFIED != res.getCode()
+                                && !(HttpURLConnection.HTTP_NOT_FOUND == res.getCode() && !mandatory)) {
+                            String entity = req.getBody();
+                            executionInfo.withRequestPayload(entity).withHttpResponse(res);
+                            processErrors(req.getUrl(), req.getMethod(), entity != null ? entity : "n/a", res, mandatory);
+                        }
+                        executionInfo.withHttpResponse(res);
+                        result.complete(res);
+                    } catch (RuntimeException e) {
+                        result.completeExceptionally(e);
+                    } finally {
+                        notifyObservers(executionInfo);
+                    }
+                });
+            } catch (RuntimeException e) {
+                limiter.release(sent, false);
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Schedule the next attempt of a non-blocking request without holding a thread.
+     *
+     * @param req
+     *      current request
+     * @param mandatory
+     *      mandatory
+     * @param attempt
+     *      attempt which failed
+     * @param start
+     *      start of the first attempt in nanoseconds
+     * @param result
+     *      future to complete
+     * @param span
+     *      span of the exchange, null when not traced
+     * @param delay
+     *      delay before the next attempt
+     */
+    private void scheduleRetry(TransportRequest req, boolean mandatory, int attempt, long start, CompletableFuture<ApiResponseHttp> result, ApiSpan span, Duration delay) {
+        if (result.isDone()) {
+            return;
+        }
+        SchedulerHolder.SCHEDULER.schedule(
+                () -> executeHttpAsyncAttempt(req, mandatory, attempt + 1, start, result, span),
+                delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Time spent since a start expressed in nanoseconds.
+     *
+     * @param start
+     *      start from {@link System#nanoTime()}
+     * @return
+     *      elapsed time
+     */
+    private static Duration elapsedSince(long start) {
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Initialize an HTTP request for the transport.
+     *
      * @param method
      *      http Method
      * @param url
      *      target URL
      * @param token
      *      current token
+     * @param body
+     *      request body
+     * @param contentType
+     *      request content type
      * @return
      *      default http with header
      */
-    private HttpUriRequestBase buildRequest(final Method method, final String url, final String token, String body, String contentType) {
-        HttpUriRequestBase req;
-        switch(method) {
-            case GET:    req = new HttpGet(url);    break;
-            case POST:   req = new HttpPost(url);   break;
-            case PUT:    req = new HttpPut(url);    break;
-            case DELETE: req = new HttpDelete(url); break;
-            case PATCH:  req = new HttpPatch(url);  break;
-            case HEAD:   req = new HttpHead(url);   break;
-            case TRACE:  req = new HttpTrace(url);  break;
-            case OPTIONS:
-            case CONNECT:
-            default:throw new IllegalArgumentException("Invalid HTTP Method");
-        }
-        req.addHeader(HEADER_CONTENT_TYPE, contentType);
-        req.addHeader(HEADER_ACCEPT, CONTENT_TYPE_JSON);
-        req.addHeader(HEADER_USER_AGENT, REQUEST_WITH);
-        req.addHeader(HEADER_REQUESTED_WITH, REQUEST_WITH);
-        req.addHeader(HEADER_AUTHORIZATION, "Bearer " + token);
-        req.setConfig(requestConfig);
-        if (null != body) {
-            req.setEntity(new StringEntity(body, ContentType.TEXT_PLAIN));
+    private TransportRequest buildRequest(final Method method, final String url, final String token, String body, String contentType) {
+        if (Method.OPTIONS == method || Method.CONNECT == method) {
+            throw new IllegalArgumentException("Invalid HTTP Method");
         }
-        return req;
+        return new TransportRequest(method.name(), url, body)
+                .addHeader(HEADER_CONTENT_TYPE, contentType)
+                .addHeader(HEADER_ACCEPT, CONTENT_TYPE_JSON)
+                .addHeader(HEADER_USER_AGENT, REQUEST_WITH)
+                .addHeader(HEADER_REQUESTED_WITH, REQUEST_WITH)
+                .addHeader(HEADER_AUTHORIZATION, "Bearer " + token);
+    }
+
+    /**
+     * Log the failing exchange and process the error.
+     *
+     * @param url
+     *      request url
+     * @param method
+     *      request method
+     * @param requestBody
+     *      request body
+     * @param res
+     *      http response
+     * @param mandatory
+     *      should a 404 raise an error
+     */
+    private void processErrors(String url, String method, String requestBody, ApiResponseHttp res, boolean mandatory) {
+        LOGGER.error("Error for request, url={}, method={}, body={}", url, method, requestBody);
+        LOGGER.error("Response  code={}, body={}", res.getCode(), res.getBody());
+        processErrors(res, mandatory);
+        LOGGER.error("An HTTP Error occurred. The HTTP CODE Return is {}", res.getCode());
     }
 
     /**
@@ -506,9 +1397,11 @@ public class HttpClientWrapper {
      *      name of the observer
      * @param observer
      *     observer to register
+     * @deprecated observers are scoped to a {@link HttpClientWrapper}, use {@link #getObserverRegistry()}.
      */
+    @Deprecated
     public static void registerObserver(String name, ApiRequestObserver observer) {
-        observers.put(name, observer);
+        getInstance().getObserverRegistry().register(name, observer);
     }
 
     /**
@@ -516,11 +1409,11 @@ public class HttpClientWrapper {
      *
      * @param observers
      *     observer sto register
+     * @deprecated observers are scoped to a {@link HttpClientWrapper}, use {@link #getObserverRegistry()}.
      */
+    @Deprecated
     public static void registerObservers(Map<String, ApiRequestObserver> observers) {
-        if (observers != null) {
-            observers.forEach(HttpClientWrapper::registerObserver);
-        }
+        getInstance().getObserverRegistry().registerAll(observers);
     }
 
     /**
@@ -528,7 +1421,9 @@ public class HttpClientWrapper {
      *
      * @param observer
      *      command observer
+     * @deprecated observers are scoped to a {@link HttpClientWrapper}, use {@link #getObserverRegistry()}.
      */
+    @Deprecated
     public static void registerObserver(ApiRequestObserver observer) {
         registerObserver(observer.getClass().getSimpleName(), observer);
     }
@@ -538,9 +1433,11 @@ public class HttpClientWrapper {
      *
      * @param name
      *      name of the observer
+     * @deprecated observers are scoped to a {@link HttpClientWrapper}, use {@link #getObserverRegistry()}.
      */
+    @Deprecated
     public static void unregisterObserver(String name) {
-        observers.remove(name);
+        getInstance().getObserverRegistry().unregister(name);
     }
 
     /**
@@ -548,25 +1445,101 @@ public class HttpClientWrapper {
      *
      * @param observer
      *      observer to remove
+     * @deprecated observers are scoped to a {@link HttpClientWrapper}, use {@link #getObserverRegistry()}.
      */
+    @Deprecated
     public static void unregisterObserver(Class<ApiRequestObserver> observer) {
         unregisterObserver(observer.getSimpleName());
     }
 
     /**
-     * Asynchronously send calls to listener for tracing.
+     * Open the span of an exchange and propagate the trace context in the request headers.
      *
-     * @param lambda
-     *      operations to execute
-     * @param observers
-     *      list of observers to check
+     * @param tracer
+     *      configured tracer
+     * @param req
+     *      current request
+     * @return
+     *      span of the exchange
+     */
+    private ApiSpan startRequestSpan(ApiTracer tracer, TransportRequest req) {
+        String url      = req.getUrl();
+        String template = ApiTracer.urlTemplate(url);
+        // Span named after the path template, the host is an attribute
+        int hostEnd = template.indexOf('/', template.indexOf("://") + 3);
+        ApiSpan span = tracer.startClientSpan(req.getMethod() + " " + (hostEnd > 0 ? template.substring(hostEnd) : template))
+                .setAttribute(SPAN_OPERATION, operationName)
+                .setAttribute(SPAN_HTTP_METHOD, req.getMethod())
+                .setAttribute(SPAN_URL_FULL, url)
+                .setAttribute(SPAN_URL_TEMPLATE, template);
+        if (req.getHost() != null) {
+            span.setAttribute(SPAN_SERVER_ADDRESS, req.getHost());
+        }
+        span.injectHeaders(req::setHeader);
+        return span;
+    }
+
+    /**
+     * Record the outcome of an attempt on the span of the exchange, the last attempt wins.
+     *
+     * @param span
+     *      span of the exchange, null when not traced
+     * @param attempt
+     *      attempt number, starting at 1
+     * @param code
+     *      http status, 0 when no response was received
+     * @param timings
+     *      phase timings of the attempt
+     */
+    private static void traceAttempt(ApiSpan span, int attempt, int code, RequestTimings timings) {
+        if (span == null) {
+            return;
+        }
+        if (attempt > 1) {
+            span.setAttribute(SPAN_RESEND_COUNT, attempt - 1);
+        }
+        if (code > 0) {
+            span.setAttribute(SPAN_STATUS_CODE, code);
+        }
+        if (timings != null) {
+            timings.getPoolLease().ifPresent(d -> span.setAttribute(SPAN_TIMING_PREFIX + "pool_lease_us", d.toNanos() / 1000));
+            timings.getConnect().ifPresent(d -> span.setAttribute(SPAN_TIMING_PREFIX + "connect_us", d.toNanos() / 1000));
+            timings.getTimeToFirstByte().ifPresent(d -> span.setAttribute(SPAN_TIMING_PREFIX + "time_to_first_byte_us", d.toNanos() / 1000));
+            timings.getBodyRead().ifPresent(d -> span.setAttribute(SPAN_TIMING_PREFIX + "body_read_us", d.toNanos() / 1000));
+        }
+    }
+
+    /**
+     * Start the execution information of an attempt. Without observers a shared builder ignoring every call is
+     * returned, request headers and bodies are neither copied nor referenced.
+     *
+     * @param attempt
+     *      attempt number, starting at 1
+     * @param rateLimitWait
+     *      time spent waiting for a rate limiter permit
+     * @return
+     *      execution information builder
+     */
+    private ApiExecutionInfos.ApiExecutionInfoBuilder newExecutionInfo(int attempt, Duration rateLimitWait) {
+        if (observerRegistry.isEmpty() && !config.getTracer().isEnabled()) {
+            return ApiExecutionInfos.disabled();
+        }
+        return ApiExecutionInfos.builder()
+                .withOperationName(operationName)
+                .withBodyCapture(config.getObserverBodyCapture())
+                .withAttempt(attempt)
+                .withRateLimitWait(rateLimitWait);
+    }
+
+    /**
+     * Queue the execution information for the observers, nothing is built when no observer is registered.
      *
+     * @param executionInfo
+     *      execution information of the attempt
      */
-    private void notifyASync(Consumer<ApiRequestObserver> lambda, Collection<ApiRequestObserver> observers) {
-        if (observers != null) {
-            CompletableFutures.allDone(observers.stream()
-                    .map(l -> CompletableFuture.runAsync(() -> lambda.accept(l)))
-                    .collect(Collectors.toList()));
+    private void notifyObservers(ApiExecutionInfos.ApiExecutionInfoBuilder executionInfo) {
+        if (executionInfo.isEnabled() && !observerRegistry.isEmpty()) {
+            observerDispatcher.publish(executionInfo.build(), observerRegistry.getObservers());
         }
     }
 
@@ -1,5 +1,8 @@
 package com.dtsx.astra.sdk.utils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.UUID;
 
 /**
@@ -7,6 +10,12 @@ import java.util.UUID;
  */
 public class IdUtils {
 
+    /** Bytes of the SHA-256 digest kept in a fingerprint. */
+    private static final int FINGERPRINT_BYTES = 16;
+
+    /** Hexadecimal digits. */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
     /** Hide constructor. */
     private IdUtils() {}
 
@@ -26,4 +35,31 @@ public class IdUtils {
         }
         return true;
     }
+
+    /**
+     * Identify a token without exposing it, to key limiters, caches and indexes. The fingerprint is the first
+     * 128 bits of the SHA-256 digest of the token, collisions between tokens are not a practical concern.
+     *
+     * @param token
+     *      token
+     * @return
+     *      fingerprint as 32 hexadecimal digits, <code>none</code> for a null token
+     */
+    public static String fingerprint(String token) {
+        if (token == null) {
+            return "none";
+        }
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        char[] hex = new char[FINGERPRINT_BYTES * 2];
+        for (int i = 0; i < FINGERPRINT_BYTES; i++) {
+            hex[2 * i]     = HEX[(digest[i] >> 4) & 0xF];
+            hex[2 * i + 1] = HEX[digest[i] & 0xF];
+        }
+        return new String(hex);
+    }
 }
@@ -0,0 +1,106 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Immutable list of catalog items indexed by name, names are compared ignoring case.
+ *
+ * <p>A catalog is cached and read by many callers, mutable items are handed out as copies so that a caller
+ * modifying an item does not change what the others see.</p>
+ *
+ * @param <T>
+ *      type of items
+ */
+public final class IndexedCatalog<T> {
+
+    /** Items in the order returned by the API. */
+    private final List<T> items;
+
+    /** Items by lower case name, the first item wins on duplicates. */
+    private final Map<String, T> itemsByName;
+
+    /** Copy an item before handing it out. */
+    private final UnaryOperator<T> copier;
+
+    /**
+     * Build the catalog of immutable items, they are handed out as is.
+     *
+     * @param items
+     *      items returned by the API
+     * @param nameMapper
+     *      extract the name of an item
+     */
+    public IndexedCatalog(List<T> items, Function<T, String> nameMapper) {
+        this(items, nameMapper, UnaryOperator.identity());
+    }
+
+    /**
+     * Build the catalog and its index.
+     *
+     * @param items
+     *      items returned by the API
+     * @param nameMapper
+     *      extract the name of an item
+     * @param copier
+     *      copy an item before handing it out, for instance {@link JsonUtils#copy(Object)}
+     */
+    public IndexedCatalog(List<T> items, Function<T, String> nameMapper, UnaryOperator<T> copier) {
+        Assert.notNull(items, "items");
+        Assert.notNull(nameMapper, "nameMapper");
+        Assert.notNull(copier, "copier");
+        Map<String, T> index = new HashMap<>();
+        for (T item : items) {
+            String name = nameMapper.apply(item);
+            if (name != null) {
+                index.putIfAbsent(name.toLowerCase(Locale.ROOT), item);
+            }
+        }
+        this.items       = Collections.unmodifiableList(new ArrayList<>(items));
+        this.itemsByName = Collections.unmodifiableMap(index);
+        this.copier      = copier;
+    }
+
+    /**
+     * Access the items.
+     *
+     * @return
+     *      immutable list of items, copied for the caller
+     */
+    public List<T> getItems() {
+        return Collections.unmodifiableList(stream().collect(Collectors.toList()));
+    }
+
+    /**
+     * Stream the items.
+     *
+     * @return
+     *      items, copied for the caller
+     */
+    public Stream<T> stream() {
+        return items.stream().map(copier);
+    }
+
+    /**
+     * Find an item by its name ignoring case.
+     *
+     * @param name
+     *      item name
+     * @return
+     *      item if present, copied for the caller
+     */
+    public Optional<T> findByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(itemsByName.get(name.toLowerCase(Locale.ROOT)))
+                .map(copier);
+    }
+
+}
@@ -24,6 +24,9 @@ import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.Collection;
 import java.util.Map;
@@ -211,6 +214,28 @@ public class JsonUtils {
             throw new RuntimeException("Cannot marshall object " + o, e);
         } 
     }
+
+    /**
+     * Deep copy of a bean through its JSON tree, to hand out cached objects without sharing them between callers.
+     *
+     * @param <T>
+     *      parameter
+     * @param bean
+     *      object to copy
+     * @return
+     *      copy of the object, null for null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(T bean) {
+        if (bean == null) {
+            return null;
+        }
+        try {
+            return (T) getObjectMapper().treeToValue(getObjectMapper().valueToTree(bean), bean.getClass());
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new RuntimeException("Cannot copy object " + bean, e);
+        }
+    }
     
     /**
      * Load body as expected object.
@@ -255,4 +280,70 @@ public class JsonUtils {
             throw new RuntimeException("Cannot unmarshall object " + body, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Load a response body as expected object, the raw bytes are parsed without creating a String.
+     * Every call decodes new objects, they are never shared between callers.
+     *
+     * @param <T>
+     *      parameter
+     * @param res
+     *      http response
+     * @param ref
+     *      type Reference to map the result
+     * @return
+     *      expected object
+     */
+    public static <T> T unmarshallType(ApiResponseHttp res, TypeReference<T> ref) {
+        try {
+            long start = System.nanoTime();
+            T value = getObjectMapper().readValue(openBody(res), ref);
+            res.recordDeserialization(System.nanoTime() - start);
+            return value;
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot unmarshall object " + res.getBody(), e);
+        }
+    }
+
+    /**
+     * Load a response body as expected object, the raw bytes are parsed without creating a String.
+     * Every call decodes new objects, they are never shared between callers.
+     *
+     * @param <T>
+     *      parameter
+     * @param res
+     *      http response
+     * @param ref
+     *      type Reference to map the result
+     * @return
+     *       expected objects
+     */
+    public static <T> T unmarshallBean(ApiResponseHttp res, Class<T> ref) {
+        try {
+            long start = System.nanoTime();
+            T value = getObjectMapper().readValue(openBody(res), ref);
+            res.recordDeserialization(System.nanoTime() - start);
+            return value;
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot unmarshall object " + res.getBody(), e);
+        }
+    }
+
+    /**
+     * Open a parser on the response body, UTF-8 bytes are parsed directly and other charsets are decoded
+     * with a reader.
+     *
+     * @param res
+     *      http response
+     * @return
+     *      body parser
+     * @throws IOException
+     *      parser cannot be created
+     */
+    private static JsonParser openBody(ApiResponseHttp res) throws IOException {
+        if (StandardCharsets.UTF_8.equals(res.getCharset())) {
+            return getObjectMapper().getFactory().createParser(res.getBodyAsStream());
+        }
+        return getObjectMapper().getFactory().createParser(new InputStreamReader(res.getBodyAsStream(), res.getCharset()));
+    }
+}
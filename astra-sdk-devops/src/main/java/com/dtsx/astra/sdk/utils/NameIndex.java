@@ -0,0 +1,125 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Index resolving names to identifiers (databases, tenants) without downloading the whole inventory on
+ * each lookup.
+ *
+ * <p>Indexes are shared by all the clients working with the same environment and token. The content expires
+ * after a TTL, a missing name triggers a refresh (at most once per {@link #MIN_REFRESH_INTERVAL}) and the
+ * clients invalidate the index when they create or delete an object.</p>
+ */
+public class NameIndex {
+
+    /** Default time to live of the index. */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    /** A missing name does not trigger a refresh if the index is more recent than this. */
+    public static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+    /** Indexes by key. */
+    private static final Map<String, NameIndex> INDEXES = new ConcurrentHashMap<>();
+
+    /** Time to live of the content. */
+    private final Duration ttl;
+
+    /** Identifiers by name, immutable snapshot. */
+    private volatile Map<String, Set<String>> entries;
+
+    /** Load time of the snapshot in nanoseconds. */
+    private volatile long loadedAt;
+
+    /**
+     * Create an index.
+     *
+     * @param ttl
+     *      time to live of the content
+     */
+    public NameIndex(Duration ttl) {
+        Assert.notNull(ttl, "ttl");
+        this.ttl = ttl;
+    }
+
+    /**
+     * Access the index shared for a key.
+     *
+     * @param type
+     *      type of object indexed (db, tenant)
+     * @param env
+     *      target environment
+     * @param token
+     *      authentication token
+     * @return
+     *      shared index
+     */
+    public static NameIndex getInstance(String type, AstraEnvironment env, String token) {
+        return INDEXES.computeIfAbsent(type + ":" + env + ":" + IdUtils.fingerprint(token), k -> new NameIndex(DEFAULT_TTL));
+    }
+
+    /**
+     * Resolve a name, the index is loaded when expired or when the name is missing.
+     *
+     * @param name
+     *      name to resolve
+     * @param loader
+     *      load the whole index from the API
+     * @return
+     *      identifiers for the name, empty if the name does not exist
+     */
+    public Optional<Set<String>> lookup(String name, Supplier<Map<String, Set<String>>> loader) {
+        Map<String, Set<String>> snapshot = entries;
+        if (snapshot != null && !isExpired(ttl)) {
+            Set<String> ids = snapshot.get(name);
+            if (ids != null || !isExpired(MIN_REFRESH_INTERVAL)) {
+                return Optional.ofNullable(ids);
+            }
+        }
+        synchronized (this) {
+            // Another thread may have refreshed the index in the meantime
+            if (entries == snapshot || entries == null) {
+                load(loader.get());
+            }
+            return Optional.ofNullable(entries.get(name));
+        }
+    }
+
+    /**
+     * Replace the content of the index.
+     *
+     * @param content
+     *      identifiers by name
+     */
+    public synchronized void load(Map<String, Set<String>> content) {
+        Assert.notNull(content, "content");
+        this.entries  = Collections.unmodifiableMap(new HashMap<>(content));
+        this.loadedAt = System.nanoTime();
+    }
+
+    /**
+     * Drop the content, next lookup will reload the index.
+     */
+    public synchronized void invalidate() {
+        this.entries = null;
+    }
+
+    /**
+     * Check the age of the content.
+     *
+     * @param maxAge
+     *      maximum age
+     * @return
+     *      if the content is older
+     */
+    private boolean isExpired(Duration maxAge) {
+        return System.nanoTime() - loadedAt > maxAge.toNanos();
+    }
+
+}
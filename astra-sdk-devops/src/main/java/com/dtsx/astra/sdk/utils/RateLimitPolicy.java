@@ -0,0 +1,215 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Request rates allowed by the client for a token, per operation name (<code>db.search</code>,
+ * <code>streaming.tenants.find</code>...) and for all operations of the token.
+ *
+ * <p>Limits are not set by default, the client sends requests as fast as they are issued.</p>
+ */
+public class RateLimitPolicy {
+
+    /** Policy without limits. */
+    public static final RateLimitPolicy NONE = builder().build();
+
+    /** Limit for each operation without a specific limit, per token. */
+    private final Limit defaultOperationLimit;
+
+    /** Limits for named operations, per token. */
+    private final Map<String, Limit> operationLimits;
+
+    /** Limit shared by all operations of a token. */
+    private final Limit tokenLimit;
+
+    /**
+     * Constructor with the builder.
+     *
+     * @param builder
+     *      current builder.
+     */
+    private RateLimitPolicy(RateLimitPolicyBuilder builder) {
+        this.defaultOperationLimit = builder.defaultOperationLimit;
+        this.operationLimits       = Collections.unmodifiableMap(new HashMap<>(builder.operationLimits));
+        this.tokenLimit            = builder.tokenLimit;
+    }
+
+    /**
+     * Helper to create a builder.
+     *
+     * @return
+     *      an instance of the builder
+     */
+    public static RateLimitPolicyBuilder builder() {
+        return new RateLimitPolicyBuilder();
+    }
+
+    /**
+     * Check if at least one limit is defined.
+     *
+     * @return
+     *      if requests are limited
+     */
+    public boolean isEnabled() {
+        return tokenLimit != null || defaultOperationLimit != null || !operationLimits.isEmpty();
+    }
+
+    /**
+     * Limit applying to an operation.
+     *
+     * @param operationName
+     *      name of the operation
+     * @return
+     *      specific limit or the default operation limit if any
+     */
+    public Optional<Limit> getOperationLimit(String operationName) {
+        Limit limit = operationLimits.get(operationName);
+        return Optional.ofNullable(limit != null ? limit : defaultOperationLimit);
+    }
+
+    /**
+     * Limit shared by all operations of a token.
+     *
+     * @return
+     *      token limit if any
+     */
+    public Optional<Limit> getTokenLimit() {
+        return Optional.ofNullable(tokenLimit);
+    }
+
+    /**
+     * Rate and burst of a limit.
+     */
+    public static class Limit {
+
+        /** Permits issued per second. */
+        private final double permitsPerSecond;
+
+        /** Maximum number of permits stored. */
+        private final int burst;
+
+        /**
+         * Full constructor.
+         *
+         * @param permitsPerSecond
+         *      permits issued per second
+         * @param burst
+         *      maximum number of permits stored
+         */
+        public Limit(double permitsPerSecond, int burst) {
+            Assert.isTrue(permitsPerSecond > 0, "permitsPerSecond");
+            Assert.isTrue(burst > 0, "burst");
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst            = burst;
+        }
+
+        /**
+         * Create a token bucket for this limit.
+         *
+         * @return
+         *      new limiter
+         */
+        public RateLimiter newRateLimiter() {
+            return new RateLimiter(permitsPerSecond, burst);
+        }
+
+        /**
+         * Getter accessor for attribute 'permitsPerSecond'.
+         *
+         * @return
+         *       current value of 'permitsPerSecond'
+         */
+        public double getPermitsPerSecond() {
+            return permitsPerSecond;
+        }
+
+        /**
+         * Getter accessor for attribute 'burst'.
+         *
+         * @return
+         *       current value of 'burst'
+         */
+        public int getBurst() {
+            return burst;
+        }
+    }
+
+    /**
+     * Builder.
+     */
+    public static class RateLimitPolicyBuilder {
+        /** */
+        private Limit defaultOperationLimit;
+        /** */
+        private final Map<String, Limit> operationLimits = new HashMap<>();
+        /** */
+        private Limit tokenLimit;
+
+        /**
+         * Default constructor.
+         */
+        public RateLimitPolicyBuilder() {}
+
+        /**
+         * Define the limit shared by all operations of a token.
+         *
+         * @param permitsPerSecond
+         *      requests per second
+         * @param burst
+         *      requests allowed at once after an idle period
+         * @return
+         *      this instance.
+         */
+        public RateLimitPolicyBuilder tokenLimit(double permitsPerSecond, int burst) {
+            this.tokenLimit = new Limit(permitsPerSecond, burst);
+            return this;
+        }
+
+        /**
+         * Define the limit of operations without a specific limit.
+         *
+         * @param permitsPerSecond
+         *      requests per second
+         * @param burst
+         *      requests allowed at once after an idle period
+         * @return
+         *      this instance.
+         */
+        public RateLimitPolicyBuilder defaultOperationLimit(double permitsPerSecond, int burst) {
+            this.defaultOperationLimit = new Limit(permitsPerSecond, burst);
+            return this;
+        }
+
+        /**
+         * Define the limit of an operation.
+         *
+         * @param operationName
+         *      name of the operation, e.g. <code>db.search</code>
+         * @param permitsPerSecond
+         *      requests per second
+         * @param burst
+         *      requests allowed at once after an idle period
+         * @return
+         *      this instance.
+         */
+        public RateLimitPolicyBuilder operationLimit(String operationName, double permitsPerSecond, int burst) {
+            Assert.hasLength(operationName, "operationName");
+            this.operationLimits.put(operationName, new Limit(permitsPerSecond, burst));
+            return this;
+        }
+
+        /**
+         * Build the immutable instance.
+         *
+         * @return
+         *      an instance of the policy
+         */
+        public RateLimitPolicy build() {
+            return new RateLimitPolicy(this);
+        }
+    }
+
+}
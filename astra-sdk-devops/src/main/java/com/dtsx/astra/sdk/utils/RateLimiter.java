@@ -0,0 +1,164 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket limiting the number of requests per second sent to the Devops API.
+ *
+ * <p>Callers reserve a permit and are told how long to wait before sending their request. Reservations are
+ * granted in arrival order, callers are queued instead of being rejected. Unused permits are stored up to
+ * the burst size.</p>
+ */
+public class RateLimiter {
+
+    /** Permits issued per second. */
+    private final double permitsPerSecond;
+
+    /** Maximum number of permits stored when the limiter is idle. */
+    private final int burst;
+
+    /** Interval between two permits in nanoseconds. */
+    private final double intervalNanos;
+
+    /** Permits available right now. */
+    private double storedPermits;
+
+    /** Instant, in nanoseconds, when the next permit can be issued. */
+    private long nextFreeNanos;
+
+    /** Callers currently waiting for a permit. */
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    /** Permits granted. */
+    private final LongAdder acquiredCount = new LongAdder();
+
+    /** Permits granted after a wait. */
+    private final LongAdder throttledCount = new LongAdder();
+
+    /** Time spent waiting for permits in nanoseconds. */
+    private final LongAdder totalWaitNanos = new LongAdder();
+
+    /**
+     * Create a limiter, the bucket starts full.
+     *
+     * @param permitsPerSecond
+     *      permits issued per second
+     * @param burst
+     *      maximum number of permits stored
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        Assert.isTrue(permitsPerSecond > 0, "permitsPerSecond");
+        Assert.isTrue(burst > 0, "burst");
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst            = burst;
+        this.intervalNanos    = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.storedPermits    = burst;
+        this.nextFreeNanos    = System.nanoTime();
+    }
+
+    /**
+     * Reserve a permit.
+     *
+     * @return
+     *      time to wait, in nanoseconds, before using the permit
+     */
+    public synchronized long reserve() {
+        long now = System.nanoTime();
+        if (now > nextFreeNanos) {
+            storedPermits = Math.min(burst, storedPermits + (now - nextFreeNanos) / intervalNanos);
+            nextFreeNanos = now;
+        }
+        acquiredCount.increment();
+        if (storedPermits >= 1) {
+            storedPermits -= 1;
+            return 0;
+        }
+        // Queue behind the callers already waiting
+        nextFreeNanos += (long) ((1 - storedPermits) * intervalNanos);
+        storedPermits = 0;
+        return nextFreeNanos - now;
+    }
+
+    /**
+     * Signal a caller started waiting for a reserved permit.
+     */
+    void beginWait() {
+        queueDepth.incrementAndGet();
+    }
+
+    /**
+     * Signal a caller stopped waiting for a reserved permit.
+     *
+     * @param waitNanos
+     *      time spent waiting in nanoseconds
+     */
+    void endWait(long waitNanos) {
+        queueDepth.decrementAndGet();
+        throttledCount.increment();
+        totalWaitNanos.add(waitNanos);
+    }
+
+    /**
+     * Getter accessor for attribute 'permitsPerSecond'.
+     *
+     * @return
+     *       current value of 'permitsPerSecond'
+     */
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Getter accessor for attribute 'burst'.
+     *
+     * @return
+     *       current value of 'burst'
+     */
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * Number of callers currently queued.
+     *
+     * @return
+     *       current queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Number of permits granted.
+     *
+     * @return
+     *       permits granted since creation
+     */
+    public long getAcquiredCount() {
+        return acquiredCount.sum();
+    }
+
+    /**
+     * Number of permits granted after a wait.
+     *
+     * @return
+     *       throttled requests since creation
+     */
+    public long getThrottledCount() {
+        return throttledCount.sum();
+    }
+
+    /**
+     * Time spent by callers waiting for a permit.
+     *
+     * @return
+     *       cumulated wait time since creation
+     */
+    public Duration getTotalWaitTime() {
+        return Duration.ofNanos(totalWaitNanos.sum());
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiters of a {@link HttpClientWrapper}, created on first use for each token and operation name.
+ *
+ * <p>Limiters are shared by all the clients using the same wrapper, which is the case of every client created
+ * without an explicit {@link HttpClientWrapper}. Tokens never appear in the limiter names, a fingerprint is used.</p>
+ */
+public class RateLimiterRegistry {
+
+    /** Limits. */
+    private final RateLimitPolicy policy;
+
+    /** Limiters by name. */
+    private final Map<String, RateLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Create the registry.
+     *
+     * @param policy
+     *      limits to apply
+     */
+    public RateLimiterRegistry(RateLimitPolicy policy) {
+        Assert.notNull(policy, "policy");
+        this.policy = policy;
+    }
+
+    /**
+     * Reserve a permit for a request, in the limiter of the token and the limiter of the operation.
+     *
+     * @param token
+     *      token used for the request
+     * @param operationName
+     *      name of the operation
+     * @return
+     *      permit to wait for
+     */
+    public Permit reserve(String token, String operationName) {
+        if (!policy.isEnabled()) {
+            return Permit.IMMEDIATE;
+        }
+        String tokenKey = "token:" + IdUtils.fingerprint(token);
+        List<RateLimiter> waitingOn = new ArrayList<>(2);
+        long waitNanos = 0;
+        Optional<RateLimitPolicy.Limit> tokenLimit = policy.getTokenLimit();
+        if (tokenLimit.isPresent()) {
+            RateLimiter limiter = limiters.computeIfAbsent(tokenKey, k -> tokenLimit.get().newRateLimiter());
+            long wait = limiter.reserve();
+            if (wait > 0) {
+                waitingOn.add(limiter);
+                waitNanos = wait;
+            }
+        }
+        Optional<RateLimitPolicy.Limit> operationLimit = policy.getOperationLimit(operationName);
+        if (operationLimit.isPresent()) {
+            RateLimiter limiter = limiters.computeIfAbsent(tokenKey + "/op:" + operationName,
+                    k -> operationLimit.get().newRateLimiter());
+            long wait = limiter.reserve();
+            if (wait > 0) {
+                waitingOn.add(limiter);
+                waitNanos = Math.max(waitNanos, wait);
+            }
+        }
+        return waitingOn.isEmpty() ? Permit.IMMEDIATE : new Permit(waitNanos, waitingOn);
+    }
+
+    /**
+     * Access the limiters, keyed by <code>token:{fingerprint}</code> and
+     * <code>token:{fingerprint}/op:{operationName}</code>, to collect wait time and queue depth.
+     *
+     * @return
+     *      limiters created so far
+     */
+    public Map<String, RateLimiter> getRateLimiters() {
+        return Collections.unmodifiableMap(new TreeMap<>(limiters));
+    }
+
+    /**
+     * Permit reserved for one request.
+     */
+    public static final class Permit {
+
+        /** Permit usable right now. */
+        static final Permit IMMEDIATE = new Permit(0, Collections.emptyList());
+
+        /** Time to wait in nanoseconds. */
+        private final long waitNanos;
+
+        /** Limiters which delayed the permit. */
+        private final List<RateLimiter> waitingOn;
+
+        /**
+         * Full constructor.
+         *
+         * @param waitNanos
+         *      time to wait in nanoseconds
+         * @param waitingOn
+         *      limiters which delayed the permit
+         */
+        private Permit(long waitNanos, List<RateLimiter> waitingOn) {
+            this.waitNanos = waitNanos;
+            this.waitingOn = waitingOn;
+        }
+
+        /**
+         * Check if the request can be sent immediately.
+         *
+         * @return
+         *      if no wait is needed
+         */
+        public boolean isImmediate() {
+            return waitNanos <= 0;
+        }
+
+        /**
+         * Getter accessor for attribute 'waitNanos'.
+         *
+         * @return
+         *       current value of 'waitNanos'
+         */
+        public long getWaitNanos() {
+            return waitNanos;
+        }
+
+        /**
+         * Block the current thread until the permit can be used.
+         *
+         * @throws InterruptedException
+         *      thread interrupted while waiting
+         */
+        public void await() throws InterruptedException {
+            if (isImmediate()) {
+                return;
+            }
+            beginWait();
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } finally {
+                endWait();
+            }
+        }
+
+        /**
+         * Signal the request is queued, for callers waiting without blocking a thread.
+         */
+        public void beginWait() {
+            waitingOn.forEach(RateLimiter::beginWait);
+        }
+
+        /**
+         * Signal the request left the queue.
+         */
+        public void endWait() {
+            waitingOn.forEach(l -> l.endWait(waitNanos));
+        }
+    }
+
+}
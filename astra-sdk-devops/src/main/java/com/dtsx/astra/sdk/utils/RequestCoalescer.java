@@ -0,0 +1,176 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single flight for identical requests: while a request is in flight, callers sending the same request (same key)
+ * attach to it instead of sending their own. Once the response is received the key is released, the next caller
+ * sends a new request, nothing is cached.
+ *
+ * <p>Blocking and non-blocking callers share the same requests in flight.</p>
+ */
+public class RequestCoalescer {
+
+    /** Requests in flight by key. */
+    private final Map<String, CompletableFuture<ApiResponseHttp>> inFlight = new ConcurrentHashMap<>();
+
+    /** Requests sent. */
+    private final AtomicLong executedCount = new AtomicLong();
+
+    /** Callers served by a request sent by another caller. */
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * Default constructor.
+     */
+    public RequestCoalescer() {}
+
+    /**
+     * Build the key of a request.
+     *
+     * @param method
+     *      http method
+     * @param url
+     *      target url
+     * @param token
+     *      authentication token
+     * @return
+     *      key identifying identical requests, the token appears as a fingerprint
+     */
+    public static String key(String method, String url, String token) {
+        return method + " " + url + " " + IdUtils.fingerprint(token);
+    }
+
+    /**
+     * Execute a request in the caller thread or wait for the identical request in flight.
+     *
+     * @param key
+     *      request key
+     * @param call
+     *      send the request
+     * @return
+     *      response
+     */
+    public ApiResponseHttp execute(String key, Supplier<ApiResponseHttp> call) {
+        CompletableFuture<ApiResponseHttp> future = new CompletableFuture<>();
+        CompletableFuture<ApiResponseHttp> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return await(existing);
+        }
+        executedCount.incrementAndGet();
+        try {
+            ApiResponseHttp res = call.get();
+            future.complete(res);
+            return res;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Execute a request without blocking or attach to the identical request in flight.
+     *
+     * @param key
+     *      request key
+     * @param call
+     *      send the request
+     * @return
+     *      future response, cancelling it does not cancel the request shared with other callers
+     */
+    public CompletableFuture<ApiResponseHttp> executeAsync(String key, Supplier<CompletableFuture<ApiResponseHttp>> call) {
+        CompletableFuture<ApiResponseHttp> future = new CompletableFuture<>();
+        CompletableFuture<ApiResponseHttp> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return existing.thenApply(res -> res);
+        }
+        executedCount.incrementAndGet();
+        try {
+            call.get().whenComplete((res, error) -> {
+                inFlight.remove(key, future);
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(res);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future.thenApply(res -> res);
+    }
+
+    /**
+     * Wait for a request sent by another caller and rethrow its error.
+     *
+     * @param future
+     *      request in flight
+     * @return
+     *      response
+     */
+    private static ApiResponseHttp await(CompletableFuture<ApiResponseHttp> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a request in flight", e);
+        } catch (CancellationException e) {
+            throw new IllegalStateException("Request in flight has been cancelled", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException("Error in HTTP Request: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Number of requests in flight.
+     *
+     * @return
+     *      requests in flight
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Number of requests sent.
+     *
+     * @return
+     *      requests sent
+     */
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    /**
+     * Number of callers served by a request sent by another caller.
+     *
+     * @return
+     *      coalesced callers
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+}
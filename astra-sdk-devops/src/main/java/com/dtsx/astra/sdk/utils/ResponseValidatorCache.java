@@ -0,0 +1,281 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Last response of each GET request (url and token) with its validators, to avoid downloading and decoding again
+ * a payload that did not change.
+ *
+ * <p>When the server returned an <code>ETag</code> or a <code>Last-Modified</code> header, the next request is sent
+ * with <code>If-None-Match</code> / <code>If-Modified-Since</code> and a <code>304 Not Modified</code> is answered
+ * with a copy of the previous response. Responses without validators can never be answered with a 304 and are not
+ * kept. Each caller decodes its own objects from the raw bytes, nothing decoded is shared between callers.</p>
+ *
+ * <p>The cache is bounded by a number of responses and by the size of their bodies, the least recently used
+ * requests are evicted first. A body larger than the whole budget is not kept.</p>
+ */
+public class ResponseValidatorCache {
+
+    /** Default maximum number of responses kept. */
+    public static final int DEFAULT_MAX_ENTRIES = 512;
+
+    /** Default maximum size of the bodies kept, in bytes. */
+    public static final long DEFAULT_MAX_BYTES = 8L * 1024 * 1024;
+
+    /** Response header. */
+    public static final String HEADER_ETAG = "ETag";
+
+    /** Response header. */
+    public static final String HEADER_LAST_MODIFIED = "Last-Modified";
+
+    /** Request header. */
+    public static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+
+    /** Request header. */
+    public static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    /**
+     * Response kept with its validators.
+     */
+    private static final class Entry {
+
+        /** Last successful response. */
+        private final ApiResponseHttp response;
+
+        /** Entity tag, may be null. */
+        private final String etag;
+
+        /** Last modification date, may be null. */
+        private final String lastModified;
+
+        /** Size of the body in bytes. */
+        private final long bodySize;
+
+        /**
+         * Create the entry.
+         *
+         * @param response
+         *      last successful response
+         * @param etag
+         *      entity tag, may be null
+         * @param lastModified
+         *      last modification date, may be null
+         * @param bodySize
+         *      size of the body in bytes
+         */
+        private Entry(ApiResponseHttp response, String etag, String lastModified, long bodySize) {
+            this.response     = response;
+            this.etag         = etag;
+            this.lastModified = lastModified;
+            this.bodySize     = bodySize;
+        }
+    }
+
+    /** Responses by request key in access order, guarded by itself. */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Maximum number of responses kept. */
+    private final int maxEntries;
+
+    /** Maximum size of the bodies kept, in bytes. */
+    private final long maxBytes;
+
+    /** Size of the bodies kept, guarded by the entries. */
+    private long bytes;
+
+    /** Responses answered with 304. */
+    private final AtomicLong notModifiedCount = new AtomicLong();
+
+    /**
+     * Create the cache with the default size budget.
+     *
+     * @param maxEntries
+     *      maximum number of responses kept
+     */
+    public ResponseValidatorCache(int maxEntries) {
+        this(maxEntries, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Create the cache.
+     *
+     * @param maxEntries
+     *      maximum number of responses kept
+     * @param maxBytes
+     *      maximum size of the bodies kept, in bytes
+     */
+    public ResponseValidatorCache(int maxEntries, long maxBytes) {
+        Assert.isTrue(maxEntries > 0, "maxEntries should be positive");
+        Assert.isTrue(maxBytes > 0, "maxBytes should be positive");
+        this.maxEntries = maxEntries;
+        this.maxBytes   = maxBytes;
+    }
+
+    /**
+     * Conditional headers to send with a request.
+     *
+     * @param key
+     *      request key
+     * @return
+     *      headers, empty if the request is unknown or the last response had no validator
+     */
+    public Map<String, String> getConditionalHeaders(String key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> headers = new HashMap<>();
+        if (entry.etag != null) {
+            headers.put(HEADER_IF_NONE_MATCH, entry.etag);
+        }
+        if (entry.lastModified != null) {
+            headers.put(HEADER_IF_MODIFIED_SINCE, entry.lastModified);
+        }
+        return headers;
+    }
+
+    /**
+     * Process a response: a 304 gives back a copy of the previous response, a successful response with validators
+     * is kept and any other response drops the entry.
+     *
+     * @param key
+     *      request key
+     * @param res
+     *      response received
+     * @return
+     *      response to use
+     */
+    public ApiResponseHttp reconcile(String key, ApiResponseHttp res) {
+        Entry previous;
+        synchronized (entries) {
+            previous = entries.get(key);
+        }
+        if (HttpURLConnection.HTTP_NOT_MODIFIED == res.getCode()) {
+            if (previous == null) {
+                // Entry evicted while the request was in flight
+                return res;
+            }
+            notModifiedCount.incrementAndGet();
+            // Copy sharing the raw bytes, the caller decodes its own objects
+            return previous.response.copyFor(res);
+        }
+        if (HttpURLConnection.HTTP_OK != res.getCode()) {
+            synchronized (entries) {
+                remove(key);
+            }
+            return res;
+        }
+        String etag         = getHeader(res, HEADER_ETAG);
+        String lastModified = getHeader(res, HEADER_LAST_MODIFIED);
+        long bodySize       = res.getBodyBytes().length;
+        synchronized (entries) {
+            remove(key);
+            if ((etag != null || lastModified != null) && bodySize <= maxBytes) {
+                entries.put(key, new Entry(res, etag, lastModified, bodySize));
+                bytes += bodySize;
+                evict();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Drop an entry, called with the lock held.
+     *
+     * @param key
+     *      request key
+     */
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.bodySize;
+        }
+    }
+
+    /**
+     * Drop the least recently used entries until the cache is within its bounds, called with the lock held.
+     */
+    private void evict() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+            bytes -= eldest.next().bodySize;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Drop all responses.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            bytes = 0;
+        }
+    }
+
+    /**
+     * Number of responses kept.
+     *
+     * @return
+     *      entries in the cache
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Size of the bodies kept.
+     *
+     * @return
+     *      bytes in the cache
+     */
+    public long getSizeInBytes() {
+        synchronized (entries) {
+            return bytes;
+        }
+    }
+
+    /**
+     * Number of responses answered with a 304.
+     *
+     * @return
+     *      not modified responses
+     */
+    public long getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    /**
+     * Read a response header ignoring case.
+     *
+     * @param res
+     *      http response
+     * @param name
+     *      header name
+     * @return
+     *      header value, null if absent
+     */
+    private static String getHeader(ApiResponseHttp res, String name) {
+        if (res.getHeaders() == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> header : res.getHeaders().entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+}
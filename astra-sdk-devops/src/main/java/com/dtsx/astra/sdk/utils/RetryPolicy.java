@@ -0,0 +1,428 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.net.ssl.SSLException;
+
+/**
+ * Decide if and when a failed exchange with the Devops API should be retried.
+ *
+ * <p>Delays grow exponentially with the attempt number, a random part (jitter) is removed to spread the retries
+ * of concurrent callers, and a <code>Retry-After</code> header returned by the server is never undercut.
+ * Retries stop when the maximum number of attempts or the total time budget is reached.</p>
+ */
+public class RetryPolicy {
+
+    /** Header sent by the server with 429 and 503. */
+    public static final String HEADER_RETRY_AFTER = "Retry-After";
+
+    /** Too many requests. */
+    public static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    /** Methods safe to replay. */
+    private static final Set<String> IDEMPOTENT_METHODS =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList("GET", "HEAD", "PUT", "DELETE", "OPTIONS", "TRACE")));
+
+    /** Default status codes triggering a retry. */
+    private static final Set<Integer> DEFAULT_RETRYABLE_CODES =
+            Collections.unmodifiableSet(new HashSet<>(Arrays.asList(HTTP_TOO_MANY_REQUESTS, 502, 503, 504)));
+
+    /** Policy never retrying. */
+    public static final RetryPolicy NONE = builder().maxAttempts(1).build();
+
+    /** Maximum number of attempts, first call included. */
+    private final int maxAttempts;
+
+    /** Delay before the first retry. */
+    private final Duration initialBackoff;
+
+    /** Upper bound for a computed delay. */
+    private final Duration maxBackoff;
+
+    /** Growth factor between two attempts. */
+    private final double multiplier;
+
+    /** Share of the delay randomly removed, between 0 and 1. */
+    private final double jitter;
+
+    /** Total time budget including the waits, no new attempt is started past it. */
+    private final Duration maxElapsedTime;
+
+    /** Should POST requests be retried. */
+    private final boolean retryPost;
+
+    /** Status codes triggering a retry. */
+    private final Set<Integer> retryableStatusCodes;
+
+    /**
+     * Constructor with the builder.
+     *
+     * @param builder
+     *      current builder.
+     */
+    private RetryPolicy(RetryPolicyBuilder builder) {
+        this.maxAttempts          = builder.maxAttempts;
+        this.initialBackoff       = builder.initialBackoff;
+        this.maxBackoff           = builder.maxBackoff;
+        this.multiplier           = builder.multiplier;
+        this.jitter               = builder.jitter;
+        this.maxElapsedTime       = builder.maxElapsedTime;
+        this.retryPost            = builder.retryPost;
+        this.retryableStatusCodes = Collections.unmodifiableSet(new HashSet<>(builder.retryableStatusCodes));
+    }
+
+    /**
+     * Policy with default values: 3 attempts on idempotent methods.
+     *
+     * @return
+     *      default policy
+     */
+    public static RetryPolicy defaultPolicy() {
+        return builder().build();
+    }
+
+    /**
+     * Helper to create a builder.
+     *
+     * @return
+     *      an instance of the builder
+     */
+    public static RetryPolicyBuilder builder() {
+        return new RetryPolicyBuilder();
+    }
+
+    /**
+     * Evaluate if a response should be retried.
+     *
+     * @param method
+     *      http method
+     * @param res
+     *      response received
+     * @param attempt
+     *      current attempt number, starting at 1
+     * @param elapsed
+     *      time spent since the first attempt
+     * @return
+     *      delay to wait before the next attempt, empty if no retry should happen
+     */
+    public Optional<Duration> getRetryDelay(String method, ApiResponseHttp res, int attempt, Duration elapsed) {
+        if (!retryableStatusCodes.contains(res.getCode())) {
+            return Optional.empty();
+        }
+        Duration delay = computeBackoff(attempt);
+        Optional<Duration> retryAfter = parseRetryAfter(findHeader(res.getHeaders(), HEADER_RETRY_AFTER));
+        if (retryAfter.isPresent() && retryAfter.get().compareTo(delay) > 0) {
+            delay = retryAfter.get();
+        }
+        return checkBudget(method, delay, attempt, elapsed);
+    }
+
+    /**
+     * Evaluate if an exchange failing with an I/O error should be retried.
+     *
+     * @param method
+     *      http method
+     * @param error
+     *      error raised by the http client
+     * @param attempt
+     *      current attempt number, starting at 1
+     * @param elapsed
+     *      time spent since the first attempt
+     * @return
+     *      delay to wait before the next attempt, empty if no retry should happen
+     */
+    public Optional<Duration> getRetryDelay(String method, Exception error, int attempt, Duration elapsed) {
+        if (!(error instanceof IOException) || error instanceof UnknownHostException || error instanceof SSLException) {
+            return Optional.empty();
+        }
+        return checkBudget(method, computeBackoff(attempt), attempt, elapsed);
+    }
+
+    /**
+     * Apply method, attempts and time budget restrictions.
+     *
+     * @param method
+     *      http method
+     * @param delay
+     *      computed delay
+     * @param attempt
+     *      current attempt number
+     * @param elapsed
+     *      time spent since the first attempt
+     * @return
+     *      delay if the retry is allowed
+     */
+    private Optional<Duration> checkBudget(String method, Duration delay, int attempt, Duration elapsed) {
+        if (attempt >= maxAttempts || !isRetryableMethod(method)) {
+            return Optional.empty();
+        }
+        if (elapsed.plus(delay).compareTo(maxElapsedTime) > 0) {
+            return Optional.empty();
+        }
+        return Optional.of(delay);
+    }
+
+    /**
+     * Check if a method can be replayed.
+     *
+     * @param method
+     *      http method
+     * @return
+     *      if the method can be retried
+     */
+    public boolean isRetryableMethod(String method) {
+        return IDEMPOTENT_METHODS.contains(method) || (retryPost && "POST".equals(method));
+    }
+
+    /**
+     * Exponential delay for an attempt with jitter.
+     *
+     * @param attempt
+     *      current attempt number, starting at 1
+     * @return
+     *      delay before next attempt
+     */
+    Duration computeBackoff(int attempt) {
+        double backoff = initialBackoff.toMillis() * Math.pow(multiplier, attempt - 1);
+        long cappedBackoff = (long) Math.min(backoff, maxBackoff.toMillis());
+        long jittered = cappedBackoff - (long) (cappedBackoff * jitter * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(jittered);
+    }
+
+    /**
+     * Parse a Retry-After header, expressed in seconds or as an http date.
+     *
+     * @param value
+     *      header value
+     * @return
+     *      delay requested by the server
+     */
+    static Optional<Duration> parseRetryAfter(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        String trimmed = value.trim();
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed))));
+        } catch (NumberFormatException nfe) {
+            try {
+                Duration delay = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME));
+                return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+            } catch (RuntimeException e) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Header names are case-insensitive.
+     *
+     * @param headers
+     *      response headers
+     * @param name
+     *      header name
+     * @return
+     *      header value or null
+     */
+    private static String findHeader(Map<String, String> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Builder.
+     */
+    public static class RetryPolicyBuilder {
+        /** */
+        private int maxAttempts = 3;
+        /** */
+        private Duration initialBackoff = Duration.ofMillis(500);
+        /** */
+        private Duration maxBackoff = Duration.ofSeconds(30);
+        /** */
+        private double multiplier = 2.0;
+        /** */
+        private double jitter = 0.5;
+        /** */
+        private Duration maxElapsedTime = Duration.ofMinutes(2);
+        /** */
+        private boolean retryPost = false;
+        /** */
+        private Set<Integer> retryableStatusCodes = new HashSet<>(DEFAULT_RETRYABLE_CODES);
+
+        /**
+         * Default constructor.
+         */
+        public RetryPolicyBuilder() {}
+
+        /**
+         * Define the maximum number of attempts, first call included.
+         *
+         * @param maxAttempts
+         *      the value for maxAttempts
+         * @return
+         *      this instance.
+         */
+        public RetryPolicyBuilder maxAttempts(int maxAttempts) {
+            Assert.isTrue(maxAttempts > 0, "maxAttempts");
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Define the delay before the first retry.
+         *
+         * @param initialBackoff
+         *      the value for initialBackoff
+         * @return
+         *      this instance.
+         */
+        public RetryPolicyBuilder initialBackoff(Duration initialBackoff) {
+            Assert.notNull(initialBackoff, "initialBackoff");
+            this.initialBackoff = initialBackoff;
+            return this;
+        }
+
+        /**
+         * Define the upper bound of a computed delay.
+         *
+         * @param maxBackoff
+         *      the value for maxBackoff
+         * @return
+         *      this instance.
+         */
+        public RetryPolicyBuilder maxBackoff(Duration maxBackoff) {
+            Assert.notNull(maxBackoff, "maxBackoff");
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * Define the growth factor between two attempts.
+         *
+         * @param multiplier
+         *      the value for multiplier
+         * @return
+         *      this instance.
+         */
+        public RetryPolicyBuilder multiplier(double multiplier) {
+            Assert.isTrue(multiplier >= 1, "multiplier");
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Define the share of the delay randomly removed.
+         *
+         * @param jitter
+         *      the value for jitter, between 0 and 1
+         * @return
+         *      this instance.
+         */
+        public RetryPolicyBuilder jitter(double jitter) {
+            Assert.isTrue(jitter >= 0 && jitter <= 1, "jitter");
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Define the total time budget for an operation, waits included.
+         *
+         * @param maxElapsedTime
+         *      the value for maxElapsedTime
+         * @return
+         *      this instance.
+         */
+        public RetryPolicyBuilder maxElapsedTime(Duration maxElapsedTime) {
+            Assert.notNull(maxElapsedTime, "maxElapsedTime");
+            this.maxElapsedTime = maxElapsedTime;
+            return this;
+        }
+
+        /**
+         * Allow POST requests to be retried, the caller must ensure the operations are safe to replay.
+         *
+         * @param retryPost
+         *      the value for retryPost
+         * @return
+         *      this instance.
+         */
+        public RetryPolicyBuilder retryPost(boolean retryPost) {
+            this.retryPost = retryPost;
+            return this;
+        }
+
+        /**
+         * Define the status codes triggering a retry.
+         *
+         * @param codes
+         *      the value for retryableStatusCodes
+         * @return
+         *      this instance.
+         */
+        public RetryPolicyBuilder retryableStatusCodes(Integer... codes) {
+            Assert.notNull(codes, "codes");
+            this.retryableStatusCodes = new HashSet<>(Arrays.asList(codes));
+            return this;
+        }
+
+        /**
+         * Build the immutable instance.
+         *
+         * @return
+         *      an instance of the policy
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+
+    /**
+     * Getter accessor for attribute 'maxAttempts'.
+     *
+     * @return
+     *       current value of 'maxAttempts'
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Getter accessor for attribute 'maxElapsedTime'.
+     *
+     * @return
+     *       current value of 'maxElapsedTime'
+     */
+    public Duration getMaxElapsedTime() {
+        return maxElapsedTime;
+    }
+
+    /**
+     * Getter accessor for attribute 'retryPost'.
+     *
+     * @return
+     *       current value of 'retryPost'
+     */
+    public boolean isRetryPost() {
+        return retryPost;
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Executor of the SDK fan-out: bulk operations, parallel downloads and background refreshes.
+ *
+ * <p>On Java 21+ each task runs on its own virtual thread, a blocking Devops call then costs no platform thread and
+ * the parallelism is only bounded by the callers and the connection pool. Older runtimes use a bounded pool of
+ * daemon platform threads, see {@link ThreadSupport}.</p>
+ */
+public final class SdkExecutors {
+
+    /** Default maximum number of platform threads of the shared executor. */
+    public static final int DEFAULT_MAX_THREADS = Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Lazy holder for the shared executor.
+     */
+    private static final class SharedHolder {
+
+        /** Shared executor, threads end when idle. */
+        private static final ExecutorService SHARED = ThreadSupport.newExecutor("tasks", DEFAULT_MAX_THREADS);
+
+        /**
+         * Hide default constructor
+         */
+        private SharedHolder() {}
+    }
+
+    /**
+     * Hide default constructor
+     */
+    private SdkExecutors() {}
+
+    /**
+     * Access the executor shared by the SDK tasks.
+     *
+     * @return
+     *      shared executor, never to be shut down
+     */
+    public static Executor shared() {
+        return SharedHolder.SHARED;
+    }
+
+    /**
+     * Tell if the tasks run on virtual threads.
+     *
+     * @return
+     *      true on Java 21+ unless disabled with the system property <code>astra.sdk.virtualThreads</code>
+     */
+    public static boolean isVirtualThreads() {
+        return ThreadSupport.isVirtualThreads();
+    }
+
+}
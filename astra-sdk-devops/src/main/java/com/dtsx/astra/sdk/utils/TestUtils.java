@@ -16,6 +16,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Helper for test.
@@ -193,7 +197,8 @@ public class TestUtils {
     }
 
     /**
-     * Wait for db to have proper status.
+     * Wait for db to have proper status, databases awaited at the same time share the polling of the
+     * {@link com.dtsx.astra.sdk.db.DatabaseStatusWatcher}.
      *
      * @param dbc
      *      database client
@@ -203,14 +208,20 @@ public class TestUtils {
      *      timeout
      */
     public static void waitForDbStatus(DbOpsClient dbc, DatabaseStatusType status, int timeoutSeconds) {
-        long top = System.currentTimeMillis();
-        while(status != dbc.find().get().getStatus() && ((System.currentTimeMillis()-top) < 1000*timeoutSeconds)) {
-            System.out.print("\u25a0");
-            waitForSeconds(5);
-        }
-        System.out.println("\n");
-        if (dbc.find().get().getStatus() != status) {
+        CompletableFuture<Database> db = new AstraDBOpsClient(dbc.getToken(), dbc.getEnvironment())
+                .statusWatcher()
+                .awaitStatus(dbc.getDatabaseId(), status);
+        try {
+            db.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            db.cancel(false);
             throw new IllegalStateException("Database is not in expected state after timeouts");
+        } catch (InterruptedException e) {
+            db.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for database status", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cannot read database status", e.getCause());
         }
     }
     
@@ -0,0 +1,79 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threads of the SDK, on Java 8 to 20: bounded pools of daemon platform threads.
+ *
+ * <p>The jar is multi-release, on Java 21+ this class is replaced by a version running the same tasks on virtual
+ * threads (<code>META-INF/versions/21</code>). Both versions must keep the same public methods.</p>
+ */
+public final class ThreadSupport {
+
+    /** Prefix of the thread names. */
+    static final String THREAD_PREFIX = "astra-sdk-";
+
+    /** Idle time before a pooled platform thread ends. */
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    /**
+     * Hide default constructor
+     */
+    private ThreadSupport() {}
+
+    /**
+     * Tell if the tasks run on virtual threads.
+     *
+     * @return
+     *      false, virtual threads need Java 21
+     */
+    public static boolean isVirtualThreads() {
+        return false;
+    }
+
+    /**
+     * Create an executor, threads are created on demand and end when idle.
+     *
+     * @param name
+     *      name of the threads
+     * @param maxThreads
+     *      maximum number of platform threads, tasks are queued beyond
+     * @return
+     *      executor
+     */
+    public static ExecutorService newExecutor(String name, int maxThreads) {
+        Assert.hasLength(name, "name");
+        Assert.isTrue(maxThreads > 0, "maxThreads should be positive");
+        final AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, THREAD_PREFIX + name + "-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Create a daemon thread running a long-lived task.
+     *
+     * @param name
+     *      name of the thread
+     * @param task
+     *      task to run
+     * @return
+     *      thread, not started
+     */
+    public static Thread newThread(String name, Runnable task) {
+        Assert.hasLength(name, "name");
+        Thread t = new Thread(task, THREAD_PREFIX + name);
+        t.setDaemon(true);
+        return t;
+    }
+
+}
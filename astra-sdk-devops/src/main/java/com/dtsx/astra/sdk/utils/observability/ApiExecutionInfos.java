@@ -3,18 +3,24 @@ package com.dtsx.astra.sdk.utils.observability;
 import com.dtsx.astra.sdk.utils.ApiResponse;
 import com.dtsx.astra.sdk.utils.ApiResponseHttp;
 import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.transport.TransportRequest;
 import lombok.Getter;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
 import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.Method;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -59,10 +65,9 @@ public class ApiExecutionInfos implements Serializable {
     private final ApiResponse<?> response;
 
     /**
-     * The raw {@link ApiResponse} received in response to the command execution. This field contains the
-     * complete response from the server, including any data, errors, or status information returned.
+     * The raw http response, its body is only decoded when {@link #getResponseBody()} is invoked.
      */
-    private final String responseBody;
+    private final ApiResponseHttp httpResponse;
 
     /**
      * The HTTP status code returned by the server in response to the command execution. This code provides
@@ -88,6 +93,33 @@ public class ApiExecutionInfos implements Serializable {
      */
     private final Instant executionDate;
 
+    /**
+     * The attempt number of this exchange, starting at 1. Values above 1 mean the request has been replayed
+     * by the retry policy of the http client.
+     */
+    private final int attempt;
+
+    /**
+     * Delay, in milliseconds, before the request is replayed. A value of 0 means the exchange was not retried
+     * and its outcome is the one returned to the caller.
+     */
+    private final long retryDelay;
+
+    /**
+     * Time, in milliseconds, the request waited in the client rate limiter before being sent.
+     */
+    private final long rateLimitWait;
+
+    /**
+     * Capture policy applied to the response body.
+     */
+    private final transient BodyCapturePolicy bodyCapture;
+
+    /**
+     * Latency of the exchange broken down by phase.
+     */
+    private final transient RequestTimings timings;
+
     /**
      * Constructor with the builder.
      *
@@ -101,11 +133,26 @@ public class ApiExecutionInfos implements Serializable {
         this.requestHttpHeaders  = builder.requestHttpHeaders;
         this.response            = builder.response;
         this.responseHttpHeaders = builder.responseHttpHeaders;
-        this.responseBody        = builder.responseBody;
+        this.httpResponse        = builder.httpResponse;
         this.responseHttpCode    = builder.responseHttpCode;
         this.executionTime       = builder.executionTime;
         this.executionDate       = builder.executionDate;
         this.requestUrl          = builder.requestUrl;
+        this.attempt             = builder.attempt;
+        this.retryDelay          = builder.retryDelay;
+        this.rateLimitWait       = builder.rateLimitWait;
+        this.bodyCapture         = builder.bodyCapture;
+        this.timings             = builder.timings;
+    }
+
+    /**
+     * The body of the response received, decoded on first access and truncated by the {@link BodyCapturePolicy}.
+     *
+     * @return
+     *      response body, null if not captured
+     */
+    public String getResponseBody() {
+        return httpResponse == null ? null : bodyCapture.truncate(httpResponse.getBody());
     }
 
     /**
@@ -119,7 +166,18 @@ public class ApiExecutionInfos implements Serializable {
     }
 
     /**
-     * Builder class for execution information
+     * Builder ignoring every call, used when no observer is registered so that nothing is captured.
+     *
+     * @return
+     *      shared disabled builder
+     */
+    public static ApiExecutionInfoBuilder disabled() {
+        return DisabledBuilder.INSTANCE;
+    }
+
+    /**
+     * Builder class for execution information. The request is only referenced while the exchange runs, its
+     * headers and body are copied when {@link #build()} is invoked.
      */
     public static class ApiExecutionInfoBuilder {
         private String operationName;
@@ -128,17 +186,47 @@ public class ApiExecutionInfos implements Serializable {
         private ApiResponse<?> response;
         private long executionTime;
         private int responseHttpCode;
-        private String responseBody;
+        private ApiResponseHttp httpResponse;
         private Map<String, List<String>> requestHttpHeaders;
         private Map<String, String> responseHttpHeaders;
         private final Instant executionDate;
+        private final long startNanos;
         private String requestUrl;
+        private int attempt = 1;
+        private long retryDelay;
+        private long rateLimitWait;
+        private HttpRequest httpRequest;
+        private TransportRequest transportRequest;
+        private Supplier<String> requestBody;
+        private BodyCapturePolicy bodyCapture = BodyCapturePolicy.defaultPolicy();
+        private final RequestTimings timings = new RequestTimings();
 
         /**
          * Default constructor.
          */
         public ApiExecutionInfoBuilder() {
             this.executionDate = Instant.now();
+            this.startNanos    = System.nanoTime();
+        }
+
+        /**
+         * Check if the information is captured.
+         *
+         * @return
+         *      false for the builder returned by {@link ApiExecutionInfos#disabled()}
+         */
+        public boolean isEnabled() {
+            return true;
+        }
+
+        /**
+         * Phase timings of the exchange, filled by the http client while the exchange runs.
+         *
+         * @return
+         *      timings, null for the builder returned by {@link ApiExecutionInfos#disabled()}
+         */
+        public RequestTimings getTimings() {
+            return timings;
         }
 
         /**
@@ -176,21 +264,105 @@ public class ApiExecutionInfos implements Serializable {
          *     current reference
          */
         public ApiExecutionInfoBuilder withHttpRequest(HttpUriRequestBase req) {
+            this.httpRequest       = req;
             this.requestHttpMethod = Method.valueOf(req.getMethod());
-            this.requestHttpHeaders = Arrays.stream(req.getHeaders()).collect
-                    (Collectors.toMap(NameValuePair::getName,
-                            h -> Collections.singletonList(h.getValue())));
-            try {
-                this.requestUrl = req.getUri().toString();
-            } catch (Exception e) {}
             if (req.getEntity() != null) {
-                try {
-                    this.payload = EntityUtils.toString(req.getEntity());
-                } catch (Exception e) {}
+                this.requestBody = () -> {
+                    try {
+                        return EntityUtils.toString(req.getEntity());
+                    } catch (Exception e) {
+                        return null;
+                    }
+                };
             }
             return this;
         }
 
+        /**
+         * Populate after http call on the non-blocking client.
+         *
+         * @param req
+         *      input http request
+         * @return
+         *     current reference
+         */
+        public ApiExecutionInfoBuilder withHttpRequest(SimpleHttpRequest req) {
+            this.httpRequest       = req;
+            this.requestHttpMethod = Method.valueOf(req.getMethod());
+            this.requestBody       = req::getBodyText;
+            return this;
+        }
+
+        /**
+         * Populate after http call on a {@link com.dtsx.astra.sdk.utils.transport.HttpTransport}.
+         *
+         * @param req
+         *      input http request
+         * @return
+         *     current reference
+         */
+        public ApiExecutionInfoBuilder withHttpRequest(TransportRequest req) {
+            this.transportRequest  = req;
+            this.requestHttpMethod = Method.normalizedValueOf(req.getMethod());
+            this.requestBody       = req::getBody;
+            return this;
+        }
+
+        /**
+         * Bodies captured for the observers.
+         *
+         * @param bodyCapture
+         *      capture policy
+         * @return
+         *      current reference
+         */
+        public ApiExecutionInfoBuilder withBodyCapture(BodyCapturePolicy bodyCapture) {
+            Assert.notNull(bodyCapture, "bodyCapture");
+            this.bodyCapture = bodyCapture;
+            return this;
+        }
+
+        /**
+         * Attempt number for the current exchange.
+         *
+         * @param attempt
+         *      attempt number, starting at 1
+         * @return
+         *      current reference
+         */
+        public ApiExecutionInfoBuilder withAttempt(int attempt) {
+            this.attempt = attempt;
+            return this;
+        }
+
+        /**
+         * Mark the exchange as retried.
+         *
+         * @param retryDelay
+         *      delay before the next attempt
+         * @return
+         *      current reference
+         */
+        public ApiExecutionInfoBuilder withRetryDelay(Duration retryDelay) {
+            Assert.notNull(retryDelay, "retryDelay");
+            this.retryDelay = retryDelay.toMillis();
+            return this;
+        }
+
+        /**
+         * Time spent in the client rate limiter.
+         *
+         * @param rateLimitWait
+         *      wait before sending the request
+         * @return
+         *      current reference
+         */
+        public ApiExecutionInfoBuilder withRateLimitWait(Duration rateLimitWait) {
+            Assert.notNull(rateLimitWait, "rateLimitWait");
+            this.rateLimitWait = rateLimitWait.toMillis();
+            return this;
+        }
+
         /**
          * Populate after http call.
          *
@@ -198,22 +370,138 @@ public class ApiExecutionInfos implements Serializable {
          */
         public void withHttpResponse(ApiResponseHttp httpResponse) {
             Assert.notNull(httpResponse, "httpResponse");
-            this.executionTime       = System.currentTimeMillis() - 1000 * executionDate.getEpochSecond();
+            this.executionTime       = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
             this.responseHttpCode    = httpResponse.getCode();
             this.responseHttpHeaders = httpResponse.getHeaders();
-            this.responseBody = httpResponse.getBody();
+            this.httpResponse        = httpResponse;
         }
 
         /**
-         * Invoke constructor with the builder.
+         * Invoke constructor with the builder, request headers and bodies are copied here.
          *
          * @return
          *      immutable instance of execution infos.
          */
         public ApiExecutionInfos build() {
+            if (httpResponse == null) {
+                // No response received, the exchange lasted until now
+                this.executionTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            }
+            if (httpRequest != null) {
+                this.requestHttpHeaders = Arrays.stream(httpRequest.getHeaders()).collect
+                        (Collectors.toMap(NameValuePair::getName,
+                                h -> Collections.singletonList(h.getValue()), (h1, h2) -> h1));
+                try {
+                    this.requestUrl = httpRequest.getUri().toString();
+                } catch (Exception e) {}
+            }
+            if (transportRequest != null) {
+                this.requestHttpHeaders = transportRequest.getHeaders().stream().collect
+                        (Collectors.toMap(Map.Entry::getKey,
+                                h -> Collections.singletonList(h.getValue()), (h1, h2) -> h1));
+                this.requestUrl = transportRequest.getUrl();
+            }
+            if (bodyCapture.shouldCapture(responseHttpCode, executionTime)) {
+                if (payload == null && requestBody != null) {
+                    payload = requestBody.get();
+                }
+                if (payload instanceof String) {
+                    payload = bodyCapture.truncate((String) payload);
+                }
+            } else {
+                this.payload      = null;
+                this.httpResponse = null;
+            }
             return new ApiExecutionInfos(this);
         }
 
     }
 
+    /**
+     * Builder ignoring every call.
+     */
+    private static final class DisabledBuilder extends ApiExecutionInfoBuilder {
+
+        /** Shared instance, the builder holds no state. */
+        private static final DisabledBuilder INSTANCE = new DisabledBuilder();
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RequestTimings getTimings() {
+            return null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiExecutionInfoBuilder withRequestPayload(Object payload) {
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiExecutionInfoBuilder withOperationName(String operationName) {
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiExecutionInfoBuilder withHttpRequest(HttpUriRequestBase req) {
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiExecutionInfoBuilder withHttpRequest(SimpleHttpRequest req) {
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiExecutionInfoBuilder withHttpRequest(TransportRequest req) {
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiExecutionInfoBuilder withBodyCapture(BodyCapturePolicy bodyCapture) {
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiExecutionInfoBuilder withAttempt(int attempt) {
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiExecutionInfoBuilder withRetryDelay(Duration retryDelay) {
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiExecutionInfoBuilder withRateLimitWait(Duration rateLimitWait) {
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void withHttpResponse(ApiResponseHttp httpResponse) {
+            // not captured
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiExecutionInfos build() {
+            throw new IllegalStateException("Execution information is not captured");
+        }
+    }
+
 }
@@ -20,6 +20,8 @@ package com.dtsx.astra.sdk.utils.observability;
  * #L%
  */
 
+import java.util.List;
+
 /**
  * Defines the contract for observers that react to command executions within the DataApiClient.
  * Implementing this interface allows for the execution of synchronous treatments in response to command execution events.
@@ -49,12 +51,23 @@ public interface ApiRequestObserver {
      * <p>
      * Implementers should define the logic within this method to handle the command execution event, utilizing
      * the {@link ApiExecutionInfos} provided to access details about the command's execution context, results, and status.
-     * This method is called synchronously, ensuring that any processing here is completed before the command execution
-     * flow continues.
+     * This method is called from the {@link ObserverDispatcher} thread, the command execution flow does not wait
+     * for the processing done here.
      * </p>
      *
      * @param executionInfo The {@link ApiExecutionInfos} containing detailed information about the executed command,
      * including execution context, results, and any errors or warnings that occurred.
      */
     void onRequest(ApiExecutionInfos executionInfo);
+
+    /**
+     * Invoked by the {@link ObserverDispatcher} with a batch of executions, in the order they completed. Observers
+     * exporting to a remote system can override this method to send the batch at once.
+     *
+     * @param executionInfos
+     *      executions completed since the previous batch
+     */
+    default void onRequests(List<ApiExecutionInfos> executionInfos) {
+        executionInfos.forEach(this::onRequest);
+    }
 }
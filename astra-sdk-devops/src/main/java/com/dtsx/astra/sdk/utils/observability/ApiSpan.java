@@ -0,0 +1,85 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Span opened by an {@link ApiTracer}, the SDK does not depend on a tracing library.
+ */
+public interface ApiSpan {
+
+    /** Span doing nothing, returned by {@link ApiTracer#NOOP}. */
+    ApiSpan NOOP = new ApiSpan() {};
+
+    /**
+     * Scope of a span made current, closing it restores the previous span.
+     */
+    interface Scope extends AutoCloseable {
+
+        /** Scope doing nothing. */
+        Scope NOOP = () -> {};
+
+        /** {@inheritDoc} */
+        @Override
+        void close();
+    }
+
+    /**
+     * Set a String attribute.
+     *
+     * @param key
+     *      attribute key
+     * @param value
+     *      attribute value
+     * @return
+     *      current span
+     */
+    default ApiSpan setAttribute(String key, String value) {
+        return this;
+    }
+
+    /**
+     * Set a numeric attribute.
+     *
+     * @param key
+     *      attribute key
+     * @param value
+     *      attribute value
+     * @return
+     *      current span
+     */
+    default ApiSpan setAttribute(String key, long value) {
+        return this;
+    }
+
+    /**
+     * Mark the span as failed.
+     *
+     * @param error
+     *      error raised by the operation
+     */
+    default void recordError(Throwable error) {}
+
+    /**
+     * Propagate the span to the server, the trace context headers are written with the setter.
+     *
+     * @param headers
+     *      header setter of the outgoing request
+     */
+    default void injectHeaders(BiConsumer<String, String> headers) {}
+
+    /**
+     * Make the span the parent of the spans opened by the current thread.
+     *
+     * @return
+     *      scope to close once the operation is done
+     */
+    default Scope makeCurrent() {
+        return Scope.NOOP;
+    }
+
+    /**
+     * Close the span.
+     */
+    default void end() {}
+
+}
@@ -0,0 +1,159 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open spans around the http exchanges and the SDK operations issuing several of them, set on the
+ * {@link com.dtsx.astra.sdk.utils.HttpClientConfig}. The default {@link #NOOP} tracer creates nothing, see
+ * {@link OpenTelemetryApiTracer} for OpenTelemetry.
+ */
+public interface ApiTracer {
+
+    /** Tracer doing nothing. */
+    ApiTracer NOOP = new ApiTracer() {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiSpan startSpan(String name) {
+            return ApiSpan.NOOP;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiSpan startClientSpan(String name) {
+            return ApiSpan.NOOP;
+        }
+    };
+
+    /** Path segments holding an identifier: UUID or number. */
+    Pattern ID_SEGMENT = Pattern.compile("/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|\\d+)(?=/|$)");
+
+    /** Path segments holding a name, after their collection: keyspace, tenant, cluster or region. */
+    Pattern NAME_SEGMENT = Pattern.compile("/(keyspaces|tenants|clusters|regions)/(?!serverless(?:/|$))[^/{]+");
+
+    /** Path segments of the Pulsar statistics holding the tenant and the namespace names. */
+    Pattern STATS_SEGMENT = Pattern.compile("/stats/(namespaces|topics)/[^/]+(/[^/]+)?");
+
+    /** Path segments holding an email, like the users of an organization. */
+    Pattern EMAIL_SEGMENT = Pattern.compile("/[^/]*(@|%40)[^/]*(?=/|$)");
+
+    /** Host of the data api: database identifier and region name. */
+    Pattern DATABASE_HOST = Pattern.compile("^(https?://)[0-9a-fA-F]{8}(-[0-9a-fA-F]{4}){3}-[0-9a-fA-F]{12}-[^.]+\\.");
+
+    /** Host of the streaming admin api: cluster name. */
+    Pattern CLUSTER_HOST = Pattern.compile("^(https?://)[^./]+(\\.api\\.([a-z]+\\.)?streaming\\.)");
+
+    /**
+     * Check if spans are recorded, the http client skips the span creation otherwise.
+     *
+     * @return
+     *      if the tracer records spans
+     */
+    boolean isEnabled();
+
+    /**
+     * Open a span for an SDK operation, child of the current span.
+     *
+     * @param name
+     *      span name
+     * @return
+     *      span, to be ended by the caller
+     */
+    ApiSpan startSpan(String name);
+
+    /**
+     * Open a span for an http exchange, child of the current span.
+     *
+     * @param name
+     *      span name
+     * @return
+     *      span, to be ended by the caller
+     */
+    ApiSpan startClientSpan(String name);
+
+    /**
+     * Run an operation in a span, the exchanges it issues on the current thread are children of this span.
+     *
+     * @param name
+     *      span name
+     * @param operation
+     *      operation to run
+     * @param <T>
+     *      result type
+     * @return
+     *      result of the operation
+     */
+    default <T> T inSpan(String name, Supplier<T> operation) {
+        if (!isEnabled()) {
+            return operation.get();
+        }
+        ApiSpan span = startSpan(name);
+        ApiSpan.Scope scope = span.makeCurrent();
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            span.recordError(e);
+            throw e;
+        } finally {
+            scope.close();
+            span.end();
+        }
+    }
+
+    /**
+     * Run an operation in a span, the exchanges it issues on the current thread are children of this span.
+     *
+     * @param name
+     *      span name
+     * @param operation
+     *      operation to run
+     */
+    default void inSpan(String name, Runnable operation) {
+        inSpan(name, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Url template of a request: query removed, identifiers and names replaced, to keep a low cardinality.
+     *
+     * @param url
+     *      request url
+     * @return
+     *      url template like <code>https://api.astra.datastax.com/v2/databases/{id}/keyspaces/{keyspace}</code>
+     */
+    static String urlTemplate(String url) {
+        if (url == null) {
+            return null;
+        }
+        int query = url.indexOf('?');
+        String path = query < 0 ? url : url.substring(0, query);
+        path = DATABASE_HOST.matcher(path).replaceFirst("$1{id}-{region}.");
+        path = CLUSTER_HOST.matcher(path).replaceFirst("$1{cluster}$2");
+        path = EMAIL_SEGMENT.matcher(path).replaceAll("/{email}");
+        Matcher stats = STATS_SEGMENT.matcher(path);
+        StringBuffer template = new StringBuffer();
+        while (stats.find()) {
+            stats.appendReplacement(template, "/stats/$1/{tenant}" + (stats.group(2) == null ? "" : "/{namespace}"));
+        }
+        stats.appendTail(template);
+        Matcher names = NAME_SEGMENT.matcher(template.toString());
+        template.setLength(0);
+        while (names.find()) {
+            String collection = names.group(1);
+            names.appendReplacement(template, "/" + collection + "/{" + collection.substring(0, collection.length() - 1) + "}");
+        }
+        names.appendTail(template);
+        return ID_SEGMENT.matcher(template).replaceAll("/{id}");
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import com.dtsx.astra.sdk.utils.Assert;
+
+import java.time.Duration;
+
+/**
+ * Decide which request and response bodies are handed to the observers in {@link ApiExecutionInfos}, and how
+ * much of them.
+ *
+ * <p>Bodies are the expensive part of an execution record: the request entity is copied into a String and the
+ * response is kept in memory until every observer is done with it. By default bodies are captured up to
+ * {@link #DEFAULT_MAX_LENGTH} characters, {@link #errorsAndSlow(int, Duration)} only keeps them for the exchanges
+ * worth investigating.</p>
+ */
+public class BodyCapturePolicy {
+
+    /** Default maximum number of characters captured per body. */
+    public static final int DEFAULT_MAX_LENGTH = 8192;
+
+    /** Bodies are never captured, observers only receive the metadata. */
+    public static final BodyCapturePolicy NONE = new BodyCapturePolicy(0, false, null);
+
+    /** Maximum number of characters captured per body. */
+    private final int maxLength;
+
+    /** Only capture bodies of failed or slow exchanges. */
+    private final boolean errorsAndSlowOnly;
+
+    /** Exchanges taking longer are captured, null when only errors are. */
+    private final Duration slowThreshold;
+
+    /**
+     * Constructor.
+     *
+     * @param maxLength
+     *      maximum number of characters captured per body
+     * @param errorsAndSlowOnly
+     *      only capture bodies of failed or slow exchanges
+     * @param slowThreshold
+     *      exchanges taking longer are captured
+     */
+    private BodyCapturePolicy(int maxLength, boolean errorsAndSlowOnly, Duration slowThreshold) {
+        this.maxLength         = maxLength;
+        this.errorsAndSlowOnly = errorsAndSlowOnly;
+        this.slowThreshold     = slowThreshold;
+    }
+
+    /**
+     * Capture the bodies of every exchange, truncated.
+     *
+     * @param maxLength
+     *      maximum number of characters captured per body
+     * @return
+     *      capture policy
+     */
+    public static BodyCapturePolicy all(int maxLength) {
+        Assert.isTrue(maxLength > 0, "maxLength should be positive");
+        return new BodyCapturePolicy(maxLength, false, null);
+    }
+
+    /**
+     * Capture the bodies of the failed exchanges (error code or no response) and of the exchanges taking longer than
+     * a threshold, truncated.
+     *
+     * @param maxLength
+     *      maximum number of characters captured per body
+     * @param slowThreshold
+     *      exchanges taking longer are captured, null to only capture errors
+     * @return
+     *      capture policy
+     */
+    public static BodyCapturePolicy errorsAndSlow(int maxLength, Duration slowThreshold) {
+        Assert.isTrue(maxLength > 0, "maxLength should be positive");
+        return new BodyCapturePolicy(maxLength, true, slowThreshold);
+    }
+
+    /**
+     * Default policy, every body truncated to {@link #DEFAULT_MAX_LENGTH} characters.
+     *
+     * @return
+     *      capture policy
+     */
+    public static BodyCapturePolicy defaultPolicy() {
+        return all(DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Check if the bodies of an exchange should be captured.
+     *
+     * @param responseCode
+     *      http code, 0 when no response was received
+     * @param executionTime
+     *      duration of the exchange in milliseconds
+     * @return
+     *      if bodies are captured
+     */
+    public boolean shouldCapture(int responseCode, long executionTime) {
+        if (maxLength == 0) {
+            return false;
+        }
+        if (!errorsAndSlowOnly) {
+            return true;
+        }
+        return responseCode == 0 || responseCode >= 400 ||
+                (slowThreshold != null && executionTime >= slowThreshold.toMillis());
+    }
+
+    /**
+     * Truncate a body to the maximum length.
+     *
+     * @param body
+     *      body to capture
+     * @return
+     *      body, truncated if needed
+     */
+    public String truncate(String body) {
+        if (body == null || body.length() <= maxLength) {
+            return body;
+        }
+        return body.substring(0, maxLength) + "...(" + (body.length() - maxLength) + " more characters)";
+    }
+
+    /**
+     * Gets maxLength
+     *
+     * @return value of maxLength
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Gets slowThreshold
+     *
+     * @return value of slowThreshold, null when only errors are captured
+     */
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    /**
+     * Gets errorsAndSlowOnly
+     *
+     * @return value of errorsAndSlowOnly
+     */
+    public boolean isErrorsAndSlowOnly() {
+        return errorsAndSlowOnly;
+    }
+
+}
@@ -84,6 +84,10 @@ public class LoggingRequestObserver implements ApiRequestObserver {
                     AnsiUtils.yellow("{}"), executionInfo.getRequestUrl());
             log(AnsiUtils.magenta("[" + req + "][response-time]") + "=" + AnsiUtils.yellow("{}") + " millis.",
                     executionInfo.getExecutionTime());
+            if (executionInfo.getTimings() != null) {
+                log(AnsiUtils.magenta("[" + req + "][timings]") + "=" + AnsiUtils.yellow("{}"),
+                        executionInfo.getTimings());
+            }
             if (executionInfo.getRequest() != null) {
                 try {
                     log(AnsiUtils.magenta("[" + req + "][request]") + "=" + AnsiUtils.yellow("{}"),
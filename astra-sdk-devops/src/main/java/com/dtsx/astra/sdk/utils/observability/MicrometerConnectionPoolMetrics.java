@@ -0,0 +1,215 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.ConnectionPoolMonitor;
+import com.dtsx.astra.sdk.utils.ConnectionPoolStats;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publish the connection pools of a {@link HttpClientWrapper} in a Micrometer {@link MeterRegistry}.
+ *
+ * <p>Meters, with the default prefix <code>astra.devops</code>, tagged with <code>pool</code> (BLOCKING, ASYNC)
+ * and <code>route</code> (<code>host:port</code>):</p>
+ * <ul>
+ *     <li><code>astra.devops.pool.connections</code>: gauge tagged with <code>state</code> (leased, available,
+ *     pending).</li>
+ *     <li><code>astra.devops.pool.connections.max</code>: gauge, maximum number of connections of the route.</li>
+ *     <li><code>astra.devops.pool.lease</code>: function timer of the wait for a connection.</li>
+ *     <li><code>astra.devops.pool.lease.max</code>: gauge, longest wait for a connection.</li>
+ *     <li><code>astra.devops.pool.limit</code>: gauge, maximum number of connections of the pool, only tagged
+ *     with <code>pool</code>.</li>
+ * </ul>
+ *
+ * <p>Routes appear in the pools with the traffic: the binder registers itself as an observer of the wrapper and
+ * adds the meters of a route with its first request. Micrometer is an optional dependency of the SDK, add
+ * <code>io.micrometer:micrometer-core</code> to use this binder.</p>
+ */
+public class MicrometerConnectionPoolMetrics implements MeterBinder, ApiRequestObserver {
+
+    /** Name of the observer registered on the wrapper. */
+    public static final String OBSERVER_NAME = "micrometer-connection-pool";
+
+    /** Wrapper holding the pools. */
+    private final HttpClientWrapper httpClient;
+
+    /** Prefix of the meter names. */
+    private final String prefix;
+
+    /** Routes with meters, as <code>pool|route</code>. */
+    private final Set<String> boundRoutes = ConcurrentHashMap.newKeySet();
+
+    /** Target registry, set when bound. */
+    private volatile MeterRegistry registry;
+
+    /**
+     * Metrics with the default prefix.
+     *
+     * @param httpClient
+     *      wrapper holding the pools
+     */
+    public MicrometerConnectionPoolMetrics(HttpClientWrapper httpClient) {
+        this(httpClient, MicrometerRequestObserver.DEFAULT_PREFIX);
+    }
+
+    /**
+     * Metrics with a custom prefix.
+     *
+     * @param httpClient
+     *      wrapper holding the pools
+     * @param prefix
+     *      prefix of the meter names
+     */
+    public MicrometerConnectionPoolMetrics(HttpClientWrapper httpClient, String prefix) {
+        Assert.notNull(httpClient, "httpClient");
+        Assert.hasLength(prefix, "prefix");
+        this.httpClient = httpClient;
+        this.prefix     = prefix;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Assert.notNull(registry, "registry");
+        this.registry = registry;
+        for (ConnectionPoolStats.Pool pool : ConnectionPoolStats.Pool.values()) {
+            Gauge.builder(prefix + ".pool.limit", httpClient, w -> w.getConnectionPoolTotals(pool).getMax())
+                    .description("Maximum number of connections of the pool")
+                    .tag("pool", pool.name())
+                    .register(registry);
+            httpClient.getConnectionPoolMonitor(pool).getRouteStats()
+                    .forEach(stats -> bindRoute(registry, pool, stats.getRoute()));
+        }
+        httpClient.getObserverRegistry().register(OBSERVER_NAME, this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onRequest(ApiExecutionInfos executionInfo) {
+        MeterRegistry target = registry;
+        String route = executionInfo == null ? null : route(executionInfo.getRequestUrl());
+        if (target == null || route == null) {
+            return;
+        }
+        for (ConnectionPoolStats.Pool pool : ConnectionPoolStats.Pool.values()) {
+            if (!boundRoutes.contains(pool + "|" + route)
+                    && httpClient.getConnectionPoolMonitor(pool).getRouteStats(route).isPresent()) {
+                bindRoute(target, pool, route);
+            }
+        }
+    }
+
+    /**
+     * Register the meters of a route.
+     *
+     * @param target
+     *      target registry
+     * @param pool
+     *      pool of the route
+     * @param route
+     *      route as <code>host:port</code>
+     */
+    private void bindRoute(MeterRegistry target, ConnectionPoolStats.Pool pool, String route) {
+        if (!boundRoutes.add(pool + "|" + route)) {
+            return;
+        }
+        ConnectionPoolMonitor monitor = httpClient.getConnectionPoolMonitor(pool);
+        connectionsGauge(target, monitor, route, "leased", ConnectionPoolStats::getLeased);
+        connectionsGauge(target, monitor, route, "available", ConnectionPoolStats::getAvailable);
+        connectionsGauge(target, monitor, route, "pending", ConnectionPoolStats::getPending);
+        Gauge.builder(prefix + ".pool.connections.max", monitor, m -> stat(m, route, ConnectionPoolStats::getMax))
+                .description("Maximum number of connections of the route")
+                .tag("pool", pool.name())
+                .tag("route", route)
+                .register(target);
+        FunctionTimer.builder(prefix + ".pool.lease", monitor,
+                        m -> (long) stat(m, route, ConnectionPoolStats::getLeaseCount),
+                        m -> stat(m, route, s -> s.getLeaseWait().toNanos()),
+                        TimeUnit.NANOSECONDS)
+                .description("Wait for a connection")
+                .tag("pool", pool.name())
+                .tag("route", route)
+                .register(target);
+        TimeGauge.builder(prefix + ".pool.lease.max", monitor, TimeUnit.NANOSECONDS,
+                        m -> stat(m, route, s -> s.getLeaseWaitMax().toNanos()))
+                .description("Longest wait for a connection")
+                .tag("pool", pool.name())
+                .tag("route", route)
+                .register(target);
+    }
+
+    /**
+     * Register the gauge of a connection state.
+     *
+     * @param target
+     *      target registry
+     * @param monitor
+     *      pool monitor
+     * @param route
+     *      route as <code>host:port</code>
+     * @param state
+     *      connection state
+     * @param value
+     *      count extracted from the snapshot
+     */
+    private void connectionsGauge(MeterRegistry target, ConnectionPoolMonitor monitor, String route, String state,
+                                  ToDoubleFunction<ConnectionPoolStats> value) {
+        Gauge.builder(prefix + ".pool.connections", monitor, m -> stat(m, route, value))
+                .description("Connections of the route by state")
+                .tag("pool", monitor.getPool().name())
+                .tag("route", route)
+                .tag("state", state)
+                .register(target);
+    }
+
+    /**
+     * Read a value of the route snapshot.
+     *
+     * @param monitor
+     *      pool monitor
+     * @param route
+     *      route as <code>host:port</code>
+     * @param value
+     *      value extracted from the snapshot
+     * @return
+     *      value, 0 when the route is unknown
+     */
+    private static double stat(ConnectionPoolMonitor monitor, String route, ToDoubleFunction<ConnectionPoolStats> value) {
+        return monitor.getRouteStats(route).map(value::applyAsDouble).orElse(0d);
+    }
+
+    /**
+     * Route of a request url, named like the pool routes.
+     *
+     * @param url
+     *      request url
+     * @return
+     *      route as <code>host:port</code>, null if the url cannot be parsed
+     */
+    static String route(String url) {
+        if (url == null) {
+            return null;
+        }
+        try {
+            URI uri = URI.create(url);
+            if (uri.getHost() == null) {
+                return null;
+            }
+            int port = uri.getPort() != -1 ? uri.getPort() : "http".equalsIgnoreCase(uri.getScheme()) ? 80 : 443;
+            return uri.getHost() + ":" + port;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+}
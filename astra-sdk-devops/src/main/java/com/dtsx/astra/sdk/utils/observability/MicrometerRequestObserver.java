@@ -0,0 +1,194 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.Assert;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implements a {@link ApiRequestObserver} recording the Devops API calls in a Micrometer {@link MeterRegistry}.
+ *
+ * <p>Meters, with the default prefix <code>astra.devops</code>:</p>
+ * <ul>
+ *     <li><code>astra.devops.requests</code>: timer per operation (<code>db.search</code>,
+ *     <code>streaming.stats.topics</code>...) tagged with <code>operation</code>, <code>status</code> (2xx, 4xx,
+ *     5xx, IO_ERROR), <code>environment</code> and <code>retries</code>, with a percentile histogram.</li>
+ *     <li><code>astra.devops.requests.errors</code>: counter of failed exchanges (no response or error code other
+ *     than 404) tagged with <code>operation</code>, <code>status</code> and <code>environment</code>.</li>
+ *     <li><code>astra.devops.requests.notfound</code>: counter of 404 tagged with <code>operation</code> and
+ *     <code>environment</code>, a 404 is an expected answer for most lookups.</li>
+ *     <li><code>astra.devops.requests.phases</code>: timer per latency phase (see {@link RequestTimings}) tagged
+ *     with <code>operation</code> and <code>phase</code>.</li>
+ * </ul>
+ *
+ * <p>Micrometer is an optional dependency of the SDK, add <code>io.micrometer:micrometer-core</code> to use this
+ * observer.</p>
+ */
+public class MicrometerRequestObserver implements ApiRequestObserver {
+
+    /** Default prefix of the meter names. */
+    public static final String DEFAULT_PREFIX = "astra.devops";
+
+    /** Status tag when no response was received. */
+    private static final String STATUS_IO_ERROR = "IO_ERROR";
+
+    /** Environment tag when the url does not belong to a known environment. */
+    private static final String UNKNOWN = "unknown";
+
+    /** Target registry. */
+    private final MeterRegistry registry;
+
+    /** Prefix of the meter names. */
+    private final String prefix;
+
+    /** Timers by tags, to avoid the registry lookup for each event. */
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /** Counters by tags. */
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Observer with the default prefix.
+     *
+     * @param registry
+     *      target registry
+     */
+    public MicrometerRequestObserver(MeterRegistry registry) {
+        this(registry, DEFAULT_PREFIX);
+    }
+
+    /**
+     * Observer with a custom prefix.
+     *
+     * @param registry
+     *      target registry
+     * @param prefix
+     *      prefix of the meter names
+     */
+    public MicrometerRequestObserver(MeterRegistry registry, String prefix) {
+        Assert.notNull(registry, "registry");
+        Assert.hasLength(prefix, "prefix");
+        this.registry = registry;
+        this.prefix   = prefix;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onRequest(ApiExecutionInfos executionInfo) {
+        if (executionInfo == null) {
+            return;
+        }
+        String operation   = executionInfo.getOperationName() == null ? UNKNOWN : executionInfo.getOperationName();
+        String status      = statusClass(executionInfo.getResponseHttpCode());
+        String environment = environment(executionInfo.getRequestUrl());
+        String retries     = String.valueOf(Math.max(0, executionInfo.getAttempt() - 1));
+
+        timers.computeIfAbsent(String.join("|", "requests", operation, status, environment, retries),
+                k -> Timer.builder(prefix + ".requests")
+                        .description("Devops API calls")
+                        .tag("operation", operation)
+                        .tag("status", status)
+                        .tag("environment", environment)
+                        .tag("retries", retries)
+                        .publishPercentileHistogram()
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(registry))
+                .record(executionInfo.getExecutionTime(), TimeUnit.MILLISECONDS);
+
+        int code = executionInfo.getResponseHttpCode();
+        if (HttpURLConnection.HTTP_NOT_FOUND == code) {
+            counters.computeIfAbsent(String.join("|", "notfound", operation, environment),
+                    k -> Counter.builder(prefix + ".requests.notfound")
+                            .description("Devops API calls answered with a 404")
+                            .tag("operation", operation)
+                            .tag("environment", environment)
+                            .register(registry))
+                    .increment();
+        } else if (code == 0 || code >= 400) {
+            counters.computeIfAbsent(String.join("|", "errors", operation, status, environment),
+                    k -> Counter.builder(prefix + ".requests.errors")
+                            .description("Devops API calls failing")
+                            .tag("operation", operation)
+                            .tag("status", status)
+                            .tag("environment", environment)
+                            .register(registry))
+                    .increment();
+        }
+
+        RequestTimings timings = executionInfo.getTimings();
+        if (timings != null) {
+            recordPhase(operation, "pool_lease", timings.getPoolLease());
+            recordPhase(operation, "connect", timings.getConnect());
+            recordPhase(operation, "time_to_first_byte", timings.getTimeToFirstByte());
+            recordPhase(operation, "body_read", timings.getBodyRead());
+        }
+    }
+
+    /**
+     * Record a latency phase if measured.
+     *
+     * @param operation
+     *      operation name
+     * @param phase
+     *      phase name
+     * @param duration
+     *      phase duration
+     */
+    private void recordPhase(String operation, String phase, Optional<Duration> duration) {
+        duration.ifPresent(d -> timers.computeIfAbsent(String.join("|", "phases", operation, phase),
+                k -> Timer.builder(prefix + ".requests.phases")
+                        .description("Devops API calls latency by phase")
+                        .tag("operation", operation)
+                        .tag("phase", phase)
+                        .register(registry))
+                .record(d));
+    }
+
+    /**
+     * Class of an http status.
+     *
+     * @param code
+     *      http status, 0 when no response was received
+     * @return
+     *      status class like 2xx
+     */
+    static String statusClass(int code) {
+        if (code <= 0) {
+            return STATUS_IO_ERROR;
+        }
+        return (code / 100) + "xx";
+    }
+
+    /**
+     * Environment of a request url, the Devops API and the streaming clusters are matched.
+     *
+     * @param url
+     *      request url
+     * @return
+     *      environment name, <code>unknown</code> when not matched
+     */
+    static String environment(String url) {
+        if (url == null) {
+            return UNKNOWN;
+        }
+        for (AstraEnvironment env : AstraEnvironment.values()) {
+            // Devops API host, v2 and v3 paths
+            String apiHost = env.getEndPoint().substring(0, env.getEndPoint().lastIndexOf('/'));
+            if (url.startsWith(apiHost)
+                    || url.contains(env.getAppsSuffix())
+                    || url.contains(env.getStreamingV3Suffix())) {
+                return env.name();
+            }
+        }
+        return UNKNOWN;
+    }
+
+}
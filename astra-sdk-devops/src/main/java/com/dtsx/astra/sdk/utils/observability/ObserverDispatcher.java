@@ -0,0 +1,291 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.ThreadSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deliver execution events to the observers from a dedicated thread, the request threads only enqueue the events.
+ *
+ * <p>Events are held in a bounded ring buffer. When it is full the {@link OverflowPolicy} decides whether the
+ * event is dropped or the caller waits. The dispatcher thread drains events by batches and hands each observer its
+ * part of the batch with {@link ApiRequestObserver#onRequests(List)}, a slow observer delays the others but never
+ * the requests. The thread is started with the first event.</p>
+ */
+public class ObserverDispatcher implements Closeable {
+
+    /** Logger for our Client. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ObserverDispatcher.class);
+
+    /** Default capacity of the ring buffer. */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** Default maximum number of events delivered at once. */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * Behaviour when the ring buffer is full.
+     */
+    public enum OverflowPolicy {
+
+        /** The new event is dropped, the request thread never waits. */
+        DROP_NEWEST,
+
+        /** The oldest event is dropped to keep the most recent ones. */
+        DROP_OLDEST,
+
+        /** The request thread waits for a free slot, no event is lost. */
+        BLOCK
+    }
+
+    /**
+     * Event queued for the observers.
+     */
+    private static final class Event {
+
+        /** Execution information. */
+        private final ApiExecutionInfos executionInfos;
+
+        /** Observers registered when the event was published. */
+        private final Collection<ApiRequestObserver> observers;
+
+        /**
+         * Create the event.
+         *
+         * @param executionInfos
+         *      execution information
+         * @param observers
+         *      observers to notify
+         */
+        private Event(ApiExecutionInfos executionInfos, Collection<ApiRequestObserver> observers) {
+            this.executionInfos = executionInfos;
+            this.observers      = observers;
+        }
+    }
+
+    /** Ring buffer. */
+    private final ArrayBlockingQueue<Event> queue;
+
+    /** Behaviour when the ring buffer is full. */
+    private final OverflowPolicy overflowPolicy;
+
+    /** Maximum number of events delivered at once. */
+    private final int batchSize;
+
+    /** Events delivered. */
+    private final AtomicLong dispatchedCount = new AtomicLong();
+
+    /** Events dropped because the ring buffer was full. */
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /** Observer invocations failing with an error. */
+    private final AtomicLong failedCount = new AtomicLong();
+
+    /** Dispatcher thread, started with the first event. */
+    private volatile Thread worker;
+
+    /** No more event accepted. */
+    private volatile boolean closed;
+
+    /**
+     * Create a dispatcher.
+     *
+     * @param capacity
+     *      capacity of the ring buffer
+     * @param overflowPolicy
+     *      behaviour when the ring buffer is full
+     * @param batchSize
+     *      maximum number of events delivered at once
+     */
+    public ObserverDispatcher(int capacity, OverflowPolicy overflowPolicy, int batchSize) {
+        Assert.isTrue(capacity > 0, "capacity should be positive");
+        Assert.notNull(overflowPolicy, "overflowPolicy");
+        Assert.isTrue(batchSize > 0, "batchSize should be positive");
+        this.queue          = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize      = batchSize;
+    }
+
+    /**
+     * Queue an event for the observers.
+     *
+     * @param executionInfos
+     *      execution information
+     * @param observers
+     *      observers to notify
+     */
+    public void publish(ApiExecutionInfos executionInfos, Collection<ApiRequestObserver> observers) {
+        if (observers == null || observers.isEmpty()) {
+            return;
+        }
+        if (closed) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        ensureStarted();
+        Event event = new Event(executionInfos, observers);
+        switch (overflowPolicy) {
+            case BLOCK:
+                // The dispatcher thread itself cannot wait for a slot it has to free
+                if (Thread.currentThread() == worker) {
+                    offer(event);
+                } else {
+                    try {
+                        queue.put(event);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        droppedCount.incrementAndGet();
+                    }
+                }
+                break;
+            case DROP_OLDEST:
+                while (!queue.offer(event)) {
+                    if (queue.poll() != null) {
+                        droppedCount.incrementAndGet();
+                    }
+                }
+                break;
+            case DROP_NEWEST:
+            default:
+                offer(event);
+                break;
+        }
+    }
+
+    /**
+     * Queue an event or drop it if the ring buffer is full.
+     *
+     * @param event
+     *      event to queue
+     */
+    private void offer(Event event) {
+        if (!queue.offer(event)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Start the dispatcher thread if needed.
+     */
+    private void ensureStarted() {
+        if (worker == null) {
+            synchronized (this) {
+                if (worker == null) {
+                    Thread t = ThreadSupport.newThread("observers", this::dispatchLoop);
+                    t.start();
+                    worker = t;
+                }
+            }
+        }
+    }
+
+    /**
+     * Drain the ring buffer by batches until closed and empty.
+     */
+    private void dispatchLoop() {
+        List<Event> batch = new ArrayList<>(batchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                Event first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                // Woken up by close(), remaining events are still delivered
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Deliver a batch, each observer receives its events in publication order.
+     *
+     * @param batch
+     *      events to deliver
+     */
+    private void deliver(List<Event> batch) {
+        Map<ApiRequestObserver, List<ApiExecutionInfos>> byObserver = new IdentityHashMap<>();
+        for (Event event : batch) {
+            for (ApiRequestObserver observer : event.observers) {
+                byObserver.computeIfAbsent(observer, o -> new ArrayList<>()).add(event.executionInfos);
+            }
+        }
+        byObserver.forEach((observer, events) -> {
+            try {
+                observer.onRequests(events);
+            } catch (RuntimeException e) {
+                failedCount.incrementAndGet();
+                LOGGER.warn("Observer {} failed: {}", observer.getClass().getSimpleName(), e.getMessage());
+            }
+        });
+        dispatchedCount.addAndGet(batch.size());
+    }
+
+    /**
+     * Stop accepting events, the events already queued are delivered before the thread stops.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Thread t = worker;
+        if (t != null) {
+            t.interrupt();
+        }
+    }
+
+    /**
+     * Number of events waiting in the ring buffer.
+     *
+     * @return
+     *      queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Number of events delivered.
+     *
+     * @return
+     *      events delivered
+     */
+    public long getDispatchedCount() {
+        return dispatchedCount.get();
+    }
+
+    /**
+     * Number of events dropped because the ring buffer was full or the dispatcher closed.
+     *
+     * @return
+     *      events dropped
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Number of observer invocations failing with an error.
+     *
+     * @return
+     *      failed invocations
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+}
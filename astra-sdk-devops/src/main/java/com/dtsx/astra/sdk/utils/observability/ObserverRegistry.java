@@ -0,0 +1,128 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import com.dtsx.astra.sdk.utils.Assert;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Observers registered on a {@link com.dtsx.astra.sdk.utils.HttpClientWrapper}, shared by the clients using it.
+ *
+ * <p>The registry is copy-on-write: registrations are rare and copy the map, reads on the request path only
+ * access an immutable snapshot.</p>
+ *
+ * <p>A registry created with a parent also notifies the observers of the parent, registrations on the child are
+ * never visible from the parent.</p>
+ */
+public class ObserverRegistry {
+
+    /** Registry whose observers are notified as well, can be null. */
+    private final ObserverRegistry parent;
+
+    /** Immutable snapshot of the observers by name. */
+    private volatile Map<String, ApiRequestObserver> observers = Collections.emptyMap();
+
+    /**
+     * Default constructor.
+     */
+    public ObserverRegistry() {
+        this(null);
+    }
+
+    /**
+     * Constructor with a parent registry.
+     *
+     * @param parent
+     *      registry whose observers are notified as well, can be null
+     */
+    public ObserverRegistry(ObserverRegistry parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Register an observer, an observer with the same name is replaced.
+     *
+     * @param name
+     *      name of the observer
+     * @param observer
+     *      observer to register
+     */
+    public synchronized void register(String name, ApiRequestObserver observer) {
+        Assert.hasLength(name, "name");
+        Assert.notNull(observer, "observer");
+        Map<String, ApiRequestObserver> copy = new LinkedHashMap<>(observers);
+        copy.put(name, observer);
+        observers = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Register observers.
+     *
+     * @param observers
+     *      observers by name
+     */
+    public synchronized void registerAll(Map<String, ApiRequestObserver> observers) {
+        if (observers != null && !observers.isEmpty()) {
+            Map<String, ApiRequestObserver> copy = new LinkedHashMap<>(this.observers);
+            copy.putAll(observers);
+            this.observers = Collections.unmodifiableMap(copy);
+        }
+    }
+
+    /**
+     * Remove an observer.
+     *
+     * @param name
+     *      name of the observer
+     */
+    public synchronized void unregister(String name) {
+        if (observers.containsKey(name)) {
+            Map<String, ApiRequestObserver> copy = new LinkedHashMap<>(observers);
+            copy.remove(name);
+            observers = Collections.unmodifiableMap(copy);
+        }
+    }
+
+    /**
+     * Check if observers are registered.
+     *
+     * @return
+     *      if no observer is registered
+     */
+    public boolean isEmpty() {
+        return observers.isEmpty() && (parent == null || parent.isEmpty());
+    }
+
+    /**
+     * Access the observers.
+     *
+     * @return
+     *      immutable snapshot of the observers
+     */
+    public Collection<ApiRequestObserver> getObservers() {
+        return getObserversByName().values();
+    }
+
+    /**
+     * Access the observers by name.
+     *
+     * @return
+     *      immutable snapshot of the observers by name, the observers of this registry override those of the parent
+     */
+    public Map<String, ApiRequestObserver> getObserversByName() {
+        Map<String, ApiRequestObserver> inherited = parent == null ? Collections.emptyMap() : parent.getObserversByName();
+        if (inherited.isEmpty()) {
+            return observers;
+        }
+        Map<String, ApiRequestObserver> own = observers;
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        Map<String, ApiRequestObserver> merged = new LinkedHashMap<>(inherited);
+        merged.putAll(own);
+        return Collections.unmodifiableMap(merged);
+    }
+
+}
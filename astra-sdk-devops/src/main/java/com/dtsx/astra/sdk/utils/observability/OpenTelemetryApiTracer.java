@@ -0,0 +1,138 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import com.dtsx.astra.sdk.utils.Assert;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+
+import java.util.function.BiConsumer;
+
+/**
+ * {@link ApiTracer} backed by OpenTelemetry. Spans are children of the current OpenTelemetry context and the
+ * trace context is propagated to the server with the configured propagators, W3C <code>traceparent</code> by default.
+ *
+ * <p>OpenTelemetry is an optional dependency of the SDK, add <code>io.opentelemetry:opentelemetry-api</code> to use
+ * this tracer.</p>
+ */
+public class OpenTelemetryApiTracer implements ApiTracer {
+
+    /** Name of the instrumentation scope. */
+    public static final String INSTRUMENTATION_NAME = "com.dtsx.astra.sdk";
+
+    /** OpenTelemetry tracer. */
+    private final Tracer tracer;
+
+    /** Propagation of the trace context. */
+    private final TextMapPropagator propagator;
+
+    /**
+     * Tracer with an OpenTelemetry instance.
+     *
+     * @param openTelemetry
+     *      configured OpenTelemetry
+     */
+    public OpenTelemetryApiTracer(OpenTelemetry openTelemetry) {
+        Assert.notNull(openTelemetry, "openTelemetry");
+        this.tracer     = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+        this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+    }
+
+    /**
+     * Tracer with the global OpenTelemetry instance, set by the java agent or the application.
+     *
+     * @return
+     *      tracer
+     */
+    public static OpenTelemetryApiTracer global() {
+        return new OpenTelemetryApiTracer(GlobalOpenTelemetry.get());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ApiSpan startSpan(String name) {
+        return new OpenTelemetrySpan(tracer.spanBuilder(name).setSpanKind(SpanKind.INTERNAL).startSpan());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ApiSpan startClientSpan(String name) {
+        return new OpenTelemetrySpan(tracer.spanBuilder(name).setSpanKind(SpanKind.CLIENT).startSpan());
+    }
+
+    /**
+     * Span wrapping an OpenTelemetry span.
+     */
+    private final class OpenTelemetrySpan implements ApiSpan {
+
+        /** OpenTelemetry span. */
+        private final Span span;
+
+        /**
+         * Constructor.
+         *
+         * @param span
+         *      OpenTelemetry span
+         */
+        private OpenTelemetrySpan(Span span) {
+            this.span = span;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiSpan setAttribute(String key, String value) {
+            if (value != null) {
+                span.setAttribute(key, value);
+            }
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ApiSpan setAttribute(String key, long value) {
+            span.setAttribute(key, value);
+            return this;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void recordError(Throwable error) {
+            span.recordException(error);
+            span.setStatus(StatusCode.ERROR, error.getMessage() == null ? error.getClass().getSimpleName() : error.getMessage());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void injectHeaders(BiConsumer<String, String> headers) {
+            propagator.inject(Context.current().with(span), headers, (carrier, key, value) -> {
+                if (carrier != null) {
+                    carrier.accept(key, value);
+                }
+            });
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Scope makeCurrent() {
+            io.opentelemetry.context.Scope scope = span.makeCurrent();
+            return scope::close;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void end() {
+            span.end();
+        }
+    }
+
+}
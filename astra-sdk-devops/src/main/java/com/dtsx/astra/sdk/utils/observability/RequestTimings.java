@@ -0,0 +1,184 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency of an exchange broken down by phase, measured with {@link System#nanoTime()}.
+ *
+ * <ul>
+ *     <li><b>pool lease</b>: wait for a connection from the pool.</li>
+ *     <li><b>connect</b>: TCP connection and TLS handshake, absent when a pooled connection was reused.</li>
+ *     <li><b>time to first byte</b>: from the request written to the response headers received.</li>
+ *     <li><b>body read</b>: reading the response body.</li>
+ *     <li><b>deserialization</b>: JSON decoding of the body by the client, recorded when the body is decoded.</li>
+ * </ul>
+ *
+ * <p>On the non-blocking client the pool lease and connect phases are not isolated, they are included in the
+ * time to first byte. Deserialization happens after the observers are notified and may still be absent when an
+ * observer reads it.</p>
+ */
+public class RequestTimings {
+
+    /** Value of a phase not measured. */
+    private static final long NOT_MEASURED = -1;
+
+    /** Wait for a pooled connection in nanoseconds. */
+    private volatile long poolLeaseNanos = NOT_MEASURED;
+
+    /** Connection and TLS handshake in nanoseconds. */
+    private volatile long connectNanos = NOT_MEASURED;
+
+    /** Request written to response headers in nanoseconds. */
+    private volatile long timeToFirstByteNanos = NOT_MEASURED;
+
+    /** Body read in nanoseconds. */
+    private volatile long bodyReadNanos = NOT_MEASURED;
+
+    /** JSON decoding in nanoseconds, a body can be decoded more than once. */
+    private final AtomicLong deserializationNanos = new AtomicLong(NOT_MEASURED);
+
+    /**
+     * Default constructor.
+     */
+    public RequestTimings() {}
+
+    /**
+     * Record the wait for a pooled connection.
+     *
+     * @param nanos
+     *      duration in nanoseconds
+     */
+    public void recordPoolLease(long nanos) {
+        this.poolLeaseNanos = nanos;
+    }
+
+    /**
+     * Record the connection and TLS handshake.
+     *
+     * @param nanos
+     *      duration in nanoseconds
+     */
+    public void recordConnect(long nanos) {
+        this.connectNanos = nanos;
+    }
+
+    /**
+     * Record the time from the request written to the response headers.
+     *
+     * @param nanos
+     *      duration in nanoseconds
+     */
+    public void recordTimeToFirstByte(long nanos) {
+        this.timeToFirstByteNanos = nanos;
+    }
+
+    /**
+     * Record the body read.
+     *
+     * @param nanos
+     *      duration in nanoseconds
+     */
+    public void recordBodyRead(long nanos) {
+        this.bodyReadNanos = nanos;
+    }
+
+    /**
+     * Record a JSON decoding of the body, durations are added.
+     *
+     * @param nanos
+     *      duration in nanoseconds
+     */
+    public void recordDeserialization(long nanos) {
+        deserializationNanos.accumulateAndGet(nanos, (previous, n) -> previous == NOT_MEASURED ? n : previous + n);
+    }
+
+    /**
+     * Wait for a pooled connection.
+     *
+     * @return
+     *      duration, empty if not measured
+     */
+    public Optional<Duration> getPoolLease() {
+        return toDuration(poolLeaseNanos);
+    }
+
+    /**
+     * Connection and TLS handshake.
+     *
+     * @return
+     *      duration, empty if a pooled connection was reused or not measured
+     */
+    public Optional<Duration> getConnect() {
+        return toDuration(connectNanos);
+    }
+
+    /**
+     * Time from the request written to the response headers.
+     *
+     * @return
+     *      duration, empty if no response was received
+     */
+    public Optional<Duration> getTimeToFirstByte() {
+        return toDuration(timeToFirstByteNanos);
+    }
+
+    /**
+     * Body read.
+     *
+     * @return
+     *      duration, empty if no body was read
+     */
+    public Optional<Duration> getBodyRead() {
+        return toDuration(bodyReadNanos);
+    }
+
+    /**
+     * JSON decoding of the body.
+     *
+     * @return
+     *      duration, empty if the body has not been decoded (yet)
+     */
+    public Optional<Duration> getDeserialization() {
+        return toDuration(deserializationNanos.get());
+    }
+
+    /**
+     * Map a measure to a duration.
+     *
+     * @param nanos
+     *      measure in nanoseconds
+     * @return
+     *      duration, empty if not measured
+     */
+    private static Optional<Duration> toDuration(long nanos) {
+        return nanos == NOT_MEASURED ? Optional.empty() : Optional.of(Duration.ofNanos(nanos));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "RequestTimings{" +
+                "poolLease=" + format(poolLeaseNanos) +
+                ", connect=" + format(connectNanos) +
+                ", timeToFirstByte=" + format(timeToFirstByteNanos) +
+                ", bodyRead=" + format(bodyReadNanos) +
+                ", deserialization=" + format(deserializationNanos.get()) +
+                '}';
+    }
+
+    /**
+     * Format a measure in milliseconds.
+     *
+     * @param nanos
+     *      measure in nanoseconds
+     * @return
+     *      formatted value
+     */
+    private static String format(long nanos) {
+        return nanos == NOT_MEASURED ? "n/a" : String.format(Locale.ROOT, "%.3fms", nanos / 1_000_000d);
+    }
+
+}
@@ -0,0 +1,685 @@
+package com.dtsx.astra.sdk.utils.transport;
+
+import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.ConnectionPoolMonitor;
+import com.dtsx.astra.sdk.utils.ConnectionPoolStats;
+import com.dtsx.astra.sdk.utils.HttpClientConfig;
+import com.dtsx.astra.sdk.utils.observability.RequestTimings;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.auth.StandardAuthScheme;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.cookie.StandardCookieSpec;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
+import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.client5.http.nio.AsyncConnectionEndpoint;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import javax.net.ssl.SSLContext;
+
+/**
+ * Default {@link HttpTransport} on Apache HttpComponents 5: a blocking client and a non-blocking client, each with
+ * its own connection pool sized by the {@link HttpClientConfig}.
+ *
+ * <p>The pools record the lease wait per route, and the lease and connect phases of the exchanges observed. The
+ * non-blocking IO reactor is only started with the first asynchronous exchange.</p>
+ *
+ * <p>With {@link HttpClientConfig.HttpVersion#HTTP_1_1} both clients speak HTTP/1.1. With
+ * {@link HttpClientConfig.HttpVersion#HTTP_2} every exchange, blocking ones included, goes through the non-blocking
+ * client which negotiates the protocol with ALPN on TLS connections: HTTP/2 when the server and the JVM support it,
+ * multiplexing the requests to a host, and HTTP/1.1 otherwise. The blocking pool is then left unused.</p>
+ */
+public class HttpClient5Transport implements HttpTransport {
+
+    /** Timings of the blocking exchange running on the current thread, read by the connection manager. */
+    private static final ThreadLocal<RequestTimings> CURRENT_TIMINGS = new ThreadLocal<>();
+
+    /** HttpComponent5. */
+    protected final CloseableHttpClient httpClient;
+
+    /** HttpComponent5 non-blocking client, the IO reactor is started on first asynchronous call. */
+    protected final CloseableHttpAsyncClient asyncHttpClient;
+
+    /** Request configuration. */
+    protected final RequestConfig requestConfig;
+
+    /** Http version of the non-blocking exchanges. */
+    protected final HttpClientConfig.HttpVersion httpVersion;
+
+    /** Statistics of the blocking connection pool. */
+    protected final ConnectionPoolMonitor blockingPoolMonitor;
+
+    /** Statistics of the non-blocking connection pool. */
+    protected final ConnectionPoolMonitor asyncPoolMonitor;
+
+    /**
+     * Create the http clients and their connection pools.
+     *
+     * @param config
+     *      http client configuration
+     */
+    public HttpClient5Transport(HttpClientConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * Create the http clients and their connection pools, TLS connections use the material of an SSL context.
+     *
+     * @param config
+     *      http client configuration
+     * @param sslContext
+     *      trust and key material of the TLS connections, null for the defaults of the JVM
+     */
+    public HttpClient5Transport(HttpClientConfig config, SSLContext sslContext) {
+        Assert.notNull(config, "config");
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(toTimeout(config.getConnectTimeout()))
+                .setValidateAfterInactivity(toTimeValue(config.getValidateAfterInactivity()))
+                .build();
+        RequestConfig.Builder requestConfigBuilder = RequestConfig.custom()
+                .setCookieSpec(StandardCookieSpec.STRICT)
+                .setExpectContinueEnabled(config.isExpectContinueEnabled())
+                .setConnectionRequestTimeout(toTimeout(config.getConnectionRequestTimeout()))
+                .setTargetPreferredAuthSchemes(Arrays.asList(StandardAuthScheme.NTLM, StandardAuthScheme.DIGEST));
+        config.getResponseTimeout().ifPresent(t -> requestConfigBuilder.setResponseTimeout(toTimeout(t)));
+        this.requestConfig = requestConfigBuilder.build();
+        this.httpVersion   = config.getHttpVersion();
+
+        // Blocking client
+        this.blockingPoolMonitor = new ConnectionPoolMonitor(ConnectionPoolStats.Pool.BLOCKING);
+        final PoolingHttpClientConnectionManager connManager = new TimedConnectionManager(blockingPoolMonitor, sslContext);
+        connManager.setMaxTotal(config.getMaxConnectionsTotal());
+        connManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+        connManager.setDefaultConnectionConfig(connectionConfig);
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                .setConnectionManager(connManager)
+                .setDefaultRequestConfig(requestConfig);
+        config.getKeepAlive().ifPresent(k -> httpClientBuilder
+                .setKeepAliveStrategy((response, context) -> toTimeValue(k)));
+        this.httpClient = httpClientBuilder.build();
+
+        // Non-blocking client
+        this.asyncPoolMonitor = new ConnectionPoolMonitor(ConnectionPoolStats.Pool.ASYNC);
+        final PoolingAsyncClientConnectionManager asyncConnManager = new TimedAsyncConnectionManager(asyncPoolMonitor, sslContext);
+        asyncConnManager.setMaxTotal(config.getMaxConnectionsTotal());
+        asyncConnManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+        asyncConnManager.setDefaultConnectionConfig(connectionConfig);
+        // With HTTP_2, HTTP/2 if both ends agree with ALPN during the TLS handshake and HTTP/1.1 otherwise
+        asyncConnManager.setDefaultTlsConfig(TlsConfig.custom()
+                .setVersionPolicy(HttpClientConfig.HttpVersion.HTTP_2 == httpVersion
+                        ? HttpVersionPolicy.NEGOTIATE : HttpVersionPolicy.FORCE_HTTP_1)
+                .build());
+        HttpAsyncClientBuilder asyncClientBuilder = HttpAsyncClients.custom()
+                .setConnectionManager(asyncConnManager)
+                .setDefaultRequestConfig(requestConfig);
+        config.getKeepAlive().ifPresent(k -> asyncClientBuilder
+                .setKeepAliveStrategy((response, context) -> toTimeValue(k)));
+        this.asyncHttpClient = asyncClientBuilder.build();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ApiResponseHttp execute(TransportRequest request, RequestTimings timings) throws IOException {
+        if (HttpClientConfig.HttpVersion.HTTP_2 == httpVersion) {
+            // Multiplexed on the connections of the non-blocking client
+            return await(executeAsync(request, timings));
+        }
+        final HttpUriRequestBase req = toClassicRequest(request);
+        final long sent = System.nanoTime();
+        // Pool lease and connect are recorded by the connection manager, on the calling thread
+        CURRENT_TIMINGS.set(timings);
+        try(CloseableHttpResponse response = httpClient.execute(req)) {
+            if (response == null) {
+                return new ApiResponseHttp("Response is empty, please check url",
+                        HttpURLConnection.HTTP_UNAVAILABLE, null);
+            }
+            final long headersReceived = System.nanoTime();
+            // Mapping response, raw bytes are kept and decoded on demand
+            byte[] body = null;
+            Charset charset = null;
+            if (null != response.getEntity()) {
+                body    = EntityUtils.toByteArray(response.getEntity());
+                charset = getCharset(response.getEntity().getContentType());
+                EntityUtils.consume(response.getEntity());
+            }
+            if (timings != null) {
+                long connection = timings.getPoolLease().map(Duration::toNanos).orElse(0L)
+                        + timings.getConnect().map(Duration::toNanos).orElse(0L);
+                timings.recordTimeToFirstByte(Math.max(0, headersReceived - sent - connection));
+                timings.recordBodyRead(System.nanoTime() - headersReceived);
+            }
+            return new ApiResponseHttp(body, charset, response.getCode(), mapHeaders(response.getHeaders()));
+        } finally {
+            CURRENT_TIMINGS.remove();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<ApiResponseHttp> executeAsync(TransportRequest request, RequestTimings timings) {
+        final SimpleHttpRequest req = toAsyncRequest(request);
+        final CompletableFuture<ApiResponseHttp> result = new CompletableFuture<>();
+        final FutureCallback<SimpleHttpResponse> callback = new FutureCallback<SimpleHttpResponse>() {
+
+            /** {@inheritDoc} */
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                result.complete(new ApiResponseHttp(response.getBodyBytes(),
+                        response.getContentType() == null ? null : response.getContentType().getCharset(),
+                        response.getCode(), mapHeaders(response.getHeaders())));
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void failed(Exception e) {
+                result.completeExceptionally(e);
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        };
+        // no-op when already running
+        asyncHttpClient.start();
+        final Future<SimpleHttpResponse> exchange = timings == null
+                ? asyncHttpClient.execute(req, callback)
+                : asyncHttpClient.execute(SimpleRequestProducer.create(req), new TimedResponseConsumer(timings), callback);
+        result.whenComplete((res, error) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Wait for the response of an asynchronous exchange, the exchange is cancelled if the thread is interrupted.
+     *
+     * @param response
+     *      future response
+     * @return
+     *      response
+     * @throws IOException
+     *      error of the exchange
+     */
+    private static ApiResponseHttp await(CompletableFuture<ApiResponseHttp> response) throws IOException {
+        try {
+            return response.get();
+        } catch (InterruptedException e) {
+            response.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConnectionPoolMonitor getConnectionPoolMonitor(ConnectionPoolStats.Pool pool) {
+        Assert.notNull(pool, "pool");
+        return ConnectionPoolStats.Pool.ASYNC == pool ? asyncPoolMonitor : blockingPoolMonitor;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictConnections(Duration idleTimeout) {
+        blockingPoolMonitor.evict(idleTimeout);
+        asyncPoolMonitor.evict(idleTimeout);
+    }
+
+    /**
+     * Release the connection pools.
+     *
+     * @throws IOException
+     *      error when closing the clients
+     */
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+        asyncHttpClient.close();
+    }
+
+    /**
+     * Map a request built by an application with httpclient5.
+     *
+     * @param req
+     *      blocking request
+     * @return
+     *      transport request
+     */
+    public static TransportRequest toTransportRequest(HttpUriRequestBase req) {
+        String body = null;
+        if (req.getEntity() != null) {
+            try {
+                body = EntityUtils.toString(req.getEntity());
+            } catch (IOException | ParseException e) {
+                throw new IllegalArgumentException("Cannot read request body", e);
+            }
+        }
+        return copyHeaders(req, new TransportRequest(req.getMethod(), getRequestUrl(req), body));
+    }
+
+    /**
+     * Map a request built by an application with httpclient5.
+     *
+     * @param req
+     *      non-blocking request
+     * @return
+     *      transport request
+     */
+    public static TransportRequest toTransportRequest(SimpleHttpRequest req) {
+        return copyHeaders(req, new TransportRequest(req.getMethod(), getRequestUrl(req), req.getBodyText()));
+    }
+
+    /**
+     * Copy the headers of a httpclient5 request.
+     *
+     * @param req
+     *      httpclient5 request
+     * @param target
+     *      transport request
+     * @return
+     *      transport request
+     */
+    private static TransportRequest copyHeaders(HttpRequest req, TransportRequest target) {
+        for (Header header : req.getHeaders()) {
+            target.addHeader(header.getName(), header.getValue());
+        }
+        return target;
+    }
+
+    /**
+     * Extract the target url of a request.
+     *
+     * @param req
+     *      current request
+     * @return
+     *      request url
+     */
+    private static String getRequestUrl(HttpRequest req) {
+        try {
+            return req.getUri().toString();
+        } catch (URISyntaxException e) {
+            return req.getRequestUri();
+        }
+    }
+
+    /**
+     * Build the request of the blocking client.
+     *
+     * @param request
+     *      transport request
+     * @return
+     *      httpclient5 request
+     */
+    private HttpUriRequestBase toClassicRequest(TransportRequest request) {
+        HttpUriRequestBase req = new HttpUriRequestBase(request.getMethod(), URI.create(request.getUrl()));
+        request.getHeaders().forEach(h -> req.addHeader(h.getKey(), h.getValue()));
+        req.setConfig(requestConfig);
+        if (null != request.getBody()) {
+            req.setEntity(new StringEntity(request.getBody(), ContentType.TEXT_PLAIN));
+        }
+        return req;
+    }
+
+    /**
+     * Build the request of the non-blocking client.
+     *
+     * @param request
+     *      transport request
+     * @return
+     *      httpclient5 request
+     */
+    private SimpleHttpRequest toAsyncRequest(TransportRequest request) {
+        SimpleRequestBuilder builder = SimpleRequestBuilder.create(request.getMethod())
+                .setUri(request.getUrl())
+                .setRequestConfig(requestConfig);
+        request.getHeaders().forEach(h -> builder.addHeader(h.getKey(), h.getValue()));
+        if (null != request.getBody()) {
+            builder.setBody(request.getBody(), ContentType.TEXT_PLAIN);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Charset of a response body, JSON defaults to UTF-8.
+     *
+     * @param contentType
+     *      value of the content type header
+     * @return
+     *      charset of the body
+     */
+    private static Charset getCharset(String contentType) {
+        ContentType type = contentType == null ? null : ContentType.parseLenient(contentType);
+        return type == null || type.getCharset() == null ? StandardCharsets.UTF_8 : type.getCharset();
+    }
+
+    /**
+     * Map response headers.
+     *
+     * @param responseHeaders
+     *      raw headers
+     * @return
+     *      headers as a map
+     */
+    private static Map<String, String> mapHeaders(Header[] responseHeaders) {
+        Map<String, String > headers = new HashMap<>();
+        Arrays.stream(responseHeaders).forEach(h -> headers.put(h.getName(), h.getValue()));
+        return headers;
+    }
+
+    /**
+     * Map a duration to http component timeout.
+     *
+     * @param duration
+     *      duration
+     * @return
+     *      timeout
+     */
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    /**
+     * Map a duration to http component time value.
+     *
+     * @param duration
+     *      duration
+     * @return
+     *      time value
+     */
+    private static TimeValue toTimeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+
+    /**
+     * Blocking connection pool recording the lease wait per route, and the lease and connect phases in the timings
+     * of the calling thread.
+     */
+    private static final class TimedConnectionManager extends PoolingHttpClientConnectionManager {
+
+        /** Statistics of the pool. */
+        private final ConnectionPoolMonitor monitor;
+
+        /**
+         * Constructor.
+         *
+         * @param monitor
+         *      statistics of the pool
+         * @param sslContext
+         *      material of the TLS connections, null for the defaults of the JVM
+         */
+        private TimedConnectionManager(ConnectionPoolMonitor monitor, SSLContext sslContext) {
+            super(RegistryBuilder.<ConnectionSocketFactory>create()
+                    .register(URIScheme.HTTP.getId(), PlainConnectionSocketFactory.getSocketFactory())
+                    .register(URIScheme.HTTPS.getId(), sslContext == null
+                            ? SSLConnectionSocketFactory.getSocketFactory()
+                            : new SSLConnectionSocketFactory(sslContext))
+                    .build());
+            this.monitor = monitor;
+            monitor.attach(this);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+            final LeaseRequest lease = super.lease(id, route, requestTimeout, state);
+            return new LeaseRequest() {
+
+                /** {@inheritDoc} */
+                @Override
+                public ConnectionEndpoint get(Timeout timeout) throws InterruptedException, ExecutionException, TimeoutException {
+                    final long start = System.nanoTime();
+                    try {
+                        return lease.get(timeout);
+                    } finally {
+                        final long wait = System.nanoTime() - start;
+                        monitor.recordLease(route, wait);
+                        RequestTimings timings = CURRENT_TIMINGS.get();
+                        if (timings != null) {
+                            timings.recordPoolLease(wait);
+                        }
+                    }
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public boolean cancel() {
+                    return lease.cancel();
+                }
+            };
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void connect(ConnectionEndpoint endpoint, TimeValue timeout, HttpContext context) throws IOException {
+            final long start = System.nanoTime();
+            try {
+                super.connect(endpoint, timeout, context);
+            } finally {
+                RequestTimings timings = CURRENT_TIMINGS.get();
+                if (timings != null) {
+                    timings.recordConnect(System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    /**
+     * Non-blocking connection pool recording the lease wait per route.
+     */
+    private static final class TimedAsyncConnectionManager extends PoolingAsyncClientConnectionManager {
+
+        /** Statistics of the pool. */
+        private final ConnectionPoolMonitor monitor;
+
+        /**
+         * Constructor.
+         *
+         * @param monitor
+         *      statistics of the pool
+         * @param sslContext
+         *      material of the TLS connections, null for the defaults of the JVM
+         */
+        private TimedAsyncConnectionManager(ConnectionPoolMonitor monitor, SSLContext sslContext) {
+            super(RegistryBuilder.<TlsStrategy>create()
+                    .register(URIScheme.HTTPS.getId(), sslContext == null
+                            ? DefaultClientTlsStrategy.getDefault()
+                            : new DefaultClientTlsStrategy(sslContext))
+                    .build());
+            this.monitor = monitor;
+            monitor.attach(this);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Future<AsyncConnectionEndpoint> lease(String id, HttpRoute route, Object state, Timeout requestTimeout,
+                                                     FutureCallback<AsyncConnectionEndpoint> callback) {
+            final long start = System.nanoTime();
+            return super.lease(id, route, state, requestTimeout, new FutureCallback<AsyncConnectionEndpoint>() {
+
+                /** {@inheritDoc} */
+                @Override
+                public void completed(AsyncConnectionEndpoint endpoint) {
+                    monitor.recordLease(route, System.nanoTime() - start);
+                    if (callback != null) {
+                        callback.completed(endpoint);
+                    }
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void failed(Exception e) {
+                    monitor.recordLease(route, System.nanoTime() - start);
+                    if (callback != null) {
+                        callback.failed(e);
+                    }
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void cancelled() {
+                    if (callback != null) {
+                        callback.cancelled();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Non-blocking response consumer recording the time to first byte and the body read.
+     */
+    private static final class TimedResponseConsumer implements AsyncResponseConsumer<SimpleHttpResponse> {
+
+        /** Consumer building the response. */
+        private final AsyncResponseConsumer<SimpleHttpResponse> delegate = SimpleResponseConsumer.create();
+
+        /** Timings of the exchange. */
+        private final RequestTimings timings;
+
+        /** Request sent. */
+        private final long sent = System.nanoTime();
+
+        /**
+         * Constructor.
+         *
+         * @param timings
+         *      timings of the exchange
+         */
+        private TimedResponseConsumer(RequestTimings timings) {
+            this.timings = timings;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void consumeResponse(HttpResponse response, EntityDetails entityDetails, HttpContext context,
+                                    FutureCallback<SimpleHttpResponse> resultCallback) throws HttpException, IOException {
+            final long headersReceived = System.nanoTime();
+            timings.recordTimeToFirstByte(headersReceived - sent);
+            delegate.consumeResponse(response, entityDetails, context, new FutureCallback<SimpleHttpResponse>() {
+
+                /** {@inheritDoc} */
+                @Override
+                public void completed(SimpleHttpResponse result) {
+                    timings.recordBodyRead(System.nanoTime() - headersReceived);
+                    resultCallback.completed(result);
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void failed(Exception ex) {
+                    resultCallback.failed(ex);
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void cancelled() {
+                    resultCallback.cancelled();
+                }
+            });
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void informationResponse(HttpResponse response, HttpContext context) throws HttpException, IOException {
+            delegate.informationResponse(response, context);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void updateCapacity(CapacityChannel capacityChannel) throws IOException {
+            delegate.updateCapacity(capacityChannel);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void consume(ByteBuffer src) throws IOException {
+            delegate.consume(src);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void streamEnd(List<? extends Header> trailers) throws HttpException, IOException {
+            delegate.streamEnd(trailers);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void failed(Exception cause) {
+            delegate.failed(cause);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void releaseResources() {
+            delegate.releaseResources();
+        }
+    }
+
+}
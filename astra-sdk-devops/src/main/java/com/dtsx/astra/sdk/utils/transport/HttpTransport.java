@@ -0,0 +1,67 @@
+package com.dtsx.astra.sdk.utils.transport;
+
+import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.ConnectionPoolMonitor;
+import com.dtsx.astra.sdk.utils.ConnectionPoolStats;
+import com.dtsx.astra.sdk.utils.observability.RequestTimings;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Executes the http exchanges of a {@link com.dtsx.astra.sdk.utils.HttpClientWrapper}.
+ *
+ * <p>The wrapper keeps everything above the wire: request building, rate and concurrency limits, retries, response
+ * validation, observers and tracing. A transport only performs a single exchange and maps the response, it does
+ * not throw for error codes. {@link HttpClient5Transport} is the default implementation,
+ * {@link LoopbackTransport} answers in memory to measure the SDK overhead without network.</p>
+ */
+public interface HttpTransport extends Closeable {
+
+    /**
+     * Execute a single exchange in the calling thread.
+     *
+     * @param request
+     *      request to send
+     * @param timings
+     *      phase timings to fill, null when the exchange is not observed
+     * @return
+     *      http response, whatever its code
+     * @throws IOException
+     *      error at the transport level, the request may be retried
+     */
+    ApiResponseHttp execute(TransportRequest request, RequestTimings timings) throws IOException;
+
+    /**
+     * Execute a single exchange without blocking the calling thread.
+     *
+     * @param request
+     *      request to send
+     * @param timings
+     *      phase timings to fill, null when the exchange is not observed
+     * @return
+     *      future http response, completed exceptionally with the transport error or cancelled
+     */
+    CompletableFuture<ApiResponseHttp> executeAsync(TransportRequest request, RequestTimings timings);
+
+    /**
+     * Access the statistics of a connection pool.
+     *
+     * @param pool
+     *      blocking or non-blocking pool
+     * @return
+     *      pool monitor, never attached when the transport has no pool
+     */
+    ConnectionPoolMonitor getConnectionPoolMonitor(ConnectionPoolStats.Pool pool);
+
+    /**
+     * Close the expired connections and the connections idle for longer than a delay.
+     *
+     * @param idleTimeout
+     *      maximum idle time
+     */
+    default void evictConnections(Duration idleTimeout) {}
+
+}
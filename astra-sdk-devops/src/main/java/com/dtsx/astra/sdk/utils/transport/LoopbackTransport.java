@@ -0,0 +1,154 @@
+package com.dtsx.astra.sdk.utils.transport;
+
+import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.Assert;
+import com.dtsx.astra.sdk.utils.ConnectionPoolMonitor;
+import com.dtsx.astra.sdk.utils.ConnectionPoolStats;
+import com.dtsx.astra.sdk.utils.observability.RequestTimings;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory {@link HttpTransport}: requests are dispatched straight into a {@link Handler}, no socket is opened.
+ *
+ * <p>Meant for benchmarks and load tests of the SDK itself (request building, serialization, limits, retries,
+ * observers, tracing) with no network in the loop. The handler time is reported as the time to first byte. By
+ * default asynchronous requests are handled in the calling thread, an {@link Executor} can be given to complete
+ * them elsewhere like a real IO reactor.</p>
+ */
+public class LoopbackTransport implements HttpTransport {
+
+    /**
+     * Answer the requests of a {@link LoopbackTransport}.
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * Answer a request.
+         *
+         * @param request
+         *      request sent by the client
+         * @return
+         *      http response
+         * @throws IOException
+         *      simulated transport error
+         */
+        ApiResponseHttp handle(TransportRequest request) throws IOException;
+    }
+
+    /** Request handler. */
+    private final Handler handler;
+
+    /** Executor of the asynchronous requests, null to handle them in the calling thread. */
+    private final Executor executor;
+
+    /** Requests handled. */
+    private final LongAdder requestCount = new LongAdder();
+
+    /** Pool statistics, never attached as there is no pool. */
+    private final ConnectionPoolMonitor blockingPoolMonitor = new ConnectionPoolMonitor(ConnectionPoolStats.Pool.BLOCKING);
+
+    /** Pool statistics, never attached as there is no pool. */
+    private final ConnectionPoolMonitor asyncPoolMonitor = new ConnectionPoolMonitor(ConnectionPoolStats.Pool.ASYNC);
+
+    /**
+     * Transport handling every request in the calling thread.
+     *
+     * @param handler
+     *      request handler
+     */
+    public LoopbackTransport(Handler handler) {
+        this(handler, null);
+    }
+
+    /**
+     * Transport handling the asynchronous requests with an executor.
+     *
+     * @param handler
+     *      request handler
+     * @param executor
+     *      executor of the asynchronous requests, null to handle them in the calling thread
+     */
+    public LoopbackTransport(Handler handler, Executor executor) {
+        Assert.notNull(handler, "handler");
+        this.handler  = handler;
+        this.executor = executor;
+    }
+
+    /**
+     * Handler answering every request with the same code and body.
+     *
+     * @param code
+     *      http status
+     * @param body
+     *      response body
+     * @return
+     *      request handler
+     */
+    public static Handler fixedResponse(int code, String body) {
+        return request -> new ApiResponseHttp(body, code, Collections.singletonMap("Content-Type", "application/json"));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ApiResponseHttp execute(TransportRequest request, RequestTimings timings) throws IOException {
+        requestCount.increment();
+        final long sent = System.nanoTime();
+        ApiResponseHttp response = handler.handle(request);
+        if (response == null) {
+            throw new IOException("No response from loopback handler for " + request);
+        }
+        if (timings != null) {
+            timings.recordTimeToFirstByte(System.nanoTime() - sent);
+        }
+        return response;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<ApiResponseHttp> executeAsync(TransportRequest request, RequestTimings timings) {
+        final CompletableFuture<ApiResponseHttp> result = new CompletableFuture<>();
+        Runnable exchange = () -> {
+            try {
+                result.complete(execute(request, timings));
+            } catch (IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        };
+        if (executor == null) {
+            exchange.run();
+        } else {
+            executor.execute(exchange);
+        }
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ConnectionPoolMonitor getConnectionPoolMonitor(ConnectionPoolStats.Pool pool) {
+        Assert.notNull(pool, "pool");
+        return ConnectionPoolStats.Pool.ASYNC == pool ? asyncPoolMonitor : blockingPoolMonitor;
+    }
+
+    /**
+     * Number of requests handled, retries included.
+     *
+     * @return
+     *      requests handled
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        // nothing to release
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.dtsx.astra.sdk.utils.transport;
+
+import com.dtsx.astra.sdk.utils.Assert;
+
+import java.net.URI;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Http request handed to a {@link HttpTransport}, independent of the http library.
+ *
+ * <p>The request is built by {@link com.dtsx.astra.sdk.utils.HttpClientWrapper}, headers can be added until it is
+ * sent (conditional headers, trace context). The same instance is sent again when the request is retried.</p>
+ */
+public class TransportRequest {
+
+    /** Http method. */
+    private final String method;
+
+    /** Target url. */
+    private final String url;
+
+    /** Headers in insertion order, a name can appear more than once. */
+    private final List<Map.Entry<String, String>> headers = new ArrayList<>();
+
+    /** Body, null when none. */
+    private final String body;
+
+    /**
+     * Constructor.
+     *
+     * @param method
+     *      http method
+     * @param url
+     *      target url
+     * @param body
+     *      body, null when none
+     */
+    public TransportRequest(String method, String url, String body) {
+        Assert.hasLength(method, "method");
+        Assert.hasLength(url, "url");
+        this.method = method;
+        this.url    = url;
+        this.body   = body;
+    }
+
+    /**
+     * Add a header, existing values are kept.
+     *
+     * @param name
+     *      header name
+     * @param value
+     *      header value
+     * @return
+     *      current reference
+     */
+    public TransportRequest addHeader(String name, String value) {
+        Assert.hasLength(name, "name");
+        synchronized (headers) {
+            headers.add(new AbstractMap.SimpleImmutableEntry<>(name, value));
+        }
+        return this;
+    }
+
+    /**
+     * Set a header, existing values are replaced.
+     *
+     * @param name
+     *      header name
+     * @param value
+     *      header value
+     * @return
+     *      current reference
+     */
+    public TransportRequest setHeader(String name, String value) {
+        Assert.hasLength(name, "name");
+        synchronized (headers) {
+            headers.removeIf(h -> h.getKey().equalsIgnoreCase(name));
+            headers.add(new AbstractMap.SimpleImmutableEntry<>(name, value));
+        }
+        return this;
+    }
+
+    /**
+     * First value of a header, names are case-insensitive.
+     *
+     * @param name
+     *      header name
+     * @return
+     *      header value, null if absent
+     */
+    public String getFirstHeader(String name) {
+        synchronized (headers) {
+            for (Map.Entry<String, String> header : headers) {
+                if (header.getKey().equalsIgnoreCase(name)) {
+                    return header.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Snapshot of the headers.
+     *
+     * @return
+     *      headers in insertion order
+     */
+    public List<Map.Entry<String, String>> getHeaders() {
+        synchronized (headers) {
+            return Collections.unmodifiableList(new ArrayList<>(headers));
+        }
+    }
+
+    /**
+     * Target host of the request.
+     *
+     * @return
+     *      host name, null if the url cannot be parsed
+     */
+    public String getHost() {
+        try {
+            return URI.create(url).getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets method
+     *
+     * @return value of method
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Gets url
+     *
+     * @return value of url
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Gets body
+     *
+     * @return value of body, null when none
+     */
+    public String getBody() {
+        return body;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return method + " " + url;
+    }
+
+}
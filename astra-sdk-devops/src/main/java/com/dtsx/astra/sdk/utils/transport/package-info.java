@@ -0,0 +1,2 @@
+/** Transport of the http exchanges, httpclient5 and in-memory loopback implementations. */
+package com.dtsx.astra.sdk.utils.transport;
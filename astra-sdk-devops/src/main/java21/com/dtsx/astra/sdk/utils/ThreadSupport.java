@@ -0,0 +1,95 @@
+package com.dtsx.astra.sdk.utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threads of the SDK, on Java 21+: every task gets its own virtual thread, blocking calls do not hold a platform
+ * thread.
+ *
+ * <p>Loaded from <code>META-INF/versions/21</code> of the multi-release jar in place of the Java 8 version, both
+ * versions must keep the same public methods. Set the system property <code>astra.sdk.virtualThreads</code> to
+ * <code>false</code> to keep the bounded pools of platform threads.</p>
+ */
+public final class ThreadSupport {
+
+    /** Prefix of the thread names. */
+    static final String THREAD_PREFIX = "astra-sdk-";
+
+    /** System property disabling the virtual threads. */
+    private static final String PROPERTY_VIRTUAL_THREADS = "astra.sdk.virtualThreads";
+
+    /** Idle time before a pooled platform thread ends. */
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    /** Virtual threads enabled, read once. */
+    private static final boolean VIRTUAL_THREADS =
+            !"false".equalsIgnoreCase(System.getProperty(PROPERTY_VIRTUAL_THREADS));
+
+    /**
+     * Hide default constructor
+     */
+    private ThreadSupport() {}
+
+    /**
+     * Tell if the tasks run on virtual threads.
+     *
+     * @return
+     *      true unless disabled with the system property
+     */
+    public static boolean isVirtualThreads() {
+        return VIRTUAL_THREADS;
+    }
+
+    /**
+     * Create an executor, threads are created on demand and end when idle.
+     *
+     * @param name
+     *      name of the threads
+     * @param maxThreads
+     *      maximum number of platform threads, tasks are queued beyond, ignored with virtual threads
+     * @return
+     *      executor
+     */
+    public static ExecutorService newExecutor(String name, int maxThreads) {
+        Assert.hasLength(name, "name");
+        Assert.isTrue(maxThreads > 0, "maxThreads should be positive");
+        if (VIRTUAL_THREADS) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_PREFIX + name + "-", 1).factory());
+        }
+        final AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, THREAD_PREFIX + name + "-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Create a daemon thread running a long-lived task.
+     *
+     * @param name
+     *      name of the thread
+     * @param task
+     *      task to run
+     * @return
+     *      thread, not started
+     */
+    public static Thread newThread(String name, Runnable task) {
+        Assert.hasLength(name, "name");
+        if (VIRTUAL_THREADS) {
+            return Thread.ofVirtual().name(THREAD_PREFIX + name).unstarted(task);
+        }
+        Thread t = new Thread(task, THREAD_PREFIX + name);
+        t.setDaemon(true);
+        return t;
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseFilter;
+import com.dtsx.astra.sdk.db.exception.DatabaseNotFoundException;
+import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientConfig;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.transport.LoopbackTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Tests the asynchronous operations of the databases on a {@link LoopbackTransport} answering from its own threads.
+ */
+public class DatabaseAsyncTest {
+
+    /** Threads of the transport. */
+    private ExecutorService transportThreads;
+
+    /** Responses are held until released. */
+    private CountDownLatch release;
+
+    /** Client of the databases. */
+    private AstraDBOpsClient client;
+
+    @BeforeEach
+    public void createClient() {
+        transportThreads = Executors.newFixedThreadPool(4);
+        release = new CountDownLatch(1);
+        client = new AstraDBOpsClient("token", AstraEnvironment.PROD,
+                new HttpClientWrapper(HttpClientConfig.defaultConfig(), new LoopbackTransport(req -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    if (req.getUrl().contains("/databases?")) {
+                        return new ApiResponseHttp("[" + database("db1") + "," + database("db2") + "]", 200, new HashMap<>());
+                    }
+                    if (req.getUrl().endsWith("/databases/db1")) {
+                        return new ApiResponseHttp(database("db1"), 200, new HashMap<>());
+                    }
+                    return new ApiResponseHttp("", 404, new HashMap<>());
+                }, transportThreads)));
+    }
+
+    @AfterEach
+    public void closeTransport() {
+        transportThreads.shutdownNow();
+    }
+
+    /**
+     * Serialize a database.
+     *
+     * @param id
+     *      database identifier
+     * @return
+     *      database as json
+     */
+    private static String database(String id) {
+        return "{\"id\":\"" + id + "\",\"status\":\"ACTIVE\",\"info\":{\"name\":\"ci_" + id + "\"}}";
+    }
+
+    @Test
+    @DisplayName("Futures are returned before the responses, which are read without a caller thread")
+    public void shouldNotBlockCaller() throws Exception {
+        // Given
+        DbOpsClient db = client.database("db1");
+        // When
+        CompletableFuture<Optional<Database>> found = db.findAsync();
+        CompletableFuture<List<Database>> listed = client.searchAsync(DatabaseFilter.builder().build())
+                .thenApply(dbs -> dbs.collect(Collectors.toList()));
+        // Then
+        Assertions.assertFalse(found.isDone());
+        Assertions.assertFalse(listed.isDone());
+        release.countDown();
+        Assertions.assertEquals("ci_db1", found.get(5, TimeUnit.SECONDS).map(d -> d.getInfo().getName()).orElse(null));
+        Assertions.assertEquals(2, listed.get(5, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    @DisplayName("Unknown databases are absent, or fail the future when required")
+    public void shouldMapNotFound() throws Exception {
+        // Given
+        release.countDown();
+        DbOpsClient db = client.database("unknown");
+        // When
+        Optional<Database> found = db.findAsync().get(5, TimeUnit.SECONDS);
+        ExecutionException error = Assertions.assertThrows(ExecutionException.class,
+                () -> db.getAsync().get(5, TimeUnit.SECONDS));
+        // Then
+        Assertions.assertFalse(found.isPresent());
+        Assertions.assertTrue(error.getCause() instanceof DatabaseNotFoundException);
+    }
+}
@@ -0,0 +1,165 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientConfig;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.transport.LoopbackTransport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests the search of many databases by identifier on a {@link LoopbackTransport}.
+ */
+public class DatabaseFindByIdsTest {
+
+    /** Listing of all databases, first page. */
+    private static final String FIRST_PAGE = "/databases?include=all&provider=all&limit=100";
+
+    /** Number of databases known to the loopback. */
+    private static final int DATABASES = 150;
+
+    /** Requests received by the loopback. */
+    private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Serialize a database.
+     *
+     * @param index
+     *      database index
+     * @return
+     *      database as json
+     */
+    private static String database(int index) {
+        return "{\"id\":\"" + id(index) + "\",\"status\":\"ACTIVE\",\"info\":{\"name\":\"db" + index + "\"}}";
+    }
+
+    /**
+     * Identifier of a database.
+     *
+     * @param index
+     *      database index
+     * @return
+     *      database identifier
+     */
+    private static String id(int index) {
+        return String.format("db-%03d", index);
+    }
+
+    /**
+     * Serialize a page of databases.
+     *
+     * @param from
+     *      index of the first database
+     * @param count
+     *      number of databases
+     * @return
+     *      page as json
+     */
+    private static String page(int from, int count) {
+        List<String> dbs = new ArrayList<>();
+        for (int i = from; i < Math.min(from + count, DATABASES); i++) {
+            dbs.add(database(i));
+        }
+        return "[" + String.join(",", dbs) + "]";
+    }
+
+    /**
+     * Create a client serving {@link #DATABASES} databases, each readable or listed by pages of 100.
+     *
+     * @return
+     *      client
+     */
+    private AstraDBOpsClient client() {
+        return new AstraDBOpsClient("token", AstraEnvironment.PROD,
+                new HttpClientWrapper(HttpClientConfig.defaultConfig(), new LoopbackTransport(req -> {
+                    requests.add(req.getUrl());
+                    if (req.getUrl().endsWith(FIRST_PAGE)) {
+                        return new ApiResponseHttp(page(0, 100), 200, new HashMap<>());
+                    }
+                    if (req.getUrl().endsWith(FIRST_PAGE + "&starting_after=" + id(99))) {
+                        return new ApiResponseHttp(page(100, 100), 200, new HashMap<>());
+                    }
+                    int index = Integer.parseInt(req.getUrl().substring(req.getUrl().lastIndexOf('-') + 1));
+                    return index < DATABASES
+                            ? new ApiResponseHttp(database(index), 200, new HashMap<>())
+                            : new ApiResponseHttp("", 404, new HashMap<>());
+                })));
+    }
+
+    @Test
+    @DisplayName("Up to the threshold each database is read, unknown identifiers are absent")
+    public void shouldReadEachDatabase() {
+        // Given
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < AstraDBOpsClient.FIND_BY_IDS_THRESHOLD - 1; i++) {
+            ids.add(id(i * 2));
+        }
+        ids.add(id(DATABASES));
+        // When
+        Map<String, Database> dbs = client().findByIds(ids);
+        // Then
+        Assertions.assertEquals(AstraDBOpsClient.FIND_BY_IDS_THRESHOLD, requests.size());
+        Assertions.assertTrue(requests.stream().noneMatch(url -> url.contains("/databases?")));
+        Assertions.assertEquals(ids.subList(0, ids.size() - 1), new ArrayList<>(dbs.keySet()));
+        Assertions.assertEquals("db4", dbs.get(id(4)).getInfo().getName());
+    }
+
+    @Test
+    @DisplayName("Above the threshold the databases are listed until each identifier is found")
+    public void shouldListDatabases() {
+        // Given
+        List<String> ids = new ArrayList<>();
+        for (int i = AstraDBOpsClient.FIND_BY_IDS_THRESHOLD; i >= 0; i--) {
+            ids.add(id(i));
+        }
+        // When
+        Map<String, Database> dbs = client().findByIds(ids);
+        // Then
+        Assertions.assertEquals(Collections.singletonList(FIRST_PAGE), suffixes());
+        Assertions.assertEquals(ids, new ArrayList<>(dbs.keySet()));
+    }
+
+    @Test
+    @DisplayName("Above the threshold unknown identifiers are absent once every page is read")
+    public void shouldListEveryPageForMissingIds() {
+        // Given
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < AstraDBOpsClient.FIND_BY_IDS_THRESHOLD; i++) {
+            ids.add(id(i));
+        }
+        ids.addAll(Arrays.asList(id(120), id(DATABASES)));
+        // When
+        Map<String, Database> dbs = client().findByIds(ids);
+        // Then
+        Assertions.assertEquals(Arrays.asList(FIRST_PAGE, FIRST_PAGE + "&starting_after=" + id(99)), suffixes());
+        Assertions.assertEquals(ids.size() - 1, dbs.size());
+        Assertions.assertFalse(dbs.containsKey(id(DATABASES)));
+        Assertions.assertTrue(dbs.containsKey(id(120)));
+    }
+
+    /**
+     * Requests received, without the base url.
+     *
+     * @return
+     *      paths and queries of the requests
+     */
+    private List<String> suffixes() {
+        List<String> suffixes = new ArrayList<>();
+        synchronized (requests) {
+            for (String url : requests) {
+                suffixes.add(url.substring(url.lastIndexOf("/databases")));
+            }
+        }
+        return suffixes;
+    }
+}
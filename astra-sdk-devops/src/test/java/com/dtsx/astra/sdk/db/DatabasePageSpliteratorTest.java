@@ -0,0 +1,84 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Tests the reading of database pages as a stream is consumed.
+ */
+public class DatabasePageSpliteratorTest {
+
+    /** Serve pages of a fixed list of databases and count the calls. */
+    private static class FakePages implements Function<DatabaseFilter, CompletableFuture<List<Database>>> {
+        private final List<Database> all = new ArrayList<>();
+        private final List<String> cursors = new ArrayList<>();
+
+        FakePages(int count) {
+            for (int i = 0; i < count; i++) {
+                Database db = new Database();
+                db.setId(String.format("db-%03d", i));
+                all.add(db);
+            }
+        }
+
+        @Override
+        public CompletableFuture<List<Database>> apply(DatabaseFilter filter) {
+            String cursor = filter.getStartingAfterDbId().orElse(null);
+            cursors.add(cursor);
+            int start = 0;
+            if (cursor != null) {
+                start = all.indexOf(all.stream().filter(db -> db.getId().equals(cursor)).findFirst().get()) + 1;
+            }
+            return CompletableFuture.completedFuture(
+                    new ArrayList<>(all.subList(start, Math.min(all.size(), start + filter.getLimit()))));
+        }
+    }
+
+    @Test
+    @DisplayName("All pages are read in order")
+    public void shouldReadAllPages() {
+        FakePages pages = new FakePages(25);
+        List<String> ids = StreamSupport.stream(new DatabasePageSpliterator(
+                DatabaseFilter.builder().limit(10).build(), pages), false)
+                .map(Database::getId)
+                .collect(Collectors.toList());
+        Assertions.assertEquals(25, ids.size());
+        Assertions.assertEquals("db-024", ids.get(24));
+        Assertions.assertEquals(3, pages.cursors.size());
+        Assertions.assertEquals("db-019", pages.cursors.get(2));
+    }
+
+    @Test
+    @DisplayName("Short-circuiting operations stop the requests")
+    public void shouldStopEarly() {
+        FakePages pages = new FakePages(100);
+        DatabasePageSpliterator spliterator = new DatabasePageSpliterator(DatabaseFilter.builder().limit(10).build(), pages);
+        Assertions.assertTrue(StreamSupport.stream(spliterator, false)
+                .anyMatch(db -> db.getId().equals("db-002")));
+        Assertions.assertEquals(1, pages.cursors.size());
+        FakePages pages2 = new FakePages(100);
+        Assertions.assertTrue(StreamSupport.stream(new DatabasePageSpliterator(
+                DatabaseFilter.builder().limit(10).build(), pages2), false)
+                .anyMatch(db -> db.getId().equals("db-012")));
+        Assertions.assertEquals(2, pages2.cursors.size());
+    }
+
+    @Test
+    @DisplayName("A full last page ends with an empty page")
+    public void shouldHandleExactPages() {
+        FakePages pages = new FakePages(20);
+        Assertions.assertEquals(20, StreamSupport.stream(new DatabasePageSpliterator(
+                DatabaseFilter.builder().limit(10).build(), pages), false).count());
+        Assertions.assertEquals(3, pages.cursors.size());
+    }
+}
@@ -0,0 +1,136 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
+import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientConfig;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.transport.LoopbackTransport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests the asynchronous resize of a database on a {@link LoopbackTransport}.
+ */
+public class DatabaseResizeTest {
+
+    /** Interval of the status watcher when databases are awaited. */
+    private static final Duration MIN_INTERVAL = Duration.ofMillis(10);
+
+    /** Interval of the status watcher when databases are watched. */
+    private static final Duration MAX_INTERVAL = Duration.ofMillis(100);
+
+    /**
+     * Serialize a database.
+     *
+     * @param status
+     *      database status
+     * @param capacityUnits
+     *      capacity of the database
+     * @return
+     *      database as json
+     */
+    private static String database(DatabaseStatusType status, int capacityUnits) {
+        return "{\"id\":\"db1\",\"status\":\"" + status + "\",\"info\":{\"name\":\"db\",\"capacityUnits\":" + capacityUnits + "}}";
+    }
+
+    /**
+     * Create a client of the database, the status watcher of its transport polls every few milliseconds.
+     *
+     * @param searches
+     *      answers the searches of the status watcher, by search number
+     * @return
+     *      database client
+     */
+    private static DbOpsClient client(SearchHandler searches) {
+        AtomicInteger count = new AtomicInteger();
+        AtomicReference<HttpClientWrapper> http = new AtomicReference<>();
+        http.set(new HttpClientWrapper(HttpClientConfig.defaultConfig(), new LoopbackTransport(req -> {
+            if (req.getUrl().contains("/databases?")) {
+                return new ApiResponseHttp("[" + searches.database(count.incrementAndGet()) + "]", 200, new HashMap<>());
+            }
+            if (req.getUrl().endsWith("/resize")) {
+                // Shared watcher of the transport created now, an idle one would be released before the wait
+                DatabaseStatusWatcher.getInstance("token", AstraEnvironment.PROD, http.get(), MIN_INTERVAL, MAX_INTERVAL);
+                return new ApiResponseHttp("", 202, new HashMap<>());
+            }
+            // Database read before the resize
+            return new ApiResponseHttp(database(DatabaseStatusType.ACTIVE, 1), 200, new HashMap<>());
+        })));
+        return new AstraDBOpsClient("token", AstraEnvironment.PROD, http.get()).database("db1");
+    }
+
+    /**
+     * Database returned by a search of the status watcher.
+     */
+    @FunctionalInterface
+    private interface SearchHandler {
+
+        /**
+         * Database for a search.
+         *
+         * @param search
+         *      search number, starting at 1
+         * @return
+         *      database as json
+         */
+        String database(int search);
+    }
+
+    @Test
+    @DisplayName("The resize completes once applied, not on the new capacity of an active database")
+    public void shouldWaitForResize() throws Exception {
+        // Given
+        AtomicInteger searches = new AtomicInteger();
+        DbOpsClient db = client(search -> {
+            searches.set(search);
+            // Capacity is updated before the resize starts
+            if (search == 1) {
+                return database(DatabaseStatusType.ACTIVE, 2);
+            }
+            return database(search < 4 ? DatabaseStatusType.RESIZING : DatabaseStatusType.ACTIVE, 2);
+        });
+        // When
+        Database resized = db.resizeAsync(2, Duration.ofSeconds(10)).get(10, TimeUnit.SECONDS);
+        // Then
+        Assertions.assertEquals(DatabaseStatusType.ACTIVE, resized.getStatus());
+        Assertions.assertEquals(2, resized.getInfo().getCapacityUnits());
+        Assertions.assertTrue(searches.get() >= 4);
+    }
+
+    @Test
+    @DisplayName("A database in error fails the resize without waiting for the timeout")
+    public void shouldFailFastOnError() {
+        // Given
+        DbOpsClient db = client(search -> database(search == 1 ? DatabaseStatusType.RESIZING : DatabaseStatusType.ERROR, 1));
+        // When
+        CompletableFuture<Database> resized = db.resizeAsync(2, Duration.ofMinutes(5));
+        // Then
+        ExecutionException error = Assertions.assertThrows(ExecutionException.class, () -> resized.get(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(error.getCause() instanceof IllegalStateException);
+        Assertions.assertTrue(error.getCause().getMessage().contains("ERROR"));
+    }
+
+    @Test
+    @DisplayName("A resize never applied fails after the timeout")
+    public void shouldTimeout() {
+        // Given
+        DbOpsClient db = client(search -> database(DatabaseStatusType.ACTIVE, 1));
+        // When
+        CompletableFuture<Database> resized = db.resizeAsync(2, Duration.ofMillis(200));
+        // Then
+        ExecutionException error = Assertions.assertThrows(ExecutionException.class, () -> resized.get(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(error.getCause() instanceof TimeoutException);
+    }
+}
@@ -0,0 +1,48 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.Database;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Tests the loading, sharing and expiration of the database snapshot.
+ */
+public class DatabaseSnapshotTest {
+
+    private static Supplier<Database> loader(AtomicInteger calls) {
+        return () -> {
+            Database db = new Database();
+            db.setId("db-" + calls.incrementAndGet());
+            return db;
+        };
+    }
+
+    @Test
+    @DisplayName("Database is loaded once and shared until invalidated")
+    public void shouldLoadOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        DatabaseSnapshot snapshot = new DatabaseSnapshot(Duration.ofMinutes(1), loader(calls));
+        Assertions.assertEquals(0, calls.get());
+        Assertions.assertEquals("db-1", snapshot.get().getId());
+        Assertions.assertEquals("db-1", snapshot.get().getId());
+        snapshot.invalidate();
+        Assertions.assertEquals("db-2", snapshot.get().getId());
+        Assertions.assertEquals("db-3", snapshot.refresh().getId());
+        Assertions.assertEquals(3, calls.get());
+    }
+
+    @Test
+    @DisplayName("Expired snapshot is reloaded")
+    public void shouldExpire() {
+        AtomicInteger calls = new AtomicInteger();
+        DatabaseSnapshot snapshot = new DatabaseSnapshot(Duration.ZERO, loader(calls));
+        snapshot.get();
+        snapshot.get();
+        Assertions.assertEquals(2, calls.get());
+    }
+}
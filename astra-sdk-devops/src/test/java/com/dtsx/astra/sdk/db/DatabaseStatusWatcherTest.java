@@ -0,0 +1,135 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.Database;
+import com.dtsx.astra.sdk.db.domain.DatabaseStatusType;
+import com.dtsx.astra.sdk.db.exception.DatabaseNotFoundException;
+import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientConfig;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.transport.LoopbackTransport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the shared polling of database statuses on a {@link LoopbackTransport}.
+ */
+public class DatabaseStatusWatcherTest {
+
+    /** Interval when databases are awaited. */
+    private static final Duration MIN_INTERVAL = Duration.ofMillis(10);
+
+    /** Interval when databases are watched, and idle time before a shared watcher is released. */
+    private static final Duration MAX_INTERVAL = Duration.ofMillis(50);
+
+    /**
+     * Create an http transport answering with a handler.
+     *
+     * @param handler
+     *      answers the requests
+     * @return
+     *      http transport
+     */
+    private static HttpClientWrapper loopback(LoopbackTransport.Handler handler) {
+        return new HttpClientWrapper(HttpClientConfig.defaultConfig(), new LoopbackTransport(handler));
+    }
+
+    /**
+     * Build a listing with a single database.
+     *
+     * @param id
+     *      database identifier
+     * @param status
+     *      database status
+     * @return
+     *      response
+     */
+    private static ApiResponseHttp listing(String id, DatabaseStatusType status) {
+        return new ApiResponseHttp("[{\"id\":\"" + id + "\",\"status\":\"" + status + "\",\"info\":{\"name\":\"db\"}}]",
+                200, new HashMap<>());
+    }
+
+    @Test
+    @DisplayName("Futures complete and listeners are notified when the status is reached")
+    public void shouldCompleteOnStatus() throws Exception {
+        // Given
+        AtomicInteger searches = new AtomicInteger();
+        HttpClientWrapper http = loopback(req -> listing("db1",
+                searches.incrementAndGet() < 3 ? DatabaseStatusType.PENDING : DatabaseStatusType.ACTIVE));
+        DatabaseStatusWatcher watcher = new DatabaseStatusWatcher(
+                new AstraDBOpsClient("token", AstraEnvironment.PROD, http), MIN_INTERVAL, MAX_INTERVAL);
+        List<DatabaseStatusType> transitions = Collections.synchronizedList(new ArrayList<>());
+        watcher.addListener((db, previous) -> transitions.add(previous));
+        // When
+        Database db = watcher.awaitStatus("db1", DatabaseStatusType.ACTIVE).get(5, TimeUnit.SECONDS);
+        // Then
+        Assertions.assertEquals(DatabaseStatusType.ACTIVE, db.getStatus());
+        Assertions.assertEquals(Collections.singletonList(DatabaseStatusType.PENDING), transitions);
+        Assertions.assertEquals(0, watcher.getPendingCount());
+        watcher.close();
+    }
+
+    @Test
+    @DisplayName("Unknown databases fail their futures")
+    public void shouldFailUnknownDatabase() {
+        // Given
+        HttpClientWrapper http = loopback(req -> req.getUrl().contains("/databases?")
+                ? new ApiResponseHttp("[]", 200, new HashMap<>())
+                : new ApiResponseHttp("", 404, new HashMap<>()));
+        DatabaseStatusWatcher watcher = new DatabaseStatusWatcher(
+                new AstraDBOpsClient("token", AstraEnvironment.PROD, http), MIN_INTERVAL, MAX_INTERVAL);
+        // When
+        CompletableFuture<Database> db = watcher.awaitStatus("unknown", DatabaseStatusType.ACTIVE);
+        // Then
+        ExecutionException error = Assertions.assertThrows(ExecutionException.class, () -> db.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(error.getCause() instanceof DatabaseNotFoundException);
+        watcher.close();
+    }
+
+    @Test
+    @DisplayName("Watchers are shared by token and transport, closing a shared watcher keeps the other futures")
+    public void shouldShareByTransport() throws Exception {
+        // Given
+        HttpClientWrapper http = loopback(req -> listing("db1", DatabaseStatusType.PENDING));
+        HttpClientWrapper other = loopback(req -> listing("db1", DatabaseStatusType.PENDING));
+        DatabaseStatusWatcher shared = DatabaseStatusWatcher.getInstance("token", AstraEnvironment.PROD, http, MIN_INTERVAL, MAX_INTERVAL);
+        // When
+        CompletableFuture<Database> pending = shared.awaitStatus("db1", DatabaseStatusType.ACTIVE);
+        shared.close();
+        Thread.sleep(MAX_INTERVAL.toMillis());
+        // Then
+        Assertions.assertSame(shared, DatabaseStatusWatcher.getInstance("token", AstraEnvironment.PROD, http, MIN_INTERVAL, MAX_INTERVAL));
+        Assertions.assertNotSame(shared, DatabaseStatusWatcher.getInstance("token", AstraEnvironment.PROD, other, MIN_INTERVAL, MAX_INTERVAL));
+        Assertions.assertNotSame(shared, DatabaseStatusWatcher.getInstance("other", AstraEnvironment.PROD, http, MIN_INTERVAL, MAX_INTERVAL));
+        Assertions.assertFalse(pending.isDone());
+        pending.cancel(false);
+    }
+
+    @Test
+    @DisplayName("A shared watcher is released once idle")
+    public void shouldReleaseIdleWatcher() throws Exception {
+        // Given
+        HttpClientWrapper http = loopback(req -> listing("db1", DatabaseStatusType.ACTIVE));
+        DatabaseStatusWatcher shared = DatabaseStatusWatcher.getInstance("token", AstraEnvironment.PROD, http, MIN_INTERVAL, MAX_INTERVAL);
+        // When
+        shared.awaitStatus("db1", DatabaseStatusType.ACTIVE).get(5, TimeUnit.SECONDS);
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (shared == DatabaseStatusWatcher.getInstance("token", AstraEnvironment.PROD, http, MIN_INTERVAL, MAX_INTERVAL)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(MIN_INTERVAL.toMillis());
+        }
+        Assertions.assertNotSame(shared, DatabaseStatusWatcher.getInstance("token", AstraEnvironment.PROD, http, MIN_INTERVAL, MAX_INTERVAL));
+    }
+}
@@ -0,0 +1,173 @@
+package com.dtsx.astra.sdk.db;
+
+import com.dtsx.astra.sdk.db.domain.BulkOperationReport;
+import com.dtsx.astra.sdk.db.domain.BulkOperationResult;
+import com.dtsx.astra.sdk.db.exception.BulkOperationException;
+import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.AstraEnvironment;
+import com.dtsx.astra.sdk.utils.HttpClientConfig;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.transport.LoopbackTransport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests bulk operations on databases served by a {@link LoopbackTransport}.
+ */
+public class DbBulkOperationsTest {
+
+    /** Listing of the non-terminated databases, first page. */
+    private static final String FIRST_PAGE = "/databases?include=non_terminated&provider=all&limit=100";
+
+    /**
+     * Serialize a database.
+     *
+     * @param id
+     *      database identifier
+     * @param status
+     *      database status
+     * @return
+     *      database as json
+     */
+    private static String database(String id, String status) {
+        return "{\"id\":\"" + id + "\",\"status\":\"" + status + "\",\"info\":{\"name\":\"ci_" + id + "\"}}";
+    }
+
+    /**
+     * Serialize a page of active databases.
+     *
+     * @param from
+     *      index of the first database
+     * @param count
+     *      number of databases
+     * @return
+     *      page as json
+     */
+    private static String activeDatabases(int from, int count) {
+        List<String> dbs = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            dbs.add(database(String.format("db-%03d", i), "ACTIVE"));
+        }
+        return "[" + String.join(",", dbs) + "]";
+    }
+
+    /**
+     * Create a client on a loopback transport.
+     *
+     * @param handler
+     *      answers the requests
+     * @return
+     *      client
+     */
+    private static AstraDBOpsClient client(LoopbackTransport.Handler handler) {
+        return new AstraDBOpsClient("token", AstraEnvironment.PROD,
+                new HttpClientWrapper(HttpClientConfig.defaultConfig(), new LoopbackTransport(handler)));
+    }
+
+    /**
+     * Build a response.
+     *
+     * @param code
+     *      http status
+     * @param body
+     *      response body
+     * @return
+     *      response
+     */
+    private static ApiResponseHttp response(int code, String body) {
+        return new ApiResponseHttp(body, code, new HashMap<>());
+    }
+
+    @Test
+    @DisplayName("Each selected database is accepted, skipped or failed")
+    public void shouldReportEachOutcome() {
+        // Given
+        AstraDBOpsClient client = client(req -> {
+            if (req.getUrl().endsWith(FIRST_PAGE)) {
+                return response(200, "[" + database("db1", "ACTIVE") + "," + database("db2", "PARKED") + ","
+                        + database("db3", "ACTIVE") + "," + database("other", "ACTIVE") + "]");
+            }
+            if (req.getUrl().endsWith("/databases/db1/park")) {
+                return response(202, "");
+            }
+            return response(400, "{\"errors\":[{\"message\":\"cannot park\"}]}");
+        });
+        List<BulkOperationResult> notified = Collections.synchronizedList(new ArrayList<>());
+        // When
+        BulkOperationReport report = client.bulk()
+                .concurrency(2)
+                .onResult(notified::add)
+                .park(db -> db.getId().startsWith("db"));
+        // Then
+        Assertions.assertEquals(3, report.getResults().size());
+        Assertions.assertEquals("db1", report.getAccepted().get(0).getDatabaseId());
+        Assertions.assertEquals("db2", report.getSkipped().get(0).getDatabaseId());
+        Assertions.assertEquals("status is PARKED", report.getSkipped().get(0).getMessage());
+        Assertions.assertEquals("db3", report.getFailed().get(0).getDatabaseId());
+        Assertions.assertNotNull(report.getFailed().get(0).getError());
+        Assertions.assertFalse(report.isSuccessful());
+        Assertions.assertEquals(3, notified.size());
+    }
+
+    @Test
+    @DisplayName("Databases to terminate are all listed before the first termination")
+    public void shouldListBeforeDelete() {
+        // Given
+        List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        AstraDBOpsClient client = client(req -> {
+            requests.add(req.getMethod() + " " + req.getUrl());
+            if (req.getUrl().endsWith(FIRST_PAGE)) {
+                return response(200, activeDatabases(0, 100));
+            }
+            if (req.getUrl().endsWith(FIRST_PAGE + "&starting_after=db-099")) {
+                return response(200, activeDatabases(100, 1));
+            }
+            return response(202, "");
+        });
+        // When
+        BulkOperationReport report = client.bulk().delete(db -> true);
+        // Then
+        Assertions.assertEquals(101, report.getAccepted().size());
+        int lastListing = 0;
+        int firstTermination = Integer.MAX_VALUE;
+        for (int i = 0; i < requests.size(); i++) {
+            if (requests.get(i).startsWith("GET")) {
+                lastListing = i;
+            } else if (requests.get(i).endsWith("/terminate")) {
+                firstTermination = Math.min(firstTermination, i);
+            }
+        }
+        Assertions.assertTrue(lastListing < firstTermination);
+    }
+
+    @Test
+    @DisplayName("A page that cannot be read keeps the results of the requests already sent")
+    public void shouldKeepPartialReport() {
+        // Given
+        AtomicInteger parked = new AtomicInteger();
+        AstraDBOpsClient client = client(req -> {
+            if (req.getUrl().endsWith(FIRST_PAGE)) {
+                return response(200, activeDatabases(0, 100));
+            }
+            if (req.getUrl().contains("starting_after")) {
+                return response(400, "{\"errors\":[{\"message\":\"invalid cursor\"}]}");
+            }
+            parked.incrementAndGet();
+            return response(202, "");
+        });
+        // When
+        BulkOperationException error = Assertions.assertThrows(BulkOperationException.class,
+                () -> client.bulk().park(db -> true));
+        // Then
+        Assertions.assertEquals(100, error.getReport().getAccepted().size());
+        Assertions.assertEquals(100, parked.get());
+        Assertions.assertNotNull(error.getCause());
+    }
+}
@@ -0,0 +1,98 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests how the concurrency limit follows errors, latencies and saturation.
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static ConcurrencyLimitPolicy policy() {
+        return ConcurrencyLimitPolicy.builder()
+                .enabled(true)
+                .initialLimit(4)
+                .minLimit(1)
+                .maxLimit(8)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Limit shrinks on errors and slow requests")
+    public void shouldDecreaseOnOverload() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(policy());
+        long now = 0;
+        limiter.acquire();
+        limiter.release(now, now += LATENCY, false);
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.release(now, now += LATENCY, true);
+        }
+        Assertions.assertEquals(1, limiter.getLimit());
+        Assertions.assertEquals(10, limiter.getOverloadCount());
+        limiter.acquire();
+        limiter.release(now, now += LATENCY * 10, false);
+        Assertions.assertEquals(11, limiter.getOverloadCount());
+    }
+
+    @Test
+    @DisplayName("Requests in flight failing together decrease the limit once, slow ones do not move the baseline")
+    public void shouldDecreaseOncePerRoundTrip() throws InterruptedException {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(policy());
+        limiter.acquire();
+        limiter.release(0, LATENCY, false);
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire();
+        }
+        // When
+        for (int i = 0; i < 4; i++) {
+            limiter.release(LATENCY, 2 * LATENCY + i, true);
+        }
+        // Then
+        Assertions.assertEquals(3, limiter.getLimit());
+        Assertions.assertEquals(1, limiter.getOverloadCount());
+        // A request sent after the decrease is a new signal, its latency is not part of the baseline
+        limiter.acquire();
+        limiter.release(3 * LATENCY, 6 * LATENCY, false);
+        Assertions.assertEquals(2, limiter.getOverloadCount());
+        Assertions.assertEquals(LATENCY, limiter.getSmoothedLatency().toNanos());
+    }
+
+    @Test
+    @DisplayName("Limit grows while healthy and saturated, up to the max")
+    public void shouldIncreaseWhenHealthy() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(policy());
+        for (int i = 0; i < 100; i++) {
+            for (int j = 0; j < 4; j++) {
+                limiter.acquire();
+            }
+            for (int j = 0; j < 4; j++) {
+                limiter.release(0, LATENCY, false);
+            }
+        }
+        Assertions.assertEquals(8, limiter.getLimit());
+        Assertions.assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Non-blocking tasks are queued until a slot is released")
+    public void shouldQueueAsyncTasks() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(ConcurrencyLimitPolicy.builder()
+                .enabled(true).initialLimit(1).minLimit(1).maxLimit(1).build());
+        AtomicInteger started = new AtomicInteger();
+        limiter.acquireAsync(started::incrementAndGet);
+        limiter.acquireAsync(started::incrementAndGet);
+        Assertions.assertEquals(1, started.get());
+        Assertions.assertEquals(1, limiter.getQueueDepth());
+        limiter.release(0, LATENCY, false);
+        Assertions.assertEquals(2, started.get());
+        Assertions.assertEquals(1, limiter.getInFlight());
+    }
+}
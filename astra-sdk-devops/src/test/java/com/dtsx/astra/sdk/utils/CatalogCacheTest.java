@@ -0,0 +1,82 @@
+package com.dtsx.astra.sdk.utils;
+
+import com.dtsx.astra.sdk.streaming.domain.Cluster;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the cache of reference catalogs (regions, roles, clusters) and their index by name.
+ */
+public class CatalogCacheTest {
+
+    @Test
+    @DisplayName("Catalogs are loaded once during their TTL")
+    public void shouldServeFromMemory() {
+        CatalogCache cache = new CatalogCache(10, Duration.ofMinutes(1), Duration.ZERO);
+        AtomicInteger calls = new AtomicInteger();
+        Assertions.assertEquals("v1", cache.get("regions", () -> "v" + calls.incrementAndGet()));
+        Assertions.assertEquals("v1", cache.get("regions", () -> "v" + calls.incrementAndGet()));
+        Assertions.assertEquals(1, cache.getHitCount());
+        cache.invalidate("regions");
+        Assertions.assertEquals("v2", cache.get("regions", () -> "v" + calls.incrementAndGet()));
+        Assertions.assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Stale catalogs are served while refreshed in the background")
+    public void shouldRevalidateInBackground() throws InterruptedException {
+        CatalogCache cache = new CatalogCache(10, Duration.ZERO, Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+        Assertions.assertEquals("v1", cache.get("roles", () -> "v" + calls.incrementAndGet()));
+        Assertions.assertEquals("v1", cache.get("roles", () -> "v" + calls.incrementAndGet()));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (calls.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(50);
+        Assertions.assertEquals("v2", cache.get("roles", () -> "v" + calls.incrementAndGet()));
+    }
+
+    @Test
+    @DisplayName("Least recently used catalogs are evicted")
+    public void shouldEvict() {
+        CatalogCache cache = new CatalogCache(2, Duration.ofMinutes(1), Duration.ZERO);
+        cache.get("a", () -> "a");
+        cache.get("b", () -> "b");
+        cache.get("a", () -> "a");
+        cache.get("c", () -> "c");
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals("b2", cache.get("b", () -> "b2"));
+    }
+
+    @Test
+    @DisplayName("Catalog items are indexed by name ignoring case")
+    public void shouldIndexByName() {
+        IndexedCatalog<String> catalog = new IndexedCatalog<>(Arrays.asList("Admin", "admin", "Reader"), s -> s);
+        Assertions.assertEquals(3, catalog.getItems().size());
+        Assertions.assertEquals("Admin", catalog.findByName("ADMIN").get());
+        Assertions.assertFalse(catalog.findByName("writer").isPresent());
+    }
+
+    @Test
+    @DisplayName("Mutable catalog items are copied for each caller")
+    public void shouldNotShareItems() {
+        // Given
+        Cluster cluster = new Cluster();
+        cluster.setClusterName("pulsar-gcp-useast1");
+        IndexedCatalog<Cluster> catalog = new IndexedCatalog<>(
+                Collections.singletonList(cluster), Cluster::getClusterName, JsonUtils::copy);
+        // When
+        catalog.findByName("pulsar-gcp-useast1").get().setClusterName("modified");
+        catalog.getItems().get(0).setClusterName("modified");
+        // Then
+        Assertions.assertEquals("pulsar-gcp-useast1", catalog.stream().findFirst().get().getClusterName());
+        Assertions.assertNotSame(catalog.stream().findFirst().get(), catalog.stream().findFirst().get());
+    }
+}
@@ -0,0 +1,35 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * Tests the lease statistics of the connection pools.
+ */
+public class ConnectionPoolMonitorTest {
+
+    @Test
+    @DisplayName("Lease wait is recorded per route and for the whole pool")
+    public void shouldRecordLeaseWaitPerRoute() {
+        ConnectionPoolMonitor monitor = new ConnectionPoolMonitor(ConnectionPoolStats.Pool.BLOCKING);
+        HttpRoute api = new HttpRoute(new HttpHost("https", "api.astra.datastax.com", 443));
+        HttpRoute pulsar = new HttpRoute(new HttpHost("https", "pulsar-gcp-useast1.api.streaming.datastax.com", 443));
+        monitor.recordLease(api, 1_000_000);
+        monitor.recordLease(api, 3_000_000);
+        monitor.recordLease(pulsar, 5_000_000);
+
+        ConnectionPoolStats apiStats = monitor.getRouteStats("api.astra.datastax.com:443").get();
+        Assertions.assertEquals(2, apiStats.getLeaseCount());
+        Assertions.assertEquals(Duration.ofMillis(2), apiStats.getLeaseWaitAverage());
+        Assertions.assertEquals(Duration.ofMillis(3), apiStats.getLeaseWaitMax());
+        Assertions.assertEquals(2, monitor.getRouteStats().size());
+        Assertions.assertEquals(3, monitor.getTotalStats().getLeaseCount());
+        Assertions.assertNull(monitor.getTotalStats().getRoute());
+        Assertions.assertFalse(monitor.getRouteStats("unknown:443").isPresent());
+    }
+}
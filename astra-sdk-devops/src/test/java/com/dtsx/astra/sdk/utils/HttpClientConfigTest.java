@@ -0,0 +1,124 @@
+package com.dtsx.astra.sdk.utils;
+
+import com.dtsx.astra.sdk.utils.observability.ApiExecutionInfos;
+import com.dtsx.astra.sdk.utils.observability.ApiRequestObserver;
+import com.dtsx.astra.sdk.utils.transport.LoopbackTransport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the configuration of the http clients and the operation names of their requests.
+ */
+public class HttpClientConfigTest {
+
+    @Test
+    @DisplayName("Pool sizes and timeouts have defaults and can be overridden")
+    public void shouldBuildConfig() {
+        // Given
+        HttpClientConfig defaults = HttpClientConfig.defaultConfig();
+        // When
+        HttpClientConfig config = HttpClientConfig.builder()
+                .maxConnectionsTotal(500)
+                .maxConnectionsPerRoute(50)
+                .responseTimeout(Duration.ofSeconds(5))
+                .keepAlive(Duration.ofSeconds(30))
+                .expectContinueEnabled(false)
+                .build();
+        // Then
+        Assertions.assertEquals(HttpClientConfig.DEFAULT_MAX_CONNECTIONS_TOTAL, defaults.getMaxConnectionsTotal());
+        Assertions.assertEquals(HttpClientConfig.DEFAULT_MAX_CONNECTIONS_PER_ROUTE, defaults.getMaxConnectionsPerRoute());
+        Assertions.assertFalse(defaults.getResponseTimeout().isPresent());
+        Assertions.assertFalse(defaults.getKeepAlive().isPresent());
+        Assertions.assertTrue(defaults.isExpectContinueEnabled());
+        Assertions.assertEquals(500, config.getMaxConnectionsTotal());
+        Assertions.assertEquals(50, config.getMaxConnectionsPerRoute());
+        Assertions.assertEquals(Duration.ofSeconds(5), config.getResponseTimeout().orElse(null));
+        Assertions.assertEquals(Duration.ofSeconds(30), config.getKeepAlive().orElse(null));
+        Assertions.assertFalse(config.isExpectContinueEnabled());
+        Assertions.assertEquals(defaults.getConnectTimeout(), config.getConnectTimeout());
+    }
+
+    @Test
+    @DisplayName("Invalid pool sizes and timeouts are rejected")
+    public void shouldRejectInvalidConfig() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HttpClientConfig.builder().maxConnectionsTotal(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HttpClientConfig.builder().maxConnectionsPerRoute(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HttpClientConfig.builder().connectTimeout(null));
+    }
+
+    @Test
+    @DisplayName("Concurrent views of a client keep the operation name of each request")
+    public void shouldKeepOperationPerRequest() throws Exception {
+        // Given
+        HttpClientWrapper http = new HttpClientWrapper(HttpClientConfig.defaultConfig(),
+                new LoopbackTransport(LoopbackTransport.fixedResponse(200, "{}")));
+        List<ApiExecutionInfos> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(200);
+        ApiRequestObserver collector = e -> {
+            received.add(e);
+            done.countDown();
+        };
+        HttpClientWrapper observed = http.withObservers(Collections.singletonMap("collector", collector));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        // When
+        List<Future<?>> calls = new ArrayList<>();
+        for (String operation : new String[] {"find", "list"}) {
+            HttpClientWrapper view = observed.forOperation(operation);
+            calls.add(executor.submit(() -> {
+                for (int i = 0; i < 100; i++) {
+                    view.GET("http://localhost/v2/" + operation + "/" + i, "token");
+                }
+            }));
+        }
+        for (Future<?> call : calls) {
+            call.get(5, TimeUnit.SECONDS);
+        }
+        // Then
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        synchronized (received) {
+            for (ApiExecutionInfos infos : received) {
+                Assertions.assertTrue(infos.getRequestUrl().contains("/v2/" + infos.getOperationName() + "/"));
+            }
+        }
+        Assertions.assertEquals(200, received.size());
+        Assertions.assertEquals(http.getOperationName(), observed.getOperationName());
+        executor.shutdown();
+        http.close();
+    }
+
+    @Test
+    @DisplayName("Closing a view leaves the connection pools of its client open")
+    public void shouldCloseOwnerOnly() {
+        // Given
+        AtomicInteger closed = new AtomicInteger();
+        HttpClientWrapper http = new HttpClientWrapper(HttpClientConfig.defaultConfig(),
+                new LoopbackTransport(LoopbackTransport.fixedResponse(200, "{}")) {
+                    @Override
+                    public void close() {
+                        closed.incrementAndGet();
+                    }
+                });
+        HttpClientWrapper view = http.forOperation("find")
+                .withObservers(Collections.singletonMap("noop", e -> { }));
+        // When
+        view.close();
+        // Then
+        Assertions.assertEquals(200, http.GET("http://localhost/v2/databases", "token").getCode());
+        Assertions.assertEquals(200, view.GET("http://localhost/v2/databases", "token").getCode());
+        Assertions.assertEquals(0, closed.get());
+        http.close();
+        Assertions.assertEquals(1, closed.get());
+    }
+}
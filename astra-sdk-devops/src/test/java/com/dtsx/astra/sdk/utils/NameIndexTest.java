@@ -0,0 +1,57 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests resolution of database and tenant names through the shared index.
+ */
+public class NameIndexTest {
+
+    @Test
+    @DisplayName("Names are resolved from the index once loaded")
+    public void shouldResolveFromIndex() {
+        // Given
+        NameIndex index = new NameIndex(Duration.ofMinutes(5));
+        AtomicInteger loads = new AtomicInteger();
+        Map<String, Set<String>> content = Collections.singletonMap("db1", Collections.singleton("id1"));
+        // When
+        index.lookup("db1", () -> { loads.incrementAndGet(); return content; });
+        Optional<Set<String>> ids = index.lookup("db1", () -> { loads.incrementAndGet(); return content; });
+        // Then
+        Assertions.assertEquals(Collections.singleton("id1"), ids.get());
+        Assertions.assertEquals(1, loads.get());
+        // A miss on a recent index does not reload
+        Assertions.assertFalse(index.lookup("db2", () -> { loads.incrementAndGet(); return content; }).isPresent());
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Invalidation and expiration trigger a reload")
+    public void shouldReload() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        NameIndex expired = new NameIndex(Duration.ZERO);
+        NameIndex recent  = new NameIndex(Duration.ofMinutes(5));
+        // When
+        expired.lookup("db1", () -> { loads.incrementAndGet(); return Collections.emptyMap(); });
+        expired.lookup("db1", () -> { loads.incrementAndGet(); return Collections.emptyMap(); });
+        recent.lookup("db1", () -> { loads.incrementAndGet(); return Collections.emptyMap(); });
+        recent.invalidate();
+        Optional<Set<String>> ids = recent.lookup("db1", () -> {
+            loads.incrementAndGet();
+            return Collections.singletonMap("db1", Collections.singleton("id2"));
+        });
+        // Then
+        Assertions.assertEquals(Collections.singleton("id2"), ids.get());
+        Assertions.assertEquals(4, loads.get());
+    }
+}
@@ -0,0 +1,63 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests token buckets and their registry.
+ */
+public class RateLimiterTest {
+
+    @Test
+    @DisplayName("Burst is served immediately, next callers are queued")
+    public void shouldQueueAfterBurst() {
+        RateLimiter limiter = new RateLimiter(10, 2);
+        Assertions.assertEquals(0, limiter.reserve());
+        Assertions.assertEquals(0, limiter.reserve());
+        long third = limiter.reserve();
+        long fourth = limiter.reserve();
+        Assertions.assertTrue(third > 0 && third <= TimeUnit.MILLISECONDS.toNanos(100));
+        Assertions.assertTrue(fourth > third);
+        Assertions.assertEquals(4, limiter.getAcquiredCount());
+    }
+
+    @Test
+    @DisplayName("Limiters are created per token and operation")
+    public void shouldIsolateTokensAndOperations() throws InterruptedException {
+        RateLimiterRegistry registry = new RateLimiterRegistry(RateLimitPolicy.builder()
+                .operationLimit("db.search", 1, 1)
+                .build());
+        Assertions.assertTrue(registry.reserve("token1", "db.search").isImmediate());
+        Assertions.assertTrue(registry.reserve("token2", "db.search").isImmediate());
+        Assertions.assertTrue(registry.reserve("token1", "db.find").isImmediate());
+        RateLimiterRegistry.Permit permit = registry.reserve("token1", "db.search");
+        Assertions.assertFalse(permit.isImmediate());
+        Assertions.assertEquals(2, registry.getRateLimiters().size());
+        permit.beginWait();
+        Assertions.assertEquals(1, registry.getRateLimiters().values().stream()
+                .mapToInt(RateLimiter::getQueueDepth).sum());
+        permit.endWait();
+        Assertions.assertTrue(registry.reserve("token3", "db.find").isImmediate());
+        Assertions.assertTrue(new RateLimiterRegistry(RateLimitPolicy.NONE).reserve("t", "op").isImmediate());
+    }
+
+    @Test
+    @DisplayName("Limiters are keyed by a token fingerprint")
+    public void shouldNotExposeTokens() {
+        // Given
+        RateLimiterRegistry registry = new RateLimiterRegistry(RateLimitPolicy.builder()
+                .tokenLimit(10, 10)
+                .build());
+        // When
+        registry.reserve("AstraCS:secret", "db.find");
+        // Then
+        String key = registry.getRateLimiters().keySet().iterator().next();
+        Assertions.assertEquals("token:" + IdUtils.fingerprint("AstraCS:secret"), key);
+        Assertions.assertFalse(key.contains("secret"));
+        Assertions.assertEquals(32, IdUtils.fingerprint("AstraCS:secret").length());
+        Assertions.assertNotEquals(IdUtils.fingerprint("Aa"), IdUtils.fingerprint("BB"));
+    }
+}
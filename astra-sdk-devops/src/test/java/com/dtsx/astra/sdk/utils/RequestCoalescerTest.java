@@ -0,0 +1,75 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests that identical requests in flight share a single call.
+ */
+public class RequestCoalescerTest {
+
+    @Test
+    @DisplayName("Identical blocking requests in flight share one call")
+    public void shouldCoalesceBlockingCalls() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ApiResponseHttp>> responses = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                responses.add(executor.submit(() -> coalescer.execute("GET /currentOrg", () -> {
+                    calls.incrementAndGet();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new ApiResponseHttp("{}", 200);
+                })));
+            }
+            // Wait for the followers to attach before releasing the leader
+            long deadline = System.currentTimeMillis() + 5000;
+            while (coalescer.getCoalescedCount() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            ApiResponseHttp first = responses.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<ApiResponseHttp> res : responses) {
+                Assertions.assertSame(first, res.get(5, TimeUnit.SECONDS));
+            }
+            Assertions.assertEquals(1, calls.get());
+            Assertions.assertEquals(0, coalescer.getInFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Async requests share the call and its error, key is released once completed")
+    public void shouldCoalesceAsyncCalls() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        CompletableFuture<ApiResponseHttp> pending = new CompletableFuture<>();
+        CompletableFuture<ApiResponseHttp> r1 = coalescer.executeAsync("k", () -> pending);
+        CompletableFuture<ApiResponseHttp> r2 = coalescer.executeAsync("k", () -> CompletableFuture.completedFuture(null));
+        r2.cancel(true);
+        pending.completeExceptionally(new IllegalStateException("boom"));
+        Assertions.assertTrue(r1.isCompletedExceptionally());
+        Assertions.assertEquals(1, coalescer.getExecutedCount());
+        Assertions.assertEquals(1, coalescer.getCoalescedCount());
+        ApiResponseHttp res = new ApiResponseHttp("{}", 200);
+        Assertions.assertSame(res, coalescer.executeAsync("k", () -> CompletableFuture.completedFuture(res)).join());
+        Assertions.assertEquals(2, coalescer.getExecutedCount());
+    }
+}
@@ -0,0 +1,90 @@
+package com.dtsx.astra.sdk.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tests conditional GET requests: replay on 304, responses kept and the bounds of the cache.
+ */
+public class ResponseValidatorCacheTest {
+
+    /** Decode a JSON object. */
+    private static final TypeReference<Map<String, Object>> TYPE_MAP = new TypeReference<Map<String, Object>>(){};
+
+    /**
+     * Response headers with an entity tag.
+     *
+     * @param etag
+     *      entity tag
+     * @return
+     *      headers
+     */
+    private static Map<String, String> etag(String etag) {
+        return new HashMap<>(Collections.singletonMap("ETag", etag));
+    }
+
+    @Test
+    @DisplayName("A 304 gives back the previous payload, each caller decodes its own objects")
+    public void shouldReplayOnNotModified() {
+        // Given
+        ResponseValidatorCache cache = new ResponseValidatorCache(10);
+        Assertions.assertTrue(cache.getConditionalHeaders("GET /db").isEmpty());
+        ApiResponseHttp first = cache.reconcile("GET /db", new ApiResponseHttp("{\"id\":\"db1\"}", 200,
+                new HashMap<>(Collections.singletonMap("etag", "\"v1\""))));
+        Assertions.assertEquals(Collections.singletonMap(ResponseValidatorCache.HEADER_IF_NONE_MATCH, "\"v1\""),
+                cache.getConditionalHeaders("GET /db"));
+        Map<String, Object> firstDb = JsonUtils.unmarshallType(first, TYPE_MAP);
+        firstDb.put("id", "modified by the first caller");
+        // When
+        ApiResponseHttp second = cache.reconcile("GET /db", new ApiResponseHttp("", 304, new HashMap<>()));
+        // Then
+        Assertions.assertEquals(200, second.getCode());
+        Assertions.assertNotSame(first, second);
+        Map<String, Object> secondDb = JsonUtils.unmarshallType(second, TYPE_MAP);
+        Assertions.assertNotSame(firstDb, secondDb);
+        Assertions.assertEquals("db1", secondDb.get("id"));
+        Assertions.assertEquals(1, cache.getNotModifiedCount());
+    }
+
+    @Test
+    @DisplayName("Only responses with validators are kept, errors drop the entry")
+    public void shouldKeepValidatedResponses() {
+        // Given
+        ResponseValidatorCache cache = new ResponseValidatorCache(10);
+        ApiResponseHttp unvalidated = new ApiResponseHttp("[1,2]", 200, new HashMap<>());
+        // When
+        Assertions.assertSame(unvalidated, cache.reconcile("GET /regions", unvalidated));
+        cache.reconcile("GET /db", new ApiResponseHttp("[1,2,3]", 200,
+                new HashMap<>(Collections.singletonMap("Last-Modified", "Sat, 17 Oct 2026 10:00:00 GMT"))));
+        // Then
+        Assertions.assertTrue(cache.getConditionalHeaders("GET /regions").isEmpty());
+        Assertions.assertEquals(Collections.singletonMap(ResponseValidatorCache.HEADER_IF_MODIFIED_SINCE,
+                "Sat, 17 Oct 2026 10:00:00 GMT"), cache.getConditionalHeaders("GET /db"));
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(7, cache.getSizeInBytes());
+        cache.reconcile("GET /db", new ApiResponseHttp("", 404, new HashMap<>()));
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0, cache.getSizeInBytes());
+    }
+
+    @Test
+    @DisplayName("The cache is bounded by the size of the bodies")
+    public void shouldEvictOnSize() {
+        // Given
+        ResponseValidatorCache cache = new ResponseValidatorCache(10, 10);
+        // When
+        cache.reconcile("GET /a", new ApiResponseHttp("[1,2,3]", 200, etag("\"a\"")));
+        cache.reconcile("GET /b", new ApiResponseHttp("[4,5,6]", 200, etag("\"b\"")));
+        cache.reconcile("GET /c", new ApiResponseHttp("[1,2,3,4,5,6]", 200, etag("\"c\"")));
+        // Then
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(7, cache.getSizeInBytes());
+        Assertions.assertTrue(cache.getConditionalHeaders("GET /a").isEmpty());
+    }
+}
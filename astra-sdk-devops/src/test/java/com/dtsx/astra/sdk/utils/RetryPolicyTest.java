@@ -0,0 +1,75 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * Tests which requests are retried, how often and after which delay.
+ */
+public class RetryPolicyTest {
+
+    private static ApiResponseHttp response(int code, String retryAfter) {
+        return new ApiResponseHttp("", code, retryAfter == null ? Collections.emptyMap() :
+                Collections.singletonMap("retry-after", retryAfter));
+    }
+
+    @Test
+    @DisplayName("Idempotent methods are retried, POST only when enabled")
+    public void shouldRetryIdempotentMethodsOnly() {
+        RetryPolicy policy = RetryPolicy.defaultPolicy();
+        Assertions.assertTrue(policy.getRetryDelay("GET", response(503, null), 1, Duration.ZERO).isPresent());
+        Assertions.assertFalse(policy.getRetryDelay("POST", response(503, null), 1, Duration.ZERO).isPresent());
+        Assertions.assertFalse(policy.getRetryDelay("PATCH", response(503, null), 1, Duration.ZERO).isPresent());
+        Assertions.assertFalse(policy.getRetryDelay("GET", response(500, null), 1, Duration.ZERO).isPresent());
+        RetryPolicy withPost = RetryPolicy.builder().retryPost(true).build();
+        Assertions.assertTrue(withPost.getRetryDelay("POST", response(429, null), 1, Duration.ZERO).isPresent());
+    }
+
+    @Test
+    @DisplayName("Attempts and time budget are enforced")
+    public void shouldStopWhenBudgetIsExhausted() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .maxAttempts(3)
+                .maxElapsedTime(Duration.ofSeconds(10))
+                .build();
+        Assertions.assertTrue(policy.getRetryDelay("GET", response(502, null), 2, Duration.ZERO).isPresent());
+        Assertions.assertFalse(policy.getRetryDelay("GET", response(502, null), 3, Duration.ZERO).isPresent());
+        Assertions.assertFalse(policy.getRetryDelay("GET", response(502, "60"), 1, Duration.ZERO).isPresent());
+        Assertions.assertFalse(RetryPolicy.NONE.getRetryDelay("GET", response(502, null), 1, Duration.ZERO).isPresent());
+    }
+
+    @Test
+    @DisplayName("Retry-After is honoured and backoff stays in its bounds")
+    public void shouldComputeDelays() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .initialBackoff(Duration.ofMillis(100))
+                .maxBackoff(Duration.ofMillis(300))
+                .jitter(0.5)
+                .build();
+        Assertions.assertEquals(Duration.ofSeconds(5),
+                policy.getRetryDelay("GET", response(429, "5"), 1, Duration.ZERO).get());
+        for (int attempt = 1; attempt < 6; attempt++) {
+            long delay = policy.computeBackoff(attempt).toMillis();
+            Assertions.assertTrue(delay <= 300);
+        }
+        long first = policy.computeBackoff(1).toMillis();
+        Assertions.assertTrue(first >= 50 && first <= 100);
+        Assertions.assertFalse(RetryPolicy.parseRetryAfter("not a date").isPresent());
+        Assertions.assertEquals(Duration.ZERO, RetryPolicy.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT").get());
+    }
+
+    @Test
+    @DisplayName("Only transient I/O errors are retried")
+    public void shouldRetryTransientErrors() {
+        RetryPolicy policy = RetryPolicy.defaultPolicy();
+        Assertions.assertTrue(policy.getRetryDelay("GET", new IOException("reset"), 1, Duration.ZERO).isPresent());
+        Assertions.assertFalse(policy.getRetryDelay("GET", new UnknownHostException("dns"), 1, Duration.ZERO).isPresent());
+        Assertions.assertFalse(policy.getRetryDelay("GET", new IllegalStateException("bug"), 1, Duration.ZERO).isPresent());
+    }
+}
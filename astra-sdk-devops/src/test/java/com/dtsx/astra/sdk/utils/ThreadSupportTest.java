@@ -0,0 +1,73 @@
+package com.dtsx.astra.sdk.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the threads of the SDK, platform or virtual depending on the runtime.
+ */
+public class ThreadSupportTest {
+
+    @Test
+    @DisplayName("Tasks run on named daemon threads")
+    public void shouldNameThreads() throws Exception {
+        // Given
+        ExecutorService executor = ThreadSupport.newExecutor("test", 2);
+        // When
+        Future<Thread> worker = executor.submit(Thread::currentThread);
+        Thread dispatcher = ThreadSupport.newThread("dispatcher", () -> {});
+        // Then
+        Assertions.assertTrue(worker.get(5, TimeUnit.SECONDS).getName().startsWith("astra-sdk-test-"));
+        Assertions.assertTrue(worker.get().isDaemon());
+        Assertions.assertEquals("astra-sdk-dispatcher", dispatcher.getName());
+        Assertions.assertTrue(dispatcher.isDaemon());
+        Assertions.assertEquals(Thread.State.NEW, dispatcher.getState());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Platform threads are bounded, tasks beyond the limit are queued")
+    public void shouldBoundPlatformThreads() throws Exception {
+        if (ThreadSupport.isVirtualThreads()) {
+            return;
+        }
+        // Given
+        ExecutorService executor = ThreadSupport.newExecutor("bounded", 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(6);
+        // When
+        for (int i = 0; i < 6; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+        // Then
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(maxRunning.get() <= 2);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Executors need a name and at least one thread")
+    public void shouldRejectInvalidExecutor() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ThreadSupport.newExecutor("", 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ThreadSupport.newExecutor("test", 0));
+        Assertions.assertSame(SdkExecutors.shared(), SdkExecutors.shared());
+        Assertions.assertEquals(ThreadSupport.isVirtualThreads(), SdkExecutors.isVirtualThreads());
+    }
+}
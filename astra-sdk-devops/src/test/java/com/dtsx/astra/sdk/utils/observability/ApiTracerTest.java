@@ -0,0 +1,49 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests span names and the no-op tracer.
+ */
+public class ApiTracerTest {
+
+    @Test
+    @DisplayName("Identifiers and query are removed from the url template")
+    public void shouldBuildUrlTemplate() {
+        Assertions.assertEquals("https://api.astra.datastax.com/v2/databases/{id}/keyspaces/{keyspace}",
+                ApiTracer.urlTemplate("https://api.astra.datastax.com/v2/databases/"
+                        + "3ed83de7-d97f-4fb6-bf9f-82e9f7eafa23/keyspaces/ks1?include=all"));
+        Assertions.assertEquals("https://api.astra.datastax.com/v2/organizations/roles/{id}",
+                ApiTracer.urlTemplate("https://api.astra.datastax.com/v2/organizations/roles/12345"));
+    }
+
+    @Test
+    @DisplayName("Tenant, cluster, region names and emails are removed from the url template")
+    public void shouldTemplateNames() {
+        Assertions.assertEquals("https://api.astra.datastax.com/v2/streaming/tenants/{tenant}/clusters/{cluster}",
+                ApiTracer.urlTemplate("https://api.astra.datastax.com/v2/streaming/tenants/my-tenant/clusters/pulsar-aws-useast2"));
+        Assertions.assertEquals("https://{cluster}.api.streaming.datastax.com/admin/v2/stats/topics/{tenant}/{namespace}",
+                ApiTracer.urlTemplate("https://pulsar-aws-useast2.api.streaming.datastax.com/admin/v2/stats/topics/my-tenant/default"));
+        Assertions.assertEquals("https://{id}-{region}.apps.astra.datastax.com/api/rest",
+                ApiTracer.urlTemplate("https://3ed83de7-d97f-4fb6-bf9f-82e9f7eafa23-us-east1.apps.astra.datastax.com/api/rest"));
+        Assertions.assertEquals("https://api.astra.datastax.com/v2/organizations/users/{email}/roles",
+                ApiTracer.urlTemplate("https://api.astra.datastax.com/v2/organizations/users/jane.doe%40example.com/roles"));
+        // Fixed segments are kept
+        Assertions.assertEquals("https://api.astra.datastax.com/v2/regions/serverless",
+                ApiTracer.urlTemplate("https://api.astra.datastax.com/v2/regions/serverless"));
+        Assertions.assertEquals("https://api.astra.datastax.com/v2/streaming/tenants",
+                ApiTracer.urlTemplate("https://api.astra.datastax.com/v2/streaming/tenants"));
+    }
+
+    @Test
+    @DisplayName("No-op tracer runs the operation and returns its value")
+    public void shouldRunOperationWithoutTracing() {
+        Assertions.assertFalse(ApiTracer.NOOP.isEnabled());
+        Assertions.assertEquals("ok", ApiTracer.NOOP.inSpan("op", () -> "ok"));
+        Assertions.assertThrows(IllegalStateException.class, () -> ApiTracer.NOOP.inSpan("op", () -> {
+            throw new IllegalStateException("failed");
+        }));
+    }
+}
@@ -0,0 +1,33 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * Tests which exchanges have their bodies captured, and their truncation.
+ */
+public class BodyCapturePolicyTest {
+
+    @Test
+    @DisplayName("Bodies are truncated to the maximum length")
+    public void shouldTruncate() {
+        BodyCapturePolicy policy = BodyCapturePolicy.all(4);
+        Assertions.assertTrue(policy.shouldCapture(200, 1));
+        Assertions.assertEquals("abcd", policy.truncate("abcd"));
+        Assertions.assertEquals("abcd...(2 more characters)", policy.truncate("abcdef"));
+        Assertions.assertFalse(BodyCapturePolicy.NONE.shouldCapture(500, 1));
+    }
+
+    @Test
+    @DisplayName("Only failed and slow exchanges are captured")
+    public void shouldCaptureErrorsAndSlow() {
+        BodyCapturePolicy policy = BodyCapturePolicy.errorsAndSlow(100, Duration.ofSeconds(1));
+        Assertions.assertFalse(policy.shouldCapture(200, 10));
+        Assertions.assertTrue(policy.shouldCapture(200, 1500));
+        Assertions.assertTrue(policy.shouldCapture(503, 10));
+        Assertions.assertTrue(policy.shouldCapture(0, 10));
+    }
+}
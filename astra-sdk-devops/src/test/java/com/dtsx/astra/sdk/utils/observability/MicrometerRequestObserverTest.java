@@ -0,0 +1,48 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+
+/**
+ * Tests the meters and tags published to a Micrometer registry.
+ */
+public class MicrometerRequestObserverTest {
+
+    private static ApiExecutionInfos execution(String operation, int code, int attempt) {
+        ApiExecutionInfos.ApiExecutionInfoBuilder builder = ApiExecutionInfos.builder()
+                .withOperationName(operation)
+                .withAttempt(attempt);
+        builder.withHttpResponse(new ApiResponseHttp("", code, new HashMap<>()));
+        return builder.build();
+    }
+
+    @Test
+    @DisplayName("Calls are timed per operation and status class, errors and 404 are counted")
+    public void shouldRecordMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerRequestObserver observer = new MicrometerRequestObserver(registry);
+        observer.onRequest(execution("db.find", 200, 1));
+        observer.onRequest(execution("db.find", 404, 1));
+        observer.onRequest(execution("db.find", 503, 2));
+        Assertions.assertEquals(1, registry.get("astra.devops.requests")
+                .tag("operation", "db.find").tag("status", "2xx").timer().count());
+        Assertions.assertEquals(1, registry.get("astra.devops.requests")
+                .tag("status", "5xx").tag("retries", "1").timer().count());
+        Assertions.assertEquals(1, registry.get("astra.devops.requests.notfound").counter().count());
+        Assertions.assertEquals(1, registry.get("astra.devops.requests.errors").counter().count());
+    }
+
+    @Test
+    @DisplayName("Environments are resolved from the request url")
+    public void shouldResolveEnvironment() {
+        Assertions.assertEquals("PROD", MicrometerRequestObserver.environment("https://api.astra.datastax.com/v2/databases"));
+        Assertions.assertEquals("DEV", MicrometerRequestObserver.environment("https://api.dev.cloud.datastax.com/v3/streaming"));
+        Assertions.assertEquals("unknown", MicrometerRequestObserver.environment("http://localhost:8080"));
+        Assertions.assertEquals("IO_ERROR", MicrometerRequestObserver.statusClass(0));
+    }
+}
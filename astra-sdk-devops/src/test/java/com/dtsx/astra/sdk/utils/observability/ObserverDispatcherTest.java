@@ -0,0 +1,94 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import com.dtsx.astra.sdk.utils.HttpClientConfig;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
+import com.dtsx.astra.sdk.utils.transport.LoopbackTransport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests delivery of the execution infos to the observers.
+ */
+public class ObserverDispatcherTest {
+
+    private static ApiExecutionInfos event(String operation) {
+        return ApiExecutionInfos.builder().withOperationName(operation).build();
+    }
+
+    @Test
+    @DisplayName("Events are delivered in order by batches and observer errors are isolated")
+    public void shouldDeliverInBatches() throws InterruptedException {
+        ObserverDispatcher dispatcher = new ObserverDispatcher(100, ObserverDispatcher.OverflowPolicy.BLOCK, 10);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(20);
+        ApiRequestObserver collector = e -> {
+            received.add(e.getOperationName());
+            done.countDown();
+        };
+        ApiRequestObserver failing = e -> { throw new IllegalStateException("boom"); };
+        ObserverRegistry registry = new ObserverRegistry();
+        registry.register("collector", collector);
+        registry.register("failing", failing);
+        for (int i = 0; i < 20; i++) {
+            dispatcher.publish(event("op" + i), registry.getObservers());
+        }
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("op0", received.get(0));
+        Assertions.assertEquals("op19", received.get(19));
+        Assertions.assertEquals(0, dispatcher.getDroppedCount());
+        Assertions.assertTrue(dispatcher.getFailedCount() > 0);
+        dispatcher.close();
+    }
+
+    @Test
+    @DisplayName("A full ring buffer drops events instead of blocking the caller")
+    public void shouldDropWhenFull() throws InterruptedException {
+        ObserverDispatcher dispatcher = new ObserverDispatcher(2, ObserverDispatcher.OverflowPolicy.DROP_NEWEST, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        ApiRequestObserver slow = e -> {
+            try {
+                release.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        for (int i = 0; i < 10; i++) {
+            dispatcher.publish(event("op" + i), Collections.singletonList(slow));
+        }
+        // One event held by the observer at most, two queued
+        Assertions.assertTrue(dispatcher.getDroppedCount() >= 7);
+        release.countDown();
+        dispatcher.close();
+    }
+
+    @Test
+    @DisplayName("Observers of a view are not notified of the requests of the shared instance")
+    public void shouldScopeObserversToView() throws InterruptedException {
+        // Given
+        HttpClientWrapper shared = new HttpClientWrapper(HttpClientConfig.defaultConfig(),
+                new LoopbackTransport(LoopbackTransport.fixedResponse(200, "{}")));
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+        ApiRequestObserver collector = e -> {
+            received.add(e.getOperationName());
+            done.countDown();
+        };
+        HttpClientWrapper observed = shared.withObservers(Collections.singletonMap("collector", collector));
+        // When
+        shared.forOperation("shared").GET("http://localhost/v2/databases", "token");
+        observed.forOperation("observed").GET("http://localhost/v2/databases", "token");
+        // Then
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(Collections.singletonList("observed"), received);
+        Assertions.assertTrue(shared.getObserverRegistry().isEmpty());
+        Assertions.assertFalse(observed.getObserverRegistry().isEmpty());
+        shared.close();
+    }
+}
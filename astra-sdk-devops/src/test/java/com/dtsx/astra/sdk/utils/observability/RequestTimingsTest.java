@@ -0,0 +1,28 @@
+package com.dtsx.astra.sdk.utils.observability;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * Tests the phases measured during a request.
+ */
+public class RequestTimingsTest {
+
+    @Test
+    @DisplayName("Phases not measured are absent and decodings are added")
+    public void shouldRecordPhases() {
+        RequestTimings timings = new RequestTimings();
+        Assertions.assertFalse(timings.getConnect().isPresent());
+        timings.recordPoolLease(1_500_000);
+        timings.recordTimeToFirstByte(20_000_000);
+        timings.recordDeserialization(1_000);
+        timings.recordDeserialization(2_000);
+        Assertions.assertEquals(Duration.ofNanos(1_500_000), timings.getPoolLease().get());
+        Assertions.assertEquals(Duration.ofNanos(3_000), timings.getDeserialization().get());
+        Assertions.assertFalse(timings.getConnect().isPresent());
+        Assertions.assertTrue(timings.toString().contains("poolLease=1.500ms"));
+    }
+}
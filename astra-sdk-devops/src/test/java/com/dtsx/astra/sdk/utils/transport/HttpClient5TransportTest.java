@@ -0,0 +1,164 @@
+package com.dtsx.astra.sdk.utils.transport;
+
+import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.ConnectionPoolStats;
+import com.dtsx.astra.sdk.utils.HttpClientConfig;
+import com.dtsx.astra.sdk.utils.observability.RequestTimings;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpVersion;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncRequestConsumer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.StringAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.http2.ssl.H2ServerTlsStrategy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import javax.net.ssl.SSLContext;
+
+/**
+ * Tests the Apache HttpComponents transport against local http and https servers.
+ */
+public class HttpClient5TransportTest {
+
+    /** Password of the test key store. */
+    private static final char[] PASSWORD = "changeit".toCharArray();
+
+    /** Local server answering every request with the same payload. */
+    private static HttpServer server;
+
+    /** Base url of the local server. */
+    private static String url;
+
+    /** Local TLS server negotiating HTTP/2 with ALPN, answering with the protocol of the request. */
+    private static HttpAsyncServer tlsServer;
+
+    /** Base url of the local TLS server. */
+    private static String tlsUrl;
+
+    /** Trusts the certificate of the local TLS server. */
+    private static SSLContext clientSslContext;
+
+    @BeforeAll
+    public static void startServers() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v2/databases", exchange -> {
+            byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + "/v2/databases";
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = HttpClient5TransportTest.class.getResourceAsStream("/localhost.p12")) {
+            keyStore.load(in, PASSWORD);
+        }
+        clientSslContext = SSLContexts.custom().loadTrustMaterial(keyStore, null).build();
+        tlsServer = H2ServerBootstrap.bootstrap()
+                .setTlsStrategy(new H2ServerTlsStrategy(SSLContexts.custom().loadKeyMaterial(keyStore, PASSWORD).build()))
+                .setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+                .register("*", new AsyncServerRequestHandler<Message<HttpRequest, String>>() {
+
+                    @Override
+                    public AsyncRequestConsumer<Message<HttpRequest, String>> prepare(
+                            HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+                        return new BasicRequestConsumer<>(new StringAsyncEntityConsumer());
+                    }
+
+                    @Override
+                    public void handle(Message<HttpRequest, String> request, ResponseTrigger trigger, HttpContext context)
+                            throws IOException, HttpException {
+                        trigger.submitResponse(new BasicResponseProducer(200,
+                                context.getProtocolVersion().toString(), ContentType.TEXT_PLAIN), context);
+                    }
+                })
+                .create();
+        tlsServer.start();
+        ListenerEndpoint endpoint = tlsServer.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTPS).get();
+        tlsUrl = "https://localhost:" + ((InetSocketAddress) endpoint.getAddress()).getPort() + "/v2/databases";
+    }
+
+    @AfterAll
+    public static void stopServers() {
+        server.stop(0);
+        tlsServer.close(CloseMode.IMMEDIATE);
+    }
+
+    @Test
+    @DisplayName("Blocking and asynchronous requests each lease a connection of their pool")
+    public void shouldLeaseFromPools() throws Exception {
+        // Given
+        try (HttpClient5Transport transport = new HttpClient5Transport(HttpClientConfig.defaultConfig())) {
+            // When
+            ApiResponseHttp blocking = transport.execute(new TransportRequest("GET", url, null), new RequestTimings());
+            ApiResponseHttp async = transport.executeAsync(new TransportRequest("GET", url, null), new RequestTimings()).get();
+            // Then
+            Assertions.assertEquals(200, blocking.getCode());
+            Assertions.assertEquals("[]", blocking.getBody());
+            Assertions.assertEquals(200, async.getCode());
+            Assertions.assertEquals(1, transport.getConnectionPoolMonitor(ConnectionPoolStats.Pool.BLOCKING).getTotalStats().getLeaseCount());
+            Assertions.assertEquals(1, transport.getConnectionPoolMonitor(ConnectionPoolStats.Pool.ASYNC).getTotalStats().getLeaseCount());
+        }
+    }
+
+    @Test
+    @DisplayName("By default HTTP/1.1 is used even when the server offers HTTP/2")
+    public void shouldForceHttp1() throws Exception {
+        // Given
+        try (HttpClient5Transport transport = new HttpClient5Transport(HttpClientConfig.defaultConfig(), clientSslContext)) {
+            // When
+            ApiResponseHttp blocking = transport.execute(new TransportRequest("GET", tlsUrl, null), null);
+            ApiResponseHttp async = transport.executeAsync(new TransportRequest("GET", tlsUrl, null), null).get();
+            // Then
+            Assertions.assertEquals(HttpVersion.HTTP_1_1.toString(), blocking.getBody());
+            Assertions.assertEquals(HttpVersion.HTTP_1_1.toString(), async.getBody());
+        }
+    }
+
+    @Test
+    @DisplayName("With HTTP/2 blocking and asynchronous requests negotiate HTTP/2 on the non-blocking pool")
+    public void shouldNegotiateHttp2() throws Exception {
+        // Given
+        HttpClientConfig config = HttpClientConfig.builder()
+                .httpVersion(HttpClientConfig.HttpVersion.HTTP_2)
+                .build();
+        try (HttpClient5Transport transport = new HttpClient5Transport(config, clientSslContext)) {
+            // When
+            ApiResponseHttp blocking = transport.execute(new TransportRequest("GET", tlsUrl, null), new RequestTimings());
+            ApiResponseHttp async = transport.executeAsync(new TransportRequest("GET", tlsUrl, null), null).get();
+            // Then
+            Assertions.assertEquals(200, blocking.getCode());
+            Assertions.assertEquals(HttpVersion.HTTP_2.toString(), blocking.getBody());
+            Assertions.assertEquals(HttpVersion.HTTP_2.toString(), async.getBody());
+            Assertions.assertEquals(0, transport.getConnectionPoolMonitor(ConnectionPoolStats.Pool.BLOCKING).getTotalStats().getLeaseCount());
+            Assertions.assertTrue(transport.getConnectionPoolMonitor(ConnectionPoolStats.Pool.ASYNC).getTotalStats().getLeaseCount() > 0);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.dtsx.astra.sdk.utils.transport;
+
+import com.dtsx.astra.sdk.utils.ApiResponseHttp;
+import com.dtsx.astra.sdk.utils.ConnectionPoolStats;
+import com.dtsx.astra.sdk.utils.observability.RequestTimings;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Tests the in-memory transport answering requests with a handler.
+ */
+public class LoopbackTransportTest {
+
+    @Test
+    @DisplayName("Requests are answered by the handler without network")
+    public void shouldAnswerWithHandler() throws Exception {
+        LoopbackTransport transport = new LoopbackTransport(LoopbackTransport.fixedResponse(200, "{\"id\":\"db\"}"));
+        TransportRequest request = new TransportRequest("GET", "https://api.astra.datastax.com/v2/databases/db", null)
+                .addHeader("Authorization", "Bearer token");
+        RequestTimings timings = new RequestTimings();
+
+        ApiResponseHttp response = transport.execute(request, timings);
+        Assertions.assertEquals(200, response.getCode());
+        Assertions.assertEquals("{\"id\":\"db\"}", response.getBody());
+        Assertions.assertEquals(200, transport.executeAsync(request, null).get().getCode());
+        Assertions.assertEquals(2, transport.getRequestCount());
+        Assertions.assertEquals(0, transport.getConnectionPoolMonitor(ConnectionPoolStats.Pool.ASYNC).getTotalStats().getLeaseCount());
+    }
+
+    @Test
+    @DisplayName("Handler errors complete the future exceptionally")
+    public void shouldFailAsyncWithHandlerError() {
+        LoopbackTransport transport = new LoopbackTransport(request -> {
+            throw new IOException("connection reset");
+        });
+        CompletableFuture<ApiResponseHttp> response = transport.executeAsync(new TransportRequest("GET", "http://localhost/", null), null);
+        ExecutionException error = Assertions.assertThrows(ExecutionException.class, response::get);
+        Assertions.assertTrue(error.getCause() instanceof IOException);
+    }
+
+    @Test
+    @DisplayName("Headers are case-insensitive and can be replaced")
+    public void shouldReplaceHeaders() {
+        TransportRequest request = new TransportRequest("POST", "https://api.astra.datastax.com/v2/databases", "{}")
+                .addHeader("Authorization", "Bearer devops")
+                .addHeader("Authorization", "pulsar");
+        Assertions.assertEquals("Bearer devops", request.getFirstHeader("authorization"));
+        Assertions.assertEquals(2, request.getHeaders().size());
+        request.setHeader("AUTHORIZATION", "Bearer other");
+        Assertions.assertEquals(1, request.getHeaders().size());
+        Assertions.assertEquals("api.astra.datastax.com", request.getHost());
+    }
+}
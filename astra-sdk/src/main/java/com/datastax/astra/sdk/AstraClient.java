@@ -23,6 +23,7 @@ import com.dtsx.astra.sdk.db.AstraDBOpsClient;
 import com.dtsx.astra.sdk.db.domain.Database;
 import com.dtsx.astra.sdk.streaming.AstraStreamingClient;
 import com.dtsx.astra.sdk.utils.ApiLocator;
+import com.dtsx.astra.sdk.utils.HttpClientWrapper;
 import io.stargate.sdk.StargateClient;
 import io.stargate.sdk.api.SimpleTokenProvider;
 import io.stargate.sdk.doc.StargateDocumentApiClient;
@@ -116,7 +117,17 @@ public class AstraClient implements Closeable {
      */
     public AstraClient(AstraClientConfig config) {
         this.astraClientConfig = config;
+        // Devops lookups and Stargate setup under the same parent span
+        HttpClientWrapper.getInstance().getTracer().inSpan("AstraClient.bootstrap", () -> bootstrap(config));
+    }
 
+    /**
+     * Initialize the Devops and Stargate clients.
+     *
+     * @param config
+     *      configuration extracted from builder
+     */
+    private void bootstrap(AstraClientConfig config) {
         // ---------------------------------------------------
         //  Devops APIS
         // ---------------------------------------------------